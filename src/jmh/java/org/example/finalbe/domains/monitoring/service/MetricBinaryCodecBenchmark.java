@@ -0,0 +1,99 @@
+/**
+ * 작성자: 황요한
+ * 모니터링 이벤트 JSON(SSE) / CBOR(WebSocket 바이너리 채널) 인코딩 비용 비교 JMH 벤치마크
+ * 이벤트당 바이트 수는 Setup에서 한 번 출력한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.example.finalbe.domains.monitoring.dto.EquipmentSnapshotDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricBinaryCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MetricBinaryCodec metricBinaryCodec;
+    private EquipmentSnapshotDto snapshot;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        metricBinaryCodec = new MetricBinaryCodec(objectMapper);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<NetworkMetric> networks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            networks.add(NetworkMetric.builder()
+                    .id(1000L + i).equipmentId(42L).nicName("eth" + i).generateTime(now)
+                    .rxUsage(12.5).txUsage(8.25)
+                    .inPktsTot(912_345_678L).outPktsTot(812_345_678L)
+                    .inBytesTot(1_234_567_890_123L).outBytesTot(987_654_321_098L)
+                    .inBytesPerSec(1_250_000.0).outBytesPerSec(830_000.0)
+                    .inPktsPerSec(1_520.0).outPktsPerSec(1_130.0)
+                    .inErrorPktsTot(0L).outErrorPktsTot(0L).inDiscardPktsTot(3L).outDiscardPktsTot(1L)
+                    .operStatus(1)
+                    .build());
+        }
+        snapshot = EquipmentSnapshotDto.builder()
+                .equipmentId(42L)
+                .timestamp(now)
+                .system(SystemMetric.builder()
+                        .id(1L).equipmentId(42L).generateTime(now)
+                        .cpuIdle(62.5).cpuUser(25.75).cpuSystem(8.5).cpuWait(1.25).cpuNice(0.0)
+                        .cpuIrq(0.5).cpuSoftirq(1.0).cpuSteal(0.5)
+                        .loadAvg1(2.13).loadAvg5(1.98).loadAvg15(1.71)
+                        .contextSwitches(48_213_004L)
+                        .totalMemory(68_719_476_736L).usedMemory(41_231_686_042L).freeMemory(27_487_790_694L)
+                        .usedMemoryPercentage(60.0).memoryBuffers(1_073_741_824L).memoryCached(8_589_934_592L)
+                        .memoryActive(30_064_771_072L).memoryInactive(12_884_901_888L)
+                        .totalSwap(8_589_934_592L).usedSwap(268_435_456L).usedSwapPercentage(3.125)
+                        .build())
+                .disk(DiskMetric.builder()
+                        .id(1L).equipmentId(42L).generateTime(now)
+                        .totalBytes(1_999_844_147_200L).usedBytes(1_104_880_336_896L).freeBytes(894_963_810_304L)
+                        .usedPercentage(55.25)
+                        .ioReadBps(5_242_880.0).ioWriteBps(2_097_152.0).ioTimePercentage(14.5)
+                        .ioReadCount(1_204_331L).ioWriteCount(884_120L)
+                        .totalInodes(122_093_568L).usedInodes(1_843_211L).freeInodes(120_250_357L)
+                        .usedInodePercentage(1.5)
+                        .build())
+                .network(networks)
+                .build();
+
+        int json = objectMapper.writeValueAsBytes(snapshot).length;
+        int cbor = metricBinaryCodec.dataFrame(1, metricBinaryCodec.encodeEventSlot(EquipmentTickCoalescer.SNAPSHOT_EVENT),
+                metricBinaryCodec.encodePayload(snapshot)).length;
+        System.out.printf("%nequipment-snapshot: JSON %,d bytes / CBOR %,d bytes (%.1fx)%n", json, cbor, (double) json / cbor);
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return objectMapper.writeValueAsBytes(snapshot);
+    }
+
+    @Benchmark
+    public byte[] cbor() {
+        return metricBinaryCodec.encodePayload(snapshot);
+    }
+}
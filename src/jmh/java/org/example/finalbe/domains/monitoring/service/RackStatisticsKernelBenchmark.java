@@ -0,0 +1,105 @@
+/**
+ * 작성자: 황요한
+ * 랙 통계 커널 성능 회귀 방지용 JMH 벤치마크 (랙당 장비 10 / 42 / 500대)
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import org.example.finalbe.domains.common.enumdir.EquipmentType;
+import org.example.finalbe.domains.equipment.domain.Equipment;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RackStatisticsKernelBenchmark {
+
+    private static final int NICS_PER_EQUIPMENT = 4;
+
+    @Param({"10", "42", "500"})
+    private int devicesPerRack;
+
+    private List<Equipment> equipments;
+    private MonitoringMetricCache metricCache;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.now();
+        EquipmentType[] types = {EquipmentType.SERVER, EquipmentType.STORAGE,
+                EquipmentType.SWITCH, EquipmentType.ENVIRONMENTAL_SENSOR};
+
+        equipments = new ArrayList<>(devicesPerRack);
+        metricCache = new MonitoringMetricCache(new MetricWindowStore(60), new HotEquipmentIndex());
+
+        for (long id = 1; id <= devicesPerRack; id++) {
+            equipments.add(Equipment.builder()
+                    .id(id)
+                    .name("EQ-" + id)
+                    .type(types[(int) (id % types.length)])
+                    .build());
+
+            long totalMemory = 64L * 1024 * 1024 * 1024;
+            double memoryPercent = random.nextDouble(20.0, 95.0);
+            metricCache.updateSystemMetric(SystemMetric.builder()
+                    .equipmentId(id)
+                    .generateTime(now)
+                    .cpuIdle(random.nextDouble(5.0, 95.0))
+                    .loadAvg1(random.nextDouble(0.0, 8.0))
+                    .loadAvg5(random.nextDouble(0.0, 8.0))
+                    .loadAvg15(random.nextDouble(0.0, 8.0))
+                    .totalMemory(totalMemory)
+                    .usedMemory((long) (totalMemory * memoryPercent / 100.0))
+                    .usedMemoryPercentage(memoryPercent)
+                    .build());
+
+            long totalBytes = 2L * 1024 * 1024 * 1024 * 1024;
+            double diskPercent = random.nextDouble(10.0, 95.0);
+            metricCache.updateDiskMetric(DiskMetric.builder()
+                    .equipmentId(id)
+                    .generateTime(now)
+                    .totalBytes(totalBytes)
+                    .usedBytes((long) (totalBytes * diskPercent / 100.0))
+                    .usedPercentage(diskPercent)
+                    .build());
+
+            for (int nic = 0; nic < NICS_PER_EQUIPMENT; nic++) {
+                metricCache.updateNetworkMetric(NetworkMetric.builder()
+                        .equipmentId(id)
+                        .nicName("eth" + nic)
+                        .generateTime(now)
+                        .rxUsage(random.nextDouble(0.0, 100.0))
+                        .txUsage(random.nextDouble(0.0, 100.0))
+                        .inBytesPerSec(random.nextDouble(0.0, 1.25e8))
+                        .outBytesPerSec(random.nextDouble(0.0, 1.25e8))
+                        .inPktsTot(random.nextLong(1_000_000L, 10_000_000L))
+                        .outPktsTot(random.nextLong(1_000_000L, 10_000_000L))
+                        .inErrorPktsTot(random.nextLong(0L, 1_000L))
+                        .outErrorPktsTot(random.nextLong(0L, 1_000L))
+                        .inDiscardPktsTot(random.nextLong(0L, 1_000L))
+                        .outDiscardPktsTot(random.nextLong(0L, 1_000L))
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public Object compute() {
+        return RackStatisticsKernel.compute(equipments, metricCache);
+    }
+}
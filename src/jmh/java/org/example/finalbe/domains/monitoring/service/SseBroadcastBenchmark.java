@@ -0,0 +1,80 @@
+/**
+ * 작성자: 황요한
+ * SSE 브로드캐스트 직렬화 비용 비교 JMH 벤치마크 (구독자 1 / 10 / 100 / 1,000명)
+ * perSubscriber: 구독자마다 JSON 직렬화 (기존 SseEmitter.event().data() 경로)
+ * encodeOnce: 이벤트당 한 번만 인코딩 후 같은 바이트를 공유
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseBroadcastBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int subscribers;
+
+    private ObjectMapper objectMapper;
+    private SseEventEncoder sseEventEncoder;
+    private ServerRoomStatisticsDto statistics;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        sseEventEncoder = new SseEventEncoder(objectMapper);
+
+        statistics = ServerRoomStatisticsDto.builder()
+                .serverRoomId(1L)
+                .serverRoomName("서버실-A")
+                .timestamp(LocalDateTime.now())
+                .totalEquipments(420).activeEquipments(415).inactiveEquipments(5)
+                .avgCpuUsage(37.5).maxCpuUsage(98.2).minCpuUsage(0.4)
+                .avgLoadAvg1(2.1).avgLoadAvg5(1.9).avgLoadAvg15(1.7)
+                .avgMemoryUsage(61.3).maxMemoryUsage(94.0).minMemoryUsage(12.8)
+                .totalMemoryBytes(27_021_597_764_222L).usedMemoryBytes(16_564_239_429_468L)
+                .avgSwapUsage(3.2)
+                .avgDiskUsage(55.4).maxDiskUsage(91.7).minDiskUsage(8.1)
+                .totalDiskBytes(1_759_218_604_441_600L).usedDiskBytes(974_607_106_860_646L)
+                .avgDiskIoUsage(14.6)
+                .totalInBps(8.4e9).totalOutBps(6.1e9).avgRxUsage(22.7).avgTxUsage(18.3)
+                .totalInErrors(12L).totalOutErrors(3L)
+                .totalRacks(10).activeRacks(10)
+                .avgTemperature(24.1).maxTemperature(29.8).minTemperature(19.6)
+                .avgHumidity(45.2).maxHumidity(52.0).minHumidity(38.4)
+                .build();
+    }
+
+    @Benchmark
+    public void perSubscriber(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < subscribers; i++) {
+            blackhole.consume(objectMapper.writeValueAsBytes(statistics));
+        }
+    }
+
+    @Benchmark
+    public void encodeOnce(Blackhole blackhole) {
+        EncodedSseEvent event = sseEventEncoder.encode("serverroom-statistics", statistics);
+        for (int i = 0; i < subscribers; i++) {
+            blackhole.consume(event);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * 작성자: 황요한
+ * 리액티브 스트림 허브 부하 하네스 (로컬 실행용 main)
+ * 장비/랙/서버실 토픽에 동시 구독 10,000개를 열고 틱 단위로 발행하여
+ * 연결당 메모리, 전달 지연 p99, 처리량을 출력한다.
+ * 한계: 허브의 Flux를 프로세스 안에서 직접 구독하므로 서블릿 비동기 컨텍스트, HTTP 인코딩, 소켓 버퍼 비용은 측정하지 않는다.
+ * 출력 값은 허브 자체(구독 관리/팬아웃)의 비용이며, 실제 동시 연결 수 한도는 HTTP 클라이언트 부하 도구로 따로 확인해야 한다.
+ * 실행: ./gradlew sseStreamLoad --args="[구독 수] [발행 라운드]"
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SseStreamLoadHarness {
+
+    // 구독 비율: 장비 60% (토픽당 10명), 랙 30% (토픽당 30명), 서버실 10% (토픽당 100명)
+    private static final int EQUIPMENT_PER_TOPIC = 10;
+    private static final int RACK_PER_TOPIC = 30;
+    private static final int SERVER_ROOM_PER_TOPIC = 100;
+
+    public static void main(String[] args) throws Exception {
+        int subscriptions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        MonitoringSseProperties properties = new MonitoringSseProperties();
+        SseStreamHub hub = new SseStreamHub(new SseEventEncoder(new ObjectMapper()), properties);
+
+        List<String> topics = new ArrayList<>();
+        List<String> subscriptionTopics = buildSubscriptionTopics(subscriptions, topics);
+
+        long expectedDeliveries = (long) subscriptions * rounds;
+        long[] latencies = new long[(int) Math.min(expectedDeliveries, Integer.MAX_VALUE - 8)];
+        AtomicInteger delivered = new AtomicInteger();
+
+        List<Disposable> disposables = new ArrayList<>(subscriptions);
+        long heapBefore = usedHeapAfterGc();
+
+        long subscribeStart = System.nanoTime();
+        for (String topic : subscriptionTopics) {
+            disposables.add(hub.subscribe(topic, List.of()).subscribe(event -> record(event, latencies, delivered)));
+        }
+        long subscribeNanos = System.nanoTime() - subscribeStart;
+
+        long heapAfter = usedHeapAfterGc();
+
+        // 틱마다 모든 토픽에 한 번씩 발행 (data = 발행 시각 nanoTime)
+        long publishStart = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String topic : topics) {
+                hub.publish(topic, "load", Long.toString(System.nanoTime()));
+            }
+        }
+        long publishNanos = System.nanoTime() - publishStart;
+
+        long unsubscribeStart = System.nanoTime();
+        disposables.forEach(Disposable::dispose);
+        long unsubscribeNanos = System.nanoTime() - unsubscribeStart;
+
+        int count = Math.min(delivered.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        System.out.printf("구독 수           : %,d (토픽 %,d개)%n", subscriptions, topics.size());
+        System.out.printf("연결당 메모리     : %,d bytes%n", (heapAfter - heapBefore) / Math.max(1, subscriptions));
+        System.out.printf("구독/해제 평균    : %,d ns / %,d ns%n",
+                subscribeNanos / Math.max(1, subscriptions), unsubscribeNanos / Math.max(1, subscriptions));
+        System.out.printf("전달 건수         : %,d / %,d%n", delivered.get(), expectedDeliveries);
+        System.out.printf("처리량            : %,.0f events/s%n", delivered.get() / (publishNanos / 1e9));
+        if (count > 0) {
+            System.out.printf("전달 지연 p50/p99 : %,d us / %,d us (max %,d us)%n",
+                    percentile(sorted, 0.50) / 1000, percentile(sorted, 0.99) / 1000, sorted[count - 1] / 1000);
+        }
+        System.out.printf("남은 구독자       : %d%n", hub.getSubscriberCount());
+    }
+
+    private static List<String> buildSubscriptionTopics(int subscriptions, List<String> topics) {
+        int equipmentSubscriptions = subscriptions * 6 / 10;
+        int rackSubscriptions = subscriptions * 3 / 10;
+        int serverRoomSubscriptions = subscriptions - equipmentSubscriptions - rackSubscriptions;
+
+        List<String> subscriptionTopics = new ArrayList<>(subscriptions);
+        addTopics("equipment-", equipmentSubscriptions, EQUIPMENT_PER_TOPIC, topics, subscriptionTopics);
+        addTopics("rack-", rackSubscriptions, RACK_PER_TOPIC, topics, subscriptionTopics);
+        addTopics("serverroom-", serverRoomSubscriptions, SERVER_ROOM_PER_TOPIC, topics, subscriptionTopics);
+        return subscriptionTopics;
+    }
+
+    private static void addTopics(String prefix, int subscriptions, int perTopic,
+                                  List<String> topics, List<String> subscriptionTopics) {
+        for (int i = 0; i < subscriptions; i++) {
+            String topic = prefix + (i / perTopic + 1);
+            if (i % perTopic == 0) {
+                topics.add(topic);
+            }
+            subscriptionTopics.add(topic);
+        }
+    }
+
+    private static void record(ServerSentEvent<String> event, long[] latencies, AtomicInteger delivered) {
+        if (event.data() == null) {
+            return; // heartbeat
+        }
+        long latency = System.nanoTime() - Long.parseLong(event.data());
+        int index = delivered.getAndIncrement();
+        if (index < latencies.length) {
+            latencies[index] = latency;
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,22 @@
+// 작성자: 황요한
+// 알림 위반 상태 머신 설정 정보를 로드하는 설정 클래스
+
+package org.example.finalbe.domains.alert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "alert.evaluation")
+@Getter
+@Setter
+public class AlertEvaluationProperties {
+
+    private long checkpointInterval = 10000;   // 변경된 상태를 DB에 일괄 저장하는 주기(ms)
+    private long minPendingDuration = 0;       // 연속 위반 횟수와 함께 PENDING이 유지돼야 하는 최소 시간(ms)
+    private double hysteresisRatio = 0.05;     // 해제 기준 = 임계치 ∓ 임계치 × 비율
+    private long minResolveDuration = 0;       // 해제 기준을 이 시간 이상 유지해야 RESOLVED(ms)
+    private long staleTimeout = 600000;        // 평가가 끊긴 대상 상태 정리 기준(ms)
+}
@@ -0,0 +1,60 @@
+/**
+ * 작성자: 황요한
+ * Hibernate 스키마 자동 생성/업데이트에서 alert_history 제외
+ * alert_history는 월 단위 파티션 테이블(PK = alert_id + triggered_at)이라 엔티티 매핑과 구조가 달라
+ * AlertHistoryPartitionStore가 직접 DDL을 관리한다. (spring.jpa.properties.hibernate.hbm2ddl.schema_filter_provider)
+ */
+package org.example.finalbe.domains.alert.config;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+public class AlertHistorySchemaFilterProvider implements SchemaFilterProvider {
+
+    public static final String MANAGED_TABLE = "alert_history";
+
+    private static final SchemaFilter FILTER = new SchemaFilter() {
+        @Override
+        public boolean includeNamespace(Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(Table table) {
+            return !MANAGED_TABLE.equalsIgnoreCase(table.getName());
+        }
+
+        @Override
+        public boolean includeSequence(Sequence sequence) {
+            return true;
+        }
+    };
+
+    @Override
+    public SchemaFilter getCreateFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getDropFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getMigrateFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getValidateFilter() {
+        return FILTER;
+    }
+
+    // 스키마 truncate(테스트용)에서도 제외
+    public SchemaFilter getTruncatorFilter() {
+        return FILTER;
+    }
+}
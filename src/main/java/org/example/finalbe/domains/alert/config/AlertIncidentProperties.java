@@ -0,0 +1,21 @@
+// 작성자: 황요한
+// 알림 인시던트 상관(묶음) 설정 정보를 로드하는 설정 클래스
+
+package org.example.finalbe.domains.alert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "alert.incident")
+@Getter
+@Setter
+public class AlertIncidentProperties {
+
+    private long flushInterval = 5000;     // 인시던트 변경을 모아 전송/저장하는 주기(ms)
+    private long quietPeriod = 60000;      // 구성 알림이 모두 해제된 뒤 이 시간 동안 새 알림이 없으면 해결(ms)
+    private long correlationWindow = 1800000;   // 마지막 구성 알림 후 이 시간이 지나면 같은 키라도 새 인시던트로 분리(ms)
+    private int detailLimit = 20;          // 인시던트 알림에 함께 보내는 최근 구성 알림 수
+}
@@ -0,0 +1,23 @@
+// 작성자: 황요한
+// 알림 이력 월 단위 파티션(사전 생성, 보관 기간, 아카이브) 설정 정보를 로드하는 설정 클래스
+
+package org.example.finalbe.domains.alert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "alert.partition")
+@Getter
+@Setter
+public class AlertPartitionProperties {
+
+    private boolean enabled = true;                        // 파티션 관리 사용 여부
+    private int premakeMonths = 3;                         // 미리 만들어 둘 미래 파티션 수(월)
+    private int retentionMonths = 12;                      // DB에 유지할 기간(월), 지나면 아카이브
+    private String archiveDir = "archive/alert-history";   // 아카이브 파일 저장 경로
+    private int restoreHoldHours = 24;                     // 복원한 파티션을 다시 아카이브하기 전 유지 시간
+    private String maintenanceCron = "0 30 3 * * *";      // 파티션 관리 주기 (cron)
+}
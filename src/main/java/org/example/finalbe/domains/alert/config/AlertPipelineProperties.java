@@ -0,0 +1,19 @@
+// 작성자: 황요한
+// 알림 저장 파이프라인(틱 단위 다중 행 INSERT) 설정 정보를 로드하는 설정 클래스
+
+package org.example.finalbe.domains.alert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "alert.pipeline")
+@Getter
+@Setter
+public class AlertPipelineProperties {
+
+    private int insertBatchSize = 500;     // INSERT 문 하나에 담는 최대 행 수 (바인드 변수 한도 고려)
+    private int maxAttempts = 3;           // 일괄 저장 재시도 횟수 (초과 시 행 단위로 나눠 저장)
+}
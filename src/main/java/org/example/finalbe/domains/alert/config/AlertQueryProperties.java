@@ -0,0 +1,24 @@
+// 작성자: 황요한
+// 알림 이력 조회(커서 페이지 크기, 기본 조회 기간, CSV 내보내기) 설정 정보를 로드하는 설정 클래스
+
+package org.example.finalbe.domains.alert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "alert.query")
+@Getter
+@Setter
+public class AlertQueryProperties {
+
+    private int defaultDays = 7;           // 기간 미지정 시 조회 기간(일)
+    private int maxDays = 90;              // 목록 조회 최대 기간(일)
+    private int maxPageSize = 100;         // 한 페이지 최대 건수
+    private int scopeLimit = 100;          // 장비/랙/서버실/인시던트별 목록 기본 건수
+    private int exportDefaultDays = 30;    // CSV 내보내기 기간 미지정 시 기간(일)
+    private int exportMaxDays = 366;       // CSV 내보내기 최대 기간(일)
+    private int exportChunkSize = 1000;    // CSV 내보내기 시 한 번에 읽는 행 수
+}
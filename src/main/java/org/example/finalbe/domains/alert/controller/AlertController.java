@@ -7,32 +7,53 @@ package org.example.finalbe.domains.alert.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.config.AlertQueryProperties;
 import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.example.finalbe.domains.alert.domain.AlertIncident;
+import org.example.finalbe.domains.alert.dto.AlertCursor;
+import org.example.finalbe.domains.alert.dto.AlertEvaluationStatusDto;
+import org.example.finalbe.domains.alert.dto.AlertHistoryArchiveDto;
 import org.example.finalbe.domains.alert.dto.AlertHistoryDto;
+import org.example.finalbe.domains.alert.dto.AlertIncidentDto;
+import org.example.finalbe.domains.alert.dto.AlertScopeCountsDto;
 import org.example.finalbe.domains.alert.dto.AlertStatisticsDto;
 import org.example.finalbe.domains.alert.dto.MarkAsReadRequest;
 import org.example.finalbe.domains.alert.dto.DeleteAlertsRequest;
 import org.example.finalbe.domains.alert.repository.AlertHistoryRepository;
+import org.example.finalbe.domains.alert.repository.AlertIncidentRepository;
+import org.example.finalbe.domains.alert.service.AlertCounterStore;
+import org.example.finalbe.domains.alert.service.AlertHistoryExporter;
+import org.example.finalbe.domains.alert.service.AlertHistoryPartitionManager;
 import org.example.finalbe.domains.alert.service.AlertNotificationService;
+import org.example.finalbe.domains.alert.service.AlertTickEvaluator;
+import org.example.finalbe.domains.common.enumdir.AlertIncidentStatus;
 import org.example.finalbe.domains.common.enumdir.AlertLevel;
 import org.example.finalbe.domains.common.enumdir.TargetType;
 import org.example.finalbe.domains.common.exception.AlertNotFoundException;
 import org.example.finalbe.domains.companyserverroom.repository.CompanyServerRoomRepository;
 import org.example.finalbe.domains.member.domain.Member;
 import org.example.finalbe.domains.member.repository.MemberRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,116 +66,245 @@ import java.util.stream.Collectors;
 public class AlertController {
 
     private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertIncidentRepository alertIncidentRepository;
     private final AlertNotificationService alertNotificationService;
     private final CompanyServerRoomRepository companyServerRoomRepository;
     private final MemberRepository memberRepository;
+    private final AlertTickEvaluator alertTickEvaluator;
+    private final AlertCounterStore alertCounterStore;
+    private final AlertHistoryExporter alertHistoryExporter;
+    private final AlertHistoryPartitionManager alertHistoryPartitionManager;
+    private final AlertQueryProperties alertQueryProperties;
 
     // SSE 전체/장비/랙/서버실/데이터센터 알림 구독
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeAlerts() {
-        return alertNotificationService.subscribeAll();
+    public SseEmitter subscribeAlerts(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return alertNotificationService.subscribeAll(lastEventId);
     }
 
     @GetMapping(value = "/equipment/{id}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeEquipmentAlerts(@PathVariable Long id) {
-        return alertNotificationService.subscribeEquipment(id);
+    public SseEmitter subscribeEquipmentAlerts(@PathVariable Long id,
+                                               @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return alertNotificationService.subscribeEquipment(id, lastEventId);
     }
 
     @GetMapping(value = "/rack/{id}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeRackAlerts(@PathVariable Long id) {
-        return alertNotificationService.subscribeRack(id);
+    public SseEmitter subscribeRackAlerts(@PathVariable Long id,
+                                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return alertNotificationService.subscribeRack(id, lastEventId);
     }
 
     @GetMapping(value = "/serverroom/{id}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeServerRoomAlerts(@PathVariable Long id) {
-        return alertNotificationService.subscribeServerRoom(id);
+    public SseEmitter subscribeServerRoomAlerts(@PathVariable Long id,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return alertNotificationService.subscribeServerRoom(id, lastEventId);
     }
 
     @GetMapping(value = "/datacenter/{id}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeDataCenterAlerts(@PathVariable Long id) {
-        return alertNotificationService.subscribeDataCenter(id);
+    public SseEmitter subscribeDataCenterAlerts(@PathVariable Long id,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return alertNotificationService.subscribeDataCenter(id, lastEventId);
     }
 
-    // 회사의 모든 서버실 기준 알림 조회
+    // 회사의 모든 서버실 기준 알림 조회 (커서 기반, 다음 페이지는 nextCursor 전달)
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAlerts(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) AlertLevel level,
             @RequestParam(defaultValue = "0") int days) {
 
-        Long userId = extractUserId();
-        Member currentMember = memberRepository.findByIdWithCompany(userId)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-        Long companyId = currentMember.getCompany().getId();
-
-        List<Long> serverRoomIds = companyServerRoomRepository
-                .findByCompanyId(companyId)
-                .stream()
-                .map(mapping -> mapping.getServerRoom().getId())
-                .collect(Collectors.toList());
+        List<Long> serverRoomIds = currentServerRoomIds();
+        int pageSize = pageSize(size, 20);
 
         if (serverRoomIds.isEmpty()) {
             Map<String, Object> emptyResponse = new HashMap<>();
             emptyResponse.put("content", List.of());
-            emptyResponse.put("totalElements", 0);
-            emptyResponse.put("totalPages", 0);
-            emptyResponse.put("currentPage", page);
-            emptyResponse.put("pageSize", size);
+            emptyResponse.put("pageSize", pageSize);
+            emptyResponse.put("hasNext", false);
+            emptyResponse.put("nextCursor", null);
             emptyResponse.put("message", "매핑된 서버실이 없습니다.");
             return ResponseEntity.ok(emptyResponse);
         }
 
-        LocalDateTime startTime = days > 0
-                ? LocalDateTime.now().minusDays(days)
-                : LocalDateTime.now().minusYears(10);
+        LocalDateTime startTime = windowStart(days);
+        // 첫 페이지는 현재 시각 이후(수집 시각 오차 여유)부터 시작
+        AlertCursor position = (cursor != null && !cursor.isBlank())
+                ? AlertCursor.decode(cursor)
+                : AlertCursor.startingAt(LocalDateTime.now().plusDays(1));
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("triggeredAt").descending());
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (전체 건수 COUNT 없음)
+        Limit limit = Limit.of(pageSize + 1);
+        List<AlertHistory> alerts = (level != null)
+                ? alertHistoryRepository.findPageByServerRoomIdsAndLevel(
+                serverRoomIds, level, startTime, position.triggeredAt(), position.alertId(), TargetType.DATA_CENTER, limit)
+                : alertHistoryRepository.findPageByServerRoomIds(
+                serverRoomIds, startTime, position.triggeredAt(), position.alertId(), TargetType.DATA_CENTER, limit);
 
-        Page<AlertHistory> alertPage = (level != null)
-                ? alertHistoryRepository.findByServerRoomIdInAndLevelAndTriggeredAtAfterAndTargetTypeNot(
-                serverRoomIds, level, startTime, TargetType.DATA_CENTER, pageable)
-                : alertHistoryRepository.findByServerRoomIdInAndTriggeredAtAfterAndTargetTypeNot(
-                serverRoomIds, startTime, TargetType.DATA_CENTER, pageable);
-
-        List<AlertHistoryDto> dtos = alertPage.getContent().stream()
-                .map(AlertHistoryDto::from)
-                .collect(Collectors.toList());
+        boolean hasNext = alerts.size() > pageSize;
+        List<AlertHistory> content = hasNext ? alerts.subList(0, pageSize) : alerts;
 
         Map<String, Object> response = new HashMap<>();
-        response.put("content", dtos);
-        response.put("totalElements", alertPage.getTotalElements());
-        response.put("totalPages", alertPage.getTotalPages());
-        response.put("currentPage", page);
-        response.put("pageSize", size);
-        response.put("hasNext", alertPage.hasNext());
-        response.put("hasPrevious", alertPage.hasPrevious());
+        response.put("content", content.stream().map(AlertHistoryDto::from).toList());
+        response.put("pageSize", pageSize);
+        response.put("hasNext", hasNext);
+        response.put("nextCursor", hasNext ? AlertCursor.after(content.get(content.size() - 1)).encode() : null);
+        response.put("startTime", startTime);
 
         return ResponseEntity.ok(response);
     }
 
-    // 장비 알림 조회
+    // 알림 CSV 내보내기 (기간 전체를 일정 행 수씩 읽어 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAlerts(
+            @RequestParam(required = false) AlertLevel level,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        List<Long> serverRoomIds = currentServerRoomIds();
+
+        LocalDateTime end = (to != null) ? to : LocalDateTime.now();
+        LocalDateTime start = (from != null) ? from : end.minusDays(alertQueryProperties.getExportDefaultDays());
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작 시각이 종료 시각보다 늦습니다.");
+        }
+        if (Duration.between(start, end).toDays() > alertQueryProperties.getExportMaxDays()) {
+            throw new IllegalArgumentException("내보내기 기간은 최대 " + alertQueryProperties.getExportMaxDays() + "일입니다.");
+        }
+
+        StreamingResponseBody body = out -> {
+            if (!serverRoomIds.isEmpty()) {
+                alertHistoryExporter.export(serverRoomIds, level, start, end, out);
+            }
+        };
+
+        String fileName = "alerts_" + end.format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".csv";
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    // 장비 알림 조회 (최근 기간, 최신순 최대 size건)
     @GetMapping("/equipment/{id}")
-    public ResponseEntity<List<AlertHistoryDto>> getEquipmentAlerts(@PathVariable Long id) {
-        List<AlertHistory> alerts = alertHistoryRepository.findByEquipmentIdOrderByTriggeredAtDesc(id);
+    public ResponseEntity<List<AlertHistoryDto>> getEquipmentAlerts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int size,
+            @RequestParam(defaultValue = "0") int days) {
+        List<AlertHistory> alerts = alertHistoryRepository.findByEquipmentIdAndTriggeredAtAfterOrderByTriggeredAtDescIdDesc(
+                id, windowStart(days), Limit.of(pageSize(size, alertQueryProperties.getScopeLimit())));
         return ResponseEntity.ok(alerts.stream().map(AlertHistoryDto::from).toList());
     }
 
-    // 랙 알림 조회
+    // 랙 알림 조회 (최근 기간, 최신순 최대 size건)
     @GetMapping("/rack/{id}")
-    public ResponseEntity<List<AlertHistoryDto>> getRackAlerts(@PathVariable Long id) {
-        List<AlertHistory> alerts = alertHistoryRepository.findByRackIdOrderByTriggeredAtDesc(id);
+    public ResponseEntity<List<AlertHistoryDto>> getRackAlerts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int size,
+            @RequestParam(defaultValue = "0") int days) {
+        List<AlertHistory> alerts = alertHistoryRepository.findByRackIdAndTriggeredAtAfterOrderByTriggeredAtDescIdDesc(
+                id, windowStart(days), Limit.of(pageSize(size, alertQueryProperties.getScopeLimit())));
         return ResponseEntity.ok(alerts.stream().map(AlertHistoryDto::from).toList());
     }
 
-    // 서버실 알림 조회
+    // 서버실 알림 조회 (최근 기간, 최신순 최대 size건)
     @GetMapping("/serverroom/{id}")
-    public ResponseEntity<List<AlertHistoryDto>> getServerRoomAlerts(@PathVariable Long id) {
-        List<AlertHistory> alerts = alertHistoryRepository.findByServerRoomIdOrderByTriggeredAtDesc(id);
+    public ResponseEntity<List<AlertHistoryDto>> getServerRoomAlerts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int size,
+            @RequestParam(defaultValue = "0") int days) {
+        List<AlertHistory> alerts = alertHistoryRepository.findByServerRoomIdAndTriggeredAtAfterOrderByTriggeredAtDescIdDesc(
+                id, windowStart(days), Limit.of(pageSize(size, alertQueryProperties.getScopeLimit())));
         return ResponseEntity.ok(alerts.stream().map(AlertHistoryDto::from).toList());
     }
 
+    // 회사의 모든 서버실 기준 인시던트 조회
+    @GetMapping("/incidents")
+    public ResponseEntity<Map<String, Object>> getIncidents(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) AlertIncidentStatus status,
+            @RequestParam(defaultValue = "7") int days) {
+
+        Long userId = extractUserId();
+        Member currentMember = memberRepository.findByIdWithCompany(userId)
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+
+        List<Long> serverRoomIds = companyServerRoomRepository
+                .findByCompanyId(currentMember.getCompany().getId())
+                .stream()
+                .map(mapping -> mapping.getServerRoom().getId())
+                .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("currentPage", page);
+        response.put("pageSize", size);
+
+        if (serverRoomIds.isEmpty()) {
+            response.put("content", List.of());
+            response.put("totalElements", 0);
+            response.put("totalPages", 0);
+            response.put("message", "매핑된 서버실이 없습니다.");
+            return ResponseEntity.ok(response);
+        }
+
+        LocalDateTime startTime = LocalDateTime.now().minusDays(Math.max(days, 1));
+        Pageable pageable = PageRequest.of(page, size, Sort.by("openedAt").descending());
+
+        Page<AlertIncident> incidentPage = (status != null)
+                ? alertIncidentRepository.findByServerRoomIdInAndStatusAndOpenedAtAfter(
+                serverRoomIds, status, startTime, pageable)
+                : alertIncidentRepository.findByServerRoomIdInAndOpenedAtAfter(
+                serverRoomIds, startTime, pageable);
+
+        response.put("content", incidentPage.getContent().stream().map(AlertIncidentDto::from).toList());
+        response.put("totalElements", incidentPage.getTotalElements());
+        response.put("totalPages", incidentPage.getTotalPages());
+        response.put("hasNext", incidentPage.hasNext());
+        response.put("hasPrevious", incidentPage.hasPrevious());
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 인시던트 상세 조회
+    @GetMapping("/incidents/{id}")
+    public ResponseEntity<AlertIncidentDto> getIncidentDetail(@PathVariable Long id) {
+        AlertIncident incident = alertIncidentRepository.findById(id)
+                .orElseThrow(() -> new AlertNotFoundException("알림 인시던트를 찾을 수 없습니다. ID: " + id));
+        return ResponseEntity.ok(AlertIncidentDto.from(incident));
+    }
+
+    // 인시던트 구성 알림 조회 (펼쳐 보기)
+    @GetMapping("/incidents/{id}/alerts")
+    public ResponseEntity<List<AlertHistoryDto>> getIncidentAlerts(@PathVariable Long id) {
+        AlertIncident incident = alertIncidentRepository.findById(id)
+                .orElseThrow(() -> new AlertNotFoundException("알림 인시던트를 찾을 수 없습니다. ID: " + id));
+        List<AlertHistory> alerts = alertHistoryRepository.findByIncidentIdAndTriggeredAtGreaterThanEqualOrderByTriggeredAtDescIdDesc(
+                id, incident.getOpenedAt(), Limit.of(alertQueryProperties.getScopeLimit()));
+        return ResponseEntity.ok(alerts.stream().map(AlertHistoryDto::from).toList());
+    }
+
+    // 알림 이력 아카이브 목록
+    @GetMapping("/archives")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<AlertHistoryArchiveDto>> getArchives() {
+        return ResponseEntity.ok(alertHistoryPartitionManager.getArchives().stream()
+                .map(AlertHistoryArchiveDto::from).toList());
+    }
+
+    // 아카이브된 기간 복원 (겹치는 월 파티션을 다시 붙여 조회 가능하게 함)
+    @PostMapping("/archives/restore")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<AlertHistoryArchiveDto>> restoreArchives(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("시작 시각이 종료 시각보다 빨라야 합니다.");
+        }
+        return ResponseEntity.ok(alertHistoryPartitionManager.restore(from, to).stream()
+                .map(AlertHistoryArchiveDto::from).toList());
+    }
+
     // 알림 상세 조회
     @GetMapping("/{id}")
     public ResponseEntity<AlertHistoryDto> getAlertDetail(@PathVariable Long id) {
@@ -180,19 +330,32 @@ public class AlertController {
 
         if (serverRoomIds.isEmpty()) return ResponseEntity.ok(AlertStatisticsDto.empty());
 
+        // 카운터 합으로 응답 (카운터 적재 전이면 조건부 집계 한 번으로 계산)
+        if (alertCounterStore.isReady()) {
+            return ResponseEntity.ok(alertCounterStore.getStatistics(serverRoomIds));
+        }
+
+        List<AlertScopeCountsDto> rows = alertHistoryRepository.aggregateByServerRoomIds(serverRoomIds);
         AlertStatisticsDto stats = new AlertStatisticsDto(
-                alertHistoryRepository.countByServerRoomIdIn(serverRoomIds),
-                alertHistoryRepository.countByServerRoomIdIn(serverRoomIds),
-                alertHistoryRepository.countByServerRoomIdInAndLevel(serverRoomIds, AlertLevel.CRITICAL),
-                alertHistoryRepository.countByServerRoomIdInAndLevel(serverRoomIds, AlertLevel.WARNING),
-                alertHistoryRepository.countByServerRoomIdInAndTargetType(serverRoomIds, TargetType.EQUIPMENT),
-                alertHistoryRepository.countByServerRoomIdInAndTargetType(serverRoomIds, TargetType.RACK),
-                alertHistoryRepository.countByServerRoomIdInAndTargetType(serverRoomIds, TargetType.SERVER_ROOM)
+                rows.stream().mapToLong(AlertScopeCountsDto::totalAlerts).sum(),
+                alertCounterStore.countActive(serverRoomIds),
+                rows.stream().mapToLong(AlertScopeCountsDto::criticalAlerts).sum(),
+                rows.stream().mapToLong(AlertScopeCountsDto::warningAlerts).sum(),
+                rows.stream().mapToLong(AlertScopeCountsDto::equipmentAlerts).sum(),
+                rows.stream().mapToLong(AlertScopeCountsDto::rackAlerts).sum(),
+                rows.stream().mapToLong(AlertScopeCountsDto::serverRoomAlerts).sum(),
+                rows.stream().mapToLong(AlertScopeCountsDto::unreadAlerts).sum()
         );
 
         return ResponseEntity.ok(stats);
     }
 
+    // 알림 평가 틱 처리 현황 조회 (제출/평가/건너뛴 틱 수, 마지막 평가 소요 시간)
+    @GetMapping("/evaluation/status")
+    public ResponseEntity<AlertEvaluationStatusDto> getEvaluationStatus() {
+        return ResponseEntity.ok(alertTickEvaluator.getStatus());
+    }
+
     // 전체 알림 읽음 처리
     @PostMapping("/mark-all-as-read")
     @Transactional
@@ -211,6 +374,7 @@ public class AlertController {
         }
 
         int updatedCount = alertHistoryRepository.markAllAsReadByServerRoomIds(serverRoomIds, LocalDateTime.now(), userId);
+        alertCounterStore.onAllRead(serverRoomIds);
 
         return ResponseEntity.ok(Map.of("success", true, "message", "전체 알림을 읽음 처리했습니다.", "updatedCount", updatedCount));
     }
@@ -241,6 +405,7 @@ public class AlertController {
         }
 
         int updatedCount = alertHistoryRepository.markAsReadByIds(request.alertIds(), LocalDateTime.now(), userId);
+        alertCounterStore.onRead(alerts);
 
         return ResponseEntity.ok(Map.of("success", true, "message", "선택한 알림을 읽음 처리했습니다.", "updatedCount", updatedCount));
     }
@@ -262,6 +427,7 @@ public class AlertController {
         }
 
         int deletedCount = alertHistoryRepository.deleteAllByServerRoomIds(serverRoomIds);
+        alertCounterStore.onAllDeleted(serverRoomIds);
 
         return ResponseEntity.ok(Map.of("success", true, "message", "전체 알림을 삭제했습니다.", "deletedCount", deletedCount));
     }
@@ -282,7 +448,12 @@ public class AlertController {
             return ResponseEntity.ok(Map.of("success", false, "message", "매핑된 서버실이 없습니다.", "deletedCount", 0));
         }
 
+        List<AlertHistory> deleted = alertHistoryRepository.findAllById(request.alertIds()).stream()
+                .filter(alert -> serverRoomIds.contains(alert.getServerRoomId()))
+                .toList();
+
         int deletedCount = alertHistoryRepository.deleteByIdsAndServerRoomIds(request.alertIds(), serverRoomIds);
+        alertCounterStore.onDeleted(deleted);
 
         return ResponseEntity.ok(Map.of("success", true, "message", "선택한 알림을 삭제했습니다.", "deletedCount", deletedCount));
     }
@@ -300,7 +471,7 @@ public class AlertController {
 
         long unreadCount = serverRoomIds.isEmpty()
                 ? 0
-                : alertHistoryRepository.countUnreadByServerRoomIds(serverRoomIds);
+                : alertCounterStore.getUnreadCount(serverRoomIds);
 
         return ResponseEntity.ok(Map.of("unreadCount", unreadCount));
     }
@@ -319,4 +490,27 @@ public class AlertController {
 
         return Long.parseLong(userId);
     }
+
+    // 로그인 사용자 회사에 매핑된 서버실 ID 목록
+    private List<Long> currentServerRoomIds() {
+        Member currentMember = memberRepository.findByIdWithCompany(extractUserId())
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+
+        return companyServerRoomRepository
+                .findByCompanyId(currentMember.getCompany().getId())
+                .stream()
+                .map(mapping -> mapping.getServerRoom().getId())
+                .toList();
+    }
+
+    // 조회 시작 시각 (미지정 시 기본 기간, 최대 기간으로 제한)
+    private LocalDateTime windowStart(int days) {
+        int window = days > 0 ? Math.min(days, alertQueryProperties.getMaxDays()) : alertQueryProperties.getDefaultDays();
+        return LocalDateTime.now().minusDays(window);
+    }
+
+    // 페이지 크기 (미지정 시 기본값, 최대 크기로 제한)
+    private int pageSize(int size, int defaultSize) {
+        return Math.min(size > 0 ? size : defaultSize, alertQueryProperties.getMaxPageSize());
+    }
 }
@@ -1,6 +1,8 @@
 /**
  * 작성자: 황요한
  * 알림 히스토리 엔티티 (알림 기록 및 읽음 처리 기능 포함)
+ * 테이블은 triggered_at 기준 월 단위 파티션으로 관리됨 (AlertHistoryPartitionManager, PK = alert_id + triggered_at)
+ * 스키마는 Hibernate 자동 업데이트 대상이 아니며 AlertHistoryPartitionStore가 DDL을 관리한다. (컬럼 추가 시 함께 반영)
  */
 package org.example.finalbe.domains.alert.domain;
 
@@ -13,7 +15,12 @@ import org.example.finalbe.domains.common.enumdir.TargetType;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "alert_history")
+@Table(name = "alert_history", indexes = {
+        @Index(name = "idx_alert_history_incident", columnList = "incident_id"),
+        @Index(name = "idx_alert_history_serverroom_time", columnList = "server_room_id, triggered_at DESC, alert_id DESC"),
+        @Index(name = "idx_alert_history_equipment_time", columnList = "equipment_id, triggered_at DESC, alert_id DESC"),
+        @Index(name = "idx_alert_history_rack_time", columnList = "rack_id, triggered_at DESC, alert_id DESC")
+})
 @Getter
 @Setter
 @Builder
@@ -21,6 +28,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class AlertHistory {
 
+    // DB PK는 (alert_id, triggered_at)이지만 alert_id는 시퀀스로 전역 유일하므로 엔티티 식별자는 alert_id만 사용
+    // (파티션 테이블 PK는 파티션 키를 포함해야 함, 스키마 검증/업데이트에서 제외되어 있어 불일치가 문제되지 않음)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "alert_id")
@@ -31,6 +40,9 @@ public class AlertHistory {
     private Long serverRoomId;
     private Long dataCenterId;
 
+    // 소속 인시던트 (상관 단계에서 지정)
+    private Long incidentId;
+
     @Column(length = 200)
     private String targetName;
 
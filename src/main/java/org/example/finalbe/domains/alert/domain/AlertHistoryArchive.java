@@ -0,0 +1,55 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 아카이브 엔티티
+ * 보관 기간이 지나 분리(DETACH)된 월 단위 파티션의 압축 파일 위치와 범위 기록 (복원 요청 시 이 기록으로 파티션을 다시 붙임)
+ */
+package org.example.finalbe.domains.alert.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "alert_history_archive", indexes = {
+        @Index(name = "idx_alert_history_archive_range", columnList = "range_start, range_end")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertHistoryArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "archive_id")
+    private Long id;
+
+    // 파티션 이름 (예: alert_history_p202401)
+    @Column(nullable = false, unique = true, length = 100)
+    private String partitionName;
+
+    // 파티션 범위 [rangeStart, rangeEnd)
+    @Column(nullable = false)
+    private LocalDateTime rangeStart;
+
+    @Column(nullable = false)
+    private LocalDateTime rangeEnd;
+
+    // 압축 파일 경로 (gzip CSV)
+    @Column(nullable = false, length = 500)
+    private String filePath;
+
+    @Column(nullable = false)
+    private Long rowCount;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // 복원 시각 (복원 후 보류 시간이 지나면 다시 아카이브)
+    private LocalDateTime restoredAt;
+}
@@ -0,0 +1,94 @@
+/**
+ * 작성자: 황요한
+ * 알림 인시던트 엔티티
+ * 같은 랙/서버실 또는 같은 원인(서버실 환경)으로 묶인 알림들의 대표 기록 (구성 알림은 AlertHistory.incidentId로 연결)
+ */
+package org.example.finalbe.domains.alert.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.finalbe.domains.common.enumdir.AlertIncidentStatus;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.example.finalbe.domains.common.enumdir.MetricType;
+import org.example.finalbe.domains.common.enumdir.TargetType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "alert_incident", indexes = {
+        @Index(name = "idx_alert_incident_status", columnList = "status"),
+        @Index(name = "idx_alert_incident_serverroom_time", columnList = "server_room_id, opened_at DESC")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertIncident {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "incident_id")
+    private Long id;
+
+    // 상관 키 (예: rack-3, serverroom-1:environment)
+    @Column(nullable = false, length = 100)
+    private String correlationKey;
+
+    // 묶음 범위
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private TargetType scopeType;
+
+    private Long equipmentId;
+    private Long rackId;
+    private Long serverRoomId;
+    private Long dataCenterId;
+
+    // 원인 메트릭 (서버실 환경 인시던트만, 나머지는 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private MetricType metricType;
+
+    @Column(length = 200)
+    private String title;
+
+    // 구성 알림 중 가장 높은 레벨
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AlertLevel level;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AlertIncidentStatus status;
+
+    // 구성 알림 수 (재알림 포함) / 발생 중인 구성 알림 수
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer alertCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer activeAlertCount = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime openedAt;
+
+    private LocalDateTime lastAlertAt;
+    private LocalDateTime resolvedAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -6,6 +6,8 @@ package org.example.finalbe.domains.alert.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.example.finalbe.domains.common.enumdir.AlertViolationState;
 import org.example.finalbe.domains.common.enumdir.MetricType;
 import org.example.finalbe.domains.common.enumdir.TargetType;
 
@@ -41,6 +43,16 @@ public class AlertViolationTracker {
     @Column(nullable = false, length = 100)
     private String metricName;
 
+    // 평가 레벨 (레벨별로 상태를 따로 추적)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AlertLevel level;
+
+    // 위반 상태 (OK → PENDING → FIRING → RESOLVED)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AlertViolationState state;
+
     // 연속 위반 횟수
     @Builder.Default
     @Column(nullable = false)
@@ -51,12 +63,18 @@ public class AlertViolationTracker {
     @Column(nullable = false)
     private LocalDateTime lastViolationTime = LocalDateTime.now();
 
+    // 이번 위반 구간 시작 시간 (PENDING 진입 시각)
+    private LocalDateTime firstViolationTime;
+
     // 가장 최근 측정값
     private Double lastMeasuredValue;
 
     // 마지막으로 알림 전송된 시간
     private LocalDateTime lastAlertSentAt;
 
+    // 발생 중인 알림 이력 ID (해제 시 알림 해결 전송용)
+    private Long alertHistoryId;
+
     // 생성 및 수정 시간
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
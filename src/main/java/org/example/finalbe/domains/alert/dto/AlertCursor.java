@@ -0,0 +1,45 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 커서 (triggered_at, alert_id)
+ * 마지막으로 받은 행의 위치를 기억해 그 다음 행부터 인덱스로 바로 이어 읽는다. (OFFSET 없이 몇 번째 페이지든 같은 비용)
+ */
+package org.example.finalbe.domains.alert.dto;
+
+import org.example.finalbe.domains.alert.domain.AlertHistory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record AlertCursor(
+        LocalDateTime triggeredAt,
+        Long alertId
+) {
+
+    // 해당 시각 이하의 모든 행부터 시작하는 커서
+    public static AlertCursor startingAt(LocalDateTime triggeredAt) {
+        return new AlertCursor(triggeredAt, Long.MAX_VALUE);
+    }
+
+    public static AlertCursor after(AlertHistory alert) {
+        return new AlertCursor(alert.getTriggeredAt(), alert.getId());
+    }
+
+    // 클라이언트에 전달하는 불투명 문자열
+    public String encode() {
+        String raw = triggeredAt + "|" + alertId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AlertCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new AlertCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
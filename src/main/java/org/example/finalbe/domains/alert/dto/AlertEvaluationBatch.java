@@ -0,0 +1,65 @@
+/**
+ * 작성자: 황요한
+ * 수집 틱 1회분의 알림 평가 대상 묶음
+ * 수집 스레드가 틱 동안 채운 뒤 한 번에 넘기며, 평가 스레드는 묶음 단위로 처리한다.
+ */
+package org.example.finalbe.domains.alert.dto;
+
+import lombok.Getter;
+import org.example.finalbe.domains.common.enumdir.AlertEvaluationSource;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.EnvironmentMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class AlertEvaluationBatch {
+
+    private final AlertEvaluationSource source;
+    private final LocalDateTime tickTime;
+
+    private final List<SystemMetric> systemMetrics = new ArrayList<>();
+    private final List<DiskMetric> diskMetrics = new ArrayList<>();
+    private final List<NetworkMetric> networkMetrics = new ArrayList<>();
+    private final List<EnvironmentMetric> environmentMetrics = new ArrayList<>();
+    private final List<ServerRoomStatisticsDto> serverRoomStatistics = new ArrayList<>();
+
+    public AlertEvaluationBatch(AlertEvaluationSource source, LocalDateTime tickTime) {
+        this.source = source;
+        this.tickTime = tickTime;
+    }
+
+    public void addSystem(SystemMetric metric) {
+        systemMetrics.add(metric);
+    }
+
+    public void addDisk(DiskMetric metric) {
+        diskMetrics.add(metric);
+    }
+
+    public void addNetwork(NetworkMetric metric) {
+        networkMetrics.add(metric);
+    }
+
+    public void addEnvironment(EnvironmentMetric metric) {
+        environmentMetrics.add(metric);
+    }
+
+    public void addServerRoomStatistics(ServerRoomStatisticsDto statistics) {
+        serverRoomStatistics.add(statistics);
+    }
+
+    public int size() {
+        return systemMetrics.size() + diskMetrics.size() + networkMetrics.size()
+                + environmentMetrics.size() + serverRoomStatistics.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * 작성자: 황요한
+ * 알림 평가 틱 처리 현황 DTO (건너뛴 틱 = 평가가 밀려 더 최신 틱으로 대체된 틱)
+ */
+package org.example.finalbe.domains.alert.dto;
+
+import java.time.LocalDateTime;
+
+public record AlertEvaluationStatusDto(
+        long submittedTicks,
+        long evaluatedTicks,
+        long skippedTicks,
+        long evaluatedItems,
+        int pendingTicks,
+        long lastDurationMillis,
+        LocalDateTime lastTickTime
+) {
+}
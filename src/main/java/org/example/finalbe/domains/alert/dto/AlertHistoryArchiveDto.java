@@ -0,0 +1,35 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 아카이브 응답 DTO (restored = 현재 파티션으로 복원되어 조회 가능한 상태)
+ */
+package org.example.finalbe.domains.alert.dto;
+
+import org.example.finalbe.domains.alert.domain.AlertHistoryArchive;
+
+import java.time.LocalDateTime;
+
+public record AlertHistoryArchiveDto(
+        Long archiveId,
+        String partitionName,
+        LocalDateTime rangeStart,
+        LocalDateTime rangeEnd,
+        Long rowCount,
+        Long fileSize,
+        LocalDateTime archivedAt,
+        LocalDateTime restoredAt,
+        boolean restored
+) {
+    public static AlertHistoryArchiveDto from(AlertHistoryArchive archive) {
+        return new AlertHistoryArchiveDto(
+                archive.getId(),
+                archive.getPartitionName(),
+                archive.getRangeStart(),
+                archive.getRangeEnd(),
+                archive.getRowCount(),
+                archive.getFileSize(),
+                archive.getArchivedAt(),
+                archive.getRestoredAt(),
+                archive.getRestoredAt() != null
+        );
+    }
+}
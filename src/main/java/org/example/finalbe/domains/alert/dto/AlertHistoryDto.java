@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 
 public record AlertHistoryDto(
         Long alertId,
+        Long incidentId,
 
         Long equipmentId,
         Long rackId,
@@ -42,6 +43,7 @@ public record AlertHistoryDto(
     public static AlertHistoryDto from(AlertHistory alert) {
         return new AlertHistoryDto(
                 alert.getId(),
+                alert.getIncidentId(),
                 alert.getEquipmentId(),
                 alert.getRackId(),
                 alert.getServerRoomId(),
@@ -0,0 +1,64 @@
+/**
+ * 작성자: 황요한
+ * 알림 인시던트 응답/실시간 알림(SSE) DTO
+ * recentAlerts는 펼쳐 보기용 최근 구성 알림이며, 전체 구성 알림은 인시던트 알림 조회 API로 제공한다.
+ */
+package org.example.finalbe.domains.alert.dto;
+
+import org.example.finalbe.domains.alert.domain.AlertIncident;
+import org.example.finalbe.domains.common.enumdir.AlertIncidentStatus;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.example.finalbe.domains.common.enumdir.MetricType;
+import org.example.finalbe.domains.common.enumdir.TargetType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AlertIncidentDto(
+        Long incidentId,
+
+        TargetType scopeType,
+        Long equipmentId,
+        Long rackId,
+        Long serverRoomId,
+        Long dataCenterId,
+        MetricType metricType,
+
+        String title,
+        AlertLevel level,
+        AlertIncidentStatus status,
+
+        Integer alertCount,
+        Integer activeAlertCount,
+
+        LocalDateTime openedAt,
+        LocalDateTime lastAlertAt,
+        LocalDateTime resolvedAt,
+
+        List<AlertNotificationDto> recentAlerts
+) {
+    public static AlertIncidentDto from(AlertIncident incident) {
+        return from(incident, List.of());
+    }
+
+    public static AlertIncidentDto from(AlertIncident incident, List<AlertNotificationDto> recentAlerts) {
+        return new AlertIncidentDto(
+                incident.getId(),
+                incident.getScopeType(),
+                incident.getEquipmentId(),
+                incident.getRackId(),
+                incident.getServerRoomId(),
+                incident.getDataCenterId(),
+                incident.getMetricType(),
+                incident.getTitle(),
+                incident.getLevel(),
+                incident.getStatus(),
+                incident.getAlertCount(),
+                incident.getActiveAlertCount(),
+                incident.getOpenedAt(),
+                incident.getLastAlertAt(),
+                incident.getResolvedAt(),
+                recentAlerts
+        );
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * 작성자: 황요한
+ * 인시던트 일괄 알림(incident-batch)의 항목 DTO
+ * event: incident-opened / incident-updated / incident-resolved
+ */
+package org.example.finalbe.domains.alert.dto;
+
+public record AlertIncidentEventDto(
+        String event,
+        AlertIncidentDto incident
+) {
+}
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 
 public record AlertNotificationDto(
         Long alertId,
+        Long incidentId,
 
         Long equipmentId,
         Long rackId,
@@ -38,6 +39,7 @@ public record AlertNotificationDto(
     public static AlertNotificationDto from(AlertHistory alert) {
         return new AlertNotificationDto(
                 alert.getId(),
+                alert.getIncidentId(),
                 alert.getEquipmentId(),
                 alert.getRackId(),
                 alert.getServerRoomId(),
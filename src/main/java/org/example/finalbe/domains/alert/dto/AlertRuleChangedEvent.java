@@ -0,0 +1,13 @@
+/**
+ * 작성자: 황요한
+ * 알림 규칙(임계치/모니터링 여부/계층)이 바뀐 대상을 알리는 이벤트 (커밋 후 규칙 테이블 갱신용)
+ */
+package org.example.finalbe.domains.alert.dto;
+
+import org.example.finalbe.domains.common.enumdir.TargetType;
+
+public record AlertRuleChangedEvent(
+        TargetType targetType,
+        Long targetId
+) {
+}
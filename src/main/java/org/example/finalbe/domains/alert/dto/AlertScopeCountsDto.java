@@ -0,0 +1,20 @@
+/**
+ * 작성자: 황요한
+ * 서버실별 알림 집계 행 (조건부 집계 쿼리 한 번으로 통계 항목을 모두 계산)
+ */
+package org.example.finalbe.domains.alert.dto;
+
+public record AlertScopeCountsDto(
+        Long serverRoomId,
+
+        Long totalAlerts,
+        Long criticalAlerts,
+        Long warningAlerts,
+
+        Long equipmentAlerts,
+        Long rackAlerts,
+        Long serverRoomAlerts,
+
+        Long unreadAlerts
+) {
+}
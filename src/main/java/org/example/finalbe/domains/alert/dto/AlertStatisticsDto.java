@@ -1,6 +1,7 @@
 /**
  * 작성자: 황요한
  * 알림 통계 정보를 제공하는 DTO
+ * triggeredAlerts는 현재 발생 중(해제 전)인 알림 수
  */
 package org.example.finalbe.domains.alert.dto;
 
@@ -13,7 +14,9 @@ public record AlertStatisticsDto(
 
         Long equipmentAlerts,
         Long rackAlerts,
-        Long serverRoomAlerts
+        Long serverRoomAlerts,
+
+        Long unreadAlerts
 ) {
 
     // 모든 값이 0인 기본 통계 반환
@@ -21,7 +24,8 @@ public record AlertStatisticsDto(
         return new AlertStatisticsDto(
                 0L, 0L,
                 0L, 0L,
-                0L, 0L, 0L
+                0L, 0L, 0L,
+                0L
         );
     }
 }
@@ -0,0 +1,24 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 아카이브(AlertHistoryArchive) 조회 Repository
+ */
+package org.example.finalbe.domains.alert.repository;
+
+import org.example.finalbe.domains.alert.domain.AlertHistoryArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AlertHistoryArchiveRepository extends JpaRepository<AlertHistoryArchive, Long> {
+
+    Optional<AlertHistoryArchive> findByPartitionName(String partitionName);
+
+    // 아카이브 목록 (최신 범위순)
+    List<AlertHistoryArchive> findAllByOrderByRangeStartDesc();
+
+    // 요청 기간과 겹치는 아카이브 (rangeStart < to AND rangeEnd > from)
+    List<AlertHistoryArchive> findByRangeStartLessThanAndRangeEndGreaterThanOrderByRangeStart(
+            LocalDateTime to, LocalDateTime from);
+}
@@ -5,10 +5,10 @@
 package org.example.finalbe.domains.alert.repository;
 
 import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.example.finalbe.domains.alert.dto.AlertScopeCountsDto;
 import org.example.finalbe.domains.common.enumdir.AlertLevel;
 import org.example.finalbe.domains.common.enumdir.TargetType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -19,23 +19,35 @@ import java.util.List;
 
 public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Long> {
 
-    // 개별 단위 조회
-    List<AlertHistory> findByEquipmentIdOrderByTriggeredAtDesc(Long equipmentId);
-    List<AlertHistory> findByRackIdOrderByTriggeredAtDesc(Long rackId);
-    List<AlertHistory> findByServerRoomIdOrderByTriggeredAtDesc(Long serverRoomId);
+    // 개별 단위 조회 (기간 + 건수 제한, 최신순)
+    List<AlertHistory> findByEquipmentIdAndTriggeredAtAfterOrderByTriggeredAtDescIdDesc(
+            Long equipmentId, LocalDateTime startTime, Limit limit);
+    List<AlertHistory> findByRackIdAndTriggeredAtAfterOrderByTriggeredAtDescIdDesc(
+            Long rackId, LocalDateTime startTime, Limit limit);
+    List<AlertHistory> findByServerRoomIdAndTriggeredAtAfterOrderByTriggeredAtDescIdDesc(
+            Long serverRoomId, LocalDateTime startTime, Limit limit);
 
-    // 서버실 범위 + 기간 필터 조회
+    // 인시던트 구성 알림 조회 (인시던트 시작 시각 이후 파티션만 조회)
+    List<AlertHistory> findByIncidentIdAndTriggeredAtGreaterThanEqualOrderByTriggeredAtDescIdDesc(
+            Long incidentId, LocalDateTime openedAt, Limit limit);
+
+    // 서버실 범위 + 기간 필터 커서 조회 ((triggered_at, alert_id)가 커서보다 앞선 행부터 최신순)
     @Query("""
             SELECT a FROM AlertHistory a
             WHERE a.serverRoomId IN :serverRoomIds
               AND a.triggeredAt >= :startTime
+              AND a.triggeredAt <= :cursorTime
+              AND (a.triggeredAt < :cursorTime OR a.id < :cursorId)
               AND a.targetType <> :excludeTargetType
+            ORDER BY a.triggeredAt DESC, a.id DESC
             """)
-    Page<AlertHistory> findByServerRoomIdInAndTriggeredAtAfterAndTargetTypeNot(
+    List<AlertHistory> findPageByServerRoomIds(
             @Param("serverRoomIds") List<Long> serverRoomIds,
             @Param("startTime") LocalDateTime startTime,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
             @Param("excludeTargetType") TargetType excludeTargetType,
-            Pageable pageable
+            Limit limit
     );
 
     @Query("""
@@ -43,31 +55,54 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Long
             WHERE a.serverRoomId IN :serverRoomIds
               AND a.level = :level
               AND a.triggeredAt >= :startTime
+              AND a.triggeredAt <= :cursorTime
+              AND (a.triggeredAt < :cursorTime OR a.id < :cursorId)
               AND a.targetType <> :excludeTargetType
+            ORDER BY a.triggeredAt DESC, a.id DESC
             """)
-    Page<AlertHistory> findByServerRoomIdInAndLevelAndTriggeredAtAfterAndTargetTypeNot(
+    List<AlertHistory> findPageByServerRoomIdsAndLevel(
             @Param("serverRoomIds") List<Long> serverRoomIds,
             @Param("level") AlertLevel level,
             @Param("startTime") LocalDateTime startTime,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
             @Param("excludeTargetType") TargetType excludeTargetType,
-            Pageable pageable
+            Limit limit
     );
 
-    // 통계
-    @Query("SELECT COUNT(a) FROM AlertHistory a WHERE a.serverRoomId IN :serverRoomIds")
-    long countByServerRoomIdIn(@Param("serverRoomIds") List<Long> serverRoomIds);
-
-    @Query("SELECT COUNT(a) FROM AlertHistory a WHERE a.serverRoomId IN :serverRoomIds AND a.level = :level")
-    long countByServerRoomIdInAndLevel(
-            @Param("serverRoomIds") List<Long> serverRoomIds,
-            @Param("level") AlertLevel level
-    );
+    // 통계 (서버실별 조건부 집계, 한 번의 스캔으로 전체/레벨/대상/읽지 않음 계산)
+    @Query("""
+            SELECT new org.example.finalbe.domains.alert.dto.AlertScopeCountsDto(
+                   a.serverRoomId,
+                   COUNT(a),
+                   SUM(CASE WHEN a.level = 'CRITICAL' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.level = 'WARNING' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.targetType = 'EQUIPMENT' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.targetType = 'RACK' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.targetType = 'SERVER_ROOM' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.isRead = false THEN 1 ELSE 0 END))
+              FROM AlertHistory a
+             WHERE a.serverRoomId IN :serverRoomIds
+             GROUP BY a.serverRoomId
+            """)
+    List<AlertScopeCountsDto> aggregateByServerRoomIds(@Param("serverRoomIds") List<Long> serverRoomIds);
 
-    @Query("SELECT COUNT(a) FROM AlertHistory a WHERE a.serverRoomId IN :serverRoomIds AND a.targetType = :targetType")
-    long countByServerRoomIdInAndTargetType(
-            @Param("serverRoomIds") List<Long> serverRoomIds,
-            @Param("targetType") TargetType targetType
-    );
+    // 카운터 보정용 전체 집계
+    @Query("""
+            SELECT new org.example.finalbe.domains.alert.dto.AlertScopeCountsDto(
+                   a.serverRoomId,
+                   COUNT(a),
+                   SUM(CASE WHEN a.level = 'CRITICAL' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.level = 'WARNING' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.targetType = 'EQUIPMENT' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.targetType = 'RACK' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.targetType = 'SERVER_ROOM' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.isRead = false THEN 1 ELSE 0 END))
+              FROM AlertHistory a
+             WHERE a.serverRoomId IS NOT NULL
+             GROUP BY a.serverRoomId
+            """)
+    List<AlertScopeCountsDto> aggregateByServerRoom();
 
     // 읽음 처리
     @Modifying
@@ -115,13 +150,4 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Long
     @Modifying
     @Query("DELETE FROM AlertHistory a WHERE a.serverRoomId IN :serverRoomIds")
     int deleteAllByServerRoomIds(@Param("serverRoomIds") List<Long> serverRoomIds);
-
-    // 읽지 않은 알림 개수
-    @Query("""
-            SELECT COUNT(a)
-              FROM AlertHistory a
-             WHERE a.serverRoomId IN :serverRoomIds
-               AND a.isRead = false
-            """)
-    long countUnreadByServerRoomIds(@Param("serverRoomIds") List<Long> serverRoomIds);
 }
@@ -0,0 +1,47 @@
+/**
+ * 작성자: 황요한
+ * 알림 인시던트(AlertIncident) 조회 Repository
+ */
+package org.example.finalbe.domains.alert.repository;
+
+import org.example.finalbe.domains.alert.domain.AlertIncident;
+import org.example.finalbe.domains.common.enumdir.AlertIncidentStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AlertIncidentRepository extends JpaRepository<AlertIncident, Long> {
+
+    // 상관 단계 복원용 (진행 중 인시던트 전체)
+    List<AlertIncident> findByStatus(AlertIncidentStatus status);
+
+    // 서버실 범위 + 기간 필터 조회
+    @Query("""
+            SELECT i FROM AlertIncident i
+            WHERE i.serverRoomId IN :serverRoomIds
+              AND i.openedAt >= :startTime
+            """)
+    Page<AlertIncident> findByServerRoomIdInAndOpenedAtAfter(
+            @Param("serverRoomIds") List<Long> serverRoomIds,
+            @Param("startTime") LocalDateTime startTime,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT i FROM AlertIncident i
+            WHERE i.serverRoomId IN :serverRoomIds
+              AND i.status = :status
+              AND i.openedAt >= :startTime
+            """)
+    Page<AlertIncident> findByServerRoomIdInAndStatusAndOpenedAtAfter(
+            @Param("serverRoomIds") List<Long> serverRoomIds,
+            @Param("status") AlertIncidentStatus status,
+            @Param("startTime") LocalDateTime startTime,
+            Pageable pageable
+    );
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AlertViolationTrackerRepository extends JpaRepository<AlertViolationTracker, Long> {
@@ -65,4 +66,7 @@ public interface AlertViolationTrackerRepository extends JpaRepository<AlertViol
             @Param("metricType") MetricType metricType,
             @Param("metricName") String metricName
     );
+
+    // 상태 머신 복원용 (상태가 기록된 Tracker 전체)
+    List<AlertViolationTracker> findByStateIsNotNull();
 }
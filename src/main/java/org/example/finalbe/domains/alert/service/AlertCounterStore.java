@@ -0,0 +1,248 @@
+/**
+ * 작성자: 황요한
+ * 서버실별 알림 카운터 저장소
+ * 알림 저장/발생/해제/읽음/삭제 시점에 카운터를 증감해 두고, 통계·읽지 않은 알림 수는 카운터 합으로 바로 응답한다.
+ * 전체 스캔(조건부 집계 한 번)은 시작 시와 주기적 보정에만 사용한다.
+ * (보정 사이에 생기는 소폭의 오차는 다음 보정에서 맞춰짐)
+ */
+package org.example.finalbe.domains.alert.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.example.finalbe.domains.alert.dto.AlertScopeCountsDto;
+import org.example.finalbe.domains.alert.dto.AlertStatisticsDto;
+import org.example.finalbe.domains.alert.repository.AlertHistoryRepository;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@DependsOn("alertHistoryPartitionStore")   // alert_history 테이블 준비 후 시작 시 조회
+@RequiredArgsConstructor
+public class AlertCounterStore {
+
+    private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertViolationStateMachine violationStateMachine;
+
+    private final Map<Long, ScopeCounters> counters = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    private static final class ScopeCounters {
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong critical = new AtomicLong();
+        private final AtomicLong warning = new AtomicLong();
+        private final AtomicLong equipment = new AtomicLong();
+        private final AtomicLong rack = new AtomicLong();
+        private final AtomicLong serverRoom = new AtomicLong();
+        private final AtomicLong unread = new AtomicLong();
+        private final AtomicLong active = new AtomicLong();
+
+        private void clearHistory() {
+            total.set(0);
+            critical.set(0);
+            warning.set(0);
+            equipment.set(0);
+            rack.set(0);
+            serverRoom.set(0);
+            unread.set(0);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        reconcile();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 서버실 목록의 통계 (카운터 합) */
+    public AlertStatisticsDto getStatistics(List<Long> serverRoomIds) {
+        long total = 0, critical = 0, warning = 0, equipment = 0, rack = 0, serverRoom = 0, unread = 0, active = 0;
+        for (Long serverRoomId : serverRoomIds) {
+            ScopeCounters scope = counters.get(serverRoomId);
+            if (scope == null) continue;
+            total += scope.total.get();
+            critical += scope.critical.get();
+            warning += scope.warning.get();
+            equipment += scope.equipment.get();
+            rack += scope.rack.get();
+            serverRoom += scope.serverRoom.get();
+            unread += scope.unread.get();
+            active += scope.active.get();
+        }
+        return new AlertStatisticsDto(total, active, critical, warning, equipment, rack, serverRoom, unread);
+    }
+
+    public long getUnreadCount(List<Long> serverRoomIds) {
+        return serverRoomIds.stream()
+                .map(counters::get)
+                .filter(Objects::nonNull)
+                .mapToLong(scope -> scope.unread.get())
+                .sum();
+    }
+
+    // 알림 저장 완료 (저장 파이프라인)
+    public void onCreated(List<AlertHistory> alerts) {
+        for (AlertHistory alert : alerts) {
+            if (alert.getServerRoomId() == null) continue;
+
+            ScopeCounters scope = scopeOf(alert.getServerRoomId());
+            scope.total.incrementAndGet();
+            scope.unread.incrementAndGet();
+            (alert.getLevel() == AlertLevel.CRITICAL ? scope.critical : scope.warning).incrementAndGet();
+            switch (alert.getTargetType()) {
+                case EQUIPMENT -> scope.equipment.incrementAndGet();
+                case RACK -> scope.rack.incrementAndGet();
+                case SERVER_ROOM -> scope.serverRoom.incrementAndGet();
+                case DATA_CENTER -> {
+                }
+            }
+        }
+    }
+
+    // 위반이 새로 발생 상태가 되어 첫 알림이 저장됨
+    public void onActivated(AlertHistory alert) {
+        if (alert.getServerRoomId() == null) return;
+        scopeOf(alert.getServerRoomId()).active.incrementAndGet();
+    }
+
+    // 발생 중이던 위반 해제
+    public void onResolved(Long serverRoomId) {
+        if (serverRoomId == null) return;
+        decrement(scopeOf(serverRoomId).active, 1);
+    }
+
+    // 선택 알림 읽음 처리 (읽지 않았던 알림만 전달, 커밋 후 반영)
+    public void onRead(List<AlertHistory> alerts) {
+        Map<Long, Long> unreadByServerRoom = alerts.stream()
+                .filter(alert -> alert.getServerRoomId() != null && !Boolean.TRUE.equals(alert.getIsRead()))
+                .collect(Collectors.groupingBy(AlertHistory::getServerRoomId, Collectors.counting()));
+
+        afterCommit(() -> unreadByServerRoom.forEach((serverRoomId, count) ->
+                decrement(scopeOf(serverRoomId).unread, count)));
+    }
+
+    // 서버실 전체 읽음 처리 (커밋 후 반영)
+    public void onAllRead(List<Long> serverRoomIds) {
+        afterCommit(() -> serverRoomIds.forEach(serverRoomId -> scopeOf(serverRoomId).unread.set(0)));
+    }
+
+    // 선택 알림 삭제 (삭제된 알림 전달, 커밋 후 반영)
+    public void onDeleted(List<AlertHistory> alerts) {
+        afterCommit(() -> {
+            for (AlertHistory alert : alerts) {
+                if (alert.getServerRoomId() == null) continue;
+
+                ScopeCounters scope = scopeOf(alert.getServerRoomId());
+                decrement(scope.total, 1);
+                if (!Boolean.TRUE.equals(alert.getIsRead())) decrement(scope.unread, 1);
+                decrement(alert.getLevel() == AlertLevel.CRITICAL ? scope.critical : scope.warning, 1);
+                switch (alert.getTargetType()) {
+                    case EQUIPMENT -> decrement(scope.equipment, 1);
+                    case RACK -> decrement(scope.rack, 1);
+                    case SERVER_ROOM -> decrement(scope.serverRoom, 1);
+                    case DATA_CENTER -> {
+                    }
+                }
+            }
+        });
+    }
+
+    // 서버실 전체 삭제 (발생 중 수는 위반 상태 기준이므로 유지, 커밋 후 반영)
+    public void onAllDeleted(List<Long> serverRoomIds) {
+        afterCommit(() -> serverRoomIds.forEach(serverRoomId -> scopeOf(serverRoomId).clearHistory()));
+    }
+
+    /**
+     * 카운터 보정 (전체 스캔 1회 + 발생 중 위반 기준 재계산)
+     * 보정 중 증감된 값은 덮어써질 수 있으나 다음 보정에서 다시 맞춰진다.
+     */
+    @Scheduled(initialDelayString = "${alert.statistics.reconcile-interval:600000}",
+            fixedDelayString = "${alert.statistics.reconcile-interval:600000}")
+    public void reconcile() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Map<Long, AlertScopeCountsDto> scanned = alertHistoryRepository.aggregateByServerRoom().stream()
+                    .collect(Collectors.toMap(AlertScopeCountsDto::serverRoomId, Function.identity()));
+
+            Map<Long, Long> activeByServerRoom = scanActive();
+
+            counters.keySet().retainAll(scanned.keySet());
+            scanned.forEach((serverRoomId, row) -> {
+                ScopeCounters scope = scopeOf(serverRoomId);
+                scope.total.set(row.totalAlerts());
+                scope.critical.set(row.criticalAlerts());
+                scope.warning.set(row.warningAlerts());
+                scope.equipment.set(row.equipmentAlerts());
+                scope.rack.set(row.rackAlerts());
+                scope.serverRoom.set(row.serverRoomAlerts());
+                scope.unread.set(row.unreadAlerts());
+            });
+            counters.forEach((serverRoomId, scope) ->
+                    scope.active.set(activeByServerRoom.getOrDefault(serverRoomId, 0L)));
+            activeByServerRoom.forEach((serverRoomId, active) -> scopeOf(serverRoomId).active.set(active));
+
+            ready = true;
+            log.debug("알림 카운터 보정: 서버실 {}개, {}ms", scanned.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("알림 카운터 보정 실패 (기존 카운터 유지)", e);
+        }
+    }
+
+    /** 서버실 목록의 발생 중 알림 수 (카운터 적재 전 대체 응답용, 상태 머신의 발생 중 목록 기준) */
+    public long countActive(List<Long> serverRoomIds) {
+        Map<Long, Long> activeByServerRoom = scanActive();
+        return serverRoomIds.stream().mapToLong(id -> activeByServerRoom.getOrDefault(id, 0L)).sum();
+    }
+
+    // 발생 중 알림의 서버실별 개수
+    private Map<Long, Long> scanActive() {
+        Map<Long, Long> activeByServerRoom = new HashMap<>();
+        List<Long> firingAlertIds = List.copyOf(violationStateMachine.firingAlerts().values());
+        for (AlertHistory alert : alertHistoryRepository.findAllById(firingAlertIds)) {
+            if (alert.getServerRoomId() != null) {
+                activeByServerRoom.merge(alert.getServerRoomId(), 1L, Long::sum);
+            }
+        }
+        return activeByServerRoom;
+    }
+
+    private ScopeCounters scopeOf(Long serverRoomId) {
+        return counters.computeIfAbsent(serverRoomId, key -> new ScopeCounters());
+    }
+
+    private void decrement(AtomicLong counter, long amount) {
+        counter.updateAndGet(value -> Math.max(0, value - amount));
+    }
+
+    // 요청 트랜잭션이 커밋된 뒤에만 반영 (롤백 시 카운터 유지)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
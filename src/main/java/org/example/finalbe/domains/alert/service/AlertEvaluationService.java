@@ -1,78 +1,86 @@
 /**
  * 작성자: 황요한
  * 다양한 모니터링 메트릭을 평가하여 알림을 생성하는 서비스
+ * 임계치/모니터링 여부/계층 정보는 AlertRuleTable에서 조회한다. (메트릭마다 DB 조회하지 않음)
+ * 연속 위반/쿨다운은 AlertViolationStateMachine이 메모리에서 관리하고, 상태 전이 시에만 알림을 저장/전송한다.
+ * 발생한 알림은 AlertIncidentCorrelator가 인시던트로 묶고, AlertPersistencePipeline이 틱 단위로 일괄 저장 후 전송한다.
  */
 package org.example.finalbe.domains.alert.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.finalbe.domains.alert.domain.AlertHistory;
-import org.example.finalbe.domains.alert.domain.AlertViolationTracker;
+import org.example.finalbe.domains.alert.dto.AlertEvaluationBatch;
 import org.example.finalbe.domains.alert.dto.AlertSettingsDto;
-import org.example.finalbe.domains.alert.repository.AlertHistoryRepository;
-import org.example.finalbe.domains.alert.repository.AlertSettingsRepository;
-import org.example.finalbe.domains.alert.repository.AlertViolationTrackerRepository;
+import org.example.finalbe.domains.alert.service.AlertRuleTable.EquipmentRule;
+import org.example.finalbe.domains.alert.service.AlertRuleTable.RackRule;
+import org.example.finalbe.domains.alert.service.AlertRuleTable.ServerRoomRule;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.Bound;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.StaleResolvedEvent;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.Transition;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.ViolationKey;
 import org.example.finalbe.domains.common.enumdir.AlertLevel;
-import org.example.finalbe.domains.common.enumdir.DelYN;
 import org.example.finalbe.domains.common.enumdir.MetricType;
 import org.example.finalbe.domains.common.enumdir.TargetType;
-import org.example.finalbe.domains.equipment.domain.Equipment;
-import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
 import org.example.finalbe.domains.monitoring.domain.*;
 import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
 import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
-import org.example.finalbe.domains.rack.domain.Rack;
-import org.example.finalbe.domains.rack.repository.RackRepository;
-import org.example.finalbe.domains.serverroom.domain.ServerRoom;
-import org.example.finalbe.domains.serverroom.repository.ServerRoomRepository;
-import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AlertEvaluationService {
 
-    private final EquipmentRepository equipmentRepository;
-    private final RackRepository rackRepository;
-    private final ServerRoomRepository serverRoomRepository;
-    private final AlertHistoryRepository alertHistoryRepository;
-    private final AlertViolationTrackerRepository violationTrackerRepository;
-    private final AlertSettingsRepository alertSettingsRepository;
-    private final AlertNotificationService alertNotificationService;
+    private final AlertRuleTable alertRuleTable;
+    private final AlertViolationStateMachine violationStateMachine;
+    private final AlertIncidentCorrelator alertIncidentCorrelator;
+    private final AlertPersistencePipeline alertPersistencePipeline;
+    private final AlertCounterStore alertCounterStore;
+
+    /**
+     * 수집 틱 1회분 평가 (AlertTickEvaluator의 평가 스레드에서 호출)
+     * 대상별 평가는 각자 예외를 처리하므로 한 건의 실패가 틱 전체를 멈추지 않는다.
+     * 틱 동안 발생한 알림은 마지막에 한 번에 저장/전송한다.
+     */
+    public void evaluate(AlertEvaluationBatch batch) {
+        batch.getSystemMetrics().forEach(this::evaluateSystemMetric);
+        batch.getDiskMetrics().forEach(this::evaluateDiskMetric);
+        batch.getNetworkMetrics().forEach(this::evaluateNetworkMetric);
+        batch.getEnvironmentMetrics().forEach(this::evaluateEnvironmentMetric);
+        batch.getServerRoomStatistics().forEach(this::evaluateServerRoomStatistics);
+
+        alertPersistencePipeline.flush();
+    }
 
     // System(CPU, Memory) 메트릭 평가
-    @Async("alertExecutor")
-    public void evaluateSystemMetric(SystemMetric metric) {
+    private void evaluateSystemMetric(SystemMetric metric) {
         if (metric == null || metric.getEquipmentId() == null) return;
 
         try {
-            Equipment equipment = equipmentRepository.findById(metric.getEquipmentId()).orElse(null);
-            if (equipment == null || !Boolean.TRUE.equals(equipment.getMonitoringEnabled())) return;
+            EquipmentRule rule = alertRuleTable.getEquipmentRule(metric.getEquipmentId());
+            if (rule == null) return;
 
-            if (equipment.getCpuThresholdWarning() != null && metric.getCpuIdle() != null) {
+            if (rule.cpuWarning() != null && metric.getCpuIdle() != null) {
                 double cpuUsage = 100.0 - metric.getCpuIdle();
                 evaluateMetric(
-                        TargetType.EQUIPMENT, equipment.getId(), equipment.getName(),
+                        TargetType.EQUIPMENT, rule.equipmentId(), rule.name(),
                         MetricType.CPU, "cpu_usage_percent",
                         cpuUsage,
-                        equipment.getCpuThresholdWarning().doubleValue(),
-                        equipment.getCpuThresholdCritical() != null ? equipment.getCpuThresholdCritical().doubleValue() : null,
+                        rule.cpuWarning(), rule.cpuCritical(),
                         metric.getGenerateTime()
                 );
             }
 
-            if (equipment.getMemoryThresholdWarning() != null && metric.getUsedMemoryPercentage() != null) {
+            if (rule.memoryWarning() != null && metric.getUsedMemoryPercentage() != null) {
                 evaluateMetric(
-                        TargetType.EQUIPMENT, equipment.getId(), equipment.getName(),
+                        TargetType.EQUIPMENT, rule.equipmentId(), rule.name(),
                         MetricType.MEMORY, "memory_usage_percent",
                         metric.getUsedMemoryPercentage(),
-                        equipment.getMemoryThresholdWarning().doubleValue(),
-                        equipment.getMemoryThresholdCritical() != null ? equipment.getMemoryThresholdCritical().doubleValue() : null,
+                        rule.memoryWarning(), rule.memoryCritical(),
                         metric.getGenerateTime()
                 );
             }
@@ -83,21 +91,19 @@ public class AlertEvaluationService {
     }
 
     // Disk 메트릭 평가
-    @Async("alertExecutor")
-    public void evaluateDiskMetric(DiskMetric metric) {
+    private void evaluateDiskMetric(DiskMetric metric) {
         if (metric == null || metric.getEquipmentId() == null) return;
 
         try {
-            Equipment equipment = equipmentRepository.findById(metric.getEquipmentId()).orElse(null);
-            if (equipment == null || !Boolean.TRUE.equals(equipment.getMonitoringEnabled())) return;
+            EquipmentRule rule = alertRuleTable.getEquipmentRule(metric.getEquipmentId());
+            if (rule == null) return;
 
-            if (equipment.getDiskThresholdWarning() != null && metric.getUsedPercentage() != null) {
+            if (rule.diskWarning() != null && metric.getUsedPercentage() != null) {
                 evaluateMetric(
-                        TargetType.EQUIPMENT, equipment.getId(), equipment.getName(),
+                        TargetType.EQUIPMENT, rule.equipmentId(), rule.name(),
                         MetricType.DISK, "disk_usage_percent",
                         metric.getUsedPercentage(),
-                        equipment.getDiskThresholdWarning().doubleValue(),
-                        equipment.getDiskThresholdCritical() != null ? equipment.getDiskThresholdCritical().doubleValue() : null,
+                        rule.diskWarning(), rule.diskCritical(),
                         metric.getGenerateTime()
                 );
             }
@@ -108,34 +114,33 @@ public class AlertEvaluationService {
     }
 
     // Network 메트릭 평가
-    @Async("alertExecutor")
-    public void evaluateNetworkMetric(NetworkMetric metric) {
+    private void evaluateNetworkMetric(NetworkMetric metric) {
         if (metric == null || metric.getEquipmentId() == null) return;
 
         try {
-            Equipment equipment = equipmentRepository.findById(metric.getEquipmentId()).orElse(null);
-            if (equipment == null || !Boolean.TRUE.equals(equipment.getMonitoringEnabled())) return;
+            EquipmentRule rule = alertRuleTable.getEquipmentRule(metric.getEquipmentId());
+            if (rule == null) return;
 
-            AlertSettingsDto settings = getAlertSettings();
+            AlertSettingsDto settings = alertRuleTable.getSettings();
 
             if (metric.getInErrorPktsTot() != null && metric.getInPktsTot() != null && metric.getInPktsTot() > 0) {
                 double errorRate = (metric.getInErrorPktsTot().doubleValue() / metric.getInPktsTot()) * 100.0;
-                evaluateNetworkErrorRate(equipment, "rx_error_rate", errorRate, metric.getNicName(), metric.getGenerateTime(), settings);
+                evaluateNetworkErrorRate(rule, "rx_error_rate", errorRate, metric.getNicName(), metric.getGenerateTime(), settings);
             }
 
             if (metric.getOutErrorPktsTot() != null && metric.getOutPktsTot() != null && metric.getOutPktsTot() > 0) {
                 double errorRate = (metric.getOutErrorPktsTot().doubleValue() / metric.getOutPktsTot()) * 100.0;
-                evaluateNetworkErrorRate(equipment, "tx_error_rate", errorRate, metric.getNicName(), metric.getGenerateTime(), settings);
+                evaluateNetworkErrorRate(rule, "tx_error_rate", errorRate, metric.getNicName(), metric.getGenerateTime(), settings);
             }
 
             if (metric.getInDiscardPktsTot() != null && metric.getInPktsTot() != null && metric.getInPktsTot() > 0) {
                 double dropRate = (metric.getInDiscardPktsTot().doubleValue() / metric.getInPktsTot()) * 100.0;
-                evaluateNetworkDropRate(equipment, "rx_drop_rate", dropRate, metric.getNicName(), metric.getGenerateTime(), settings);
+                evaluateNetworkDropRate(rule, "rx_drop_rate", dropRate, metric.getNicName(), metric.getGenerateTime(), settings);
             }
 
             if (metric.getOutDiscardPktsTot() != null && metric.getOutPktsTot() != null && metric.getOutPktsTot() > 0) {
                 double dropRate = (metric.getOutDiscardPktsTot().doubleValue() / metric.getOutPktsTot()) * 100.0;
-                evaluateNetworkDropRate(equipment, "tx_drop_rate", dropRate, metric.getNicName(), metric.getGenerateTime(), settings);
+                evaluateNetworkDropRate(rule, "tx_drop_rate", dropRate, metric.getNicName(), metric.getGenerateTime(), settings);
             }
 
         } catch (Exception e) {
@@ -145,13 +150,13 @@ public class AlertEvaluationService {
 
     // 네트워크 에러율
     private void evaluateNetworkErrorRate(
-            Equipment equipment, String baseMetricName, Double errorRate,
+            EquipmentRule rule, String baseMetricName, Double errorRate,
             String nicName, LocalDateTime time, AlertSettingsDto settings) {
 
         String metricName = baseMetricName + "_" + nicName;
 
         evaluateMetric(
-                TargetType.EQUIPMENT, equipment.getId(), equipment.getName() + " [" + nicName + "]",
+                TargetType.EQUIPMENT, rule.equipmentId(), rule.name() + " [" + nicName + "]",
                 MetricType.NETWORK, metricName, errorRate,
                 settings.networkErrorRateWarning(), settings.networkErrorRateCritical(),
                 time
@@ -160,13 +165,13 @@ public class AlertEvaluationService {
 
     // 네트워크 드롭율
     private void evaluateNetworkDropRate(
-            Equipment equipment, String baseMetricName, Double dropRate,
+            EquipmentRule rule, String baseMetricName, Double dropRate,
             String nicName, LocalDateTime time, AlertSettingsDto settings) {
 
         String metricName = baseMetricName + "_" + nicName;
 
         evaluateMetric(
-                TargetType.EQUIPMENT, equipment.getId(), equipment.getName() + " [" + nicName + "]",
+                TargetType.EQUIPMENT, rule.equipmentId(), rule.name() + " [" + nicName + "]",
                 MetricType.NETWORK, metricName, dropRate,
                 settings.networkDropRateWarning(), settings.networkDropRateCritical(),
                 time
@@ -174,21 +179,19 @@ public class AlertEvaluationService {
     }
 
     // Rack 환경 메트릭 평가
-    @Async("alertExecutor")
-    public void evaluateEnvironmentMetric(EnvironmentMetric metric) {
+    private void evaluateEnvironmentMetric(EnvironmentMetric metric) {
         if (metric == null || metric.getRackId() == null) return;
 
         try {
-            Rack rack = rackRepository.findById(metric.getRackId()).orElse(null);
-            if (rack == null || !Boolean.TRUE.equals(rack.getMonitoringEnabled())) return;
+            RackRule rule = alertRuleTable.getRackRule(metric.getRackId());
+            if (rule == null) return;
 
-            if (rack.getTemperatureThresholdWarning() != null && metric.getTemperature() != null) {
+            if (rule.temperatureWarning() != null && metric.getTemperature() != null) {
                 evaluateMetric(
-                        TargetType.RACK, rack.getId(), rack.getRackName(),
+                        TargetType.RACK, rule.rackId(), rule.name(),
                         MetricType.TEMPERATURE, "temperature",
                         metric.getTemperature(),
-                        rack.getTemperatureThresholdWarning().doubleValue(),
-                        rack.getTemperatureThresholdCritical() != null ? rack.getTemperatureThresholdCritical().doubleValue() : null,
+                        rule.temperatureWarning(), rule.temperatureCritical(),
                         metric.getGenerateTime()
                 );
             }
@@ -196,37 +199,19 @@ public class AlertEvaluationService {
             if (metric.getHumidity() != null) {
                 double humidity = metric.getHumidity();
 
-                if (rack.getHumidityThresholdMinWarning() != null && humidity < rack.getHumidityThresholdMinWarning()) {
-                    AlertLevel level = AlertLevel.WARNING;
-                    double threshold = rack.getHumidityThresholdMinWarning();
-
-                    if (rack.getHumidityThresholdMinCritical() != null && humidity < rack.getHumidityThresholdMinCritical()) {
-                        level = AlertLevel.CRITICAL;
-                        threshold = rack.getHumidityThresholdMinCritical();
-                    }
-
-                    handleViolationDirect(
-                            TargetType.RACK, rack.getId(), rack.getRackName(),
-                            MetricType.HUMIDITY, "humidity_min",
-                            level, humidity, threshold, metric.getGenerateTime()
-                    );
-                }
-
-                if (rack.getHumidityThresholdMaxWarning() != null && humidity > rack.getHumidityThresholdMaxWarning()) {
-                    AlertLevel level = AlertLevel.WARNING;
-                    double threshold = rack.getHumidityThresholdMaxWarning();
-
-                    if (rack.getHumidityThresholdMaxCritical() != null && humidity > rack.getHumidityThresholdMaxCritical()) {
-                        level = AlertLevel.CRITICAL;
-                        threshold = rack.getHumidityThresholdMaxCritical();
-                    }
-
-                    handleViolationDirect(
-                            TargetType.RACK, rack.getId(), rack.getRackName(),
-                            MetricType.HUMIDITY, "humidity_max",
-                            level, humidity, threshold, metric.getGenerateTime()
-                    );
-                }
+                evaluateThresholds(
+                        TargetType.RACK, rule.rackId(), rule.name(),
+                        MetricType.HUMIDITY, "humidity_min",
+                        humidity, rule.humidityMinWarning(), rule.humidityMinCritical(),
+                        metric.getGenerateTime(), Bound.LOWER
+                );
+
+                evaluateThresholds(
+                        TargetType.RACK, rule.rackId(), rule.name(),
+                        MetricType.HUMIDITY, "humidity_max",
+                        humidity, rule.humidityMaxWarning(), rule.humidityMaxCritical(),
+                        metric.getGenerateTime(), Bound.UPPER
+                );
             }
 
         } catch (Exception e) {
@@ -235,56 +220,52 @@ public class AlertEvaluationService {
     }
 
     // ServerRoom 통계 메트릭 평가
-    @Async("alertExecutor")
-    public void evaluateServerRoomStatistics(ServerRoomStatisticsDto stats) {
+    private void evaluateServerRoomStatistics(ServerRoomStatisticsDto stats) {
         if (stats == null || stats.getServerRoomId() == null) return;
 
         try {
-            ServerRoom serverRoom = serverRoomRepository.findById(stats.getServerRoomId()).orElse(null);
-            if (serverRoom == null || !Boolean.TRUE.equals(serverRoom.getMonitoringEnabled())) return;
+            ServerRoomRule rule = alertRuleTable.getServerRoomRule(stats.getServerRoomId());
+            if (rule == null) return;
 
-            LocalDateTime now = LocalDateTime.now();
+            // 에포크 기준 시각 사용 (랙/서버실/데이터센터 통계와 동일)
+            LocalDateTime now = stats.getTimestamp() != null ? stats.getTimestamp() : LocalDateTime.now();
 
-            if (serverRoom.getAvgCpuThresholdWarning() != null && stats.getAvgCpuUsage() != null) {
+            if (rule.avgCpuWarning() != null && stats.getAvgCpuUsage() != null) {
                 evaluateMetric(
-                        TargetType.SERVER_ROOM, serverRoom.getId(), serverRoom.getName(),
+                        TargetType.SERVER_ROOM, rule.serverRoomId(), rule.name(),
                         MetricType.CPU, "avg_cpu",
                         stats.getAvgCpuUsage(),
-                        serverRoom.getAvgCpuThresholdWarning().doubleValue(),
-                        serverRoom.getAvgCpuThresholdCritical() != null ? serverRoom.getAvgCpuThresholdCritical().doubleValue() : null,
+                        rule.avgCpuWarning(), rule.avgCpuCritical(),
                         now
                 );
             }
 
-            if (serverRoom.getAvgMemoryThresholdWarning() != null && stats.getAvgMemoryUsage() != null) {
+            if (rule.avgMemoryWarning() != null && stats.getAvgMemoryUsage() != null) {
                 evaluateMetric(
-                        TargetType.SERVER_ROOM, serverRoom.getId(), serverRoom.getName(),
+                        TargetType.SERVER_ROOM, rule.serverRoomId(), rule.name(),
                         MetricType.MEMORY, "avg_memory",
                         stats.getAvgMemoryUsage(),
-                        serverRoom.getAvgMemoryThresholdWarning().doubleValue(),
-                        serverRoom.getAvgMemoryThresholdCritical() != null ? serverRoom.getAvgMemoryThresholdCritical().doubleValue() : null,
+                        rule.avgMemoryWarning(), rule.avgMemoryCritical(),
                         now
                 );
             }
 
-            if (serverRoom.getAvgDiskThresholdWarning() != null && stats.getAvgDiskUsage() != null) {
+            if (rule.avgDiskWarning() != null && stats.getAvgDiskUsage() != null) {
                 evaluateMetric(
-                        TargetType.SERVER_ROOM, serverRoom.getId(), serverRoom.getName(),
+                        TargetType.SERVER_ROOM, rule.serverRoomId(), rule.name(),
                         MetricType.DISK, "avg_disk",
                         stats.getAvgDiskUsage(),
-                        serverRoom.getAvgDiskThresholdWarning().doubleValue(),
-                        serverRoom.getAvgDiskThresholdCritical() != null ? serverRoom.getAvgDiskThresholdCritical().doubleValue() : null,
+                        rule.avgDiskWarning(), rule.avgDiskCritical(),
                         now
                 );
             }
 
-            if (serverRoom.getAvgTemperatureThresholdWarning() != null && stats.getAvgTemperature() != null) {
+            if (rule.avgTemperatureWarning() != null && stats.getAvgTemperature() != null) {
                 evaluateMetric(
-                        TargetType.SERVER_ROOM, serverRoom.getId(), serverRoom.getName(),
+                        TargetType.SERVER_ROOM, rule.serverRoomId(), rule.name(),
                         MetricType.TEMPERATURE, "avg_temperature",
                         stats.getAvgTemperature(),
-                        serverRoom.getAvgTemperatureThresholdWarning().doubleValue(),
-                        serverRoom.getAvgTemperatureThresholdCritical() != null ? serverRoom.getAvgTemperatureThresholdCritical().doubleValue() : null,
+                        rule.avgTemperatureWarning(), rule.avgTemperatureCritical(),
                         now
                 );
             }
@@ -295,39 +276,77 @@ public class AlertEvaluationService {
     }
 
     // DataCenter 통계는 현재 비활성화됨
-    @Async("alertExecutor")
     public void evaluateDataCenterStatistics(DataCenterStatisticsDto stats) {
         log.debug("DataCenter 알림 평가는 비활성화됨. dataCenterId={}",
                 stats != null ? stats.getDataCenterId() : null);
     }
 
-    // 공통 메트릭 평가
+    // 공통 메트릭 평가 (상한 임계치)
     private void evaluateMetric(
             TargetType targetType, Long targetId, String targetName,
             MetricType metricType, String metricName, Double measuredValue,
             Double warningThreshold, Double criticalThreshold,
             LocalDateTime triggerTime) {
 
+        evaluateThresholds(targetType, targetId, targetName, metricType, metricName,
+                measuredValue, warningThreshold, criticalThreshold, triggerTime, Bound.UPPER);
+    }
+
+    // 레벨별 상태 머신 평가 (위험 → 경고 순, 위험이 발생 중이면 경고 알림은 억제)
+    private void evaluateThresholds(
+            TargetType targetType, Long targetId, String targetName,
+            MetricType metricType, String metricName, Double measuredValue,
+            Double warningThreshold, Double criticalThreshold,
+            LocalDateTime time, Bound bound) {
+
         if (measuredValue == null || warningThreshold == null) return;
-        if (measuredValue < warningThreshold) return;
 
-        AlertLevel level = (criticalThreshold != null && measuredValue >= criticalThreshold)
-                ? AlertLevel.CRITICAL : AlertLevel.WARNING;
+        AlertSettingsDto settings = alertRuleTable.getSettings();
+        ViolationKey warningKey = new ViolationKey(targetType, targetId, metricName, AlertLevel.WARNING);
+
+        if (criticalThreshold != null) {
+            applyTransition(warningKey.withLevel(AlertLevel.CRITICAL), targetName, metricType, bound,
+                    measuredValue, criticalThreshold, time, settings);
+        }
+        applyTransition(warningKey, targetName, metricType, bound,
+                measuredValue, warningThreshold, time, settings);
+    }
+
+    private void applyTransition(
+            ViolationKey key, String targetName, MetricType metricType, Bound bound,
+            double measuredValue, double threshold, LocalDateTime time, AlertSettingsDto settings) {
+
+        Transition transition = violationStateMachine.evaluate(
+                key, metricType, bound, measuredValue, threshold, time, settings);
 
-        Double thresholdValue = (level == AlertLevel.CRITICAL && criticalThreshold != null)
-                ? criticalThreshold : warningThreshold;
+        switch (transition.action()) {
+            case FIRE, REMIND -> {
+                if (key.level() == AlertLevel.WARNING
+                        && violationStateMachine.isFiring(key.withLevel(AlertLevel.CRITICAL))) return;
 
-        sendAlert(targetType, targetId, targetName,
-                level, metricType, metricName,
-                measuredValue, thresholdValue, triggerTime);
+                sendAlert(key, targetName, metricType, measuredValue, threshold, time);
+            }
+            case RESOLVE -> {
+                // 해결 전송은 인시던트 단위 (상관 단계가 다음 주기에 상태 머신 기준으로 반영)
+                if (transition.alertHistoryId() == null) return;
+                alertCounterStore.onResolved(serverRoomIdOf(key));
+                log.info("✅ 알림 해제 - {} {}:{} (현재: {})",
+                        key.level().name(), targetName, key.metricName(), measuredValue);
+            }
+            case NONE -> {
+            }
+        }
     }
 
-    // 알림 생성 & 전송
+    // 알림 생성 & 인시던트 연결 후 저장 대기열에 추가 (삭제된 서버실 대상이면 생성하지 않음)
     private void sendAlert(
-            TargetType targetType, Long targetId, String targetName,
-            AlertLevel level, MetricType metricType, String metricName,
+            ViolationKey key, String targetName, MetricType metricType,
             Double measuredValue, Double thresholdValue, LocalDateTime time) {
 
+        TargetType targetType = key.targetType();
+        AlertLevel level = key.level();
+        String metricName = key.metricName();
+
         AlertHistory alert = AlertHistory.builder()
                 .targetType(targetType)
                 .targetName(targetName)
@@ -340,64 +359,34 @@ public class AlertEvaluationService {
                 .message(buildAlertMessage(targetType, targetName, level, metricType, measuredValue, thresholdValue))
                 .build();
 
-        boolean proceed = populateHierarchyIds(alert, targetType, targetId);
+        boolean proceed = populateHierarchyIds(alert, targetType, key.targetId());
         if (!proceed) return;
 
-        alertHistoryRepository.save(alert);
-        alertNotificationService.sendAlert(alert);
+        alertIncidentCorrelator.assign(alert, key);
+        alertPersistencePipeline.submit(alert, key);
 
         log.warn("🚨 알림 발생 - {} [{}] {}:{} (현재: {:.1f}, 임계치: {:.0f})",
                 level.name(), metricType.name(), targetName, metricName, measuredValue, thresholdValue);
     }
 
-    // ID 계층 정보 채우기 + 삭제된 서버실 필터링
+    // ID 계층 정보 채우기 + 삭제된 서버실 필터링 (규칙 테이블의 계층 사용)
     private boolean populateHierarchyIds(AlertHistory alert, TargetType targetType, Long targetId) {
         switch (targetType) {
             case EQUIPMENT -> {
                 alert.setEquipmentId(targetId);
-                equipmentRepository.findByIdWithFullHierarchy(targetId).ifPresent(eq -> {
-                    if (eq.getRack() != null) {
-                        Rack rack = eq.getRack();
-                        alert.setRackId(rack.getId());
-
-                        if (rack.getServerRoom() != null) {
-                            ServerRoom sr = rack.getServerRoom();
-                            if (sr.getDelYn() == DelYN.Y) return;
-                            alert.setServerRoomId(sr.getId());
-                            if (sr.getDataCenter() != null) alert.setDataCenterId(sr.getDataCenter().getId());
-                        }
-                    }
-                });
-
-                if (alert.getServerRoomId() != null) {
-                    Optional<ServerRoom> room = serverRoomRepository.findById(alert.getServerRoomId());
-                    if (room.isPresent() && room.get().getDelYn() == DelYN.Y) return false;
-                }
+                EquipmentRule rule = alertRuleTable.getEquipmentRule(targetId);
+                if (rule != null) applyHierarchy(alert, rule.hierarchy());
             }
             case RACK -> {
+                RackRule rule = alertRuleTable.getRackRule(targetId);
+                if (rule != null) applyHierarchy(alert, rule.hierarchy());
                 alert.setRackId(targetId);
-                rackRepository.findByIdWithServerRoomAndDataCenter(targetId).ifPresent(rack -> {
-                    if (rack.getServerRoom() != null) {
-                        ServerRoom sr = rack.getServerRoom();
-                        if (sr.getDelYn() == DelYN.Y) return;
-                        alert.setServerRoomId(sr.getId());
-                        if (sr.getDataCenter() != null) alert.setDataCenterId(sr.getDataCenter().getId());
-                    }
-                });
-
-                if (alert.getServerRoomId() != null) {
-                    Optional<ServerRoom> room = serverRoomRepository.findById(alert.getServerRoomId());
-                    if (room.isPresent() && room.get().getDelYn() == DelYN.Y) return false;
-                }
             }
             case SERVER_ROOM -> {
                 alert.setServerRoomId(targetId);
-                Optional<ServerRoom> room = serverRoomRepository.findById(targetId);
-                if (room.isEmpty() || room.get().getDelYn() == DelYN.Y) return false;
-
-                room.ifPresent(sr -> {
-                    if (sr.getDataCenter() != null) alert.setDataCenterId(sr.getDataCenter().getId());
-                });
+                ServerRoomRule rule = alertRuleTable.getServerRoomRule(targetId);
+                if (rule == null) return false;
+                alert.setDataCenterId(rule.dataCenterId());
             }
             case DATA_CENTER -> alert.setDataCenterId(targetId);
         }
@@ -405,6 +394,37 @@ public class AlertEvaluationService {
         return true;
     }
 
+    // 평가가 끊겨 해제된 발생 중 위반 (RESOLVE 전이와 같게 반영)
+    @EventListener
+    public void onStaleResolved(StaleResolvedEvent event) {
+        if (event.alertHistoryId() == null) return;
+        ViolationKey key = event.key();
+        alertCounterStore.onResolved(serverRoomIdOf(key));
+        log.info("✅ 알림 해제 (평가 중단) - {} {}:{}", key.level().name(), key.targetId(), key.metricName());
+    }
+
+    // 위반 대상의 서버실 ID (규칙 테이블 기준, 알 수 없으면 null)
+    private Long serverRoomIdOf(ViolationKey key) {
+        return switch (key.targetType()) {
+            case EQUIPMENT -> {
+                EquipmentRule rule = alertRuleTable.getEquipmentRule(key.targetId());
+                yield rule != null ? rule.hierarchy().serverRoomId() : null;
+            }
+            case RACK -> {
+                RackRule rule = alertRuleTable.getRackRule(key.targetId());
+                yield rule != null ? rule.hierarchy().serverRoomId() : null;
+            }
+            case SERVER_ROOM -> key.targetId();
+            case DATA_CENTER -> null;
+        };
+    }
+
+    private void applyHierarchy(AlertHistory alert, AlertRuleTable.Hierarchy hierarchy) {
+        alert.setRackId(hierarchy.rackId());
+        alert.setServerRoomId(hierarchy.serverRoomId());
+        alert.setDataCenterId(hierarchy.dataCenterId());
+    }
+
     // 알림 메시지 생성
     private String buildAlertMessage(TargetType targetType, String targetName,
                                      AlertLevel level, MetricType metricType,
@@ -416,103 +436,4 @@ public class AlertEvaluationService {
                 targetType.getDescription(), targetName, metricType.getDescription(),
                 levelText, thresholdValue, measuredValue);
     }
-
-    // 설정 조회
-    private AlertSettingsDto getAlertSettings() {
-        return alertSettingsRepository.findById(1L)
-                .map(AlertSettingsDto::from)
-                .orElseGet(AlertSettingsDto::getDefault);
-    }
-
-    // Tracker 조회 또는 생성
-    private AlertViolationTracker getOrCreateTracker(
-            TargetType targetType, Long targetId,
-            MetricType metricType, String metricName) {
-
-        Optional<AlertViolationTracker> found = switch (targetType) {
-            case EQUIPMENT -> violationTrackerRepository.findByEquipmentIdAndMetric(targetId, metricType, metricName);
-            case RACK -> violationTrackerRepository.findByRackIdAndMetric(targetId, metricType, metricName);
-            case SERVER_ROOM -> violationTrackerRepository.findByServerRoomIdAndMetric(targetId, metricType, metricName);
-            case DATA_CENTER -> violationTrackerRepository.findByDataCenterIdAndMetric(targetId, metricType, metricName);
-        };
-
-        return found.orElseGet(() -> {
-            try {
-                AlertViolationTracker tracker = AlertViolationTracker.builder()
-                        .targetType(targetType)
-                        .metricType(metricType)
-                        .metricName(metricName)
-                        .consecutiveViolations(0)
-                        .lastViolationTime(LocalDateTime.now())
-                        .build();
-
-                switch (targetType) {
-                    case EQUIPMENT -> tracker.setEquipmentId(targetId);
-                    case RACK -> tracker.setRackId(targetId);
-                    case SERVER_ROOM -> tracker.setServerRoomId(targetId);
-                    case DATA_CENTER -> tracker.setDataCenterId(targetId);
-                }
-
-                return violationTrackerRepository.save(tracker);
-
-            } catch (DataIntegrityViolationException e) {
-                log.warn("중복 Tracker 감지 → 재조회: targetType={}, targetId={}, metric={}", targetType, targetId, metricName);
-
-                return switch (targetType) {
-                    case EQUIPMENT -> violationTrackerRepository
-                            .findByEquipmentIdAndMetric(targetId, metricType, metricName).orElseThrow();
-                    case RACK -> violationTrackerRepository
-                            .findByRackIdAndMetric(targetId, metricType, metricName).orElseThrow();
-                    case SERVER_ROOM -> violationTrackerRepository
-                            .findByServerRoomIdAndMetric(targetId, metricType, metricName).orElseThrow();
-                    case DATA_CENTER -> violationTrackerRepository
-                            .findByDataCenterIdAndMetric(targetId, metricType, metricName).orElseThrow();
-                };
-            }
-        });
-    }
-
-    // 위반 처리
-    private void handleViolation(
-            TargetType targetType, Long targetId, String targetName,
-            AlertViolationTracker tracker, AlertLevel level,
-            MetricType metricType, String metricName,
-            Double measuredValue, Double thresholdValue, LocalDateTime time) {
-
-        tracker.setConsecutiveViolations(tracker.getConsecutiveViolations() + 1);
-        tracker.setLastViolationTime(time);
-        tracker.setLastMeasuredValue(measuredValue);
-        tracker.setUpdatedAt(LocalDateTime.now());
-        violationTrackerRepository.save(tracker);
-
-        AlertSettingsDto settings = getAlertSettings();
-
-        if (tracker.getConsecutiveViolations() >= settings.defaultConsecutiveCount()) {
-            if (shouldSendAlert(tracker, settings)) {
-                sendAlert(targetType, targetId, targetName, level, metricType, metricName,
-                        measuredValue, thresholdValue, time);
-                tracker.setLastAlertSentAt(time);
-                violationTrackerRepository.save(tracker);
-            }
-        }
-    }
-
-    // 즉시 위반 처리 (습도 등)
-    private void handleViolationDirect(
-            TargetType targetType, Long targetId, String targetName,
-            MetricType metricType, String metricName, AlertLevel level,
-            Double measuredValue, Double thresholdValue, LocalDateTime time) {
-
-        AlertViolationTracker tracker = getOrCreateTracker(targetType, targetId, metricType, metricName);
-        handleViolation(targetType, targetId, targetName, tracker,
-                level, metricType, metricName, measuredValue, thresholdValue, time);
-    }
-
-    // 쿨다운 검사
-    private boolean shouldSendAlert(AlertViolationTracker tracker, AlertSettingsDto settings) {
-        if (tracker.getLastAlertSentAt() == null) return true;
-
-        LocalDateTime cooldownEnd = tracker.getLastAlertSentAt().plusMinutes(settings.defaultCooldownMinutes());
-        return LocalDateTime.now().isAfter(cooldownEnd);
-    }
 }
@@ -0,0 +1,84 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 일괄 저장
+ * ID는 시퀀스에서 한 번에 미리 받아 두고, 행들을 다중 행 INSERT 문으로 저장한다. (알림 건수만큼 왕복하지 않음)
+ * 한 번의 호출은 한 트랜잭션이며, 반환되면 모든 행이 커밋된 상태다.
+ */
+package org.example.finalbe.domains.alert.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class AlertHistoryBatchWriter {
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('alert_history', 'alert_id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL = "INSERT INTO alert_history (alert_id, equipment_id, rack_id, " +
+            "server_room_id, data_center_id, incident_id, target_name, target_type, metric_type, metric_name, " +
+            "level, measured_value, threshold_value, triggered_at, is_read, message, additional_info, created_at) " +
+            "VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 저장 후 각 알림에 ID/생성 시각이 채워짐 (예외 시 호출 측에서 ID를 비워야 함) */
+    @Transactional
+    public void insert(List<AlertHistory> alerts, int rowsPerStatement) {
+        if (alerts.isEmpty()) return;
+
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, alerts.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < alerts.size(); i++) {
+            AlertHistory alert = alerts.get(i);
+            alert.setId(ids.get(i));
+            alert.setCreatedAt(now);
+        }
+
+        for (int from = 0; from < alerts.size(); from += rowsPerStatement) {
+            List<AlertHistory> chunk = alerts.subList(from, Math.min(from + rowsPerStatement, alerts.size()));
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (AlertHistory alert : chunk) {
+                    index = bind(ps, index, alert);
+                }
+            });
+        }
+    }
+
+    private int bind(PreparedStatement ps, int index, AlertHistory alert) throws SQLException {
+        ps.setLong(index++, alert.getId());
+        ps.setObject(index++, alert.getEquipmentId());
+        ps.setObject(index++, alert.getRackId());
+        ps.setObject(index++, alert.getServerRoomId());
+        ps.setObject(index++, alert.getDataCenterId());
+        ps.setObject(index++, alert.getIncidentId());
+        ps.setString(index++, alert.getTargetName());
+        ps.setString(index++, alert.getTargetType().name());
+        ps.setString(index++, alert.getMetricType().name());
+        ps.setString(index++, alert.getMetricName());
+        ps.setString(index++, alert.getLevel().name());
+        ps.setDouble(index++, alert.getMeasuredValue());
+        ps.setDouble(index++, alert.getThresholdValue());
+        ps.setObject(index++, alert.getTriggeredAt());
+        ps.setBoolean(index++, Boolean.TRUE.equals(alert.getIsRead()));
+        ps.setString(index++, alert.getMessage());
+        ps.setString(index++, alert.getAdditionalInfo());
+        ps.setObject(index++, alert.getCreatedAt());
+        return index;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 CSV 내보내기
+ * 기간 전체를 한 번에 메모리에 올리지 않고, 커서 조회로 일정 행 수씩 읽어 바로 응답 스트림에 기록한다.
+ * (대량 조회는 목록 API 대신 이 경로를 사용)
+ */
+package org.example.finalbe.domains.alert.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.config.AlertQueryProperties;
+import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.example.finalbe.domains.alert.dto.AlertCursor;
+import org.example.finalbe.domains.alert.repository.AlertHistoryRepository;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.example.finalbe.domains.common.enumdir.TargetType;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertHistoryExporter {
+
+    private static final String HEADER = "alertId,incidentId,triggeredAt,level,targetType,targetName,"
+            + "equipmentId,rackId,serverRoomId,dataCenterId,metricType,metricName,"
+            + "measuredValue,thresholdValue,isRead,readAt,message";
+
+    private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertQueryProperties properties;
+
+    /** [from, to] 기간의 알림을 최신순 CSV로 기록 */
+    public void export(List<Long> serverRoomIds, AlertLevel level,
+                       LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        long rows = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write(HEADER);
+        writer.write('\n');
+
+        AlertCursor cursor = AlertCursor.startingAt(to);
+        Limit limit = Limit.of(properties.getExportChunkSize());
+        while (true) {
+            List<AlertHistory> chunk = findChunk(serverRoomIds, level, from, cursor, limit);
+            for (AlertHistory alert : chunk) {
+                writeRow(writer, alert);
+            }
+            rows += chunk.size();
+            writer.flush();
+
+            if (chunk.size() < properties.getExportChunkSize()) break;
+            cursor = AlertCursor.after(chunk.get(chunk.size() - 1));
+        }
+
+        log.info("📤 알림 CSV 내보내기 완료: {}건, {} ~ {}, {}ms",
+                rows, from, to, System.currentTimeMillis() - startTime);
+    }
+
+    private List<AlertHistory> findChunk(List<Long> serverRoomIds, AlertLevel level,
+                                         LocalDateTime from, AlertCursor cursor, Limit limit) {
+        return (level != null)
+                ? alertHistoryRepository.findPageByServerRoomIdsAndLevel(
+                serverRoomIds, level, from, cursor.triggeredAt(), cursor.alertId(), TargetType.DATA_CENTER, limit)
+                : alertHistoryRepository.findPageByServerRoomIds(
+                serverRoomIds, from, cursor.triggeredAt(), cursor.alertId(), TargetType.DATA_CENTER, limit);
+    }
+
+    private void writeRow(Writer writer, AlertHistory alert) throws IOException {
+        Object[] values = {
+                alert.getId(), alert.getIncidentId(), alert.getTriggeredAt(), alert.getLevel(),
+                alert.getTargetType(), alert.getTargetName(),
+                alert.getEquipmentId(), alert.getRackId(), alert.getServerRoomId(), alert.getDataCenterId(),
+                alert.getMetricType(), alert.getMetricName(),
+                alert.getMeasuredValue(), alert.getThresholdValue(),
+                alert.getIsRead(), alert.getReadAt(), alert.getMessage()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    // 쉼표/따옴표/줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 기록
+    private String escape(Object value) {
+        if (value == null) return "";
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 파티션 관리
+ * 시작 시와 매일 한 번, 일반 테이블이면 파티션 테이블로 전환하고 미래 월 파티션을 미리 만들어 두며,
+ * 보관 기간이 지난 월 파티션은 로컬 gzip 파일로 아카이브한 뒤 DB에서 분리한다.
+ * 최근 알림 조회는 항상 triggered_at 범위를 포함하므로 최신 파티션만 읽는다. (파티션 프루닝)
+ */
+package org.example.finalbe.domains.alert.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.config.AlertPartitionProperties;
+import org.example.finalbe.domains.alert.domain.AlertHistoryArchive;
+import org.example.finalbe.domains.alert.repository.AlertHistoryArchiveRepository;
+import org.example.finalbe.domains.common.exception.AlertNotFoundException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertHistoryPartitionManager {
+
+    private final AlertHistoryPartitionStore partitionStore;
+    private final AlertHistoryArchiveRepository archiveRepository;
+    private final AlertCounterStore alertCounterStore;
+    private final AlertPartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    /** 파티션 전환 → 미래 파티션 생성 → 만료 파티션 아카이브 */
+    @Scheduled(cron = "${alert.partition.maintenance-cron:0 30 3 * * *}")
+    public synchronized void maintain() {
+        if (!properties.isEnabled()) return;
+
+        long startTime = System.currentTimeMillis();
+        try {
+            YearMonth current = YearMonth.now();
+            YearMonth lastMonth = current.plusMonths(properties.getPremakeMonths());
+
+            if (!partitionStore.isPartitioned()) {
+                long rows = partitionStore.convertToPartitioned(lastMonth);
+                log.info("🧱 alert_history 파티션 테이블 전환 완료: {}건 이전", rows);
+            }
+
+            List<YearMonth> months = partitionStore.findPartitionMonths();
+            for (YearMonth month = current; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                if (!months.contains(month)) {
+                    partitionStore.createPartition(month);
+                    log.info("🧱 알림 이력 파티션 생성: {}", AlertHistoryPartitionStore.partitionName(month));
+                }
+            }
+
+            int archived = archiveExpired(months, current.minusMonths(properties.getRetentionMonths()));
+            if (archived > 0) alertCounterStore.reconcile();
+
+            log.debug("알림 이력 파티션 관리 완료: 파티션 {}개, 아카이브 {}개, {}ms",
+                    months.size(), archived, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("❌ 알림 이력 파티션 관리 실패", e);
+        }
+    }
+
+    /** 요청 기간과 겹치는 아카이브 월 파티션 복원 */
+    public synchronized List<AlertHistoryArchive> restore(LocalDateTime from, LocalDateTime to) {
+        List<AlertHistoryArchive> archives =
+                archiveRepository.findByRangeStartLessThanAndRangeEndGreaterThanOrderByRangeStart(to, from);
+        if (archives.isEmpty()) {
+            throw new AlertNotFoundException("복원할 알림 이력 아카이브가 없습니다: " + from + " ~ " + to);
+        }
+
+        boolean restored = false;
+        for (AlertHistoryArchive archive : archives) {
+            restored |= partitionStore.restorePartition(archive);
+        }
+        if (restored) alertCounterStore.reconcile();
+        return archives;
+    }
+
+    public List<AlertHistoryArchive> getArchives() {
+        return archiveRepository.findAllByOrderByRangeStartDesc();
+    }
+
+    // 보관 기간 이전 월 파티션 아카이브 (복원 후 보류 시간 내인 파티션은 유지)
+    private int archiveExpired(List<YearMonth> months, YearMonth cutoff) {
+        List<YearMonth> expired = months.stream().filter(month -> month.isBefore(cutoff)).toList();
+        if (expired.isEmpty()) return 0;
+
+        Path archiveDir = Path.of(properties.getArchiveDir());
+        try {
+            Files.createDirectories(archiveDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 디렉터리 생성 실패: " + archiveDir, e);
+        }
+
+        Map<String, AlertHistoryArchive> archives = archiveRepository.findAll().stream()
+                .collect(Collectors.toMap(AlertHistoryArchive::getPartitionName, Function.identity()));
+        LocalDateTime holdUntil = LocalDateTime.now().minusHours(properties.getRestoreHoldHours());
+
+        int archived = 0;
+        for (YearMonth month : expired) {
+            String name = AlertHistoryPartitionStore.partitionName(month);
+            AlertHistoryArchive previous = archives.get(name);
+            if (previous != null && previous.getRestoredAt() != null && previous.getRestoredAt().isAfter(holdUntil)) {
+                continue;
+            }
+
+            try {
+                AlertHistoryArchive archive = partitionStore.archivePartition(month, archiveDir.resolve(name + ".csv.gz"));
+                archived++;
+                log.info("🗄️ 알림 이력 파티션 아카이브: {} ({}건, {} bytes)",
+                        name, archive.getRowCount(), archive.getFileSize());
+            } catch (Exception e) {
+                log.error("❌ 알림 이력 파티션 아카이브 실패: {}", name, e);
+            }
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,332 @@
+/**
+ * 작성자: 황요한
+ * 알림 이력 파티션 DDL/아카이브 처리
+ * alert_history는 Hibernate 스키마 업데이트에서 제외되어 있으므로(AlertHistorySchemaFilterProvider) 테이블/컬럼/인덱스를 직접 만든다.
+ * alert_history를 triggered_at 기준 월 단위 RANGE 파티션 테이블로 유지하고,
+ * 파티션 생성·아카이브(COPY → gzip 파일 → DETACH/DROP)·복원(파일 → COPY → 파티션)을 각각 한 트랜잭션으로 처리한다.
+ */
+package org.example.finalbe.domains.alert.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.config.AlertPartitionProperties;
+import org.example.finalbe.domains.alert.domain.AlertHistoryArchive;
+import org.example.finalbe.domains.alert.repository.AlertHistoryArchiveRepository;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertHistoryPartitionStore {
+
+    private static final String TABLE = "alert_history";
+    private static final String PARTITION_PREFIX = "alert_history_p";
+    private static final String DEFAULT_PARTITION = "alert_history_default";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final Pattern COLUMN_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    // 엔티티(AlertHistory) 컬럼과 동일 (엔티티에 필드를 추가하면 여기에도 추가, 기존 테이블에는 NULL 허용으로 추가됨)
+    private static final List<ColumnDef> COLUMNS = List.of(
+            new ColumnDef("alert_id", "bigint DEFAULT nextval('alert_history_id_seq')", true),
+            new ColumnDef("equipment_id", "bigint", false),
+            new ColumnDef("rack_id", "bigint", false),
+            new ColumnDef("server_room_id", "bigint", false),
+            new ColumnDef("data_center_id", "bigint", false),
+            new ColumnDef("incident_id", "bigint", false),
+            new ColumnDef("target_name", "varchar(200)", false),
+            new ColumnDef("target_type", "varchar(50)", true),
+            new ColumnDef("metric_type", "varchar(50)", true),
+            new ColumnDef("metric_name", "varchar(100)", true),
+            new ColumnDef("level", "varchar(20)", true),
+            new ColumnDef("measured_value", "float(53)", true),
+            new ColumnDef("threshold_value", "float(53)", true),
+            new ColumnDef("triggered_at", "timestamp(6)", true),
+            new ColumnDef("is_read", "boolean", true),
+            new ColumnDef("read_at", "timestamp(6)", false),
+            new ColumnDef("read_by", "bigint", false),
+            new ColumnDef("message", "varchar(500)", false),
+            new ColumnDef("additional_info", "text", false),
+            new ColumnDef("created_at", "timestamp(6)", true)
+    );
+
+    // 엔티티(AlertHistory) 인덱스와 동일 (부모에 만들면 모든 파티션에 적용)
+    private static final List<String> INDEX_DDL = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_alert_history_incident ON alert_history (incident_id)",
+            "CREATE INDEX IF NOT EXISTS idx_alert_history_serverroom_time ON alert_history (server_room_id, triggered_at DESC, alert_id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_alert_history_equipment_time ON alert_history (equipment_id, triggered_at DESC, alert_id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_alert_history_rack_time ON alert_history (rack_id, triggered_at DESC, alert_id DESC)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AlertHistoryArchiveRepository archiveRepository;
+    private final AlertPartitionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private record ColumnDef(String name, String type, boolean notNull) {
+
+        String definition() {
+            return name + " " + type + (notNull ? " NOT NULL" : "");
+        }
+    }
+
+    public static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 테이블 준비 (기동 시 1회, 시작 시 알림 이력을 읽는 빈은 @DependsOn으로 이후에 초기화)
+     * 없으면 새로 만들고(파티션 사용 시 파티션 테이블 + 기본 파티션), 있으면 빠진 컬럼과 인덱스만 추가한다.
+     * (@PostConstruct는 프록시를 거치지 않으므로 TransactionTemplate으로 한 트랜잭션 처리)
+     */
+    @PostConstruct
+    public void ensureTable() {
+        transactionTemplate.executeWithoutResult(status -> ensureTableInternal(properties.isEnabled()));
+    }
+
+    private void ensureTableInternal(boolean partitioned) {
+        List<String> existing = jdbcTemplate.queryForList(
+                "SELECT column_name::text FROM information_schema.columns "
+                        + "WHERE table_schema = current_schema() AND table_name = ?", String.class, TABLE);
+        if (existing.isEmpty()) {
+            createTable(partitioned);
+            log.info("🧱 alert_history 테이블 생성 ({})", partitioned ? "월 단위 파티션" : "일반");
+            return;
+        }
+
+        for (ColumnDef column : COLUMNS) {
+            if (!existing.contains(column.name())) {
+                // 기존 행이 있으므로 NOT NULL 없이 추가
+                jdbcTemplate.execute("ALTER TABLE alert_history ADD COLUMN IF NOT EXISTS "
+                        + column.name() + " " + column.type());
+                log.info("🧱 alert_history 컬럼 추가: {}", column.name());
+            }
+        }
+        INDEX_DDL.forEach(jdbcTemplate::execute);
+    }
+
+    /** alert_history가 이미 파티션 테이블인지 확인 (relkind 'p') */
+    public boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, TABLE);
+        return !kinds.isEmpty() && "p".equals(kinds.get(0));
+    }
+
+    /** 현재 붙어 있는 월 파티션 목록 (기본 파티션 제외) */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname::text
+                          FROM pg_inherits i
+                          JOIN pg_class c ON c.oid = i.inhrelid
+                         WHERE i.inhparent = to_regclass(?)
+                        """, String.class, TABLE).stream()
+                .map(name -> {
+                    Matcher matcher = PARTITION_NAME.matcher(name);
+                    return matcher.matches() ? YearMonth.parse(matcher.group(1), SUFFIX_FORMAT) : null;
+                })
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 일반 테이블 → 파티션 테이블 전환 (최초 1회)
+     * 기존 테이블을 옮겨 두고 같은 구조의 파티션 테이블을 만든 뒤 월별 파티션으로 데이터를 복사한다.
+     * PK는 파티션 키를 포함해야 하므로 (alert_id, triggered_at)이며, ID 시퀀스는 기존 최댓값 다음부터 이어 간다.
+     */
+    @Transactional
+    public long convertToPartitioned(YearMonth lastMonth) {
+        jdbcTemplate.execute("LOCK TABLE alert_history IN ACCESS EXCLUSIVE MODE");
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(triggered_at) FROM alert_history", Timestamp.class);
+
+        jdbcTemplate.execute("ALTER TABLE alert_history RENAME TO alert_history_legacy");
+        jdbcTemplate.execute("CREATE TABLE alert_history (LIKE alert_history_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS) "
+                + "PARTITION BY RANGE (triggered_at)");
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS alert_history_id_seq");
+        jdbcTemplate.execute("ALTER TABLE alert_history ALTER COLUMN alert_id SET DEFAULT nextval('alert_history_id_seq')");
+        jdbcTemplate.execute("ALTER SEQUENCE alert_history_id_seq OWNED BY alert_history.alert_id");
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF alert_history DEFAULT");
+
+        YearMonth month = (oldest != null) ? YearMonth.from(oldest.toLocalDateTime()) : lastMonth;
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            createPartitionInternal(month);
+        }
+
+        long rows = jdbcTemplate.update("INSERT INTO alert_history SELECT * FROM alert_history_legacy");
+        jdbcTemplate.queryForObject("SELECT setval('alert_history_id_seq', "
+                + "COALESCE((SELECT MAX(alert_id) FROM alert_history_legacy), 0) + 1, false)", Long.class);
+        jdbcTemplate.execute("DROP TABLE alert_history_legacy");
+
+        jdbcTemplate.execute("ALTER TABLE alert_history ADD PRIMARY KEY (alert_id, triggered_at)");
+        INDEX_DDL.forEach(jdbcTemplate::execute);
+        return rows;
+    }
+
+    /** 월 파티션 생성 (기본 파티션에 해당 월 행이 있으면 새 파티션으로 옮김) */
+    @Transactional
+    public void createPartition(YearMonth month) {
+        createPartitionInternal(month);
+    }
+
+    /**
+     * 파티션 아카이브: 행을 gzip CSV 파일로 내보낸 뒤 분리·삭제하고 아카이브 기록 저장
+     * 파일은 임시 이름으로 쓴 뒤 옮기며, 중간에 실패하면 트랜잭션이 롤백되어 파티션이 그대로 남는다.
+     */
+    @Transactional
+    public AlertHistoryArchive archivePartition(YearMonth month, Path file) {
+        String name = partitionName(month);
+        jdbcTemplate.execute("LOCK TABLE " + name + " IN ACCESS EXCLUSIVE MODE");
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        long rows = copyOut(name, tempFile);
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 파일 이동 실패: " + file, e);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE alert_history DETACH PARTITION " + name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+
+        AlertHistoryArchive archive = archiveRepository.findByPartitionName(name)
+                .orElseGet(() -> AlertHistoryArchive.builder().partitionName(name).build());
+        archive.setRangeStart(month.atDay(1).atStartOfDay());
+        archive.setRangeEnd(month.plusMonths(1).atDay(1).atStartOfDay());
+        archive.setFilePath(file.toString());
+        archive.setRowCount(rows);
+        archive.setFileSize(sizeOf(file));
+        archive.setArchivedAt(LocalDateTime.now());
+        archive.setRestoredAt(null);
+        return archiveRepository.save(archive);
+    }
+
+    /** 아카이브 복원: 월 파티션을 다시 만들고 파일 행을 적재 (이미 붙어 있으면 false) */
+    @Transactional
+    public boolean restorePartition(AlertHistoryArchive archive) {
+        YearMonth month = YearMonth.from(archive.getRangeStart());
+        if (findPartitionMonths().contains(month)) return false;
+
+        Path file = Path.of(archive.getFilePath());
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("아카이브 파일이 없습니다: " + file);
+        }
+
+        createPartitionInternal(month);
+        long rows = copyIn(partitionName(month), file);
+
+        archive.setRestoredAt(LocalDateTime.now());
+        archiveRepository.save(archive);
+        log.info("♻️ 알림 이력 파티션 복원: {} ({}건)", archive.getPartitionName(), rows);
+        return true;
+    }
+
+    private void createTable(boolean partitioned) {
+        String columns = COLUMNS.stream().map(ColumnDef::definition).collect(Collectors.joining(", "));
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS alert_history_id_seq");
+        if (partitioned) {
+            jdbcTemplate.execute("CREATE TABLE alert_history (" + columns + ", PRIMARY KEY (alert_id, triggered_at)) "
+                    + "PARTITION BY RANGE (triggered_at)");
+            jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF alert_history DEFAULT");
+        } else {
+            jdbcTemplate.execute("CREATE TABLE alert_history (" + columns + ", PRIMARY KEY (alert_id))");
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE alert_history_id_seq OWNED BY alert_history.alert_id");
+        INDEX_DDL.forEach(jdbcTemplate::execute);
+    }
+
+    private void createPartitionInternal(YearMonth month) {
+        String name = partitionName(month);
+        String from = month.atDay(1).atStartOfDay().toString();
+        String to = month.plusMonths(1).atDay(1).atStartOfDay().toString();
+
+        // 기본 파티션에 들어간 해당 월 행은 파티션 생성을 막으므로 잠시 옮겨 두었다가 다시 넣음
+        Integer stray = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + DEFAULT_PARTITION
+                + " WHERE triggered_at >= ?::timestamp AND triggered_at < ?::timestamp", Integer.class, from, to);
+        if (stray != null && stray > 0) {
+            jdbcTemplate.execute("CREATE TEMP TABLE alert_history_moving (LIKE alert_history) ON COMMIT DROP");
+            jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE triggered_at >= ?::timestamp AND triggered_at < ?::timestamp RETURNING *) "
+                    + "INSERT INTO alert_history_moving SELECT * FROM moved", from, to);
+        }
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF alert_history "
+                + "FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+
+        if (stray != null && stray > 0) {
+            jdbcTemplate.update("INSERT INTO alert_history SELECT * FROM alert_history_moving");
+            jdbcTemplate.execute("DROP TABLE alert_history_moving");
+            log.info("📦 기본 파티션 행 {}건 → {} 이동", stray, name);
+        }
+    }
+
+    // COPY TO STDOUT → gzip 파일 (헤더 포함, 복원 시 컬럼 순서를 헤더로 맞춤)
+    private long copyOut(String partition, Path file) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                return copyManager.copyOut("COPY " + partition + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("아카이브 파일 쓰기 실패: " + file, e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    // gzip 파일 → COPY FROM STDIN (첫 줄 헤더의 컬럼 목록 사용)
+    private long copyIn(String partition, Path file) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                String header = reader.readLine();
+                if (header == null) return 0L;
+
+                List<String> columns = List.of(header.split(","));
+                if (!columns.stream().allMatch(column -> COLUMN_NAME.matcher(column).matches())) {
+                    throw new IllegalStateException("아카이브 파일 헤더가 올바르지 않습니다: " + file);
+                }
+                return copyManager.copyIn("COPY " + partition + " (" + String.join(", ", columns)
+                        + ") FROM STDIN WITH (FORMAT csv)", reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("아카이브 파일 읽기 실패: " + file, e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/**
+ * 작성자: 황요한
+ * 알림 상관 단계 (알림 → 인시던트 묶음)
+ * 랙 단위(전원/네트워크 장애), 서버실 환경 원인(냉각 장애)처럼 같은 상관 키를 가진 알림은
+ * 인시던트가 진행 중인 동안 하나의 인시던트에 구성 알림으로 붙는다.
+ * 새 인시던트와 위험 격상은 구성 알림이 저장되는 즉시, 나머지 변경은 주기마다 인시던트당 한 번만 저장 후 전송한다.
+ * 구성 알림의 발생 여부는 위반 상태 머신을 기준으로 맞추며, 모두 해제된 뒤 조용한 시간이 지나면 해결 처리한다.
+ */
+package org.example.finalbe.domains.alert.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.config.AlertIncidentProperties;
+import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.example.finalbe.domains.alert.domain.AlertIncident;
+import org.example.finalbe.domains.alert.dto.AlertIncidentDto;
+import org.example.finalbe.domains.alert.dto.AlertIncidentEventDto;
+import org.example.finalbe.domains.alert.dto.AlertNotificationDto;
+import org.example.finalbe.domains.alert.repository.AlertHistoryRepository;
+import org.example.finalbe.domains.alert.repository.AlertIncidentRepository;
+import org.example.finalbe.domains.alert.service.AlertRuleTable.RackRule;
+import org.example.finalbe.domains.alert.service.AlertRuleTable.ServerRoomRule;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.ViolationKey;
+import org.example.finalbe.domains.common.enumdir.AlertIncidentStatus;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.example.finalbe.domains.common.enumdir.MetricType;
+import org.example.finalbe.domains.common.enumdir.TargetType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@DependsOn("alertHistoryPartitionStore")   // alert_history 테이블 준비 후 시작 시 조회
+@RequiredArgsConstructor
+public class AlertIncidentCorrelator {
+
+    private final AlertIncidentRepository alertIncidentRepository;
+    private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertNotificationService alertNotificationService;
+    private final AlertViolationStateMachine violationStateMachine;
+    private final AlertRuleTable alertRuleTable;
+    private final AlertIncidentProperties properties;
+
+    private static final String INCIDENT_OPENED = "incident-opened";
+    private static final String INCIDENT_UPDATED = "incident-updated";
+    private static final String INCIDENT_RESOLVED = "incident-resolved";
+
+    // 상관 키별 새 알림을 받는 인시던트 / 진행 중 인시던트 전체 (상관 시간이 지나 새 알림을 받지 않는 인시던트 포함)
+    // 평가 스레드와 전송 주기 스레드가 공유하므로 메서드 단위 동기화
+    private final Map<String, OpenIncident> openIncidents = new HashMap<>();
+    private final Map<Long, OpenIncident> incidentsById = new HashMap<>();
+
+    /** 상관 범위 (키 + 인시던트 대표 정보) */
+    private record Scope(String key, TargetType scopeType, MetricType metricType) {
+    }
+
+    private static final class OpenIncident {
+        private final AlertIncident incident;
+        private final Set<ViolationKey> activeKeys = new HashSet<>();
+        private final Set<String> topics = new LinkedHashSet<>();
+        private final Deque<AlertNotificationDto> recentAlerts = new ArrayDeque<>();
+        private LocalDateTime quietSince;
+        private int unpersisted;         // 인시던트에 붙었지만 아직 저장되지 않은 구성 알림 수
+        private boolean dirty;           // 다음 주기에 저장
+        private String pendingEvent;     // 보낼 이벤트 (없으면 null)
+        private boolean urgent;          // 구성 알림 저장 직후 바로 전송
+
+        private OpenIncident(AlertIncident incident) {
+            this.incident = incident;
+        }
+    }
+
+    // 진행 중 인시던트 복원 (발생 중인 구성 알림은 상태 머신 기준)
+    @PostConstruct
+    public synchronized void restore() {
+        LocalDateTime now = LocalDateTime.now();
+        for (AlertIncident incident : alertIncidentRepository.findByStatus(AlertIncidentStatus.OPEN)) {
+            OpenIncident open = new OpenIncident(incident);
+            open.quietSince = now;
+            incidentsById.put(incident.getId(), open);
+            openIncidents.merge(incident.getCorrelationKey(), open,
+                    (current, candidate) -> isNewer(candidate.incident, current.incident) ? candidate : current);
+        }
+        if (incidentsById.isEmpty()) return;
+
+        Map<Long, ViolationKey> firingKeys = new HashMap<>();
+        violationStateMachine.firingAlerts().forEach((key, alertHistoryId) -> firingKeys.put(alertHistoryId, key));
+
+        for (AlertHistory alert : alertHistoryRepository.findAllById(firingKeys.keySet())) {
+            OpenIncident open = alert.getIncidentId() != null ? incidentsById.get(alert.getIncidentId()) : null;
+            if (open == null) continue;
+
+            open.activeKeys.add(firingKeys.get(alert.getId()));
+            open.topics.addAll(alertNotificationService.alertTopics(alert));
+            open.quietSince = null;
+        }
+        log.info("진행 중 알림 인시던트 복원: {}건", incidentsById.size());
+    }
+
+    /**
+     * 인시던트 연결 (저장 전, 평가 스레드)
+     * 같은 상관 키의 인시던트가 진행 중이고 마지막 구성 알림이 상관 시간 이내면 구성 알림으로 붙이고, 아니면 새 인시던트를 연다.
+     * (상관 시간이 지난 인시던트는 새 알림을 받지 않고 남은 구성 알림이 해제되면 해결)
+     * 전송은 구성 알림이 저장된 뒤(onPersisted / flush)에만 한다.
+     */
+    public synchronized void assign(AlertHistory alert, ViolationKey key) {
+        Scope scope = scopeOf(alert);
+        OpenIncident open = openIncidents.get(scope.key());
+        if (open != null && isStale(open.incident, alert.getTriggeredAt())) {
+            openIncidents.remove(scope.key());
+            log.info("알림 인시던트 상관 시간 경과 → 새 인시던트로 분리 - {} (마지막 알림 {})",
+                    open.incident.getTitle(), open.incident.getLastAlertAt());
+            open = null;
+        }
+        boolean opened = open == null;
+        if (opened) {
+            open = open(scope, alert);
+        }
+
+        AlertIncident incident = open.incident;
+        alert.setIncidentId(incident.getId());
+
+        boolean escalated = alert.getLevel() == AlertLevel.CRITICAL && incident.getLevel() != AlertLevel.CRITICAL;
+        if (escalated) {
+            incident.setLevel(AlertLevel.CRITICAL);
+        }
+        incident.setAlertCount(incident.getAlertCount() + 1);
+        incident.setLastAlertAt(alert.getTriggeredAt());
+
+        open.activeKeys.add(key);
+        open.quietSince = null;
+        open.topics.addAll(alertNotificationService.alertTopics(alert));
+        incident.setActiveAlertCount(open.activeKeys.size());
+        open.unpersisted++;
+        open.dirty = true;
+
+        // 새 인시던트와 위험 격상은 저장 직후, 그 외 구성 알림 추가는 주기마다 묶어서 전송
+        if (opened) {
+            open.pendingEvent = INCIDENT_OPENED;
+        } else if (open.pendingEvent == null) {
+            open.pendingEvent = INCIDENT_UPDATED;
+        }
+        if (opened || escalated) {
+            open.urgent = true;
+        }
+    }
+
+    /** 저장 완료된 구성 알림 반영 + 저장을 기다리던 새 인시던트/위험 격상 전송 */
+    public synchronized void onPersisted(List<AlertHistory> alerts) {
+        Set<OpenIncident> touched = new LinkedHashSet<>();
+        for (AlertHistory alert : alerts) {
+            OpenIncident open = incidentsById.get(alert.getIncidentId());
+            if (open == null) continue;
+
+            open.unpersisted--;
+            open.recentAlerts.addFirst(AlertNotificationDto.from(alert));
+            while (open.recentAlerts.size() > properties.getDetailLimit()) {
+                open.recentAlerts.removeLast();
+            }
+            touched.add(open);
+        }
+
+        Map<String, List<AlertIncidentEventDto>> batch = new LinkedHashMap<>();
+        for (OpenIncident open : touched) {
+            if (open.urgent && open.unpersisted == 0) {
+                collect(batch, open, open.pendingEvent);
+            }
+        }
+        send(batch);
+    }
+
+    /** 저장에 끝내 실패한 구성 알림 제외 */
+    public synchronized void onDiscarded(List<AlertHistory> alerts) {
+        for (AlertHistory alert : alerts) {
+            OpenIncident open = incidentsById.get(alert.getIncidentId());
+            if (open == null) continue;
+
+            open.unpersisted--;
+            open.incident.setAlertCount(open.incident.getAlertCount() - 1);
+            open.dirty = true;
+        }
+    }
+
+    /**
+     * 주기적 정리: 해제된 구성 알림 반영 → 조용한 시간이 지난 인시던트 해결 → 변경분 저장 후 전송
+     */
+    @Scheduled(fixedDelayString = "${alert.incident.flush-interval:5000}")
+    public synchronized void flush() {
+        if (incidentsById.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OpenIncident> changed = new ArrayList<>();
+        List<OpenIncident> resolving = new ArrayList<>();
+
+        for (OpenIncident open : incidentsById.values()) {
+            AlertIncident incident = open.incident;
+
+            if (open.activeKeys.removeIf(key -> !violationStateMachine.isFiring(key))) {
+                incident.setActiveAlertCount(open.activeKeys.size());
+                open.dirty = true;
+                if (open.pendingEvent == null) open.pendingEvent = INCIDENT_UPDATED;
+            }
+
+            if (open.activeKeys.isEmpty() && open.unpersisted == 0) {
+                if (open.quietSince == null) open.quietSince = now;
+                if (Duration.between(open.quietSince, now).toMillis() >= properties.getQuietPeriod()) {
+                    incident.setStatus(AlertIncidentStatus.RESOLVED);
+                    incident.setResolvedAt(now);
+                    resolving.add(open);
+                    open.dirty = true;
+                }
+            }
+
+            if (open.dirty) changed.add(open);
+        }
+
+        // 저장이 끝난 변경만 전송 (실패하면 해결 처리를 되돌리고 다음 주기 재시도)
+        if (!changed.isEmpty()) {
+            try {
+                alertIncidentRepository.saveAll(changed.stream().map(open -> open.incident).toList());
+            } catch (Exception e) {
+                log.error("알림 인시던트 저장 실패: {}건 → 다음 주기 재시도", changed.size(), e);
+                resolving.forEach(open -> {
+                    open.incident.setStatus(AlertIncidentStatus.OPEN);
+                    open.incident.setResolvedAt(null);
+                });
+                return;
+            }
+            changed.forEach(open -> open.dirty = false);
+        }
+
+        Map<String, List<AlertIncidentEventDto>> batch = new LinkedHashMap<>();
+        for (OpenIncident open : resolving) {
+            openIncidents.remove(open.incident.getCorrelationKey(), open);
+            incidentsById.remove(open.incident.getId());
+            collect(batch, open, INCIDENT_RESOLVED);
+            log.info("✅ 알림 인시던트 해결 - {} (구성 알림 {}건)", open.incident.getTitle(), open.incident.getAlertCount());
+        }
+        for (OpenIncident open : incidentsById.values()) {
+            if (open.pendingEvent != null && open.unpersisted == 0) {
+                collect(batch, open, open.pendingEvent);
+            }
+        }
+        send(batch);
+    }
+
+    private OpenIncident open(Scope scope, AlertHistory alert) {
+        AlertIncident incident = AlertIncident.builder()
+                .correlationKey(scope.key())
+                .scopeType(scope.scopeType())
+                .equipmentId(scope.scopeType() == TargetType.EQUIPMENT ? alert.getEquipmentId() : null)
+                .rackId(scope.scopeType() == TargetType.RACK ? alert.getRackId() : null)
+                .serverRoomId(alert.getServerRoomId())
+                .dataCenterId(alert.getDataCenterId())
+                .metricType(scope.metricType())
+                .title(buildTitle(scope, alert))
+                .level(alert.getLevel())
+                .status(AlertIncidentStatus.OPEN)
+                .openedAt(alert.getTriggeredAt())
+                .build();
+        alertIncidentRepository.save(incident);
+
+        OpenIncident open = new OpenIncident(incident);
+        openIncidents.put(scope.key(), open);
+        incidentsById.put(incident.getId(), open);
+        log.warn("🚨 알림 인시던트 발생 - {} [{}]", incident.getTitle(), scope.key());
+        return open;
+    }
+
+    // 마지막 구성 알림이 상관 시간보다 오래됨
+    private boolean isStale(AlertIncident incident, LocalDateTime alertTime) {
+        LocalDateTime lastAlertAt = incident.getLastAlertAt() != null ? incident.getLastAlertAt() : incident.getOpenedAt();
+        return lastAlertAt != null && alertTime != null
+                && Duration.between(lastAlertAt, alertTime).toMillis() > properties.getCorrelationWindow();
+    }
+
+    private static boolean isNewer(AlertIncident candidate, AlertIncident current) {
+        LocalDateTime candidateAt = candidate.getLastAlertAt() != null ? candidate.getLastAlertAt() : candidate.getOpenedAt();
+        LocalDateTime currentAt = current.getLastAlertAt() != null ? current.getLastAlertAt() : current.getOpenedAt();
+        return currentAt == null || (candidateAt != null && candidateAt.isAfter(currentAt));
+    }
+
+    // 인시던트 스냅샷을 구성 알림 토픽마다 담기 (보낼 이벤트 정리)
+    private void collect(Map<String, List<AlertIncidentEventDto>> batch, OpenIncident open, String eventName) {
+        AlertIncidentEventDto event = new AlertIncidentEventDto(eventName,
+                AlertIncidentDto.from(open.incident, List.copyOf(open.recentAlerts)));
+        for (String topic : open.topics) {
+            batch.computeIfAbsent(topic, key -> new ArrayList<>()).add(event);
+        }
+        open.pendingEvent = null;
+        open.urgent = false;
+    }
+
+    private void send(Map<String, List<AlertIncidentEventDto>> batch) {
+        if (!batch.isEmpty()) {
+            alertNotificationService.sendIncidentBatch(batch);
+        }
+    }
+
+    /**
+     * 상관 키 결정
+     * 온도/습도는 서버실 단위(냉각 장애 등 공통 원인), 그 외는 랙 → 서버실 → 장비 순으로 가장 가까운 공통 범위
+     */
+    private Scope scopeOf(AlertHistory alert) {
+        boolean environment = alert.getMetricType() == MetricType.TEMPERATURE
+                || alert.getMetricType() == MetricType.HUMIDITY;
+
+        if (environment && alert.getServerRoomId() != null) {
+            return new Scope("serverroom-" + alert.getServerRoomId() + ":environment",
+                    TargetType.SERVER_ROOM, alert.getMetricType());
+        }
+        if (alert.getRackId() != null) {
+            return new Scope("rack-" + alert.getRackId(), TargetType.RACK, null);
+        }
+        if (alert.getServerRoomId() != null) {
+            return new Scope("serverroom-" + alert.getServerRoomId(), TargetType.SERVER_ROOM, null);
+        }
+        if (alert.getEquipmentId() != null) {
+            return new Scope("equipment-" + alert.getEquipmentId(), TargetType.EQUIPMENT, null);
+        }
+        return new Scope("datacenter-" + alert.getDataCenterId(), TargetType.DATA_CENTER, null);
+    }
+
+    private String buildTitle(Scope scope, AlertHistory alert) {
+        String name = switch (scope.scopeType()) {
+            case RACK -> {
+                RackRule rule = alertRuleTable.getRackRule(alert.getRackId());
+                yield rule != null ? rule.name() : "#" + alert.getRackId();
+            }
+            case SERVER_ROOM -> {
+                ServerRoomRule rule = alertRuleTable.getServerRoomRule(alert.getServerRoomId());
+                yield rule != null ? rule.name() : "#" + alert.getServerRoomId();
+            }
+            default -> alert.getTargetName();
+        };
+
+        return String.format("[%s] %s %s", scope.scopeType().getDescription(), name,
+                scope.metricType() != null ? "환경(온도/습도) 이상" : "연관 알림");
+    }
+}
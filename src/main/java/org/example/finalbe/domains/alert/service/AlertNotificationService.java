@@ -1,69 +1,96 @@
 /**
  * 작성자: 황요한
  * 알림 발생 시 SSE를 통해 실시간 알림을 송신하는 서비스
+ * 발생/해결은 인시던트 단위로 묶고, 한 번에 모인 인시던트 변경은 토픽당 이벤트 1건(incident-batch)으로 전송한다.
+ * (개별 알림은 인시던트에 최근 목록으로 포함)
+ * 다른 인스턴스에 연결된 구독자도 받을 수 있도록 이벤트 버스로 전파한다.
  */
 package org.example.finalbe.domains.alert.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.example.finalbe.domains.alert.dto.AlertIncidentEventDto;
 import org.example.finalbe.domains.alert.dto.AlertNotificationDto;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
+import org.example.finalbe.domains.monitoring.service.EncodedSseEvent;
+import org.example.finalbe.domains.monitoring.service.MonitoringEventBus;
+import org.example.finalbe.domains.monitoring.service.SseEventEncoder;
+import org.example.finalbe.domains.monitoring.service.SseReplayBuffer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AlertNotificationService {
 
+    private final SseReplayBuffer sseReplayBuffer;
+    private final SseEventEncoder sseEventEncoder;
+    private final MonitoringEventBus monitoringEventBus;
+    private final Executor alertExecutor;
     private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
     private static final Long DEFAULT_TIMEOUT = 3L * 60 * 60 * 1000; // 3시간
 
+    public AlertNotificationService(SseReplayBuffer sseReplayBuffer,
+                                    SseEventEncoder sseEventEncoder,
+                                    MonitoringEventBus monitoringEventBus,
+                                    @Qualifier("alertExecutor") Executor alertExecutor) {
+        this.sseReplayBuffer = sseReplayBuffer;
+        this.sseEventEncoder = sseEventEncoder;
+        this.monitoringEventBus = monitoringEventBus;
+        this.alertExecutor = alertExecutor;
+    }
+
+    // 다른 인스턴스에서 발생한 알림 수신 등록
+    @PostConstruct
+    public void registerEventBus() {
+        monitoringEventBus.subscribe(MonitoringBusChannel.ALERT, this::onRemoteAlert);
+    }
+
     // 전체 알림 구독
-    public SseEmitter subscribeAll() {
-        return createEmitter("alerts-all");
+    public SseEmitter subscribeAll(String lastEventId) {
+        return createEmitter("alerts-all", lastEventId);
     }
 
     // Equipment 알림 구독
-    public SseEmitter subscribeEquipment(Long equipmentId) {
-        return createEmitter("alerts-equipment-" + equipmentId);
+    public SseEmitter subscribeEquipment(Long equipmentId, String lastEventId) {
+        return createEmitter("alerts-equipment-" + equipmentId, lastEventId);
     }
 
     // Rack 알림 구독
-    public SseEmitter subscribeRack(Long rackId) {
-        return createEmitter("alerts-rack-" + rackId);
+    public SseEmitter subscribeRack(Long rackId, String lastEventId) {
+        return createEmitter("alerts-rack-" + rackId, lastEventId);
     }
 
     // ServerRoom 알림 구독
-    public SseEmitter subscribeServerRoom(Long serverRoomId) {
-        return createEmitter("alerts-serverroom-" + serverRoomId);
+    public SseEmitter subscribeServerRoom(Long serverRoomId, String lastEventId) {
+        return createEmitter("alerts-serverroom-" + serverRoomId, lastEventId);
     }
 
     // DataCenter 알림 구독
-    public SseEmitter subscribeDataCenter(Long dataCenterId) {
-        return createEmitter("alerts-datacenter-" + dataCenterId);
+    public SseEmitter subscribeDataCenter(Long dataCenterId, String lastEventId) {
+        return createEmitter("alerts-datacenter-" + dataCenterId, lastEventId);
     }
 
-    // SSEEmitter 생성 및 등록
-    private SseEmitter createEmitter(String topic) {
+    // SSEEmitter 생성 및 등록 (Last-Event-ID가 있으면 끊긴 동안 발생한 알림 재전송)
+    private SseEmitter createEmitter(String topic, String lastEventId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        emitters.putIfAbsent(topic, new CopyOnWriteArrayList<>());
-        List<SseEmitter> topicEmitters = emitters.get(topic);
-
-        emitter.onCompletion(() -> emitters.get(topic).remove(emitter));
-        emitter.onTimeout(() -> emitters.get(topic).remove(emitter));
-        emitter.onError(e -> emitters.get(topic).remove(emitter));
-
-        // 먼저 리스트에 추가한 후 초기 메시지 전송
-        topicEmitters.add(emitter);
+        emitter.onCompletion(() -> removeEmitter(topic, emitter));
+        emitter.onTimeout(() -> removeEmitter(topic, emitter));
+        emitter.onError(e -> removeEmitter(topic, emitter));
 
         try {
             // 초기 연결 확인 메시지 전송
@@ -73,75 +100,95 @@ public class AlertNotificationService {
             log.info("SSE 연결 성공: topic={}", topic);
         } catch (IOException e) {
             log.error("SSE 초기 연결 실패: topic={}, error={}", topic, e.getMessage());
-            topicEmitters.remove(emitter);
-            if (topicEmitters.isEmpty()) {
-                emitters.remove(topic);
-            }
             throw new RuntimeException("SSE 연결 초기화 실패", e);
         }
 
+        // 누락 알림 재전송 후 리스트에 추가 (그 사이 발생한 알림의 누락/중복 없음)
+        sseReplayBuffer.subscribe(topic, lastEventId,
+                event -> {
+                    try {
+                        event.writeTo(emitter);
+                    } catch (IOException e) {
+                        log.debug("SSE 재전송 실패: topic={}", topic);
+                    }
+                },
+                () -> emitters.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).add(emitter));
+
         return emitter;
     }
 
-    // 알림 발생 전송
-    @Async("alertExecutor")
-    public void sendAlert(AlertHistory alert) {
-        AlertNotificationDto dto = AlertNotificationDto.from(alert);
+    // Emitter 제거 (마지막 구독자면 재연결 대기 상태로 전환)
+    private void removeEmitter(String topic, SseEmitter emitter) {
+        List<SseEmitter> topicEmitters = emitters.get(topic);
+        if (topicEmitters != null && topicEmitters.remove(emitter) && topicEmitters.isEmpty()) {
+            sseReplayBuffer.detach(topic);
+        }
+    }
 
-        sendToTopic("alerts-all", "alert-triggered", dto);
+    /**
+     * 인시던트 변경 일괄 전송 (저장이 끝난 변경만 전달됨)
+     * 토픽마다 이벤트 1건이며, 내용이 같은 토픽끼리는 한 번만 직렬화/전파한다.
+     */
+    @Async("alertExecutor")
+    public void sendIncidentBatch(Map<String, List<AlertIncidentEventDto>> eventsByTopic) {
+        Map<List<AlertIncidentEventDto>, List<String>> topicsByEvents = new LinkedHashMap<>();
+        eventsByTopic.forEach((topic, events) ->
+                topicsByEvents.computeIfAbsent(events, key -> new ArrayList<>()).add(topic));
 
-        if (alert.getEquipmentId() != null)
-            sendToTopic("alerts-equipment-" + alert.getEquipmentId(), "alert-triggered", dto);
-        if (alert.getRackId() != null)
-            sendToTopic("alerts-rack-" + alert.getRackId(), "alert-triggered", dto);
-        if (alert.getServerRoomId() != null)
-            sendToTopic("alerts-serverroom-" + alert.getServerRoomId(), "alert-triggered", dto);
-        if (alert.getDataCenterId() != null)
-            sendToTopic("alerts-datacenter-" + alert.getDataCenterId(), "alert-triggered", dto);
+        topicsByEvents.forEach((events, topics) -> broadcast("incident-batch", events, topics));
     }
 
     // 알림 확인 전송
     @Async("alertExecutor")
     public void sendAlertAcknowledged(AlertHistory alert) {
-        AlertNotificationDto dto = AlertNotificationDto.from(alert);
+        broadcast("alert-acknowledged", AlertNotificationDto.from(alert), alertTopics(alert));
+    }
 
-        sendToTopic("alerts-all", "alert-acknowledged", dto);
+    // 로컬 구독자 전송 + 다른 인스턴스로 전파 (알림 확인은 어느 인스턴스에서든 발생할 수 있음)
+    private void broadcast(String eventName, Object payload, List<String> topics) {
+        // 토픽 팬아웃 전체에서 한 번만 직렬화
+        sendToTopics(topics, eventName, payload);
 
-        if (alert.getEquipmentId() != null)
-            sendToTopic("alerts-equipment-" + alert.getEquipmentId(), "alert-acknowledged", dto);
-        if (alert.getRackId() != null)
-            sendToTopic("alerts-rack-" + alert.getRackId(), "alert-acknowledged", dto);
-        if (alert.getServerRoomId() != null)
-            sendToTopic("alerts-serverroom-" + alert.getServerRoomId(), "alert-acknowledged", dto);
-        if (alert.getDataCenterId() != null)
-            sendToTopic("alerts-datacenter-" + alert.getDataCenterId(), "alert-acknowledged", dto);
+        monitoringEventBus.publish(MonitoringBusChannel.ALERT,
+                new MonitoringBusEvent(topics, eventName, sseEventEncoder.toJson(payload)));
     }
 
-    // 알림 해결 전송
-    @Async("alertExecutor")
-    public void sendAlertResolved(AlertHistory alert) {
-        AlertNotificationDto dto = AlertNotificationDto.from(alert);
+    // 다른 인스턴스에서 발생한 알림을 로컬 구독자에게 전송 (전송은 알림 스레드풀에서 수행)
+    private void onRemoteAlert(MonitoringBusEvent remote) {
+        if (remote.data() == null) return;
+        alertExecutor.execute(() -> {
+            sendToTopics(remote.topics(), remote.event(), remote.data());
+        });
+    }
 
-        sendToTopic("alerts-all", "alert-resolved", dto);
+    // 알림 하나가 전달될 토픽 (전체 + 장비/랙/서버실/데이터센터)
+    public List<String> alertTopics(AlertHistory alert) {
+        List<String> topics = new ArrayList<>(5);
+        topics.add("alerts-all");
 
         if (alert.getEquipmentId() != null)
-            sendToTopic("alerts-equipment-" + alert.getEquipmentId(), "alert-resolved", dto);
+            topics.add("alerts-equipment-" + alert.getEquipmentId());
         if (alert.getRackId() != null)
-            sendToTopic("alerts-rack-" + alert.getRackId(), "alert-resolved", dto);
+            topics.add("alerts-rack-" + alert.getRackId());
         if (alert.getServerRoomId() != null)
-            sendToTopic("alerts-serverroom-" + alert.getServerRoomId(), "alert-resolved", dto);
+            topics.add("alerts-serverroom-" + alert.getServerRoomId());
         if (alert.getDataCenterId() != null)
-            sendToTopic("alerts-datacenter-" + alert.getDataCenterId(), "alert-resolved", dto);
+            topics.add("alerts-datacenter-" + alert.getDataCenterId());
+        return topics;
+    }
+
+    // 여러 topic으로 이벤트 송신 (ID 1개로 한 번 인코딩, 재연결 대기 중인 topic은 버퍼에만 적재)
+    private void sendToTopics(List<String> topics, String eventName, Object payload) {
+        sseReplayBuffer.publish(topics, eventName, payload, this::writeToTopic);
     }
 
-    // 특정 topic으로 이벤트 송신
-    private void sendToTopic(String topic, String eventName, Object data) {
+    private void writeToTopic(String topic, EncodedSseEvent event) {
         List<SseEmitter> topicEmitters = emitters.get(topic);
         if (topicEmitters == null || topicEmitters.isEmpty()) return;
 
         topicEmitters.removeIf(emitter -> {
             try {
-                emitter.send(SseEmitter.event().name(eventName).data(data));
+                event.writeTo(emitter);
                 return false;
             } catch (IOException e) {
                 log.debug("SSE 전송 실패 → Emitter 제거: topic={}", topic);
@@ -150,11 +197,12 @@ public class AlertNotificationService {
         });
 
         log.debug("SSE 메시지 전송: topic={}, event={}, 구독자={}",
-                 topic, eventName, topicEmitters.size());
+                 topic, event.getEventName(), topicEmitters.size());
 
         // 구독자가 모두 제거되었으면 토픽도 제거
         if (topicEmitters.isEmpty()) {
             emitters.remove(topic);
+            sseReplayBuffer.detach(topic);
         }
     }
 
@@ -0,0 +1,115 @@
+/**
+ * 작성자: 황요한
+ * 알림 저장 파이프라인
+ * 평가 틱 동안 발생한 알림을 모아 두었다가 틱이 끝나면 다중 행 INSERT 한 번으로 저장하고,
+ * 커밋된 뒤에만 상태 머신 연결, 카운터 반영, 인시던트 전송을 진행한다. (저장되지 않은 알림은 전송하지 않음)
+ * 저장에 실패하면 다음 틱에 다시 시도하고, 재시도 한도를 넘으면 행 단위로 나눠 문제 행만 제외한다.
+ */
+package org.example.finalbe.domains.alert.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.config.AlertPipelineProperties;
+import org.example.finalbe.domains.alert.domain.AlertHistory;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.ViolationKey;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertPersistencePipeline {
+
+    private final AlertHistoryBatchWriter alertHistoryBatchWriter;
+    private final AlertViolationStateMachine violationStateMachine;
+    private final AlertIncidentCorrelator alertIncidentCorrelator;
+    private final AlertCounterStore alertCounterStore;
+    private final AlertPipelineProperties properties;
+
+    private final List<PendingAlert> pending = new ArrayList<>();
+
+    private record PendingAlert(AlertHistory alert, ViolationKey key, int attempts) {
+    }
+
+    /** 저장 대기열에 추가 (평가 스레드) */
+    public synchronized void submit(AlertHistory alert, ViolationKey key) {
+        pending.add(new PendingAlert(alert, key, 0));
+    }
+
+    /** 대기 중인 알림 일괄 저장 → 상태 머신 연결 → 인시던트 전송 (평가 틱 종료 시 호출) */
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        List<PendingAlert> batch = new ArrayList<>(pending);
+        pending.clear();
+
+        long startTime = System.currentTimeMillis();
+        try {
+            alertHistoryBatchWriter.insert(alertsOf(batch), properties.getInsertBatchSize());
+        } catch (Exception e) {
+            retryLater(batch, e);
+            return;
+        }
+
+        onPersisted(batch);
+        log.debug("알림 일괄 저장: {}건, {}ms", batch.size(), System.currentTimeMillis() - startTime);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 재시도 한도 전이면 대기열 앞에 되돌리고, 넘으면 행 단위로 저장해 실패 행만 제외
+    private void retryLater(List<PendingAlert> batch, Exception e) {
+        batch.forEach(item -> item.alert().setId(null));
+
+        List<PendingAlert> retry = new ArrayList<>(batch.size());
+        List<PendingAlert> exhausted = new ArrayList<>();
+        for (PendingAlert item : batch) {
+            if (item.attempts() + 1 < properties.getMaxAttempts()) {
+                retry.add(new PendingAlert(item.alert(), item.key(), item.attempts() + 1));
+            } else {
+                exhausted.add(item);
+            }
+        }
+        pending.addAll(0, retry);
+        log.error("❌ 알림 일괄 저장 실패: {}건 → 다음 틱 재시도 {}건", batch.size(), retry.size(), e);
+
+        if (exhausted.isEmpty()) return;
+
+        List<PendingAlert> persisted = new ArrayList<>();
+        List<AlertHistory> discarded = new ArrayList<>();
+        for (PendingAlert item : exhausted) {
+            try {
+                alertHistoryBatchWriter.insert(List.of(item.alert()), 1);
+                persisted.add(item);
+            } catch (Exception rowError) {
+                item.alert().setId(null);
+                discarded.add(item.alert());
+                log.error("❌ 알림 저장 포기: {} {}:{} ({})", item.alert().getLevel(),
+                        item.alert().getTargetName(), item.alert().getMetricName(), rowError.getMessage());
+            }
+        }
+        if (!persisted.isEmpty()) onPersisted(persisted);
+        if (!discarded.isEmpty()) alertIncidentCorrelator.onDiscarded(discarded);
+    }
+
+    private void onPersisted(List<PendingAlert> batch) {
+        List<AlertHistory> alerts = alertsOf(batch);
+        alertCounterStore.onCreated(alerts);
+        for (PendingAlert item : batch) {
+            if (violationStateMachine.attachAlert(item.key(), item.alert().getId())) {
+                alertCounterStore.onActivated(item.alert());
+            }
+        }
+        alertIncidentCorrelator.onPersisted(alerts);
+    }
+
+    private List<AlertHistory> alertsOf(List<PendingAlert> batch) {
+        return batch.stream().map(PendingAlert::alert).toList();
+    }
+}
@@ -0,0 +1,228 @@
+/**
+ * 작성자: 황요한
+ * 알림 평가용 인메모리 규칙 테이블
+ * 장비/랙/서버실의 임계치, 모니터링 여부, 상위 계층 ID와 알림 설정을 미리 컴파일해 두고
+ * 평가 시에는 ID로 조회만 한다. (메트릭마다 DB를 조회하지 않음)
+ * 대상이 바뀌면 커밋 후 이벤트로 갱신하고 다른 인스턴스에도 전파하며, 주기적 전체 재적재로 누락을 보정한다.
+ */
+package org.example.finalbe.domains.alert.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.dto.AlertRuleChangedEvent;
+import org.example.finalbe.domains.alert.dto.AlertSettingsDto;
+import org.example.finalbe.domains.alert.repository.AlertSettingsRepository;
+import org.example.finalbe.domains.common.enumdir.DelYN;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.common.enumdir.TargetType;
+import org.example.finalbe.domains.equipment.domain.Equipment;
+import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
+import org.example.finalbe.domains.monitoring.service.MonitoringEventBus;
+import org.example.finalbe.domains.rack.domain.Rack;
+import org.example.finalbe.domains.rack.repository.RackRepository;
+import org.example.finalbe.domains.serverroom.domain.ServerRoom;
+import org.example.finalbe.domains.serverroom.repository.ServerRoomRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertRuleTable {
+
+    private static final long FULL_REFRESH_INTERVAL_MS = 60_000;
+
+    private final EquipmentRepository equipmentRepository;
+    private final RackRepository rackRepository;
+    private final ServerRoomRepository serverRoomRepository;
+    private final AlertSettingsRepository alertSettingsRepository;
+    private final MonitoringEventBus monitoringEventBus;
+
+    // 모니터링이 켜진 대상만 보관 (없으면 평가하지 않음), 전체 재적재 시 맵을 통째로 교체
+    private volatile Map<Long, EquipmentRule> equipmentRules = new ConcurrentHashMap<>();
+    private volatile Map<Long, RackRule> rackRules = new ConcurrentHashMap<>();
+    private volatile Map<Long, ServerRoomRule> serverRoomRules = new ConcurrentHashMap<>();
+    private volatile AlertSettingsDto settings = AlertSettingsDto.getDefault();
+
+    /** 알림 계층 ID (삭제된 서버실 아래면 서버실/데이터센터 ID는 null) */
+    public record Hierarchy(Long rackId, Long serverRoomId, Long dataCenterId) {
+    }
+
+    public record EquipmentRule(
+            Long equipmentId, String name,
+            Double cpuWarning, Double cpuCritical,
+            Double memoryWarning, Double memoryCritical,
+            Double diskWarning, Double diskCritical,
+            Hierarchy hierarchy) {
+    }
+
+    public record RackRule(
+            Long rackId, String name,
+            Double temperatureWarning, Double temperatureCritical,
+            Double humidityMinWarning, Double humidityMinCritical,
+            Double humidityMaxWarning, Double humidityMaxCritical,
+            Hierarchy hierarchy) {
+    }
+
+    public record ServerRoomRule(
+            Long serverRoomId, String name,
+            Double avgCpuWarning, Double avgCpuCritical,
+            Double avgMemoryWarning, Double avgMemoryCritical,
+            Double avgDiskWarning, Double avgDiskCritical,
+            Double avgTemperatureWarning, Double avgTemperatureCritical,
+            Long dataCenterId) {
+    }
+
+    @PostConstruct
+    public void init() {
+        monitoringEventBus.subscribe(MonitoringBusChannel.ALERT_RULE, this::onRemoteRuleChanged);
+        refreshAll();
+    }
+
+    public EquipmentRule getEquipmentRule(Long equipmentId) {
+        return equipmentRules.get(equipmentId);
+    }
+
+    public RackRule getRackRule(Long rackId) {
+        return rackRules.get(rackId);
+    }
+
+    public ServerRoomRule getServerRoomRule(Long serverRoomId) {
+        return serverRoomRules.get(serverRoomId);
+    }
+
+    public AlertSettingsDto getSettings() {
+        return settings;
+    }
+
+    /**
+     * 대상 변경 반영 (트랜잭션 커밋 후)
+     * 장비는 한 건만 다시 읽고, 랙/서버실은 하위 계층에 영향을 주므로 전체를 다시 적재한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRuleChanged(AlertRuleChangedEvent event) {
+        refresh(event.targetType(), event.targetId());
+        monitoringEventBus.publish(MonitoringBusChannel.ALERT_RULE,
+                MonitoringBusEvent.of(String.valueOf(event.targetId()), event.targetType().name(), null));
+    }
+
+    // 다른 인스턴스에서 바뀐 대상 반영 (재전파하지 않음)
+    private void onRemoteRuleChanged(MonitoringBusEvent event) {
+        TargetType targetType = TargetType.valueOf(event.event());
+        for (String targetId : event.topics()) {
+            refresh(targetType, Long.valueOf(targetId));
+        }
+    }
+
+    private void refresh(TargetType targetType, Long targetId) {
+        if (targetType == TargetType.EQUIPMENT) {
+            refreshEquipment(targetId);
+        } else {
+            refreshAll();
+        }
+    }
+
+    // 전체 재적재 (시작 시 + 주기적 보정, 알림 설정은 변경 API가 없어 이 주기로만 반영)
+    @Scheduled(initialDelay = FULL_REFRESH_INTERVAL_MS, fixedDelay = FULL_REFRESH_INTERVAL_MS)
+    public synchronized void refreshAll() {
+        try {
+            Map<Long, EquipmentRule> equipments = new ConcurrentHashMap<>();
+            for (Equipment equipment : equipmentRepository.findAllActiveWithFullHierarchy()) {
+                if (Boolean.TRUE.equals(equipment.getMonitoringEnabled())) {
+                    equipments.put(equipment.getId(), compile(equipment));
+                }
+            }
+
+            Map<Long, RackRule> racks = new ConcurrentHashMap<>();
+            for (Rack rack : rackRepository.findAllActiveWithServerRoomAndDataCenter()) {
+                if (Boolean.TRUE.equals(rack.getMonitoringEnabled())) {
+                    racks.put(rack.getId(), compile(rack));
+                }
+            }
+
+            Map<Long, ServerRoomRule> serverRooms = new ConcurrentHashMap<>();
+            for (ServerRoom serverRoom : serverRoomRepository.findAllActiveWithDataCenter()) {
+                if (Boolean.TRUE.equals(serverRoom.getMonitoringEnabled())) {
+                    serverRooms.put(serverRoom.getId(), compile(serverRoom));
+                }
+            }
+
+            settings = alertSettingsRepository.findById(1L)
+                    .map(AlertSettingsDto::from)
+                    .orElseGet(AlertSettingsDto::getDefault);
+            equipmentRules = equipments;
+            rackRules = racks;
+            serverRoomRules = serverRooms;
+
+            log.debug("알림 규칙 테이블 적재: 장비 {}개, 랙 {}개, 서버실 {}개",
+                    equipments.size(), racks.size(), serverRooms.size());
+        } catch (Exception e) {
+            log.error("알림 규칙 테이블 적재 실패 (기존 규칙 유지)", e);
+        }
+    }
+
+    private synchronized void refreshEquipment(Long equipmentId) {
+        Equipment equipment = equipmentRepository.findByIdWithFullHierarchy(equipmentId).orElse(null);
+
+        if (equipment == null || equipment.getDelYn() == DelYN.Y
+                || !Boolean.TRUE.equals(equipment.getMonitoringEnabled())) {
+            equipmentRules.remove(equipmentId);
+        } else {
+            equipmentRules.put(equipmentId, compile(equipment));
+        }
+    }
+
+    // ===== 컴파일 =====
+
+    private EquipmentRule compile(Equipment equipment) {
+        Rack rack = equipment.getRack();
+        Hierarchy hierarchy = rack != null
+                ? hierarchyOf(rack.getId(), rack.getServerRoom())
+                : new Hierarchy(null, null, null);
+
+        return new EquipmentRule(
+                equipment.getId(), equipment.getName(),
+                toDouble(equipment.getCpuThresholdWarning()), toDouble(equipment.getCpuThresholdCritical()),
+                toDouble(equipment.getMemoryThresholdWarning()), toDouble(equipment.getMemoryThresholdCritical()),
+                toDouble(equipment.getDiskThresholdWarning()), toDouble(equipment.getDiskThresholdCritical()),
+                hierarchy);
+    }
+
+    private RackRule compile(Rack rack) {
+        return new RackRule(
+                rack.getId(), rack.getRackName(),
+                toDouble(rack.getTemperatureThresholdWarning()), toDouble(rack.getTemperatureThresholdCritical()),
+                toDouble(rack.getHumidityThresholdMinWarning()), toDouble(rack.getHumidityThresholdMinCritical()),
+                toDouble(rack.getHumidityThresholdMaxWarning()), toDouble(rack.getHumidityThresholdMaxCritical()),
+                hierarchyOf(rack.getId(), rack.getServerRoom()));
+    }
+
+    private ServerRoomRule compile(ServerRoom serverRoom) {
+        return new ServerRoomRule(
+                serverRoom.getId(), serverRoom.getName(),
+                toDouble(serverRoom.getAvgCpuThresholdWarning()), toDouble(serverRoom.getAvgCpuThresholdCritical()),
+                toDouble(serverRoom.getAvgMemoryThresholdWarning()), toDouble(serverRoom.getAvgMemoryThresholdCritical()),
+                toDouble(serverRoom.getAvgDiskThresholdWarning()), toDouble(serverRoom.getAvgDiskThresholdCritical()),
+                toDouble(serverRoom.getAvgTemperatureThresholdWarning()), toDouble(serverRoom.getAvgTemperatureThresholdCritical()),
+                serverRoom.getDataCenter() != null ? serverRoom.getDataCenter().getId() : null);
+    }
+
+    private Hierarchy hierarchyOf(Long rackId, ServerRoom serverRoom) {
+        if (serverRoom == null || serverRoom.getDelYn() == DelYN.Y) {
+            return new Hierarchy(rackId, null, null);
+        }
+        return new Hierarchy(rackId, serverRoom.getId(),
+                serverRoom.getDataCenter() != null ? serverRoom.getDataCenter().getId() : null);
+    }
+
+    private Double toDouble(Integer value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * 작성자: 황요한
+ * 수집 틱 단위 알림 평가기
+ * 발생원(수집/시뮬레이터/통계)마다 대기 슬롯을 1칸만 두고, 평가 전용 스레드 하나가 슬롯의 틱을 통째로 평가한다.
+ * 평가가 밀린 상태에서 새 틱이 오면 대기 중이던 오래된 틱을 최신 틱으로 교체하고 건너뛴 틱으로 집계한다.
+ * (큐에 쌓아 두고 오래된 작업을 조용히 버리던 방식 대신, 항상 가장 최근의 완결된 틱을 평가)
+ */
+package org.example.finalbe.domains.alert.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.dto.AlertEvaluationBatch;
+import org.example.finalbe.domains.alert.dto.AlertEvaluationStatusDto;
+import org.example.finalbe.domains.common.enumdir.AlertEvaluationSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+public class AlertTickEvaluator {
+
+    private final AlertEvaluationService alertEvaluationService;
+    private final Executor alertEvaluationExecutor;
+
+    // 발생원별 대기 틱 (최신 1건)
+    private final Map<AlertEvaluationSource, AtomicReference<AlertEvaluationBatch>> pending =
+            new EnumMap<>(AlertEvaluationSource.class);
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicLong submittedTicks = new AtomicLong();
+    private final AtomicLong evaluatedTicks = new AtomicLong();
+    private final AtomicLong skippedTicks = new AtomicLong();
+    private final AtomicLong evaluatedItems = new AtomicLong();
+    private volatile long lastDurationMillis;
+    private volatile LocalDateTime lastTickTime;
+
+    public AlertTickEvaluator(AlertEvaluationService alertEvaluationService,
+                              @Qualifier("alertEvaluationExecutor") Executor alertEvaluationExecutor) {
+        this.alertEvaluationService = alertEvaluationService;
+        this.alertEvaluationExecutor = alertEvaluationExecutor;
+        for (AlertEvaluationSource source : AlertEvaluationSource.values()) {
+            pending.put(source, new AtomicReference<>());
+        }
+    }
+
+    /** 틱 제출 (수집 스레드는 대기 슬롯에 넣기만 하고 반환) */
+    public void submit(AlertEvaluationBatch batch) {
+        if (batch.isEmpty()) return;
+
+        submittedTicks.incrementAndGet();
+        AlertEvaluationBatch replaced = pending.get(batch.getSource()).getAndSet(batch);
+        if (replaced != null) {
+            long skipped = skippedTicks.incrementAndGet();
+            log.warn("⏭️ 알림 평가 지연 → 이전 틱 건너뜀: source={}, 건너뛴 틱={}, 최신 틱={}, 누적 {}건",
+                    batch.getSource(), replaced.getTickTime(), batch.getTickTime(), skipped);
+        }
+        scheduleDrain();
+    }
+
+    public AlertEvaluationStatusDto getStatus() {
+        int pendingTicks = (int) pending.values().stream().filter(slot -> slot.get() != null).count();
+        return new AlertEvaluationStatusDto(
+                submittedTicks.get(), evaluatedTicks.get(), skippedTicks.get(), evaluatedItems.get(),
+                pendingTicks, lastDurationMillis, lastTickTime);
+    }
+
+    // 평가 작업은 동시에 하나만 예약
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) return;
+        try {
+            alertEvaluationExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.error("❌ 알림 평가 작업 예약 실패 (다음 틱 제출 시 재시도)", e);
+        }
+    }
+
+    private void drain() {
+        try {
+            boolean found;
+            do {
+                found = false;
+                for (AtomicReference<AlertEvaluationBatch> slot : pending.values()) {
+                    AlertEvaluationBatch batch = slot.getAndSet(null);
+                    if (batch != null) {
+                        found = true;
+                        evaluate(batch);
+                    }
+                }
+            } while (found);
+        } finally {
+            draining.set(false);
+        }
+
+        // 종료 직전에 들어온 틱이 있으면 다시 예약
+        if (pending.values().stream().anyMatch(slot -> slot.get() != null)) {
+            scheduleDrain();
+        }
+    }
+
+    private void evaluate(AlertEvaluationBatch batch) {
+        long startTime = System.currentTimeMillis();
+        try {
+            alertEvaluationService.evaluate(batch);
+        } catch (Exception e) {
+            log.error("❌ 알림 평가 틱 처리 실패: source={}, tick={}", batch.getSource(), batch.getTickTime(), e);
+        }
+
+        lastDurationMillis = System.currentTimeMillis() - startTime;
+        lastTickTime = batch.getTickTime();
+        evaluatedTicks.incrementAndGet();
+        evaluatedItems.addAndGet(batch.size());
+
+        log.debug("알림 평가 틱 완료: source={}, 대상 {}건, {}ms",
+                batch.getSource(), batch.size(), lastDurationMillis);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * 작성자: 황요한
+ * 알림 위반 상태 체크포인트 저장
+ * 기존 행은 한 번에 조회해 같은 영속성 컨텍스트에서 변경 감지로 갱신하고(배치 UPDATE),
+ * 새 항목은 추가, 정리된 항목은 일괄 삭제한다. 모두 한 트랜잭션에서 처리한다.
+ */
+package org.example.finalbe.domains.alert.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.alert.domain.AlertViolationTracker;
+import org.example.finalbe.domains.alert.repository.AlertViolationTrackerRepository;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.ViolationKey;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.ViolationSnapshot;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class AlertViolationCheckpointWriter {
+
+    private final AlertViolationTrackerRepository violationTrackerRepository;
+
+    /** 반환값: 스냅샷 순서대로 저장된 Tracker ID */
+    @Transactional
+    public List<Long> write(List<ViolationSnapshot> snapshots, List<Long> deletedTrackerIds) {
+        if (!deletedTrackerIds.isEmpty()) {
+            violationTrackerRepository.deleteAllByIdInBatch(deletedTrackerIds);
+        }
+
+        List<Long> existingIds = snapshots.stream()
+                .map(ViolationSnapshot::trackerId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, AlertViolationTracker> existing = violationTrackerRepository.findAllById(existingIds).stream()
+                .collect(Collectors.toMap(AlertViolationTracker::getId, Function.identity()));
+
+        List<Long> trackerIds = new ArrayList<>(snapshots.size());
+        for (ViolationSnapshot snapshot : snapshots) {
+            AlertViolationTracker tracker = snapshot.trackerId() != null ? existing.get(snapshot.trackerId()) : null;
+
+            if (tracker == null) {
+                tracker = newTracker(snapshot);
+                apply(tracker, snapshot);
+                violationTrackerRepository.save(tracker);
+            } else {
+                apply(tracker, snapshot);
+            }
+            trackerIds.add(tracker.getId());
+        }
+        return trackerIds;
+    }
+
+    private AlertViolationTracker newTracker(ViolationSnapshot snapshot) {
+        ViolationKey key = snapshot.key();
+        AlertViolationTracker tracker = AlertViolationTracker.builder()
+                .targetType(key.targetType())
+                .metricType(snapshot.metricType())
+                .metricName(key.metricName())
+                .level(key.level())
+                .build();
+
+        switch (key.targetType()) {
+            case EQUIPMENT -> tracker.setEquipmentId(key.targetId());
+            case RACK -> tracker.setRackId(key.targetId());
+            case SERVER_ROOM -> tracker.setServerRoomId(key.targetId());
+            case DATA_CENTER -> tracker.setDataCenterId(key.targetId());
+        }
+        return tracker;
+    }
+
+    private void apply(AlertViolationTracker tracker, ViolationSnapshot snapshot) {
+        tracker.setState(snapshot.state());
+        tracker.setConsecutiveViolations(snapshot.consecutiveViolations());
+        tracker.setFirstViolationTime(snapshot.firstViolationTime());
+        if (snapshot.lastViolationTime() != null) {
+            tracker.setLastViolationTime(snapshot.lastViolationTime());
+        }
+        tracker.setLastMeasuredValue(snapshot.lastMeasuredValue());
+        tracker.setLastAlertSentAt(snapshot.lastAlertSentAt());
+        tracker.setAlertHistoryId(snapshot.alertHistoryId());
+        tracker.setUpdatedAt(LocalDateTime.now());
+    }
+}
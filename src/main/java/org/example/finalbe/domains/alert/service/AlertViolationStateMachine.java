@@ -0,0 +1,356 @@
+/**
+ * 작성자: 황요한
+ * 알림 위반 상태 머신 (대상 + 메트릭 + 레벨별 OK → PENDING → FIRING → RESOLVED)
+ * 상태는 메모리에서만 전이하고, 전이가 일어난 항목만 표시해 두었다가 주기적으로 한 트랜잭션에 모아 저장한다.
+ * 따라서 DB 쓰기는 평가 횟수가 아니라 상태 전이 횟수에 비례하며, 시작 시 마지막 체크포인트에서 복원한다.
+ */
+package org.example.finalbe.domains.alert.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.config.AlertEvaluationProperties;
+import org.example.finalbe.domains.alert.domain.AlertViolationTracker;
+import org.example.finalbe.domains.alert.dto.AlertSettingsDto;
+import org.example.finalbe.domains.alert.repository.AlertViolationTrackerRepository;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.example.finalbe.domains.common.enumdir.AlertViolationState;
+import org.example.finalbe.domains.common.enumdir.MetricType;
+import org.example.finalbe.domains.common.enumdir.TargetType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertViolationStateMachine {
+
+    private final AlertViolationTrackerRepository violationTrackerRepository;
+    private final AlertViolationCheckpointWriter checkpointWriter;
+    private final AlertEvaluationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 상태 항목은 compute 안에서만 변경 (키 단위 원자적 전이)
+    private final Map<ViolationKey, ViolationState> states = new ConcurrentHashMap<>();
+    private final Set<ViolationKey> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final Queue<Long> deletedTrackerIds = new ConcurrentLinkedQueue<>();
+
+    /** 임계치 방향 (UPPER: 값 ≥ 임계치면 위반, LOWER: 값 < 임계치면 위반) */
+    public enum Bound {
+        UPPER, LOWER
+    }
+
+    /** 평가 결과로 호출 측이 수행할 동작 */
+    public enum Action {
+        NONE,       // 알림 동작 없음
+        FIRE,       // PENDING → FIRING (알림 발생)
+        REMIND,     // FIRING 유지 중 쿨다운 경과 (알림 재전송)
+        RESOLVE     // FIRING → RESOLVED (알림 해결)
+    }
+
+    public record ViolationKey(TargetType targetType, Long targetId, String metricName, AlertLevel level) {
+
+        public ViolationKey withLevel(AlertLevel other) {
+            return new ViolationKey(targetType, targetId, metricName, other);
+        }
+    }
+
+    public record Transition(Action action, Long alertHistoryId) {
+    }
+
+    /** 평가가 끊겨 해제 처리된 발생 중 위반 (삭제된 장비 등, 평가 서비스가 RESOLVE와 같게 처리) */
+    public record StaleResolvedEvent(ViolationKey key, Long alertHistoryId) {
+    }
+
+    /** 체크포인트 시점의 상태 복사본 */
+    public record ViolationSnapshot(
+            ViolationKey key, MetricType metricType, Long trackerId,
+            AlertViolationState state, int consecutiveViolations,
+            LocalDateTime firstViolationTime, LocalDateTime lastViolationTime,
+            Double lastMeasuredValue, LocalDateTime lastAlertSentAt, Long alertHistoryId) {
+    }
+
+    private static final class ViolationState {
+        private final MetricType metricType;
+        private Long trackerId;
+        private AlertViolationState state = AlertViolationState.OK;
+        private int consecutiveViolations;
+        private LocalDateTime firstViolationTime;
+        private LocalDateTime lastViolationTime;
+        private LocalDateTime clearedSince;      // 해제 기준 충족 시작 (메모리 전용)
+        private Double lastMeasuredValue;
+        private LocalDateTime lastAlertSentAt;
+        private Long alertHistoryId;
+        private long lastEvaluatedAt = System.currentTimeMillis();
+
+        private ViolationState(MetricType metricType) {
+            this.metricType = metricType;
+        }
+
+        private ViolationSnapshot snapshot(ViolationKey key) {
+            return new ViolationSnapshot(key, metricType, trackerId, state, consecutiveViolations,
+                    firstViolationTime, lastViolationTime, lastMeasuredValue, lastAlertSentAt, alertHistoryId);
+        }
+    }
+
+    // 마지막 체크포인트에서 상태 복원
+    @PostConstruct
+    public void restore() {
+        for (AlertViolationTracker tracker : violationTrackerRepository.findByStateIsNotNull()) {
+            if (tracker.getLevel() == null) continue;
+
+            ViolationKey key = new ViolationKey(tracker.getTargetType(), targetIdOf(tracker),
+                    tracker.getMetricName(), tracker.getLevel());
+            ViolationState state = new ViolationState(tracker.getMetricType());
+            state.trackerId = tracker.getId();
+            state.state = tracker.getState();
+            state.consecutiveViolations = tracker.getConsecutiveViolations();
+            state.firstViolationTime = tracker.getFirstViolationTime();
+            state.lastViolationTime = tracker.getLastViolationTime();
+            state.lastMeasuredValue = tracker.getLastMeasuredValue();
+            state.lastAlertSentAt = tracker.getLastAlertSentAt();
+            state.alertHistoryId = tracker.getAlertHistoryId();
+            states.put(key, state);
+        }
+        log.info("알림 위반 상태 복원: {}건", states.size());
+    }
+
+    /**
+     * 측정값 하나로 상태 전이
+     * PENDING은 위반이 끊기면 바로 초기화하고, FIRING은 해제 기준(히스테리시스)을 최소 시간 이상 넘어야 해제한다.
+     */
+    public Transition evaluate(ViolationKey key, MetricType metricType, Bound bound,
+                               double measuredValue, double threshold,
+                               LocalDateTime time, AlertSettingsDto settings) {
+
+        boolean violated = bound == Bound.UPPER ? measuredValue >= threshold : measuredValue < threshold;
+        double margin = Math.abs(threshold) * properties.getHysteresisRatio();
+        boolean cleared = bound == Bound.UPPER ? measuredValue < threshold - margin : measuredValue > threshold + margin;
+
+        Transition[] result = {new Transition(Action.NONE, null)};
+
+        states.compute(key, (k, current) -> {
+            // 정상 상태는 보관하지 않음
+            if (current == null && !violated) return null;
+
+            ViolationState state = current != null ? current : new ViolationState(metricType);
+            state.lastEvaluatedAt = System.currentTimeMillis();
+            AlertViolationState before = state.state;
+
+            switch (state.state) {
+                case OK, RESOLVED -> {
+                    if (!violated) {
+                        return remove(k, state);
+                    }
+                    state.state = AlertViolationState.PENDING;
+                    state.consecutiveViolations = 1;
+                    state.firstViolationTime = time;
+                    state.lastViolationTime = time;
+                    state.lastMeasuredValue = measuredValue;
+                    state.alertHistoryId = null;
+                    fireIfReady(state, time, settings, result);
+                }
+                case PENDING -> {
+                    if (!violated) {
+                        return remove(k, state);
+                    }
+                    state.consecutiveViolations++;
+                    state.lastViolationTime = time;
+                    state.lastMeasuredValue = measuredValue;
+                    fireIfReady(state, time, settings, result);
+                }
+                case FIRING -> {
+                    state.lastMeasuredValue = measuredValue;
+                    if (violated) {
+                        state.consecutiveViolations++;
+                        state.lastViolationTime = time;
+                        state.clearedSince = null;
+                        if (cooldownElapsed(state, time, settings)) {
+                            state.lastAlertSentAt = time;
+                            result[0] = new Transition(Action.REMIND, null);
+                            dirtyKeys.add(k);
+                        }
+                    } else if (!cleared) {
+                        state.clearedSince = null;   // 히스테리시스 구간: 발생 상태 유지
+                    } else {
+                        if (state.clearedSince == null) state.clearedSince = time;
+                        if (elapsedMillis(state.clearedSince, time) >= properties.getMinResolveDuration()) {
+                            state.state = AlertViolationState.RESOLVED;
+                            state.consecutiveViolations = 0;
+                            state.clearedSince = null;
+                            result[0] = new Transition(Action.RESOLVE, state.alertHistoryId);
+                        }
+                    }
+                }
+            }
+
+            if (state.state != before) {
+                dirtyKeys.add(k);
+            }
+            return state;
+        });
+
+        return result[0];
+    }
+
+    /**
+     * 발생한 알림 이력 연결 (해제 시 같은 알림으로 해결 전송)
+     * 반환값: 이번 발생 구간의 첫 알림이면 true (재알림이면 false)
+     */
+    public boolean attachAlert(ViolationKey key, Long alertHistoryId) {
+        boolean[] first = {false};
+        states.computeIfPresent(key, (k, state) -> {
+            first[0] = state.alertHistoryId == null;
+            state.alertHistoryId = alertHistoryId;
+            dirtyKeys.add(k);
+            return state;
+        });
+        return first[0];
+    }
+
+    public boolean isFiring(ViolationKey key) {
+        ViolationState state = states.get(key);
+        return state != null && state.state == AlertViolationState.FIRING;
+    }
+
+    /** 발생 중인 항목과 연결된 알림 이력 ID (인시던트 상관 단계 복원용) */
+    public Map<ViolationKey, Long> firingAlerts() {
+        Map<ViolationKey, Long> firing = new HashMap<>();
+        states.forEach((key, state) -> {
+            if (state.state == AlertViolationState.FIRING && state.alertHistoryId != null) {
+                firing.put(key, state.alertHistoryId);
+            }
+        });
+        return firing;
+    }
+
+    /**
+     * 체크포인트: 평가가 끊긴 항목 정리 후 변경 항목만 한 트랜잭션으로 저장
+     * 실패하면 변경 표시를 되돌려 다음 주기에 다시 저장한다.
+     */
+    @Scheduled(fixedDelayString = "${alert.evaluation.checkpoint-interval:10000}")
+    public void checkpoint() {
+        expireStale(System.currentTimeMillis());
+
+        List<Long> deletions = new ArrayList<>();
+        Long deletedId;
+        while ((deletedId = deletedTrackerIds.poll()) != null) {
+            deletions.add(deletedId);
+        }
+
+        List<ViolationSnapshot> snapshots = new ArrayList<>();
+        for (ViolationKey key : List.copyOf(dirtyKeys)) {
+            dirtyKeys.remove(key);
+            states.computeIfPresent(key, (k, state) -> {
+                snapshots.add(state.snapshot(k));
+                return state;
+            });
+        }
+        if (snapshots.isEmpty() && deletions.isEmpty()) return;
+
+        List<Long> trackerIds;
+        try {
+            trackerIds = checkpointWriter.write(snapshots, deletions);
+        } catch (Exception e) {
+            log.error("알림 위반 상태 체크포인트 실패: 변경 {}건, 삭제 {}건 → 다음 주기 재시도",
+                    snapshots.size(), deletions.size(), e);
+            snapshots.forEach(snapshot -> dirtyKeys.add(snapshot.key()));
+            deletedTrackerIds.addAll(deletions);
+            return;
+        }
+
+        // 새로 저장된 행 ID 반영 (그 사이 상태가 정리됐으면 다음 주기에 행 삭제)
+        for (int i = 0; i < snapshots.size(); i++) {
+            ViolationSnapshot snapshot = snapshots.get(i);
+            if (snapshot.trackerId() != null) continue;
+
+            Long trackerId = trackerIds.get(i);
+            ViolationState updated = states.computeIfPresent(snapshot.key(), (k, state) -> {
+                if (state.trackerId == null) state.trackerId = trackerId;
+                return state;
+            });
+            if (updated == null || !trackerId.equals(updated.trackerId)) {
+                deletedTrackerIds.add(trackerId);
+            }
+        }
+
+        log.debug("알림 위반 상태 체크포인트: 변경 {}건, 삭제 {}건, 보관 {}건",
+                snapshots.size(), deletions.size(), states.size());
+    }
+
+    @PreDestroy
+    public void flush() {
+        checkpoint();
+    }
+
+    // PENDING → FIRING 조건: 연속 위반 횟수 + 최소 지속 시간
+    private void fireIfReady(ViolationState state, LocalDateTime time, AlertSettingsDto settings, Transition[] result) {
+        if (state.consecutiveViolations < settings.defaultConsecutiveCount()) return;
+        if (elapsedMillis(state.firstViolationTime, time) < properties.getMinPendingDuration()) return;
+
+        state.state = AlertViolationState.FIRING;
+        state.lastAlertSentAt = time;
+        state.clearedSince = null;
+        result[0] = new Transition(Action.FIRE, null);
+    }
+
+    private boolean cooldownElapsed(ViolationState state, LocalDateTime time, AlertSettingsDto settings) {
+        if (state.lastAlertSentAt == null) return true;
+        return time.isAfter(state.lastAlertSentAt.plusMinutes(settings.defaultCooldownMinutes()));
+    }
+
+    // 상태 제거 (저장된 행은 다음 체크포인트에서 삭제)
+    private ViolationState remove(ViolationKey key, ViolationState state) {
+        dirtyKeys.remove(key);
+        if (state.trackerId != null) {
+            deletedTrackerIds.add(state.trackerId);
+        }
+        return null;
+    }
+
+    /**
+     * 평가가 끊긴 항목 정리
+     * PENDING/OK/RESOLVED는 그대로 제거하고, FIRING은 RESOLVED로 전이한 뒤 제거하며 해제 이벤트를 발행한다.
+     * (발생 중 목록에서 빠지므로 인시던트도 다음 정리 주기에 해결됨)
+     */
+    private void expireStale(long now) {
+        List<StaleResolvedEvent> resolved = new ArrayList<>();
+        for (ViolationKey key : List.copyOf(states.keySet())) {
+            states.computeIfPresent(key, (k, state) -> {
+                if (now - state.lastEvaluatedAt <= properties.getStaleTimeout()) return state;
+                if (state.state == AlertViolationState.FIRING) {
+                    state.state = AlertViolationState.RESOLVED;
+                    resolved.add(new StaleResolvedEvent(k, state.alertHistoryId));
+                }
+                return remove(k, state);
+            });
+        }
+        resolved.forEach(eventPublisher::publishEvent);
+    }
+
+    private long elapsedMillis(LocalDateTime from, LocalDateTime to) {
+        return from == null ? 0 : Duration.between(from, to).toMillis();
+    }
+
+    private Long targetIdOf(AlertViolationTracker tracker) {
+        return switch (tracker.getTargetType()) {
+            case EQUIPMENT -> tracker.getEquipmentId();
+            case RACK -> tracker.getRackId();
+            case SERVER_ROOM -> tracker.getServerRoomId();
+            case DATA_CENTER -> tracker.getDataCenterId();
+        };
+    }
+}
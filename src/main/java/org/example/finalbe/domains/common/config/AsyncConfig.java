@@ -1,5 +1,6 @@
 package org.example.finalbe.domains.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -47,4 +48,38 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 작성자: 황요한
+     * 수집 틱 단위 알림 평가 전용 실행자 (단일 스레드)
+     * 평가 작업은 AlertTickEvaluator가 동시에 하나만 예약하므로 큐가 쌓이지 않는다.
+     */
+    @Bean(name = "alertEvaluationExecutor")
+    public Executor alertEvaluationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("Alert-Eval-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작성자: 황요한
+     * SSE 구독자 전송 큐 디스패처 전용 실행자
+     * 구독자당 동시에 하나의 작업만 예약되므로 큐 길이는 구독자 수를 넘지 않는다.
+     */
+    @Bean(name = "sseDispatchExecutor")
+    public Executor sseDispatchExecutor(@Value("${monitoring.sse.dispatcher.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("SSE-Dispatch-");
+        executor.initialize();
+        return executor;
+    }
 }
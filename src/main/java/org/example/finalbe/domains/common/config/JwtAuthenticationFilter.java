@@ -85,13 +85,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 요청 헤더에서 토큰 추출
+     * 요청 헤더에서 토큰 추출 (WebSocket 핸드셰이크는 access_token 쿼리 파라미터도 허용)
      */
     private String resolveToken(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
-        return (StringUtils.hasText(header) && header.startsWith("Bearer "))
-                ? header.substring(7)
-                : null;
+        if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        // 브라우저 WebSocket은 헤더를 설정할 수 없으므로 핸드셰이크에 한해 쿼리 파라미터 허용
+        if (request.getRequestURI().startsWith("/ws/")) {
+            String token = request.getParameter("access_token");
+            return StringUtils.hasText(token) ? token : null;
+        }
+        return null;
     }
 
     /**
@@ -90,6 +90,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/companies").permitAll()
 
                         .requestMatchers("/api/monitoring/subscribe/**").permitAll()
+                        .requestMatchers("/api/monitoring/stream/**").permitAll()
                         .requestMatchers("/api/prometheus/metrics/stream/**").permitAll()
                         .requestMatchers("/api/monitoring/server-room/stream/**").permitAll()
                         .requestMatchers("/api/alerts/subscribe").permitAll()
@@ -104,6 +105,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/device-types/**").authenticated()
                         .requestMatchers("/api/departments/**").authenticated()
                         .requestMatchers("/api/monitoring/**").authenticated()
+                        .requestMatchers("/ws/**").authenticated()
                         .requestMatchers("/api/members/**").authenticated()
                         .requestMatchers("/api/history/**").authenticated()
                         .requestMatchers("/api/prometheus/metrics/**").authenticated()
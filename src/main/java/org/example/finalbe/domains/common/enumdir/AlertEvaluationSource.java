@@ -0,0 +1,19 @@
+/**
+ * 작성자: 황요한
+ * 알림 평가 틱 발생원 Enum (발생원별로 최신 틱 1건만 대기)
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AlertEvaluationSource {
+
+    PROMETHEUS("Prometheus 메트릭 수집"),
+    SIMULATOR("시뮬레이터 메트릭 생성"),
+    STATISTICS("서버실 통계 에포크");
+
+    private final String description;
+}
@@ -0,0 +1,18 @@
+/**
+ * 작성자: 황요한
+ * 알림 인시던트 상태 Enum (진행 / 해결)
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AlertIncidentStatus {
+
+    OPEN("진행"),          // 발생 중인 구성 알림이 있거나 조용한 시간이 아직 지나지 않음
+    RESOLVED("해결");      // 구성 알림이 모두 해제되고 조용한 시간 경과
+
+    private final String description;
+}
@@ -0,0 +1,20 @@
+/**
+ * 작성자: 황요한
+ * 알림 위반 상태 Enum (정상 / 대기 / 발생 / 해제)
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AlertViolationState {
+
+    OK("정상"),
+    PENDING("대기"),       // 임계치 위반 중, 연속 횟수/최소 지속 시간 미충족
+    FIRING("발생"),        // 알림 발생 중
+    RESOLVED("해제");      // 해제 기준 충족 (다음 평가에서 정상 또는 재위반)
+
+    private final String description;
+}
@@ -0,0 +1,9 @@
+/**
+ * 작성자: 황요한
+ * 핫 장비 순위 기준 메트릭 열거형 (TEMPERATURE는 랙 단위)
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+public enum HotMetricType {
+    CPU, MEMORY, DISK, TEMPERATURE, RX, TX
+}
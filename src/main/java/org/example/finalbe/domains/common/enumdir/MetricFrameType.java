@@ -0,0 +1,21 @@
+/**
+ * 작성자: 황요한
+ * WebSocket 바이너리(CBOR) 모니터링 채널 프레임 종류 열거형
+ * 모든 프레임은 CBOR 배열이며 첫 번째 원소가 code
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MetricFrameType {
+    DATA(0),            // [0, topicId, eventId | eventName, payload]
+    SCHEMA(1),          // [1, version, schema] - 연결당 1회 (필드 사전)
+    TOPIC_ADDED(2),     // [2, topicId, topic]
+    TOPIC_REMOVED(3),   // [3, topicId, topic]
+    ERROR(4);           // [4, message]
+
+    private final int code;
+}
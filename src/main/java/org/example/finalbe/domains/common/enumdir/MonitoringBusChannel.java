@@ -0,0 +1,30 @@
+/**
+ * 작성자: 황요한
+ * 인스턴스 간 모니터링 이벤트 전파 채널 열거형
+ * channelName은 PostgreSQL LISTEN/NOTIFY 채널 이름
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MonitoringBusChannel {
+    SSE_TOPIC("monitoring_sse"),                   // 장비/랙/서버실/데이터센터 토픽 이벤트
+    PROMETHEUS_METRICS("monitoring_prometheus"),   // Prometheus 메트릭 스트림
+    ALERT("monitoring_alert"),                     // 알림 발생/확인/해결
+    ALERT_RULE("monitoring_alert_rule"),           // 알림 규칙(임계치/모니터링 여부/계층) 변경
+    INTEREST("monitoring_interest");               // 인스턴스별 로컬 구독 토픽 공지
+
+    private final String channelName;
+
+    public static MonitoringBusChannel fromChannelName(String channelName) {
+        for (MonitoringBusChannel channel : values()) {
+            if (channel.channelName.equals(channelName)) {
+                return channel;
+            }
+        }
+        return null;
+    }
+}
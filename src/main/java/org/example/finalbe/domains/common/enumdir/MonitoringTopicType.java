@@ -0,0 +1,20 @@
+/**
+ * 작성자: 황요한
+ * 실시간 모니터링 SSE 토픽 종류 열거형 (토픽 이름 접두사 포함)
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MonitoringTopicType {
+    EQUIPMENT_PER_TYPE("equipment-per-type-"),   // 장비 개별 이벤트 (system/disk/network)
+    EQUIPMENT("equipment-"),                     // 장비 틱 스냅샷
+    RACK("rack-"),
+    SERVER_ROOM("serverroom-"),
+    DATA_CENTER("datacenter-");
+
+    private final String prefix;
+}
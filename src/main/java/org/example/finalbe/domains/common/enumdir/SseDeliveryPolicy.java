@@ -0,0 +1,18 @@
+/**
+ * 작성자: 황요한
+ * SSE 구독자 전송 큐가 가득 찼을 때의 이벤트 처리 정책 열거형
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+public enum SseDeliveryPolicy {
+
+    /**
+     * 같은 이벤트 이름의 대기 중 프레임을 최신 값으로 교체 (메트릭/통계 스냅샷)
+     */
+    LATEST_VALUE,
+
+    /**
+     * 큐가 가득 차면 가장 오래된 프레임을 버리고 추가
+     */
+    DROP_OLDEST
+}
@@ -0,0 +1,18 @@
+/**
+ * 작성자: 황요한
+ * 전송 주기를 지정한 SSE 구독의 주기 내 이벤트 집계 방식 열거형
+ */
+package org.example.finalbe.domains.common.enumdir;
+
+public enum StreamAggregation {
+
+    /**
+     * 주기 동안 들어온 이벤트 중 최신 값만 전송
+     */
+    LATEST,
+
+    /**
+     * 최신 값과 함께 숫자 필드별 min/max/avg 요약 전송
+     */
+    SUMMARY
+}
@@ -158,6 +158,13 @@ public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
 
     List<Equipment> findByDelYn(DelYN delYN);
 
+    // 랙에 배치된 활성 장비 전체 + Rack Fetch Join (통계 에포크용)
+    @Query("SELECT e FROM Equipment e " +
+            "JOIN FETCH e.rack r " +
+            "WHERE e.delYn = 'N' " +
+            "AND r.delYn = 'N'")
+    List<Equipment> findAllActiveWithRack();
+
     // 여러 랙의 장비 목록 조회
     @Query("SELECT e FROM Equipment e WHERE e.rack.id IN :rackIds AND e.delYn = :delYn")
     List<Equipment> findByRackIdInAndDelYn(@Param("rackIds") List<Long> rackIds, @Param("delYn") DelYN delYn);
@@ -170,6 +177,14 @@ public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
             @Param("delYn") DelYN delYn
     );
 
+    // 활성 장비의 서버실 ID 조회 (SSE 범위 전달 폴백용)
+    @Query("SELECT r.serverRoom.id FROM Equipment e " +
+            "JOIN e.rack r " +
+            "WHERE e.id = :equipmentId " +
+            "AND e.delYn = 'N' " +
+            "AND r.delYn = 'N'")
+    Optional<Long> findActiveServerRoomIdById(@Param("equipmentId") Long equipmentId);
+
     // 장비 전체 구조 Fetch Join
     @Query("SELECT e FROM Equipment e " +
             "LEFT JOIN FETCH e.rack r " +
@@ -178,6 +193,14 @@ public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
             "WHERE e.id = :equipmentId")
     Optional<Equipment> findByIdWithFullHierarchy(@Param("equipmentId") Long equipmentId);
 
+    // 활성 장비 전체 + 전체 구조 Fetch Join (알림 규칙 테이블용)
+    @Query("SELECT e FROM Equipment e " +
+            "LEFT JOIN FETCH e.rack r " +
+            "LEFT JOIN FETCH r.serverRoom sr " +
+            "LEFT JOIN FETCH sr.dataCenter dc " +
+            "WHERE e.delYn = 'N'")
+    List<Equipment> findAllActiveWithFullHierarchy();
+
     // 특정 서버실에서 장비가 배치된 랙 ID 목록 조회
     @Query("SELECT DISTINCT e.rack.id FROM Equipment e " +
             "WHERE e.rack.serverRoom.id = :serverRoomId " +
@@ -6,6 +6,7 @@ package org.example.finalbe.domains.equipment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.dto.AlertRuleChangedEvent;
 import org.example.finalbe.domains.common.enumdir.*;
 import org.example.finalbe.domains.common.exception.AccessDeniedException;
 import org.example.finalbe.domains.common.exception.DuplicateException;
@@ -21,6 +22,7 @@ import org.example.finalbe.domains.monitoring.service.ServerRoomDataSimulator;
 import org.example.finalbe.domains.prometheus.service.EquipmentMappingService;
 import org.example.finalbe.domains.rack.domain.Rack;
 import org.example.finalbe.domains.rack.repository.RackRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -47,6 +49,7 @@ public class EquipmentService {
     private final EquipmentHistoryRecorder equipmentHistoryRecorder;
     private final ServerRoomDataSimulator serverRoomDataSimulator;
     private final EquipmentMappingService equipmentMappingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 장비 목록 조회 (페이지네이션 + 필터)
@@ -255,6 +258,7 @@ public class EquipmentService {
         }
 
         equipmentHistoryRecorder.recordCreate(savedEquipment, currentMember);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.EQUIPMENT, savedEquipment.getId()));
 
         log.info("Equipment created successfully with id: {} for company: {}",
                 savedEquipment.getId(), savedEquipment.getCompanyId());
@@ -367,6 +371,7 @@ public class EquipmentService {
         } else {
             equipmentHistoryRecorder.recordUpdate(oldEquipment, updatedEquipment, currentMember);
         }
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.EQUIPMENT, id));
 
         log.info("Equipment updated successfully with id: {}", id);
         return EquipmentDetailResponse.from(updatedEquipment);
@@ -409,6 +414,7 @@ public class EquipmentService {
         equipment.softDelete();
 
         equipmentHistoryRecorder.recordDelete(equipment, currentMember);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.EQUIPMENT, id));
 
         log.info("Equipment deleted successfully with id: {}", id);
     }
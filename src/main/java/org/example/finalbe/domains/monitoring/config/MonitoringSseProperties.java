@@ -0,0 +1,125 @@
+// 작성자: 황요한
+// 모니터링 SSE 전송 설정 정보를 로드하는 설정 클래스
+
+package org.example.finalbe.domains.monitoring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "monitoring.sse")
+@Getter
+@Setter
+public class MonitoringSseProperties {
+
+    private Deadband deadband = new Deadband();
+    private Dispatcher dispatcher = new Dispatcher();
+    private Stream stream = new Stream();
+    private Replay replay = new Replay();
+    private Multiplex multiplex = new Multiplex();
+    private WebSocket webSocket = new WebSocket();
+    private Delta delta = new Delta();
+    private Rate rate = new Rate();
+    private Bus bus = new Bus();
+    private int hotEquipmentLimit = 20;   // hot-equipment 이벤트의 메트릭별 Top-K
+
+    // 통계 변화 억제(데드밴드) 설정
+    @Getter
+    @Setter
+    public static class Deadband {
+        private boolean enabled = true;
+        private long forceRefreshInterval = 60000;   // 변화가 없어도 전체 통계를 다시 보내는 주기(ms)
+        private double usageEpsilon = 0.5;           // 사용률(%p)
+        private double loadEpsilon = 0.05;           // Load Average
+        private double temperatureEpsilon = 0.2;     // 온도(℃)
+        private double humidityEpsilon = 0.5;        // 습도(%p)
+        private double throughputRatio = 0.02;       // 처리량/용량 (이전 값 대비 비율)
+    }
+
+    // 구독자별 전송 큐/디스패처 설정
+    @Getter
+    @Setter
+    public static class Dispatcher {
+        private int threads = 4;                 // 전송 큐를 비우는 디스패처 스레드 수
+        private int queueCapacity = 64;          // 구독자별 대기 프레임 최대 개수
+        private long maxLag = 30000;             // 가장 오래된 대기 프레임이 이 시간(ms)을 넘으면 연결 종료
+        private int maxDroppedFrames = 256;      // 연속으로 버려진 프레임이 이 개수를 넘으면 연결 종료
+
+        // 최신 값만 의미 있는 이벤트 (나머지는 DROP_OLDEST)
+        // network는 장비당 NIC마다 한 건씩 오므로 이벤트 이름만으로 교체하면 다른 NIC 값이 사라져 제외
+        private Set<String> latestValueEvents = new HashSet<>(List.of(
+                "system", "disk", "environment",
+                "rack-statistics", "serverroom-statistics", "datacenter-statistics", "hot-equipment"));
+    }
+
+    // 리액티브 스트림 엔드포인트(/api/monitoring/stream) 설정
+    @Getter
+    @Setter
+    public static class Stream {
+        private int bufferCapacity = 256;        // 구독자별 버퍼 크기 (초과 시 가장 오래된 이벤트 제거)
+        private long heartbeatInterval = 30000;  // heartbeat comment 주기(ms)
+    }
+
+    // Last-Event-ID 재연결용 토픽별 재전송 버퍼 설정
+    @Getter
+    @Setter
+    public static class Replay {
+        private int capacity = 128;        // 토픽별 보관 이벤트 수
+        private long retention = 300000;   // 마지막 구독자 해제 후 버퍼를 유지(계속 적재)하는 시간(ms)
+    }
+
+    // 멀티플렉스 스트림(/api/monitoring/subscribe/stream) 설정
+    @Getter
+    @Setter
+    public static class Multiplex {
+        private int maxTopics = 50;   // 스트림당 구독 토픽 최대 개수
+    }
+
+    // WebSocket 바이너리(CBOR) 채널(/ws/monitoring) 설정
+    @Getter
+    @Setter
+    public static class WebSocket {
+        private boolean enabled = true;
+        private int sendTimeLimit = 10000;         // 프레임 1개 전송 제한 시간(ms), 초과 시 연결 종료
+        private int bufferSizeLimit = 512 * 1024;  // 연결별 전송 버퍼(byte), 초과 시 프레임 드롭
+    }
+
+    // 통계 delta 모드(?delta=true) 설정
+    @Getter
+    @Setter
+    public static class Delta {
+        private long keyframeInterval = 60000;   // 변경 여부와 무관하게 키프레임(전체 통계)을 보내는 주기(ms)
+        private long retention = 600000;         // 발행이 멈춘 토픽의 기준 상태를 유지하는 시간(ms)
+
+        // delta로 전송하는 이벤트 (나머지는 전체 데이터 그대로)
+        private Set<String> events = new HashSet<>(List.of(
+                "rack-statistics", "serverroom-statistics", "datacenter-statistics", "hot-equipment"));
+    }
+
+    // 클라이언트 희망 전송 주기(?interval=) 설정
+    @Getter
+    @Setter
+    public static class Rate {
+        private long minInterval = 1000;       // 허용 최소 주기(ms), 범위 밖 요청은 보정
+        private long maxInterval = 3600000;    // 허용 최대 주기(ms)
+    }
+
+    // 인스턴스 간 이벤트 전파(팬아웃 버스) 설정
+    @Getter
+    @Setter
+    public static class Bus {
+        private String type = "memory";          // memory: 단일 인스턴스 / postgres: LISTEN/NOTIFY로 전 인스턴스 전파
+        private boolean publisher = true;        // 이 인스턴스가 수집/통계 이벤트를 발행하는지 (수집 노드만 true)
+        private long interestInterval = 5000;    // 로컬 구독 토픽 공지 주기(ms)
+        private long interestTtl = 15000;        // 공지가 끊긴 원격 구독 토픽 유지 시간(ms)
+        private int chunkSize = 2000;            // NOTIFY 1건당 본문 최대 글자 수 (payload 8000byte 제한)
+        private int outboxCapacity = 10000;      // NOTIFY 대기 건수, 초과 시 드롭
+        private long reconnectDelay = 5000;      // LISTEN 연결 재시도 간격(ms)
+    }
+}
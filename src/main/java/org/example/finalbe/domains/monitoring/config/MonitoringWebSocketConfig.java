@@ -0,0 +1,27 @@
+// 작성자: 황요한
+// 모니터링 WebSocket 바이너리(CBOR) 채널 엔드포인트 등록 (/ws/monitoring)
+
+package org.example.finalbe.domains.monitoring.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.monitoring.controller.MonitoringBinaryWebSocketHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "monitoring.sse.web-socket", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MonitoringWebSocketConfig implements WebSocketConfigurer {
+
+    private final MonitoringBinaryWebSocketHandler monitoringBinaryWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(monitoringBinaryWebSocketHandler, "/ws/monitoring")
+                .setAllowedOriginPatterns("*");
+    }
+}
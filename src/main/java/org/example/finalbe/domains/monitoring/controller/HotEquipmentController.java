@@ -0,0 +1,67 @@
+// 작성자: 황요한
+// 서버실/데이터센터 핫 장비 Top-K 조회 API (메모리 인덱스 조회, SQL 없음)
+
+package org.example.finalbe.domains.monitoring.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.dto.CommonResDto;
+import org.example.finalbe.domains.common.enumdir.HotMetricType;
+import org.example.finalbe.domains.monitoring.service.HotEquipmentIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/monitoring/hot-equipment")
+@RequiredArgsConstructor
+@Validated
+public class HotEquipmentController {
+
+    private final HotEquipmentIndex hotEquipmentIndex;
+
+    /**
+     * 서버실 핫 장비 조회
+     * metric 미지정 시 전체 메트릭(CPU, MEMORY, DISK, TEMPERATURE, RX, TX) 순위 반환
+     */
+    @GetMapping("/serverroom/{serverRoomId}")
+    public ResponseEntity<CommonResDto> getServerRoomHotEquipment(
+            @PathVariable @Min(value = 1, message = "유효하지 않은 서버실 ID입니다.") Long serverRoomId,
+            @RequestParam(required = false) HotMetricType metric,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "limit은 1 이상이어야 합니다.")
+            @Max(value = HotEquipmentIndex.MAX_LIMIT, message = "limit은 100 이하여야 합니다.") int limit) {
+
+        Object result = metric != null
+                ? hotEquipmentIndex.getServerRoomTop(serverRoomId, metric, limit)
+                : hotEquipmentIndex.getServerRoomSnapshot(serverRoomId, limit);
+
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "서버실 핫 장비 조회 완료", result));
+    }
+
+    /**
+     * 데이터센터 핫 장비 조회
+     */
+    @GetMapping("/datacenter/{dataCenterId}")
+    public ResponseEntity<CommonResDto> getDataCenterHotEquipment(
+            @PathVariable @Min(value = 1, message = "유효하지 않은 데이터센터 ID입니다.") Long dataCenterId,
+            @RequestParam(required = false) HotMetricType metric,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "limit은 1 이상이어야 합니다.")
+            @Max(value = HotEquipmentIndex.MAX_LIMIT, message = "limit은 100 이하여야 합니다.") int limit) {
+
+        Object result = metric != null
+                ? hotEquipmentIndex.getDataCenterTop(dataCenterId, metric, limit)
+                : hotEquipmentIndex.getDataCenterSnapshot(dataCenterId, limit);
+
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "데이터센터 핫 장비 조회 완료", result));
+    }
+}
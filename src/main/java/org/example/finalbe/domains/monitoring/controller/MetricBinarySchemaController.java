@@ -0,0 +1,31 @@
+// 작성자: 황요한
+// WebSocket 바이너리(CBOR) 채널 필드 사전 조회 API (프론트엔드 프레임 디코딩용)
+
+package org.example.finalbe.domains.monitoring.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.common.dto.CommonResDto;
+import org.example.finalbe.domains.monitoring.service.MetricBinaryCodec;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/monitoring/binary")
+@RequiredArgsConstructor
+public class MetricBinarySchemaController {
+
+    private final MetricBinaryCodec metricBinaryCodec;
+
+    /**
+     * 필드 사전 조회
+     * 받은 version을 /ws/monitoring?schema={version}으로 전달하면 연결 시 사전 프레임 생략
+     */
+    @GetMapping("/schema")
+    public ResponseEntity<CommonResDto> getSchema() {
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "바이너리 채널 필드 사전 조회 완료",
+                metricBinaryCodec.getSchema()));
+    }
+}
@@ -0,0 +1,57 @@
+// 작성자: 황요한
+// WebSocket 바이너리(CBOR) 모니터링 채널 핸들러 (/ws/monitoring?schema={사전 버전})
+// 클라이언트 → 서버: 텍스트 JSON 제어 메시지 {"action":"subscribe","topics":["rack-1"]}
+// 서버 → 클라이언트: CBOR 바이너리 프레임 (필드 사전은 GET /api/monitoring/binary/schema)
+
+package org.example.finalbe.domains.monitoring.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.monitoring.dto.MetricChannelCommand;
+import org.example.finalbe.domains.monitoring.service.MonitoringBinaryChannel;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonitoringBinaryWebSocketHandler extends TextWebSocketHandler {
+
+    private final MonitoringBinaryChannel monitoringBinaryChannel;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String schemaVersion = session.getUri() != null
+                ? UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("schema")
+                : null;
+        monitoringBinaryChannel.open(session, schemaVersion);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        try {
+            MetricChannelCommand command = objectMapper.readValue(message.getPayload(), MetricChannelCommand.class);
+            monitoringBinaryChannel.handle(session.getId(), command);
+        } catch (JsonProcessingException e) {
+            monitoringBinaryChannel.sendError(session.getId(), "잘못된 요청 형식입니다.");
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("바이너리 채널 전송 오류: [{}] {}", session.getId(), exception.getMessage());
+        monitoringBinaryChannel.close(session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        monitoringBinaryChannel.close(session.getId());
+    }
+}
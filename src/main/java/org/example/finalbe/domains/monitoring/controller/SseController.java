@@ -1,18 +1,22 @@
 // 작성자: 최산하, 황요한
-// SSE 기반 실시간 메트릭 구독 API 제공 (장비/랙/서버실/데이터센터)
+// SSE 기반 실시간 메트릭 구독 API 제공 (장비/랙/서버실/데이터센터, Last-Event-ID 재연결, 통계 delta 모드, 희망 전송 주기 지원)
 
 package org.example.finalbe.domains.monitoring.controller;
 
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.StreamAggregation;
+import org.example.finalbe.domains.monitoring.dto.SseSubscribeOptions;
 import org.example.finalbe.domains.monitoring.service.SseService;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -26,54 +30,81 @@ public class SseController {
 
     /**
      * 장비 실시간 메트릭 구독
+     * perType=true: 기존 system/disk/network 개별 이벤트, 기본: 틱당 equipment-snapshot 1건
+     * interval(ms): 지정 시 해당 주기로 최신 값(LATEST) 또는 min/max/avg 요약(SUMMARY) 전송
      */
     @GetMapping(value = "/equipment/{equipmentId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeToEquipment(@PathVariable Long equipmentId, HttpServletResponse response) {
+    public SseEmitter subscribeToEquipment(@PathVariable Long equipmentId,
+                                           @RequestParam(defaultValue = "false") boolean perType,
+                                           @RequestParam(required = false) Long interval,
+                                           @RequestParam(defaultValue = "LATEST") StreamAggregation aggregation,
+                                           @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                           HttpServletResponse response) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         log.debug("🔐 SSE 구독 요청 - Equipment: {}, Auth: {}", equipmentId,
                 auth != null ? auth.getName() : "Anonymous");
 
         applySseHeaders(response);
-        return sseService.subscribeEquipment(equipmentId);
+        return sseService.subscribeEquipment(equipmentId, perType,
+                new SseSubscribeOptions(lastEventId, false, interval, aggregation));
     }
 
     /**
      * 랙 실시간 환경 메트릭 구독
+     * delta=true: 키프레임 후 변경 필드만 patch로 전송 (저대역폭 관제 화면용)
+     * interval(ms): 지정 시 해당 주기로 최신 값(LATEST) 또는 min/max/avg 요약(SUMMARY) 전송
      */
     @GetMapping(value = "/rack/{rackId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeToRack(@PathVariable Long rackId, HttpServletResponse response) {
+    public SseEmitter subscribeToRack(@PathVariable Long rackId,
+                                      @RequestParam(defaultValue = "false") boolean delta,
+                                      @RequestParam(required = false) Long interval,
+                                      @RequestParam(defaultValue = "LATEST") StreamAggregation aggregation,
+                                      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                      HttpServletResponse response) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         log.debug("🔐 SSE 구독 요청 - Rack: {}, Auth: {}", rackId,
                 auth != null ? auth.getName() : "Anonymous");
 
         applySseHeaders(response);
-        return sseService.subscribeRack(rackId);
+        return sseService.subscribeRack(rackId, new SseSubscribeOptions(lastEventId, delta, interval, aggregation));
     }
 
     /**
-     * 서버실 실시간 통계 구독
+     * 서버실 실시간 통계 구독 (delta=true: 키프레임 + patch, interval: 희망 전송 주기)
      */
     @GetMapping(value = "/serverroom/{serverRoomId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeToServerRoom(@PathVariable Long serverRoomId, HttpServletResponse response) {
+    public SseEmitter subscribeToServerRoom(@PathVariable Long serverRoomId,
+                                            @RequestParam(defaultValue = "false") boolean delta,
+                                            @RequestParam(required = false) Long interval,
+                                            @RequestParam(defaultValue = "LATEST") StreamAggregation aggregation,
+                                            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                            HttpServletResponse response) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         log.debug("🔐 SSE 구독 요청 - ServerRoom: {}, Auth: {}", serverRoomId,
                 auth != null ? auth.getName() : "Anonymous");
 
         applySseHeaders(response);
-        return sseService.subscribeServerRoom(serverRoomId);
+        return sseService.subscribeServerRoom(serverRoomId,
+                new SseSubscribeOptions(lastEventId, delta, interval, aggregation));
     }
 
     /**
-     * 데이터센터 실시간 통계 구독
+     * 데이터센터 실시간 통계 구독 (delta=true: 키프레임 + patch, interval: 희망 전송 주기)
      */
     @GetMapping(value = "/datacenter/{dataCenterId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeToDataCenter(@PathVariable Long dataCenterId, HttpServletResponse response) {
+    public SseEmitter subscribeToDataCenter(@PathVariable Long dataCenterId,
+                                            @RequestParam(defaultValue = "false") boolean delta,
+                                            @RequestParam(required = false) Long interval,
+                                            @RequestParam(defaultValue = "LATEST") StreamAggregation aggregation,
+                                            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                            HttpServletResponse response) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         log.debug("🔐 SSE 구독 요청 - DataCenter: {}, Auth: {}", dataCenterId,
                 auth != null ? auth.getName() : "Anonymous");
 
         applySseHeaders(response);
-        return sseService.subscribeDataCenter(dataCenterId);
+        return sseService.subscribeDataCenter(dataCenterId,
+                new SseSubscribeOptions(lastEventId, delta, interval, aggregation));
     }
 
     private void applySseHeaders(HttpServletResponse response) {
@@ -0,0 +1,63 @@
+// 작성자: 황요한
+// 멀티플렉스 모니터링 스트림 API (SSE 연결 하나로 여러 토픽 구독, 토픽 추가/제거 제어)
+
+package org.example.finalbe.domains.monitoring.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.dto.CommonResDto;
+import org.example.finalbe.domains.monitoring.dto.MultiplexStreamResponse;
+import org.example.finalbe.domains.monitoring.dto.MultiplexTopicRequest;
+import org.example.finalbe.domains.monitoring.service.SseMultiplexService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/monitoring")
+@RequiredArgsConstructor
+public class SseMultiplexController {
+
+    private final SseMultiplexService sseMultiplexService;
+
+    /**
+     * 멀티플렉스 스트림 열기
+     * 첫 이벤트(stream-opened)의 streamId로 토픽 변경 API 호출
+     */
+    @GetMapping(value = "/subscribe/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter openStream(HttpServletResponse response) {
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Connection", "keep-alive");
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        return sseMultiplexService.open();
+    }
+
+    /**
+     * 스트림 토픽 추가/제거 (변경 요청당 권한 검증 1회)
+     */
+    @PostMapping("/streams/{streamId}/topics")
+    public ResponseEntity<CommonResDto> updateTopics(@PathVariable String streamId,
+                                                     @RequestBody MultiplexTopicRequest request) {
+        MultiplexStreamResponse result = sseMultiplexService.updateTopics(streamId, request);
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "스트림 토픽 변경 완료", result));
+    }
+
+    /**
+     * 스트림 구독 토픽 조회
+     */
+    @GetMapping("/streams/{streamId}")
+    public ResponseEntity<CommonResDto> getStream(@PathVariable String streamId) {
+        MultiplexStreamResponse result = sseMultiplexService.getStream(streamId);
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "스트림 조회 완료", result));
+    }
+}
@@ -0,0 +1,62 @@
+// 작성자: 황요한
+// 리액티브(Flux) 기반 실시간 스트림 구독 API (대규모 대시보드용, 구독/해제 O(1))
+
+package org.example.finalbe.domains.monitoring.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.monitoring.service.SseStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/monitoring/stream")
+@RequiredArgsConstructor
+public class SseStreamController {
+
+    private final SseStreamService sseStreamService;
+
+    /**
+     * 장비 실시간 메트릭 스트림 (perType=true: 개별 이벤트)
+     */
+    @GetMapping(value = "/equipment/{equipmentId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamEquipment(@PathVariable Long equipmentId,
+                                                         @RequestParam(defaultValue = "false") boolean perType) {
+        log.debug("📡 스트림 구독 요청 - Equipment: {}", equipmentId);
+        return sseStreamService.streamEquipment(equipmentId, perType);
+    }
+
+    /**
+     * 랙 실시간 통계 스트림
+     */
+    @GetMapping(value = "/rack/{rackId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamRack(@PathVariable Long rackId) {
+        log.debug("📡 스트림 구독 요청 - Rack: {}", rackId);
+        return sseStreamService.streamRack(rackId);
+    }
+
+    /**
+     * 서버실 실시간 통계 스트림
+     */
+    @GetMapping(value = "/serverroom/{serverRoomId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamServerRoom(@PathVariable Long serverRoomId) {
+        log.debug("📡 스트림 구독 요청 - ServerRoom: {}", serverRoomId);
+        return sseStreamService.streamServerRoom(serverRoomId);
+    }
+
+    /**
+     * 데이터센터 실시간 통계 스트림
+     */
+    @GetMapping(value = "/datacenter/{dataCenterId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamDataCenter(@PathVariable Long dataCenterId) {
+        log.debug("📡 스트림 구독 요청 - DataCenter: {}", dataCenterId);
+        return sseStreamService.streamDataCenter(dataCenterId);
+    }
+}
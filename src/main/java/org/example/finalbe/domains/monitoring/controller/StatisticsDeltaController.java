@@ -0,0 +1,43 @@
+// 작성자: 황요한
+// 통계 delta 모드 키프레임 조회 API (patch 버전 누락 감지 시 클라이언트 재동기화용)
+
+package org.example.finalbe.domains.monitoring.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.common.dto.CommonResDto;
+import org.example.finalbe.domains.common.exception.EntityNotFoundException;
+import org.example.finalbe.domains.monitoring.dto.StatisticsKeyframeResponse;
+import org.example.finalbe.domains.monitoring.service.MonitoringTopic;
+import org.example.finalbe.domains.monitoring.service.MonitoringTopicAccessValidator;
+import org.example.finalbe.domains.monitoring.service.StatisticsDeltaEncoder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/monitoring/delta")
+@RequiredArgsConstructor
+public class StatisticsDeltaController {
+
+    private final StatisticsDeltaEncoder statisticsDeltaEncoder;
+    private final MonitoringTopicAccessValidator monitoringTopicAccessValidator;
+
+    /**
+     * 현재 키프레임 조회 (topic=rack-1, event=rack-statistics)
+     * 응답 version 이후의 patch(base == version)부터 이어서 적용
+     */
+    @GetMapping("/keyframe")
+    public ResponseEntity<CommonResDto> getKeyframe(@RequestParam String topic, @RequestParam String event) {
+        MonitoringTopic monitoringTopic = MonitoringTopic.parse(topic);
+        monitoringTopicAccessValidator.validate(monitoringTopicAccessValidator.currentMemberId(), List.of(monitoringTopic));
+
+        StatisticsKeyframeResponse result = statisticsDeltaEncoder.getKeyframe(monitoringTopic.name(), event)
+                .orElseThrow(() -> new EntityNotFoundException("키프레임", topic + ":" + event));
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "키프레임 조회 완료", result));
+    }
+}
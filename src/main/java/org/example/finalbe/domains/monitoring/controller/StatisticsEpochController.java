@@ -0,0 +1,90 @@
+// 작성자: 황요한
+// 최근 통계 에포크 스냅샷 조회 API (랙/서버실/데이터센터, 구독자가 없어 에포크에 없는 대상은 즉시 계산)
+
+package org.example.finalbe.domains.monitoring.controller;
+
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.dto.CommonResDto;
+import org.example.finalbe.domains.common.exception.EntityNotFoundException;
+import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.example.finalbe.domains.monitoring.service.DataCenterMonitoringService;
+import org.example.finalbe.domains.monitoring.service.RackMonitoringService;
+import org.example.finalbe.domains.monitoring.service.ServerRoomMonitoringService;
+import org.example.finalbe.domains.monitoring.service.StatisticsEpochHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.function.Supplier;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/monitoring/statistics")
+@RequiredArgsConstructor
+@Validated
+public class StatisticsEpochController {
+
+    private final StatisticsEpochHolder statisticsEpochHolder;
+    private final RackMonitoringService rackMonitoringService;
+    private final ServerRoomMonitoringService serverRoomMonitoringService;
+    private final DataCenterMonitoringService dataCenterMonitoringService;
+
+    /**
+     * 랙 통계 조회
+     */
+    @GetMapping("/rack/{rackId}")
+    public ResponseEntity<CommonResDto> getRackStatistics(
+            @PathVariable @Min(value = 1, message = "유효하지 않은 랙 ID입니다.") Long rackId) {
+
+        RackStatisticsDto statistics = statisticsEpochHolder.getRackStatistics(rackId)
+                .orElseGet(() -> computeOnDemand("랙", rackId,
+                        () -> rackMonitoringService.calculateRackStatistics(rackId)));
+
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "랙 통계 조회 완료", statistics));
+    }
+
+    /**
+     * 서버실 통계 조회
+     */
+    @GetMapping("/serverroom/{serverRoomId}")
+    public ResponseEntity<CommonResDto> getServerRoomStatistics(
+            @PathVariable @Min(value = 1, message = "유효하지 않은 서버실 ID입니다.") Long serverRoomId) {
+
+        ServerRoomStatisticsDto statistics = statisticsEpochHolder.getServerRoomStatistics(serverRoomId)
+                .orElseGet(() -> computeOnDemand("서버실", serverRoomId,
+                        () -> serverRoomMonitoringService.calculateServerRoomStatistics(serverRoomId)));
+
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "서버실 통계 조회 완료", statistics));
+    }
+
+    /**
+     * 데이터센터 통계 조회
+     */
+    @GetMapping("/datacenter/{dataCenterId}")
+    public ResponseEntity<CommonResDto> getDataCenterStatistics(
+            @PathVariable @Min(value = 1, message = "유효하지 않은 데이터센터 ID입니다.") Long dataCenterId) {
+
+        DataCenterStatisticsDto statistics = statisticsEpochHolder.getDataCenterStatistics(dataCenterId)
+                .orElseGet(() -> computeOnDemand("데이터센터", dataCenterId,
+                        () -> dataCenterMonitoringService.calculateDataCenterStatistics(dataCenterId)));
+
+        return ResponseEntity.ok(new CommonResDto(HttpStatus.OK, "데이터센터 통계 조회 완료", statistics));
+    }
+
+    // 에포크에 없는 대상 (구독자 없음) → 직접 계산, 대상이 없으면 404
+    private <T> T computeOnDemand(String entityName, Long id, Supplier<T> calculator) {
+        try {
+            return calculator.get();
+        } catch (IllegalArgumentException e) {
+            throw new EntityNotFoundException(entityName, id);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+// 작성자: 황요한
+// 한 틱 동안 장비에서 생성된 메트릭(system/disk/network/environment)을 하나로 묶은 SSE 스냅샷 DTO
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.EnvironmentMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class EquipmentSnapshotDto {
+    private Long equipmentId;
+    private LocalDateTime timestamp;
+    private SystemMetric system;
+    private DiskMetric disk;
+    private List<NetworkMetric> network;      // NIC별 메트릭
+    private EnvironmentMetric environment;    // 장비가 속한 랙의 환경 메트릭
+}
@@ -0,0 +1,17 @@
+// 작성자: 황요한
+// 핫 장비 순위 항목 DTO (TEMPERATURE 순위는 랙 단위이므로 장비 정보 없음)
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HotEquipmentDto {
+    private Long equipmentId;
+    private String equipmentName;
+    private Long rackId;
+    private String rackName;
+    private Double value;
+}
@@ -0,0 +1,22 @@
+// 작성자: 황요한
+// 서버실/데이터센터 단위 핫 장비 Top-K 스냅샷 DTO
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.finalbe.domains.common.enumdir.HotMetricType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class HotEquipmentSnapshotDto {
+    private Long serverRoomId;
+    private Long dataCenterId;
+    private LocalDateTime timestamp;
+    private Integer limit;
+    private Map<HotMetricType, List<HotEquipmentDto>> rankings;
+}
@@ -0,0 +1,25 @@
+// 작성자: 황요한
+// 클래스: WebSocket 바이너리(CBOR) 채널 필드 사전
+// version: 사전 버전 (연결 시 ?schema=version이 일치하면 사전 프레임 생략)
+// events: 이벤트 목록 (인덱스 = DATA 프레임 eventId)
+// types: 타입별 필드 목록 (객체는 이 순서의 CBOR 배열로 전송)
+// field.type: 사전 타입 이름 / "timestamp"(epoch millis) / null(스칼라)
+// field.container: "list" / "map" / 중첩 시 "map.list" 형태, 단일 값이면 null
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record MetricBinarySchema(
+        String version,
+        List<Field> events,
+        Map<String, List<Field>> types
+) {
+    public record Field(
+            String name,
+            String type,
+            String container
+    ) {
+    }
+}
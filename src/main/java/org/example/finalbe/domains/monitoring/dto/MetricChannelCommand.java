@@ -0,0 +1,17 @@
+// 작성자: 황요한
+// 클래스: WebSocket 바이너리 채널 제어 메시지 (텍스트 프레임 JSON)
+// action: subscribe / unsubscribe
+// topics: 대상 토픽 (예: equipment-1, rack-3, serverroom-2)
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import java.util.List;
+
+public record MetricChannelCommand(
+        String action,
+        List<String> topics
+) {
+    public List<String> topicList() {
+        return topics != null ? topics : List.of();
+    }
+}
@@ -0,0 +1,37 @@
+// 작성자: 황요한
+// 클래스: 인스턴스 간 전파 이벤트 DTO
+// topics: 전달 대상 토픽, event: SSE 이벤트 이름, data: 발행 노드에서 한 번 직렬화한 JSON 원문
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record MonitoringBusEvent(
+        List<String> topics,
+        String event,
+        @JsonRawValue String data
+) {
+    public static MonitoringBusEvent of(String topic, String event, String data) {
+        return new MonitoringBusEvent(List.of(topic), event, data);
+    }
+
+    // data는 원문 그대로 직렬화되므로 역직렬화는 트리로 읽어 JSON 문자열로 복원
+    public static MonitoringBusEvent read(ObjectMapper objectMapper, String payload) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(payload);
+
+        List<String> topics = new ArrayList<>();
+        root.path("topics").forEach(topic -> topics.add(topic.asText()));
+
+        JsonNode event = root.get("event");
+        JsonNode data = root.get("data");
+        return new MonitoringBusEvent(topics,
+                event == null || event.isNull() ? null : event.asText(),
+                data == null || data.isNull() ? null : data.toString());
+    }
+}
@@ -0,0 +1,13 @@
+// 작성자: 황요한
+// 클래스: 멀티플렉스 스트림 상태 응답 DTO
+// streamId: 스트림 ID, topics: 현재 구독 중인 토픽
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import java.util.List;
+
+public record MultiplexStreamResponse(
+        String streamId,
+        List<String> topics
+) {
+}
@@ -0,0 +1,24 @@
+// 작성자: 황요한
+// 클래스: 멀티플렉스 스트림 토픽 변경 요청 DTO
+// add: 추가할 토픽 (예: equipment-1, equipment-per-type-1, rack-3, serverroom-2, datacenter-1)
+// remove: 제거할 토픽
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import java.util.List;
+
+/**
+ * 멀티플렉스 스트림 토픽 변경 요청 DTO
+ */
+public record MultiplexTopicRequest(
+        List<String> add,
+        List<String> remove
+) {
+    public List<String> addTopics() {
+        return add != null ? add : List.of();
+    }
+
+    public List<String> removeTopics() {
+        return remove != null ? remove : List.of();
+    }
+}
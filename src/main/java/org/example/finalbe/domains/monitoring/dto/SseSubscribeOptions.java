@@ -0,0 +1,22 @@
+// 작성자: 황요한
+// 클래스: SSE 구독 옵션
+// lastEventId: 재연결 시 마지막으로 받은 이벤트 ID
+// delta: 통계 키프레임 + patch 모드
+// interval: 클라이언트 희망 전송 주기(ms), null이면 수집 주기마다 전송
+// aggregation: interval 지정 시 주기 내 집계 방식
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import org.example.finalbe.domains.common.enumdir.StreamAggregation;
+
+public record SseSubscribeOptions(
+        String lastEventId,
+        boolean delta,
+        Long interval,
+        StreamAggregation aggregation
+) {
+    /** 희망 주기로 묶어 전송하는 구독 여부 */
+    public boolean isRateLimited() {
+        return interval != null && interval > 0;
+    }
+}
@@ -0,0 +1,50 @@
+// 작성자: 황요한
+// 한 틱(에포크)에 계산된 랙/서버실/데이터센터 통계 스냅샷 (불변)
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+@Getter
+public class StatisticsEpochSnapshot {
+
+    // 에포크 번호 (틱마다 1씩 증가)
+    private final long epoch;
+
+    // 모든 레벨이 공유하는 계산 기준 시각
+    private final LocalDateTime timestamp;
+
+    private final Map<Long, RackStatisticsDto> rackStatistics;
+    private final Map<Long, ServerRoomStatisticsDto> serverRoomStatistics;
+    private final Map<Long, DataCenterStatisticsDto> dataCenterStatistics;
+
+    @Builder
+    private StatisticsEpochSnapshot(long epoch,
+                                    LocalDateTime timestamp,
+                                    Map<Long, RackStatisticsDto> rackStatistics,
+                                    Map<Long, ServerRoomStatisticsDto> serverRoomStatistics,
+                                    Map<Long, DataCenterStatisticsDto> dataCenterStatistics) {
+        this.epoch = epoch;
+        this.timestamp = timestamp;
+        this.rackStatistics = Map.copyOf(rackStatistics);
+        this.serverRoomStatistics = Map.copyOf(serverRoomStatistics);
+        this.dataCenterStatistics = Map.copyOf(dataCenterStatistics);
+    }
+
+    public Optional<RackStatisticsDto> getRack(Long rackId) {
+        return Optional.ofNullable(rackStatistics.get(rackId));
+    }
+
+    public Optional<ServerRoomStatisticsDto> getServerRoom(Long serverRoomId) {
+        return Optional.ofNullable(serverRoomStatistics.get(serverRoomId));
+    }
+
+    public Optional<DataCenterStatisticsDto> getDataCenter(Long dataCenterId) {
+        return Optional.ofNullable(dataCenterStatistics.get(dataCenterId));
+    }
+}
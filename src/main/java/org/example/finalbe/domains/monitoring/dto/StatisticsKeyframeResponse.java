@@ -0,0 +1,15 @@
+// 작성자: 황요한
+// 클래스: 통계 delta 모드 키프레임 응답 DTO
+// version: 현재 기준 버전 (이후 patch의 base와 비교), data: 전체 통계
+
+package org.example.finalbe.domains.monitoring.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record StatisticsKeyframeResponse(
+        String topic,
+        String event,
+        long version,
+        JsonNode data
+) {
+}
@@ -384,13 +384,13 @@ public interface SystemMetricRepository extends JpaRepository<SystemMetric, Long
     // 여러 장비의 평균 메모리 통계
     @Query(value = """
         SELECT 
-            AVG(used_memory_percentage),
-            MAX(used_memory_percentage),
-            MIN(used_memory_percentage),
-            SUM(total_memory),
-            SUM(used_memory),
-            AVG(used_swap_percentage),
-            COUNT(DISTINCT equipment_id)
+            AVG(used_memory_percentage) as avgMemoryUsage,
+            MAX(used_memory_percentage) as maxMemoryUsage,
+            MIN(used_memory_percentage) as minMemoryUsage,
+            SUM(total_memory) as totalMemory,
+            SUM(used_memory) as totalUsedMemory,
+            AVG(used_swap_percentage) as avgSwapUsage,
+            COUNT(DISTINCT equipment_id) as equipmentCount
         FROM system_metrics
         WHERE equipment_id IN :equipmentIds
         AND generate_time BETWEEN :startTime AND :endTime
@@ -1,26 +1,26 @@
 /**
  * 작성자: 황요한
- * 서버실·데이터센터·랙 통계 계산을 스케줄링하여 SSE로 전송하는 서비스
+ * 랙·서버실·데이터센터 통계를 하나의 에포크로 계산하여 SSE로 전송하는 서비스
+ * 구독자가 없는 랙/서버실/데이터센터는 계산하지 않는다. (신규 구독 초기 데이터는 스냅샷에 없으면 직접 계산)
  */
 package org.example.finalbe.domains.monitoring.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.finalbe.domains.alert.service.AlertEvaluationService;
+import org.example.finalbe.domains.alert.dto.AlertEvaluationBatch;
+import org.example.finalbe.domains.alert.service.AlertTickEvaluator;
+import org.example.finalbe.domains.common.enumdir.AlertEvaluationSource;
 import org.example.finalbe.domains.common.enumdir.DelYN;
 import org.example.finalbe.domains.datacenter.repository.DataCenterRepository;
-import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
-import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
-import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
-import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.HotEquipmentSnapshotDto;
+import org.example.finalbe.domains.monitoring.dto.StatisticsEpochSnapshot;
 import org.example.finalbe.domains.serverroom.repository.ServerRoomRepository;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -29,112 +29,112 @@ public class AggregatedMonitoringScheduler {
 
     private final ServerRoomRepository serverRoomRepository;
     private final DataCenterRepository dataCenterRepository;
-    private final ServerRoomMonitoringService serverRoomMonitoringService;
-    private final DataCenterMonitoringService dataCenterMonitoringService;
+    private final StatisticsEpochService statisticsEpochService;
+    private final StatisticsEpochHolder statisticsEpochHolder;
     private final SseService sseService;
-    private final AlertEvaluationService alertEvaluationService;
-    private final Executor taskExecutor;
-    private final EquipmentRepository equipmentRepository;
-    private final RackMonitoringService rackMonitoringService;
-    private final MonitoringMetricCache monitoringMetricCache;
-
-    // 서버실 통계를 계산하고 SSE로 전송
+    private final StatisticsDeadbandFilter statisticsDeadbandFilter;
+    private final AlertTickEvaluator alertTickEvaluator;
+    private final HotEquipmentIndex hotEquipmentIndex;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    private final AtomicLong epochSequence = new AtomicLong();
+
+    /**
+     * 통계 에포크 실행
+     * 랙 → 서버실(랙 결과 재사용) → 데이터센터(서버실 결과 재사용) 순으로 틱당 한 번만 계산하고,
+     * 스냅샷 발행 후 SSE/알림 평가에 같은 결과를 전달
+     */
     @Scheduled(fixedRateString = "${monitoring.scheduler.statistics-interval:5000}")
-    public void updateServerRoomStatistics() {
-        log.debug("=== ServerRoom 통합 모니터링 시작 ===");
-        long totalStartTime = System.currentTimeMillis();
-
-        List<Long> serverRoomIds = serverRoomRepository.findAllByDelYn(DelYN.N)
-                .stream()
-                .map(serverRoom -> serverRoom.getId())
-                .collect(Collectors.toList());
-
-        if (serverRoomIds.isEmpty()) {
-            log.debug("처리할 활성 서버실이 없습니다.");
-            return;
-        }
+    public void runStatisticsEpoch() {
+        long startTime = System.currentTimeMillis();
 
-        // 구독자가 있는 서버실만 처리
-        List<Long> subscribedServerRoomIds = serverRoomIds.stream()
-                .filter(id -> sseService.hasSubscribers("serverroom-" + id))
-                .collect(Collectors.toList());
-
-        if (subscribedServerRoomIds.isEmpty()) {
-            log.debug("구독자가 있는 서버실이 없습니다. 스킵합니다.");
+        // 발행 노드가 아니면 통계 전송이 버려지므로 계산하지 않고 토폴로지만 갱신
+        if (!monitoringSseProperties.getBus().isPublisher()) {
+            try {
+                statisticsEpochService.refreshTopology();
+            } catch (Exception e) {
+                log.error("❌ 토폴로지 갱신 실패: {}", e.getMessage(), e);
+            }
             return;
         }
 
-        // 병렬 처리
-        List<CompletableFuture<Void>> futures = subscribedServerRoomIds.stream()
-                .map(serverRoomId -> CompletableFuture.runAsync(() -> {
-                    long startTime = System.currentTimeMillis();
-                    try {
-                        ServerRoomStatisticsDto statistics =
-                                serverRoomMonitoringService.calculateServerRoomStatistics(serverRoomId);
-
-                        sseService.sendToServerRoom(serverRoomId, "serverroom-statistics", statistics);
-                        alertEvaluationService.evaluateServerRoomStatistics(statistics);
-
-                        long duration = System.currentTimeMillis() - startTime;
-                        if (duration > 3000) {
-                            log.warn("⚠️ ServerRoom {} 통계 계산 느림: {}ms", serverRoomId, duration);
-                        }
-                    } catch (Exception e) {
-                        log.error("❌ ServerRoom {} 통합 모니터링 실패: {}", serverRoomId, e.getMessage());
-                    }
-                }, taskExecutor))
-                .collect(Collectors.toList());
-
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-        long totalDuration = System.currentTimeMillis() - totalStartTime;
-        log.info("📊 ServerRoom 통합 모니터링 완료 - 총 소요시간: {}ms, 처리: {}개",
-                totalDuration, subscribedServerRoomIds.size());
-    }
-
-    // 데이터센터 통계를 계산하고 SSE로 전송
-    @Scheduled(fixedRateString = "${monitoring.scheduler.datacenter-interval:5000}")
-    public void updateDataCenterStatistics() {
-        log.debug("=== DataCenter 통합 모니터링 시작 ===");
-
-        List<Long> dataCenterIds = dataCenterRepository.findAllByDelYn(DelYN.N)
-                .stream()
-                .map(dc -> dc.getId())
-                .collect(Collectors.toList());
-
-        if (dataCenterIds.isEmpty()) {
-            log.debug("처리할 활성 데이터센터가 없습니다.");
+        StatisticsEpochSnapshot snapshot;
+        try {
+            snapshot = statisticsEpochService.computeEpoch(epochSequence.incrementAndGet(), sseService::hasSubscribers);
+        } catch (Exception e) {
+            log.error("❌ 통계 에포크 계산 실패: {}", e.getMessage(), e);
             return;
         }
 
-        // 구독자 있는 데이터센터만 처리
-        List<Long> subscribedDataCenterIds = dataCenterIds.stream()
-                .filter(id -> sseService.hasSubscribers("datacenter-" + id))
-                .collect(Collectors.toList());
+        statisticsEpochHolder.publish(snapshot);
+        // 이번 에포크에서 계산하지 않은(구독자 없는) 토픽의 데드밴드 기준값 정리
+        statisticsDeadbandFilter.forgetUnsubscribed(sseService::hasSubscribers);
 
-        if (subscribedDataCenterIds.isEmpty()) {
-            log.debug("구독자가 있는 데이터센터가 없습니다. 스킵합니다.");
-            return;
-        }
-
-        int successCount = 0;
-        int failCount = 0;
+        // 랙 통계 전송 (데드밴드 이내 변화는 생략)
+        snapshot.getRackStatistics().forEach((rackId, statistics) -> {
+            if (isChanged("rack-" + rackId, statistics)) {
+                sseService.sendToRack(rackId, "rack-statistics", statistics);
+            }
+        });
+
+        // 서버실 통계 전송 + 알림 평가 (알림 평가는 전송 생략과 무관하게 구독 중인 서버실 모두 수행)
+        AlertEvaluationBatch alertBatch = new AlertEvaluationBatch(AlertEvaluationSource.STATISTICS,
+                snapshot.getTimestamp() != null ? snapshot.getTimestamp() : LocalDateTime.now());
+        snapshot.getServerRoomStatistics().forEach((serverRoomId, statistics) -> {
+            if (!sseService.hasSubscribers("serverroom-" + serverRoomId)) {
+                statisticsDeadbandFilter.forget("serverroom-" + serverRoomId);
+                statisticsDeadbandFilter.forget("serverroom-" + serverRoomId + ":hot-equipment");
+                return;
+            }
+            if (statisticsDeadbandFilter.shouldPush("serverroom-" + serverRoomId, statistics)) {
+                sseService.sendToServerRoom(serverRoomId, "serverroom-statistics", statistics);
+            }
+            alertBatch.addServerRoomStatistics(statistics);
 
-        for (Long dataCenterId : subscribedDataCenterIds) {
-            try {
-                DataCenterStatisticsDto statistics =
-                        dataCenterMonitoringService.calculateDataCenterStatistics(dataCenterId);
+            HotEquipmentSnapshotDto hotEquipment = hotEquipmentIndex.getServerRoomSnapshot(
+                    serverRoomId, monitoringSseProperties.getHotEquipmentLimit());
+            if (statisticsDeadbandFilter.shouldPush("serverroom-" + serverRoomId + ":hot-equipment", hotEquipment)) {
+                sseService.sendToServerRoom(serverRoomId, "hot-equipment", hotEquipment);
+            }
+        });
+        alertTickEvaluator.submit(alertBatch);
 
+        // 데이터센터 통계 전송 (데드밴드 이내 변화는 생략)
+        snapshot.getDataCenterStatistics().forEach((dataCenterId, statistics) -> {
+            if (isChanged("datacenter-" + dataCenterId, statistics)) {
                 sseService.sendToDataCenter(dataCenterId, "datacenter-statistics", statistics);
+            }
 
-                successCount++;
-            } catch (Exception e) {
-                log.error("DataCenter {} 통합 모니터링 실패: {}", dataCenterId, e.getMessage());
-                failCount++;
+            String hotTopic = "datacenter-" + dataCenterId;
+            if (sseService.hasSubscribers(hotTopic)) {
+                HotEquipmentSnapshotDto hotEquipment = hotEquipmentIndex.getDataCenterSnapshot(
+                        dataCenterId, monitoringSseProperties.getHotEquipmentLimit());
+                if (statisticsDeadbandFilter.shouldPush(hotTopic + ":hot-equipment", hotEquipment)) {
+                    sseService.sendToDataCenter(dataCenterId, "hot-equipment", hotEquipment);
+                }
             }
+        });
+
+        long duration = System.currentTimeMillis() - startTime;
+        if (duration > 3000) {
+            log.warn("⚠️ 통계 에포크 {} 계산 느림: {}ms", snapshot.getEpoch(), duration);
         }
+        log.debug("📊 통계 에포크 {} 완료 - 랙: {}, 서버실: {}, 데이터센터: {}, 소요시간: {}ms",
+                snapshot.getEpoch(),
+                snapshot.getRackStatistics().size(),
+                snapshot.getServerRoomStatistics().size(),
+                snapshot.getDataCenterStatistics().size(),
+                duration);
+    }
 
-        log.debug("DataCenter 통합 모니터링 완료 - 성공: {}, 실패: {}", successCount, failCount);
+    // 구독자가 있고 데드밴드를 넘는 변화가 있을 때만 true
+    private boolean isChanged(String topic, Object statistics) {
+        if (!sseService.hasSubscribers(topic)) {
+            statisticsDeadbandFilter.forget(topic);
+            statisticsDeadbandFilter.forget(topic + ":hot-equipment");
+            return false;
+        }
+        return statisticsDeadbandFilter.shouldPush(topic, statistics);
     }
 
     // 활성 서버실/데이터센터 수를 로그로 출력
@@ -149,57 +149,4 @@ public class AggregatedMonitoringScheduler {
             log.error("통계 로깅 실패", e);
         }
     }
-
-    // 랙 통계를 계산하고 SSE로 전송
-    @Scheduled(fixedRateString = "${monitoring.scheduler.rack-interval:5000}")
-    public void updateRackStatistics() {
-        log.debug("=== Rack 통합 모니터링 시작 ===");
-        long totalStartTime = System.currentTimeMillis();
-
-        // 장비가 있는 랙만 조회
-        List<Long> rackIds = equipmentRepository.findAllDistinctRackIds();
-
-        if (rackIds.isEmpty()) {
-            log.debug("처리할 활성 랙이 없습니다 (장비가 배치된 랙 없음).");
-            return;
-        }
-
-        // 구독자가 있는 랙만 처리
-        List<Long> subscribedRackIds = rackIds.stream()
-                .filter(id -> sseService.hasSubscribers("rack-" + id))
-                .collect(Collectors.toList());
-
-        if (subscribedRackIds.isEmpty()) {
-            log.debug("구독자가 있는 랙이 없습니다. 스킵합니다.");
-            return;
-        }
-
-        log.debug("처리 대상 랙: {} (총 {}개, 장비 배치됨)", subscribedRackIds, subscribedRackIds.size());
-
-        List<CompletableFuture<Void>> futures = subscribedRackIds.stream()
-                .map(rackId -> CompletableFuture.runAsync(() -> {
-                    long startTime = System.currentTimeMillis();
-                    try {
-                        RackStatisticsDto statistics =
-                                rackMonitoringService.calculateRackStatistics(rackId);
-
-                        monitoringMetricCache.updateRackStatistics(statistics);
-                        sseService.sendToRack(rackId, "rack-statistics", statistics);
-
-                        long duration = System.currentTimeMillis() - startTime;
-                        if (duration > 3000) {
-                            log.warn("⚠️ Rack {} 통계 계산 느림: {}ms", rackId, duration);
-                        }
-                    } catch (Exception e) {
-                        log.error("❌ Rack {} 통합 모니터링 실패: {}", rackId, e.getMessage());
-                    }
-                }, taskExecutor))
-                .collect(Collectors.toList());
-
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-        long totalDuration = System.currentTimeMillis() - totalStartTime;
-        log.info("📊 Rack 통합 모니터링 완료 - 총 소요시간: {}ms, 처리 랙: {}개",
-                totalDuration, subscribedRackIds.size());
-    }
 }
@@ -58,12 +58,24 @@ public class DataCenterMonitoringService {
                 .filter(stats -> stats != null)
                 .collect(Collectors.toList());
 
+        return aggregateDataCenterStatistics(dataCenter, serverRooms.size(), serverRoomStats, now);
+    }
+
+    /**
+     * 이미 계산된 서버실 통계로 데이터센터 통계 집계 (서버실 재계산 없음)
+     * 통계 에포크에서 서버실 결과를 그대로 재사용할 때 사용
+     */
+    public DataCenterStatisticsDto aggregateDataCenterStatistics(DataCenter dataCenter,
+                                                                 int totalServerRooms,
+                                                                 List<ServerRoomStatisticsDto> serverRoomStats,
+                                                                 LocalDateTime now) {
+        Long dataCenterId = dataCenter.getId();
+
         if (serverRoomStats.isEmpty()) {
             return createEmptyStatistics(dataCenter, now);
         }
 
         // 서버실 및 랙/장비 통계
-        int totalServerRooms = serverRooms.size();
         int activeServerRooms = (int) serverRoomStats.stream()
                 .filter(s -> s.getActiveEquipments() > 0).count();
 
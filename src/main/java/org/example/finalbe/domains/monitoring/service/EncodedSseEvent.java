@@ -0,0 +1,66 @@
+/**
+ * 작성자: 황요한
+ * 한 번 직렬화된 SSE 이벤트 프레임 (불변)
+ * 같은 바이트 배열을 모든 구독자에게 그대로 기록하므로 구독자 수와 무관하게 직렬화는 1회만 발생한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+public final class EncodedSseEvent {
+
+    private final long id;
+    private final String eventName;
+    private final String coalesceKey;
+    private final byte[] frame;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> payload;
+
+    EncodedSseEvent(long id, String eventName, byte[] frame) {
+        this(id, eventName, eventName, frame);
+    }
+
+    EncodedSseEvent(long id, String eventName, String coalesceKey, byte[] frame) {
+        this.id = id;
+        this.eventName = eventName;
+        this.coalesceKey = coalesceKey;
+        this.frame = frame;
+        // byte[]는 ByteArrayHttpMessageConverter가 변환 없이 그대로 기록
+        this.payload = Set.of(new ResponseBodyEmitter.DataWithMediaType(frame, MediaType.TEXT_EVENT_STREAM));
+    }
+
+    /** 이벤트 ID (id 필드가 없으면 0) */
+    public long getId() {
+        return id;
+    }
+
+    /** 이벤트 이름 (comment 프레임이면 null) */
+    public String getEventName() {
+        return eventName;
+    }
+
+    /** LATEST_VALUE 교체 기준 키 (기본은 이벤트 이름, 멀티플렉스 프레임은 토픽:이벤트 이름, 교체 금지 프레임은 null) */
+    public String getCoalesceKey() {
+        return coalesceKey;
+    }
+
+    /** 프레임 크기(byte) */
+    public int size() {
+        return frame.length;
+    }
+
+    /** 미리 인코딩된 프레임을 Emitter에 기록 */
+    public void writeTo(SseEmitter emitter) throws IOException {
+        emitter.send(payload);
+    }
+
+    @Override
+    public String toString() {
+        return new String(frame, StandardCharsets.UTF_8);
+    }
+}
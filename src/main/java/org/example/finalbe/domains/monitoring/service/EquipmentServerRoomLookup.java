@@ -0,0 +1,56 @@
+/**
+ * 작성자: 황요한
+ * 장비 → 서버실 조회 (SSE 범위 전달용)
+ * 핫 장비 인덱스(통계 에포크 토폴로지)를 먼저 보고, 없으면 DB에서 조회해 짧게 캐시한다.
+ * 에포크가 돌기 전에 등록된 장비나 비발행 노드에서도 범위를 판단할 수 있게 하기 위함.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EquipmentServerRoomLookup {
+
+    // DB 조회 결과 유지 시간 (없는 장비도 캐시해 매 틱 조회 방지)
+    private static final long CACHE_TTL_MILLIS = 60000;
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    private final HotEquipmentIndex hotEquipmentIndex;
+    private final EquipmentRepository equipmentRepository;
+
+    private final Map<Long, CachedLocation> fallbackCache = new ConcurrentHashMap<>();
+
+    // serverRoomId == null: 배치되지 않았거나 삭제된 장비
+    private record CachedLocation(Long serverRoomId, long loadedAt) {
+    }
+
+    /** 장비가 속한 서버실 ID (랙에 배치되지 않았거나 없는 장비면 null) */
+    public Long findServerRoomId(Long equipmentId) {
+        Long serverRoomId = hotEquipmentIndex.findServerRoomId(equipmentId);
+        if (serverRoomId != null) {
+            return serverRoomId;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedLocation cached = fallbackCache.get(equipmentId);
+        if (cached != null && now - cached.loadedAt() < CACHE_TTL_MILLIS) {
+            return cached.serverRoomId();
+        }
+
+        Long loaded = equipmentRepository.findActiveServerRoomIdById(equipmentId).orElse(null);
+        if (fallbackCache.size() >= MAX_CACHE_SIZE) {
+            fallbackCache.clear();
+        }
+        fallbackCache.put(equipmentId, new CachedLocation(loaded, now));
+        log.debug("장비 서버실 DB 조회: equipmentId={}, serverRoomId={}", equipmentId, loaded);
+        return loaded;
+    }
+}
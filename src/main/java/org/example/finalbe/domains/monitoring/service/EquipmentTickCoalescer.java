@@ -0,0 +1,113 @@
+/**
+ * 작성자: 황요한
+ * 한 수집 틱 동안 장비별로 생성된 메트릭을 모아 equipment-snapshot 이벤트 1건으로 전송하는 컴포넌트
+ * (NIC 4개 서버 기준 구독자당 전송 7회 → 1회)
+ * 개별 이벤트(system/disk/network)는 perType 구독자에게만 기존 방식대로 전송한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.example.finalbe.domains.monitoring.dto.EquipmentSnapshotDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class EquipmentTickCoalescer {
+
+    public static final String SNAPSHOT_EVENT = "equipment-snapshot";
+
+    private final SseService sseService;
+    private final MonitoringMetricCache monitoringMetricCache;
+
+    /** 수집 틱 시작 */
+    public Tick openTick(LocalDateTime timestamp) {
+        return new Tick(timestamp);
+    }
+
+    /**
+     * 틱 종료 - 장비별로 스냅샷 1건 전송 (+ perType 구독자에게 개별 이벤트)
+     * 환경 메트릭은 같은 틱에서 갱신된 캐시 값을 사용하므로 환경 수집 이후에 호출한다.
+     */
+    public void flush(Tick tick) {
+        tick.pending.forEach((equipmentId, pending) -> {
+            if (sseService.hasSubscribers(SseService.equipmentTopic(equipmentId, false))) {
+                sseService.sendToEquipment(equipmentId, SNAPSHOT_EVENT, toSnapshot(tick.timestamp, equipmentId, pending));
+            }
+
+            if (sseService.hasSubscribers(SseService.equipmentTopic(equipmentId, true))) {
+                if (pending.system != null) {
+                    sseService.sendToEquipmentPerType(equipmentId, "system", pending.system);
+                }
+                if (pending.disk != null) {
+                    sseService.sendToEquipmentPerType(equipmentId, "disk", pending.disk);
+                }
+                for (NetworkMetric network : pending.networks) {
+                    sseService.sendToEquipmentPerType(equipmentId, "network", network);
+                }
+            }
+        });
+    }
+
+    private EquipmentSnapshotDto toSnapshot(LocalDateTime timestamp, Long equipmentId, Pending pending) {
+        return EquipmentSnapshotDto.builder()
+                .equipmentId(equipmentId)
+                .timestamp(timestamp)
+                .system(pending.system)
+                .disk(pending.disk)
+                .network(pending.networks.isEmpty() ? null : pending.networks)
+                .environment(pending.rackId != null
+                        ? monitoringMetricCache.getEnvironmentMetric(pending.rackId).orElse(null)
+                        : null)
+                .build();
+    }
+
+    /**
+     * 한 틱 동안의 장비별 메트릭 누적 (수집 스레드 1개에서만 사용)
+     */
+    public static final class Tick {
+
+        private final LocalDateTime timestamp;
+        private final Map<Long, Pending> pending = new LinkedHashMap<>();
+
+        private Tick(LocalDateTime timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public void addSystem(SystemMetric metric) {
+            pendingOf(metric.getEquipmentId()).system = metric;
+        }
+
+        public void addDisk(DiskMetric metric) {
+            pendingOf(metric.getEquipmentId()).disk = metric;
+        }
+
+        public void addNetwork(NetworkMetric metric) {
+            pendingOf(metric.getEquipmentId()).networks.add(metric);
+        }
+
+        /** 스냅샷에 포함할 환경 메트릭의 랙 지정 */
+        public void setRack(Long equipmentId, Long rackId) {
+            pendingOf(equipmentId).rackId = rackId;
+        }
+
+        private Pending pendingOf(Long equipmentId) {
+            return pending.computeIfAbsent(equipmentId, id -> new Pending());
+        }
+    }
+
+    private static final class Pending {
+        private SystemMetric system;
+        private DiskMetric disk;
+        private final List<NetworkMetric> networks = new ArrayList<>(4);
+        private Long rackId;
+    }
+}
@@ -0,0 +1,346 @@
+/**
+ * 작성자: 황요한
+ * 서버실/데이터센터별 핫 장비 Top-K 인덱스
+ * 메트릭 캐시 갱신 시마다 정렬 구조(TreeSet + HashMap)를 O(log n)으로 갱신하고, 상위 K개는 O(k)로 조회한다.
+ * TEMPERATURE는 랙 단위 환경 센서 값이므로 랙을 순위에 올린다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.HotMetricType;
+import org.example.finalbe.domains.monitoring.dto.HotEquipmentDto;
+import org.example.finalbe.domains.monitoring.dto.HotEquipmentSnapshotDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class HotEquipmentIndex {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final HotMetricType[] EQUIPMENT_METRICS = {
+            HotMetricType.CPU, HotMetricType.MEMORY, HotMetricType.DISK, HotMetricType.RX, HotMetricType.TX
+    };
+
+    // 메트릭 갱신은 read lock, 토폴로지 교체는 write lock (위치 변경 중 잘못된 순위에 들어가는 것 방지)
+    private final ReadWriteLock topologyLock = new ReentrantReadWriteLock();
+
+    private volatile Map<Long, EquipmentLocation> equipmentLocations = Map.of();
+    private volatile Map<Long, RackLocation> rackLocations = Map.of();
+
+    // 최신 값 (위치를 아직 모르는 장비도 보관했다가 토폴로지 갱신 시 순위에 반영)
+    private final Map<Long, double[]> equipmentValues = new ConcurrentHashMap<>();
+    private final Map<Long, Double> rackTemperatures = new ConcurrentHashMap<>();
+
+    private final Map<Long, Map<HotMetricType, Ranking>> serverRoomRankings = new ConcurrentHashMap<>();
+    private final Map<Long, Map<HotMetricType, Ranking>> dataCenterRankings = new ConcurrentHashMap<>();
+
+    /** 장비 위치 (서버실/데이터센터 순위 키) */
+    public record EquipmentLocation(Long equipmentId, String equipmentName, Long rackId, String rackName,
+                                    Long serverRoomId, Long dataCenterId) {
+    }
+
+    /** 랙 위치 (온도 순위 키) */
+    public record RackLocation(Long rackId, String rackName, Long serverRoomId, Long dataCenterId) {
+    }
+
+    /** 장비가 속한 서버실 ID (토폴로지에 아직 없으면 null) */
+    public Long findServerRoomId(Long equipmentId) {
+        EquipmentLocation location = equipmentLocations.get(equipmentId);
+        return location != null ? location.serverRoomId() : null;
+    }
+
+    // ===== 갱신 =====
+
+    /** 장비 메트릭 값 갱신 (CPU, MEMORY, DISK, RX, TX) */
+    public void updateEquipment(Long equipmentId, HotMetricType metric, Double value) {
+        if (equipmentId == null || value == null || Double.isNaN(value)) return;
+
+        topologyLock.readLock().lock();
+        try {
+            double[] values = equipmentValues.computeIfAbsent(equipmentId, id -> emptyValues());
+            values[metric.ordinal()] = value;
+
+            EquipmentLocation location = equipmentLocations.get(equipmentId);
+            if (location != null) {
+                rank(location.serverRoomId(), location.dataCenterId(), metric, equipmentId, value);
+            }
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    /** 랙 온도 갱신 */
+    public void updateRackTemperature(Long rackId, Double temperature) {
+        if (rackId == null || temperature == null || Double.isNaN(temperature)) return;
+
+        topologyLock.readLock().lock();
+        try {
+            rackTemperatures.put(rackId, temperature);
+
+            RackLocation location = rackLocations.get(rackId);
+            if (location != null) {
+                rank(location.serverRoomId(), location.dataCenterId(), HotMetricType.TEMPERATURE, rackId, temperature);
+            }
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토폴로지 갱신 (통계 에포크에서 호출)
+     * 위치가 바뀌었거나 사라진 장비/랙만 순위에서 옮기거나 제거한다.
+     */
+    public void refreshTopology(Collection<EquipmentLocation> equipments, Collection<RackLocation> racks) {
+        Map<Long, EquipmentLocation> newEquipments = new HashMap<>(equipments.size() * 2);
+        for (EquipmentLocation location : equipments) {
+            newEquipments.put(location.equipmentId(), location);
+        }
+        Map<Long, RackLocation> newRacks = new HashMap<>(racks.size() * 2);
+        for (RackLocation location : racks) {
+            newRacks.put(location.rackId(), location);
+        }
+
+        if (newEquipments.equals(equipmentLocations) && newRacks.equals(rackLocations)) {
+            return;
+        }
+
+        topologyLock.writeLock().lock();
+        try {
+            Map<Long, EquipmentLocation> oldEquipments = equipmentLocations;
+            Map<Long, RackLocation> oldRacks = rackLocations;
+
+            // 사라졌거나 이동한 장비 제거
+            for (EquipmentLocation old : oldEquipments.values()) {
+                EquipmentLocation current = newEquipments.get(old.equipmentId());
+                if (current == null || movedScope(old.serverRoomId(), old.dataCenterId(),
+                        current.serverRoomId(), current.dataCenterId())) {
+                    for (HotMetricType metric : EQUIPMENT_METRICS) {
+                        unrank(old.serverRoomId(), old.dataCenterId(), metric, old.equipmentId());
+                    }
+                }
+            }
+
+            // 새로 나타났거나 이동한 장비를 보관 값으로 순위에 추가
+            for (EquipmentLocation current : newEquipments.values()) {
+                EquipmentLocation old = oldEquipments.get(current.equipmentId());
+                if (old != null && !movedScope(old.serverRoomId(), old.dataCenterId(),
+                        current.serverRoomId(), current.dataCenterId())) {
+                    continue;
+                }
+                double[] values = equipmentValues.get(current.equipmentId());
+                if (values == null) continue;
+
+                for (HotMetricType metric : EQUIPMENT_METRICS) {
+                    double value = values[metric.ordinal()];
+                    if (!Double.isNaN(value)) {
+                        rank(current.serverRoomId(), current.dataCenterId(), metric, current.equipmentId(), value);
+                    }
+                }
+            }
+
+            // 랙 (온도)
+            for (RackLocation old : oldRacks.values()) {
+                RackLocation current = newRacks.get(old.rackId());
+                if (current == null || movedScope(old.serverRoomId(), old.dataCenterId(),
+                        current.serverRoomId(), current.dataCenterId())) {
+                    unrank(old.serverRoomId(), old.dataCenterId(), HotMetricType.TEMPERATURE, old.rackId());
+                }
+            }
+            for (RackLocation current : newRacks.values()) {
+                RackLocation old = oldRacks.get(current.rackId());
+                if (old != null && !movedScope(old.serverRoomId(), old.dataCenterId(),
+                        current.serverRoomId(), current.dataCenterId())) {
+                    continue;
+                }
+                Double temperature = rackTemperatures.get(current.rackId());
+                if (temperature != null) {
+                    rank(current.serverRoomId(), current.dataCenterId(), HotMetricType.TEMPERATURE,
+                            current.rackId(), temperature);
+                }
+            }
+
+            // 토폴로지에서 사라진 장비/랙의 보관 값 정리
+            equipmentValues.keySet().retainAll(newEquipments.keySet());
+            rackTemperatures.keySet().retainAll(newRacks.keySet());
+
+            equipmentLocations = newEquipments;
+            rackLocations = newRacks;
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+
+        log.debug("🔥 핫 장비 인덱스 토폴로지 갱신 - 장비: {}, 랙: {}", newEquipments.size(), newRacks.size());
+    }
+
+    // ===== 조회 =====
+
+    /** 서버실 핫 장비 Top-K (전체 메트릭) */
+    public HotEquipmentSnapshotDto getServerRoomSnapshot(Long serverRoomId, int limit) {
+        int k = clampLimit(limit);
+        return HotEquipmentSnapshotDto.builder()
+                .serverRoomId(serverRoomId)
+                .timestamp(LocalDateTime.now())
+                .limit(k)
+                .rankings(toRankings(serverRoomRankings.get(serverRoomId), k))
+                .build();
+    }
+
+    /** 데이터센터 핫 장비 Top-K (전체 메트릭) */
+    public HotEquipmentSnapshotDto getDataCenterSnapshot(Long dataCenterId, int limit) {
+        int k = clampLimit(limit);
+        return HotEquipmentSnapshotDto.builder()
+                .dataCenterId(dataCenterId)
+                .timestamp(LocalDateTime.now())
+                .limit(k)
+                .rankings(toRankings(dataCenterRankings.get(dataCenterId), k))
+                .build();
+    }
+
+    /** 서버실 핫 장비 Top-K (단일 메트릭) */
+    public List<HotEquipmentDto> getServerRoomTop(Long serverRoomId, HotMetricType metric, int limit) {
+        return toDtos(metric, top(serverRoomRankings.get(serverRoomId), metric, clampLimit(limit)));
+    }
+
+    /** 데이터센터 핫 장비 Top-K (단일 메트릭) */
+    public List<HotEquipmentDto> getDataCenterTop(Long dataCenterId, HotMetricType metric, int limit) {
+        return toDtos(metric, top(dataCenterRankings.get(dataCenterId), metric, clampLimit(limit)));
+    }
+
+    // ===== 내부 =====
+
+    private void rank(Long serverRoomId, Long dataCenterId, HotMetricType metric, long id, double value) {
+        if (serverRoomId != null) {
+            serverRoomRankings.computeIfAbsent(serverRoomId, key -> newRankings()).get(metric).put(id, value);
+        }
+        if (dataCenterId != null) {
+            dataCenterRankings.computeIfAbsent(dataCenterId, key -> newRankings()).get(metric).put(id, value);
+        }
+    }
+
+    private void unrank(Long serverRoomId, Long dataCenterId, HotMetricType metric, long id) {
+        if (serverRoomId != null) {
+            Map<HotMetricType, Ranking> rankings = serverRoomRankings.get(serverRoomId);
+            if (rankings != null) rankings.get(metric).remove(id);
+        }
+        if (dataCenterId != null) {
+            Map<HotMetricType, Ranking> rankings = dataCenterRankings.get(dataCenterId);
+            if (rankings != null) rankings.get(metric).remove(id);
+        }
+    }
+
+    private boolean movedScope(Long oldServerRoomId, Long oldDataCenterId, Long newServerRoomId, Long newDataCenterId) {
+        return !Objects.equals(oldServerRoomId, newServerRoomId) || !Objects.equals(oldDataCenterId, newDataCenterId);
+    }
+
+    private List<Ranking.Entry> top(Map<HotMetricType, Ranking> rankings, HotMetricType metric, int k) {
+        return rankings != null ? rankings.get(metric).top(k) : List.of();
+    }
+
+    private Map<HotMetricType, List<HotEquipmentDto>> toRankings(Map<HotMetricType, Ranking> rankings, int k) {
+        Map<HotMetricType, List<HotEquipmentDto>> result = new EnumMap<>(HotMetricType.class);
+        for (HotMetricType metric : HotMetricType.values()) {
+            result.put(metric, toDtos(metric, top(rankings, metric, k)));
+        }
+        return result;
+    }
+
+    private List<HotEquipmentDto> toDtos(HotMetricType metric, List<Ranking.Entry> entries) {
+        List<HotEquipmentDto> result = new ArrayList<>(entries.size());
+        for (Ranking.Entry entry : entries) {
+            if (metric == HotMetricType.TEMPERATURE) {
+                RackLocation rack = rackLocations.get(entry.id());
+                result.add(HotEquipmentDto.builder()
+                        .rackId(entry.id())
+                        .rackName(rack != null ? rack.rackName() : null)
+                        .value(entry.value())
+                        .build());
+            } else {
+                EquipmentLocation equipment = equipmentLocations.get(entry.id());
+                result.add(HotEquipmentDto.builder()
+                        .equipmentId(entry.id())
+                        .equipmentName(equipment != null ? equipment.equipmentName() : null)
+                        .rackId(equipment != null ? equipment.rackId() : null)
+                        .rackName(equipment != null ? equipment.rackName() : null)
+                        .value(entry.value())
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static double[] emptyValues() {
+        double[] values = new double[HotMetricType.values().length];
+        Arrays.fill(values, Double.NaN);
+        return values;
+    }
+
+    private static Map<HotMetricType, Ranking> newRankings() {
+        Map<HotMetricType, Ranking> rankings = new EnumMap<>(HotMetricType.class);
+        for (HotMetricType metric : HotMetricType.values()) {
+            rankings.put(metric, new Ranking());
+        }
+        return rankings;
+    }
+
+    /** 값 내림차순 정렬 집합 + ID 인덱스 (갱신 O(log n), 상위 K 조회 O(k)) */
+    private static final class Ranking {
+
+        private static final Comparator<Entry> ORDER = Comparator
+                .comparingDouble(Entry::value).reversed()
+                .thenComparingLong(Entry::id);
+
+        private final TreeSet<Entry> ordered = new TreeSet<>(ORDER);
+        private final Map<Long, Entry> byId = new HashMap<>();
+
+        record Entry(long id, double value) {
+        }
+
+        synchronized void put(long id, double value) {
+            Entry previous = byId.get(id);
+            if (previous != null) {
+                if (previous.value() == value) return;
+                ordered.remove(previous);
+            }
+            Entry entry = new Entry(id, value);
+            ordered.add(entry);
+            byId.put(id, entry);
+        }
+
+        synchronized void remove(long id) {
+            Entry previous = byId.remove(id);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+        }
+
+        synchronized List<Entry> top(int k) {
+            List<Entry> result = new ArrayList<>(Math.min(k, ordered.size()));
+            Iterator<Entry> it = ordered.iterator();
+            while (it.hasNext() && result.size() < k) {
+                result.add(it.next());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * 작성자: 황요한
+ * 프로세스 내 모니터링 이벤트 버스 (기본값, 단일 인스턴스 / 테스트용)
+ * 같은 JVM에 뜬 다른 애플리케이션 컨텍스트(인스턴스)에만 동기로 전달하므로,
+ * 단일 인스턴스 운영에서는 전파 대상이 없어 기존과 동일하게 동작한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "monitoring.sse.bus", name = "type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryMonitoringEventBus implements MonitoringEventBus {
+
+    // 같은 JVM의 버스 인스턴스 (인스턴스 = 애플리케이션 컨텍스트 1개)
+    private static final List<InMemoryMonitoringEventBus> NODES = new CopyOnWriteArrayList<>();
+
+    private final Map<MonitoringBusChannel, List<Consumer<MonitoringBusEvent>>> listeners = new ConcurrentHashMap<>();
+
+    public InMemoryMonitoringEventBus() {
+        NODES.add(this);
+    }
+
+    @Override
+    public void publish(MonitoringBusChannel channel, MonitoringBusEvent event) {
+        for (InMemoryMonitoringEventBus node : NODES) {
+            if (node != this) {
+                node.deliver(channel, event);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(MonitoringBusChannel channel, Consumer<MonitoringBusEvent> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        NODES.remove(this);
+    }
+
+    private void deliver(MonitoringBusChannel channel, MonitoringBusEvent event) {
+        for (Consumer<MonitoringBusEvent> listener : listeners.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("⚠️ 이벤트 버스 수신 처리 실패: channel={}, error={}", channel, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/**
+ * 작성자: 황요한
+ * WebSocket 바이너리 채널용 CBOR 인코더
+ * 메트릭/통계 객체를 필드 이름 없이 사전 순서의 CBOR 배열로 인코딩한다.
+ * 필드 사전은 Jackson 직렬화 속성(JSON과 같은 필드)에서 기동 시 한 번 만들고 연결당 한 번만 전송하며,
+ * LocalDateTime은 epoch millis, 실수는 손실이 없으면 float32로 줄여 기록한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.finalbe.domains.common.enumdir.MetricFrameType;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.EnvironmentMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.EquipmentSnapshotDto;
+import org.example.finalbe.domains.monitoring.dto.HotEquipmentSnapshotDto;
+import org.example.finalbe.domains.monitoring.dto.MetricBinarySchema;
+import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class MetricBinaryCodec {
+
+    private static final String PROJECT_PACKAGE = "org.example.finalbe.";
+
+    // CBOR 헤더 major type
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+
+    // 채널로 전송하는 이벤트와 루트 타입 (인덱스 = eventId)
+    private static final List<EventType> EVENTS = List.of(
+            new EventType("system", SystemMetric.class, null),
+            new EventType("disk", DiskMetric.class, null),
+            new EventType("network", NetworkMetric.class, "list"),
+            new EventType("environment", EnvironmentMetric.class, null),
+            new EventType(EquipmentTickCoalescer.SNAPSHOT_EVENT, EquipmentSnapshotDto.class, null),
+            new EventType("rack-statistics", RackStatisticsDto.class, null),
+            new EventType("serverroom-statistics", ServerRoomStatisticsDto.class, null),
+            new EventType("datacenter-statistics", DataCenterStatisticsDto.class, null),
+            new EventType("hot-equipment", HotEquipmentSnapshotDto.class, null));
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper;
+    private final Map<Class<?>, TypeLayout> layouts;
+    private final Map<String, Integer> eventIds = new HashMap<>();
+    private final Map<String, JavaType> eventJavaTypes = new HashMap<>();
+    private final MetricBinarySchema schema;
+    private final byte[] schemaFrame;
+
+    public MetricBinaryCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+
+        Map<Class<?>, TypeLayout> registered = new LinkedHashMap<>();
+        List<MetricBinarySchema.Field> events = new ArrayList<>();
+        for (EventType event : EVENTS) {
+            eventIds.put(event.name(), events.size());
+            eventJavaTypes.put(event.name(), "list".equals(event.container())
+                    ? objectMapper.getTypeFactory().constructCollectionType(List.class, event.type())
+                    : objectMapper.constructType(event.type()));
+            events.add(new MetricBinarySchema.Field(event.name(), register(event.type(), registered), event.container()));
+        }
+        this.layouts = Collections.unmodifiableMap(registered);
+
+        Map<String, List<MetricBinarySchema.Field>> types = new LinkedHashMap<>();
+        registered.values().forEach(layout -> types.put(layout.name(), layout.fields()));
+        String version = Integer.toHexString(Objects.hash(events, types));
+        this.schema = new MetricBinarySchema(version, List.copyOf(events), Collections.unmodifiableMap(types));
+        this.schemaFrame = controlFrame(MetricFrameType.SCHEMA, version, schema);
+    }
+
+    /** 필드 사전 (프론트엔드 디코딩용으로 공개) */
+    public MetricBinarySchema getSchema() {
+        return schema;
+    }
+
+    /** 필드 사전 프레임 (연결당 1회 전송) */
+    public byte[] getSchemaFrame() {
+        return schemaFrame;
+    }
+
+    /**
+     * 이벤트 데이터 인코딩 (토픽/구독자 수와 무관하게 이벤트당 1회)
+     */
+    public byte[] encodePayload(Object data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (CBORGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+            writeValue(generator, data);
+        } catch (IOException e) {
+            throw new IllegalStateException("CBOR 인코딩 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 다른 인스턴스에서 JSON으로 전파된 이벤트를 루트 타입 객체로 복원 (사전에 없는 이벤트는 Map/List)
+     * 복원할 수 없으면 null
+     */
+    public Object readEvent(String eventName, String json) {
+        JavaType type = eventJavaTypes.get(eventName);
+        try {
+            return type != null ? objectMapper.readValue(json, type) : objectMapper.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /** DATA 프레임의 이벤트 슬롯 (사전에 있으면 eventId, 없으면 이벤트 이름) */
+    public byte[] encodeEventSlot(String eventName) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        Integer eventId = eventIds.get(eventName);
+        if (eventId != null) {
+            writeHeader(out, MAJOR_UNSIGNED, eventId);
+        } else {
+            byte[] text = eventName.getBytes(StandardCharsets.UTF_8);
+            writeHeader(out, MAJOR_TEXT, text.length);
+            out.writeBytes(text);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * DATA 프레임 [0, topicId, eventSlot, payload]
+     * 구독자별로 다른 topicId만 헤더로 붙이고 이벤트 슬롯/본문 바이트는 그대로 재사용
+     */
+    public byte[] dataFrame(int topicId, byte[] eventSlot, byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + eventSlot.length + 8);
+        writeHeader(out, MAJOR_ARRAY, 4);
+        writeHeader(out, MAJOR_UNSIGNED, MetricFrameType.DATA.getCode());
+        writeHeader(out, MAJOR_UNSIGNED, topicId);
+        out.writeBytes(eventSlot);
+        out.writeBytes(payload);
+        return out.toByteArray();
+    }
+
+    /** 제어 프레임 [code, values...] */
+    public byte[] controlFrame(MetricFrameType type, Object... values) {
+        List<Object> frame = new ArrayList<>(values.length + 1);
+        frame.add(type.getCode());
+        Collections.addAll(frame, values);
+        try {
+            return cborMapper.writeValueAsBytes(frame);
+        } catch (IOException e) {
+            throw new IllegalStateException("CBOR 인코딩 실패: " + type, e);
+        }
+    }
+
+    // 타입 필드 사전 등록 (Jackson 직렬화 속성 기준, 중첩 타입은 재귀 등록), 등록된 타입 이름 반환
+    private String register(Class<?> type, Map<Class<?>, TypeLayout> registered) {
+        TypeLayout existing = registered.get(type);
+        if (existing != null) {
+            return existing.name();
+        }
+
+        List<AnnotatedMember> accessors = new ArrayList<>();
+        List<MetricBinarySchema.Field> fields = new ArrayList<>();
+        String name = type.getName().substring(type.getPackageName().length() + 1).replace('$', '.');
+        registered.put(type, new TypeLayout(name, accessors, fields));
+
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type));
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor == null || !property.couldSerialize()) {
+                continue;
+            }
+            accessor.fixAccess(true);
+
+            JavaType valueType = property.getPrimaryType();
+            String container = null;
+            while (valueType.isContainerType()) {
+                String kind = valueType.isMapLikeType() ? "map" : "list";
+                container = container == null ? kind : container + "." + kind;
+                valueType = valueType.getContentType();
+            }
+
+            String fieldType = null;
+            if (valueType.hasRawClass(LocalDateTime.class)) {
+                fieldType = "timestamp";
+            } else if (isDictionaryType(valueType.getRawClass())) {
+                fieldType = register(valueType.getRawClass(), registered);
+            }
+
+            accessors.add(accessor);
+            fields.add(new MetricBinarySchema.Field(property.getName(), fieldType, container));
+        }
+        return name;
+    }
+
+    private boolean isDictionaryType(Class<?> type) {
+        return type.getName().startsWith(PROJECT_PACKAGE) && !type.isEnum();
+    }
+
+    private void writeValue(CBORGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            float narrowed = (float) number;
+            if (narrowed == number || Double.isNaN(number)) {
+                generator.writeNumber(narrowed);
+            } else {
+                generator.writeNumber(number);
+            }
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            generator.writeNumber(((Number) value).intValue());
+        } else if (value instanceof BigDecimal number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Number number) {
+            generator.writeNumber(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else if (value instanceof LocalDateTime time) {
+            generator.writeNumber(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        } else if (value instanceof Enum<?> constant) {
+            generator.writeString(constant.name());
+        } else if (value instanceof Collection<?> values) {
+            generator.writeStartArray(values, values.size());
+            for (Object element : values) {
+                writeValue(generator, element);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Map<?, ?> entries) {
+            generator.writeStartObject(entries, entries.size());
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                Object key = entry.getKey();
+                generator.writeFieldName(key instanceof Enum<?> constant ? constant.name() : String.valueOf(key));
+                writeValue(generator, entry.getValue());
+            }
+            generator.writeEndObject();
+        } else {
+            TypeLayout layout = layouts.get(value.getClass());
+            if (layout == null) {
+                // 사전에 없는 타입은 필드 이름 포함 CBOR 맵으로 기록
+                generator.writeObject(value);
+                return;
+            }
+            generator.writeStartArray(value, layout.accessors().size());
+            for (AnnotatedMember accessor : layout.accessors()) {
+                writeValue(generator, accessor.getValue(value));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    // CBOR 헤더 (major type + 최소 길이 인수)
+    private static void writeHeader(ByteArrayOutputStream out, int majorType, long value) {
+        int major = majorType << 5;
+        if (value < 24) {
+            out.write(major | (int) value);
+        } else if (value < 0x100) {
+            out.write(major | 24);
+            out.write((int) value);
+        } else if (value < 0x10000) {
+            out.write(major | 25);
+            out.write((int) (value >> 8));
+            out.write((int) value);
+        } else {
+            out.write(major | 26);
+            out.write((int) (value >> 24));
+            out.write((int) (value >> 16));
+            out.write((int) (value >> 8));
+            out.write((int) value);
+        }
+    }
+
+    private record EventType(String name, Class<?> type, String container) {
+    }
+
+    private record TypeLayout(String name, List<AnnotatedMember> accessors, List<MetricBinarySchema.Field> fields) {
+    }
+}
@@ -0,0 +1,323 @@
+/**
+ * 작성자: 황요한
+ * 장비/랙별 최근 1분 메트릭을 메모리에 유지하는 슬라이딩 윈도우 저장소
+ * 서버실 통계를 SQL 집계 없이 계산하기 위해 사용
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.EnvironmentMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class MetricWindowStore {
+
+    private final long windowMillis;
+    private volatile long firstSampleAt = -1L;
+
+    private final Map<Long, MetricWindow<SystemMetric>> systemWindows = new ConcurrentHashMap<>();
+    private final Map<Long, MetricWindow<DiskMetric>> diskWindows = new ConcurrentHashMap<>();
+    private final Map<Long, MetricWindow<NetworkMetric>> networkWindows = new ConcurrentHashMap<>();
+    private final Map<Long, MetricWindow<EnvironmentMetric>> environmentWindows = new ConcurrentHashMap<>();
+
+    public MetricWindowStore(@Value("${monitoring.statistics.window-seconds:60}") long windowSeconds) {
+        this.windowMillis = windowSeconds * 1000L;
+    }
+
+    public void addSystemMetric(SystemMetric metric) {
+        add(systemWindows, metric.getEquipmentId(), metric);
+    }
+
+    public void addDiskMetric(DiskMetric metric) {
+        add(diskWindows, metric.getEquipmentId(), metric);
+    }
+
+    public void addNetworkMetric(NetworkMetric metric) {
+        add(networkWindows, metric.getEquipmentId(), metric);
+    }
+
+    public void addEnvironmentMetric(EnvironmentMetric metric) {
+        add(environmentWindows, metric.getRackId(), metric);
+    }
+
+    /** 윈도우 길이만큼 수집이 진행되어 SQL 집계를 대체할 수 있는 상태인지 */
+    public boolean isWarm() {
+        long first = firstSampleAt;
+        return first > 0 && System.currentTimeMillis() - first >= windowMillis;
+    }
+
+    /** 대상 장비 중 하나라도 윈도우에 샘플이 있는지 */
+    public boolean hasSamples(Collection<Long> equipmentIds) {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        for (Long equipmentId : equipmentIds) {
+            MetricWindow<SystemMetric> window = systemWindows.get(equipmentId);
+            if (window != null && !window.snapshot(cutoff).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 서버실 단위 윈도우 집계
+     * SQL 집계 쿼리와 동일한 키 이름으로 결과를 반환하여 DTO 조립 로직을 공유한다.
+     * 평균/최대/최소는 윈도우 내 모든 샘플 기준, 용량·처리량 합계는 장비(NIC)별 최신 샘플 기준.
+     */
+    public ServerRoomWindow aggregate(Collection<Long> equipmentIds, Collection<Long> rackIds) {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+
+        // CPU + 메모리
+        Stat cpu = new Stat();
+        Stat load1 = new Stat();
+        Stat load5 = new Stat();
+        Stat load15 = new Stat();
+        Stat memory = new Stat();
+        Stat swap = new Stat();
+        long totalMemory = 0L, usedMemory = 0L;
+        int systemEquipments = 0;
+
+        // 디스크
+        Stat disk = new Stat();
+        Stat diskIo = new Stat();
+        long totalDiskBytes = 0L, usedDiskBytes = 0L;
+        int diskEquipments = 0;
+
+        // 네트워크
+        Stat rxUsage = new Stat();
+        Stat txUsage = new Stat();
+        double totalInBps = 0.0, totalOutBps = 0.0;
+        long totalInErrors = 0L, totalOutErrors = 0L;
+        int networkEquipments = 0;
+
+        for (Long equipmentId : equipmentIds) {
+            List<SystemMetric> systems = snapshot(systemWindows, equipmentId, cutoff);
+            if (!systems.isEmpty()) {
+                systemEquipments++;
+                for (SystemMetric m : systems) {
+                    if (m.getCpuIdle() != null) cpu.add(100.0 - m.getCpuIdle());
+                    load1.add(m.getLoadAvg1());
+                    load5.add(m.getLoadAvg5());
+                    load15.add(m.getLoadAvg15());
+                    memory.add(m.getUsedMemoryPercentage());
+                    swap.add(m.getUsedSwapPercentage());
+                }
+                SystemMetric latest = systems.get(systems.size() - 1);
+                if (latest.getTotalMemory() != null) totalMemory += latest.getTotalMemory();
+                if (latest.getUsedMemory() != null) usedMemory += latest.getUsedMemory();
+            }
+
+            List<DiskMetric> disks = snapshot(diskWindows, equipmentId, cutoff);
+            if (!disks.isEmpty()) {
+                diskEquipments++;
+                for (DiskMetric m : disks) {
+                    disk.add(m.getUsedPercentage());
+                    diskIo.add(m.getIoTimePercentage());
+                }
+                DiskMetric latest = disks.get(disks.size() - 1);
+                if (latest.getTotalBytes() != null) totalDiskBytes += latest.getTotalBytes();
+                if (latest.getUsedBytes() != null) usedDiskBytes += latest.getUsedBytes();
+            }
+
+            List<NetworkMetric> nics = snapshot(networkWindows, equipmentId, cutoff);
+            if (!nics.isEmpty()) {
+                networkEquipments++;
+                Map<String, NetworkMetric> latestByNic = new HashMap<>();
+                for (NetworkMetric m : nics) {
+                    rxUsage.add(m.getRxUsage());
+                    txUsage.add(m.getTxUsage());
+                    latestByNic.put(m.getNicName(), m);
+                }
+                for (NetworkMetric m : latestByNic.values()) {
+                    if (m.getInBytesPerSec() != null) totalInBps += m.getInBytesPerSec();
+                    if (m.getOutBytesPerSec() != null) totalOutBps += m.getOutBytesPerSec();
+                    if (m.getInErrorPktsTot() != null) totalInErrors += m.getInErrorPktsTot();
+                    if (m.getOutErrorPktsTot() != null) totalOutErrors += m.getOutErrorPktsTot();
+                }
+            }
+        }
+
+        // 환경 (랙 기준)
+        Stat temperature = new Stat();
+        Stat humidity = new Stat();
+        int temperatureWarnings = 0, humidityWarnings = 0, envRacks = 0;
+
+        for (Long rackId : rackIds) {
+            List<EnvironmentMetric> envs = snapshot(environmentWindows, rackId, cutoff);
+            if (envs.isEmpty()) continue;
+
+            envRacks++;
+            for (EnvironmentMetric m : envs) {
+                temperature.add(m.getTemperature());
+                humidity.add(m.getHumidity());
+            }
+            EnvironmentMetric latest = envs.get(envs.size() - 1);
+            if (Boolean.TRUE.equals(latest.getTemperatureWarning())) temperatureWarnings++;
+            if (Boolean.TRUE.equals(latest.getHumidityWarning())) humidityWarnings++;
+        }
+
+        Map<String, Object> cpuStats = new HashMap<>();
+        cpuStats.put("avgCpuUsage", cpu.avg());
+        cpuStats.put("maxCpuUsage", cpu.max());
+        cpuStats.put("minCpuUsage", cpu.min());
+        cpuStats.put("avgLoadAvg1", load1.avg());
+        cpuStats.put("avgLoadAvg5", load5.avg());
+        cpuStats.put("avgLoadAvg15", load15.avg());
+        cpuStats.put("equipmentCount", systemEquipments);
+
+        Map<String, Object> memoryStats = new HashMap<>();
+        memoryStats.put("avgMemoryUsage", memory.avg());
+        memoryStats.put("maxMemoryUsage", memory.max());
+        memoryStats.put("minMemoryUsage", memory.min());
+        memoryStats.put("totalMemory", totalMemory);
+        memoryStats.put("totalUsedMemory", usedMemory);
+        memoryStats.put("avgSwapUsage", swap.avg());
+        memoryStats.put("equipmentCount", systemEquipments);
+
+        Map<String, Object> diskStats = new HashMap<>();
+        diskStats.put("avgDiskUsage", disk.avg());
+        diskStats.put("maxDiskUsage", disk.max());
+        diskStats.put("minDiskUsage", disk.min());
+        diskStats.put("totalDiskBytes", totalDiskBytes);
+        diskStats.put("totalUsedDiskBytes", usedDiskBytes);
+        diskStats.put("avgDiskIoUsage", diskIo.avg());
+        diskStats.put("equipmentCount", diskEquipments);
+
+        Map<String, Object> networkStats = new HashMap<>();
+        networkStats.put("totalInBps", totalInBps);
+        networkStats.put("totalOutBps", totalOutBps);
+        networkStats.put("avgRxUsage", rxUsage.avg());
+        networkStats.put("avgTxUsage", txUsage.avg());
+        networkStats.put("totalInErrors", totalInErrors);
+        networkStats.put("totalOutErrors", totalOutErrors);
+        networkStats.put("equipmentCount", networkEquipments);
+
+        Map<String, Object> envStats = new HashMap<>();
+        envStats.put("avgTemperature", temperature.avg());
+        envStats.put("maxTemperature", temperature.max());
+        envStats.put("minTemperature", temperature.min());
+        envStats.put("avgHumidity", humidity.avg());
+        envStats.put("maxHumidity", humidity.max());
+        envStats.put("minHumidity", humidity.min());
+        envStats.put("temperatureWarnings", temperatureWarnings);
+        envStats.put("humidityWarnings", humidityWarnings);
+        envStats.put("rackCount", envRacks);
+
+        return new ServerRoomWindow(cpuStats, memoryStats, diskStats, networkStats, envStats);
+    }
+
+    /** 서버실 윈도우 집계 결과 (SQL 집계 결과와 동일한 키 구조) */
+    public record ServerRoomWindow(
+            Map<String, Object> cpuStats,
+            Map<String, Object> memoryStats,
+            Map<String, Object> diskStats,
+            Map<String, Object> networkStats,
+            Map<String, Object> envStats
+    ) {
+    }
+
+    /** 만료된 윈도우 정리 (삭제된 장비/랙 메모리 회수) */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void evictExpiredWindows() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        int removed = evict(systemWindows, cutoff) + evict(diskWindows, cutoff)
+                + evict(networkWindows, cutoff) + evict(environmentWindows, cutoff);
+        if (removed > 0) {
+            log.debug("🗑️ 만료된 메트릭 윈도우 {}개 정리", removed);
+        }
+    }
+
+    private <T> void add(Map<Long, MetricWindow<T>> windows, Long key, T metric) {
+        if (key == null) return;
+
+        long now = System.currentTimeMillis();
+        if (firstSampleAt < 0) {
+            firstSampleAt = now;
+        }
+        windows.computeIfAbsent(key, k -> new MetricWindow<>()).add(now, metric, now - windowMillis);
+    }
+
+    private <T> List<T> snapshot(Map<Long, MetricWindow<T>> windows, Long key, long cutoff) {
+        MetricWindow<T> window = windows.get(key);
+        return window != null ? window.snapshot(cutoff) : List.of();
+    }
+
+    private <T> int evict(Map<Long, MetricWindow<T>> windows, long cutoff) {
+        int removed = 0;
+        Iterator<Map.Entry<Long, MetricWindow<T>>> it = windows.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue().snapshot(cutoff).isEmpty()) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /** 단일 키(장비/랙)의 시간순 샘플 큐 */
+    private static final class MetricWindow<T> {
+
+        private final ArrayDeque<Long> times = new ArrayDeque<>();
+        private final ArrayDeque<T> samples = new ArrayDeque<>();
+
+        synchronized void add(long at, T metric, long cutoff) {
+            times.addLast(at);
+            samples.addLast(metric);
+            prune(cutoff);
+        }
+
+        synchronized List<T> snapshot(long cutoff) {
+            prune(cutoff);
+            return samples.isEmpty() ? List.of() : new ArrayList<>(samples);
+        }
+
+        private void prune(long cutoff) {
+            while (!times.isEmpty() && times.peekFirst() < cutoff) {
+                times.pollFirst();
+                samples.pollFirst();
+            }
+        }
+    }
+
+    /** avg/max/min 누적기 (null 무시) */
+    private static final class Stat {
+        private double sum;
+        private double max = Double.NEGATIVE_INFINITY;
+        private double min = Double.POSITIVE_INFINITY;
+        private int count;
+
+        void add(Double value) {
+            if (value == null) return;
+            sum += value;
+            max = Math.max(max, value);
+            min = Math.min(min, value);
+            count++;
+        }
+
+        Double avg() {
+            return count > 0 ? sum / count : null;
+        }
+
+        Double max() {
+            return count > 0 ? max : null;
+        }
+
+        Double min() {
+            return count > 0 ? min : null;
+        }
+    }
+}
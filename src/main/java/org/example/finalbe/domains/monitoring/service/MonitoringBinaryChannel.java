@@ -0,0 +1,319 @@
+/**
+ * 작성자: 황요한
+ * WebSocket 바이너리(CBOR) 모니터링 채널 세션/토픽 관리
+ * SSE와 같은 토픽을 제공하며, 이벤트 본문은 토픽 이벤트당 한 번만 인코딩하고
+ * 연결별로는 topicId 헤더만 붙여 디스패처 스레드에서 전송한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.MetricFrameType;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.MetricChannelCommand;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class MonitoringBinaryChannel {
+
+    private final MetricBinaryCodec metricBinaryCodec;
+    private final MonitoringTopicAccessValidator monitoringTopicAccessValidator;
+    private final SseStreamService sseStreamService;
+    private final MonitoringSseProperties monitoringSseProperties;
+    private final Executor sseDispatchExecutor;
+
+    private final Map<String, BinarySession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<BinarySession>> topicSessions = new ConcurrentHashMap<>();
+
+    public MonitoringBinaryChannel(MetricBinaryCodec metricBinaryCodec,
+                                   MonitoringTopicAccessValidator monitoringTopicAccessValidator,
+                                   SseStreamService sseStreamService,
+                                   MonitoringSseProperties monitoringSseProperties,
+                                   @Qualifier("sseDispatchExecutor") Executor sseDispatchExecutor) {
+        this.metricBinaryCodec = metricBinaryCodec;
+        this.monitoringTopicAccessValidator = monitoringTopicAccessValidator;
+        this.sseStreamService = sseStreamService;
+        this.monitoringSseProperties = monitoringSseProperties;
+        this.sseDispatchExecutor = sseDispatchExecutor;
+    }
+
+    /**
+     * 연결 등록
+     * 클라이언트가 가진 사전 버전(schemaVersion)이 현재와 다르면 필드 사전 프레임 전송 (연결당 1회)
+     */
+    public void open(WebSocketSession session, String schemaVersion) throws IOException {
+        Long memberId = resolveMemberId(session.getPrincipal());
+        if (memberId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("인증이 필요합니다."));
+            return;
+        }
+
+        MonitoringSseProperties.WebSocket config = monitoringSseProperties.getWebSocket();
+        WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session,
+                config.getSendTimeLimit(), config.getBufferSizeLimit(),
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP);
+        BinarySession binarySession = new BinarySession(concurrentSession, memberId);
+        sessions.put(session.getId(), binarySession);
+
+        if (!metricBinaryCodec.getSchema().version().equals(schemaVersion)) {
+            send(binarySession, metricBinaryCodec.getSchemaFrame());
+        }
+        log.info("✅ 바이너리 채널 연결: [{}], 현재 연결 수: {}", session.getId(), sessions.size());
+    }
+
+    /** 연결 종료 시 모든 토픽 구독 해제 */
+    public void close(String sessionId) {
+        BinarySession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.topicIds.keySet().forEach(topic -> unregister(topic, session));
+        session.topicIds.clear();
+        log.info("🔌 바이너리 채널 종료: [{}]", sessionId);
+    }
+
+    /**
+     * 제어 메시지 처리 (subscribe / unsubscribe)
+     * 추가 토픽은 요청 단위로 한 번만 권한 검증하고, 실패 시 ERROR 프레임 전송
+     */
+    public void handle(String sessionId, MetricChannelCommand command) {
+        BinarySession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        try {
+            switch (String.valueOf(command.action())) {
+                case "subscribe" -> subscribe(session, command);
+                case "unsubscribe" -> unsubscribe(session, command);
+                default -> throw new IllegalArgumentException("지원하지 않는 action입니다: " + command.action());
+            }
+        } catch (RuntimeException e) {
+            log.debug("바이너리 채널 요청 실패: [{}] {}", sessionId, e.getMessage());
+            send(session, metricBinaryCodec.controlFrame(MetricFrameType.ERROR, e.getMessage()));
+        }
+    }
+
+    /** 잘못된 제어 메시지 등 오류 통보 */
+    public void sendError(String sessionId, String message) {
+        BinarySession session = sessions.get(sessionId);
+        if (session != null) {
+            send(session, metricBinaryCodec.controlFrame(MetricFrameType.ERROR, message));
+        }
+    }
+
+    public boolean hasSubscribers(String topic) {
+        Set<BinarySession> subscribers = topicSessions.get(topic);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    /**
+     * 토픽 이벤트 발행 (본문 인코딩 1회, 연결별로 topicId 헤더만 추가)
+     */
+    public void publish(String topic, String eventName, Object data) {
+        Set<BinarySession> subscribers = topicSessions.get(topic);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        byte[] payload = metricBinaryCodec.encodePayload(data);
+        byte[] eventSlot = metricBinaryCodec.encodeEventSlot(eventName);
+        for (BinarySession session : subscribers) {
+            Integer topicId = session.topicIds.get(topic);
+            if (topicId != null) {
+                sendData(session, metricBinaryCodec.dataFrame(topicId, eventSlot, payload));
+            }
+        }
+    }
+
+    /** 다른 인스턴스에서 전파된 이벤트 (구독자가 있을 때만 JSON을 객체로 복원) */
+    public void publishJson(String topic, String eventName, String json) {
+        if (!hasSubscribers(topic)) {
+            return;
+        }
+        Object data = metricBinaryCodec.readEvent(eventName, json);
+        if (data == null) {
+            log.warn("⚠️ 바이너리 채널 이벤트 복원 실패: [{}] {}", topic, eventName);
+            return;
+        }
+        publish(topic, eventName, data);
+    }
+
+    /** 구독 중인 토픽 (인스턴스 간 구독 공지용) */
+    public Set<String> getTopics() {
+        return topicSessions.keySet();
+    }
+
+    private void subscribe(BinarySession session, MetricChannelCommand command) {
+        Map<String, MonitoringTopic> toAdd = new LinkedHashMap<>();
+        for (String topic : command.topicList()) {
+            MonitoringTopic parsed = MonitoringTopic.parse(topic);
+            if (!session.topicIds.containsKey(parsed.name())) {
+                toAdd.put(parsed.name(), parsed);
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        int maxTopics = monitoringSseProperties.getMultiplex().getMaxTopics();
+        if (session.topicIds.size() + toAdd.size() > maxTopics) {
+            throw new IllegalArgumentException("연결당 구독 토픽은 최대 " + maxTopics + "개입니다.");
+        }
+        monitoringTopicAccessValidator.validate(session.memberId, toAdd.values());
+
+        for (MonitoringTopic topic : toAdd.values()) {
+            int topicId = session.nextTopicId.incrementAndGet();
+            if (session.topicIds.putIfAbsent(topic.name(), topicId) != null) {
+                continue;
+            }
+            topicSessions.computeIfAbsent(topic.name(), key -> ConcurrentHashMap.newKeySet()).add(session);
+            send(session, metricBinaryCodec.controlFrame(MetricFrameType.TOPIC_ADDED, topicId, topic.name()));
+
+            // 초기 데이터 (메모리 캐시/에포크 스냅샷)
+            sseStreamService.loadInitialData(topic).forEach((eventName, data) -> sendData(session,
+                    metricBinaryCodec.dataFrame(topicId, metricBinaryCodec.encodeEventSlot(eventName),
+                            metricBinaryCodec.encodePayload(data))));
+        }
+        log.info("🔀 바이너리 채널 [{}] 토픽 추가: {}, 현재: {}개",
+                session.socket.getId(), toAdd.keySet(), session.topicIds.size());
+    }
+
+    private void unsubscribe(BinarySession session, MetricChannelCommand command) {
+        for (String topic : command.topicList()) {
+            Integer topicId = session.topicIds.remove(topic);
+            if (topicId != null) {
+                unregister(topic, session);
+                send(session, metricBinaryCodec.controlFrame(MetricFrameType.TOPIC_REMOVED, topicId, topic));
+            }
+        }
+    }
+
+    private void unregister(String topic, BinarySession session) {
+        topicSessions.computeIfPresent(topic, (key, subscribers) -> {
+            subscribers.remove(session);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /** 제어 프레임 (SCHEMA/TOPIC_ADDED/TOPIC_REMOVED/ERROR, 큐가 가득 차도 제거되지 않음) */
+    private void send(BinarySession session, byte[] frame) {
+        enqueue(session, new QueuedFrame(frame, true));
+    }
+
+    /** 데이터 프레임 (큐가 가득 차면 가장 오래된 데이터 프레임부터 제거) */
+    private void sendData(BinarySession session, byte[] frame) {
+        enqueue(session, new QueuedFrame(frame, false));
+    }
+
+    /**
+     * 연결별 큐에 넣고 디스패처 스레드에서 순서대로 전송
+     * 발행 스레드는 네트워크 속도와 무관하게 진행
+     */
+    private void enqueue(BinarySession session, QueuedFrame frame) {
+        session.offer(frame, monitoringSseProperties.getDispatcher().getQueueCapacity());
+        if (session.draining.compareAndSet(false, true)) {
+            sseDispatchExecutor.execute(() -> drain(session));
+        }
+    }
+
+    private void drain(BinarySession session) {
+        try {
+            byte[] frame;
+            while ((frame = session.poll()) != null) {
+                if (!session.socket.isOpen()) {
+                    return;
+                }
+                session.socket.sendMessage(new BinaryMessage(frame));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("❌ 바이너리 채널 전송 실패, 연결 종료: [{}]", session.socket.getId());
+            close(session.socket.getId());
+            closeQuietly(session.socket);
+        } finally {
+            session.draining.set(false);
+        }
+        // 종료 직전에 들어온 프레임 재확인
+        if (session.hasPending() && session.socket.isOpen() && session.draining.compareAndSet(false, true)) {
+            sseDispatchExecutor.execute(() -> drain(session));
+        }
+    }
+
+    private void closeQuietly(WebSocketSession socket) {
+        try {
+            socket.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("바이너리 채널 종료 실패: [{}]", socket.getId());
+        }
+    }
+
+    private Long resolveMemberId(Principal principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 전송 대기 프레임 (control: 토픽 id 매핑/스키마처럼 유실되면 이후 프레임을 해석할 수 없는 프레임)
+    private record QueuedFrame(byte[] bytes, boolean control) {
+    }
+
+    // 연결 1개 (토픽 이름 → 연결 내 topicId)
+    private static final class BinarySession {
+        private final WebSocketSession socket;
+        private final Long memberId;
+        private final Map<String, Integer> topicIds = new ConcurrentHashMap<>();
+        private final AtomicInteger nextTopicId = new AtomicInteger();
+        private final Deque<QueuedFrame> queue = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private BinarySession(WebSocketSession socket, Long memberId) {
+            this.socket = socket;
+            this.memberId = memberId;
+        }
+
+        // 가득 차면 가장 오래된 데이터 프레임 제거 (제어 프레임만 남아 있으면 그대로 추가, 토픽 수로 상한이 있음)
+        private synchronized void offer(QueuedFrame frame, int capacity) {
+            if (queue.size() >= capacity) {
+                Iterator<QueuedFrame> it = queue.iterator();
+                while (it.hasNext()) {
+                    if (!it.next().control()) {
+                        it.remove();
+                        break;
+                    }
+                }
+            }
+            queue.addLast(frame);
+        }
+
+        private synchronized byte[] poll() {
+            QueuedFrame frame = queue.pollFirst();
+            return frame == null ? null : frame.bytes();
+        }
+
+        private synchronized boolean hasPending() {
+            return !queue.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * 작성자: 황요한
+ * 인스턴스 간 모니터링 이벤트 팬아웃 버스
+ * 발행 노드는 로컬 구독자에게 직접 전달하고, 버스는 다른 인스턴스에만 전파한다. (자기 메시지는 수신하지 않음)
+ * 각 인스턴스는 수신한 이벤트를 자기 로컬 구독자에게만 전달하므로 API 서버를 수평 확장할 수 있다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
+
+import java.util.function.Consumer;
+
+public interface MonitoringEventBus {
+
+    /** 다른 인스턴스로 이벤트 전파 (호출 스레드를 막지 않음) */
+    void publish(MonitoringBusChannel channel, MonitoringBusEvent event);
+
+    /** 다른 인스턴스가 발행한 이벤트 수신 등록 (채널별 수신 순서 유지) */
+    void subscribe(MonitoringBusChannel channel, Consumer<MonitoringBusEvent> listener);
+}
@@ -4,12 +4,13 @@
  */
 package org.example.finalbe.domains.monitoring.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.HotMetricType;
 import org.example.finalbe.domains.monitoring.domain.DiskMetric;
 import org.example.finalbe.domains.monitoring.domain.EnvironmentMetric;
 import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
 import org.example.finalbe.domains.monitoring.domain.SystemMetric;
-import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -17,17 +18,26 @@ import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class MonitoringMetricCache {
 
+    private final MetricWindowStore metricWindowStore;
+    private final HotEquipmentIndex hotEquipmentIndex;
+
     private final Map<Long, SystemMetric> latestSystemMetrics = new ConcurrentHashMap<>();
     private final Map<Long, DiskMetric> latestDiskMetrics = new ConcurrentHashMap<>();
     private final Map<Long, List<NetworkMetric>> latestNetworkMetrics = new ConcurrentHashMap<>();
     private final Map<Long, EnvironmentMetric> latestEnvironmentMetrics = new ConcurrentHashMap<>();
-    private final Map<Long, RackStatisticsDto> latestRackStatistics = new ConcurrentHashMap<>();
 
     /** 최신 SystemMetric 업데이트 */
     public void updateSystemMetric(SystemMetric metric) {
         latestSystemMetrics.put(metric.getEquipmentId(), metric);
+        metricWindowStore.addSystemMetric(metric);
+
+        if (metric.getCpuIdle() != null) {
+            hotEquipmentIndex.updateEquipment(metric.getEquipmentId(), HotMetricType.CPU, 100.0 - metric.getCpuIdle());
+        }
+        hotEquipmentIndex.updateEquipment(metric.getEquipmentId(), HotMetricType.MEMORY, metric.getUsedMemoryPercentage());
     }
 
     /** 최신 SystemMetric 조회 */
@@ -38,6 +48,8 @@ public class MonitoringMetricCache {
     /** 최신 DiskMetric 업데이트 */
     public void updateDiskMetric(DiskMetric metric) {
         latestDiskMetrics.put(metric.getEquipmentId(), metric);
+        metricWindowStore.addDiskMetric(metric);
+        hotEquipmentIndex.updateEquipment(metric.getEquipmentId(), HotMetricType.DISK, metric.getUsedPercentage());
     }
 
     /** 최신 DiskMetric 조회 */
@@ -47,12 +59,24 @@ public class MonitoringMetricCache {
 
     /** 최신 NetworkMetric 업데이트 (NIC 단위 중복 제거) */
     public void updateNetworkMetric(NetworkMetric metric) {
+        // 장비 단위 핫 순위용: NIC 중 최대 RX/TX 사용률
+        double[] maxUsage = {Double.NaN, Double.NaN};
+
         latestNetworkMetrics.compute(metric.getEquipmentId(), (id, current) -> {
             List<NetworkMetric> list = current != null ? current : new ArrayList<>();
             list.removeIf(existing -> existing.getNicName().equals(metric.getNicName()));
             list.add(metric);
+
+            for (NetworkMetric nic : list) {
+                if (nic.getRxUsage() != null && !(nic.getRxUsage() <= maxUsage[0])) maxUsage[0] = nic.getRxUsage();
+                if (nic.getTxUsage() != null && !(nic.getTxUsage() <= maxUsage[1])) maxUsage[1] = nic.getTxUsage();
+            }
             return list;
         });
+        metricWindowStore.addNetworkMetric(metric);
+
+        hotEquipmentIndex.updateEquipment(metric.getEquipmentId(), HotMetricType.RX, maxUsage[0]);
+        hotEquipmentIndex.updateEquipment(metric.getEquipmentId(), HotMetricType.TX, maxUsage[1]);
     }
 
     /** 최신 NetworkMetric 리스트 조회 */
@@ -63,20 +87,12 @@ public class MonitoringMetricCache {
     /** 최신 EnvironmentMetric 업데이트 */
     public void updateEnvironmentMetric(EnvironmentMetric metric) {
         latestEnvironmentMetrics.put(metric.getRackId(), metric);
+        metricWindowStore.addEnvironmentMetric(metric);
+        hotEquipmentIndex.updateRackTemperature(metric.getRackId(), metric.getTemperature());
     }
 
     /** 최신 EnvironmentMetric 조회 */
     public Optional<EnvironmentMetric> getEnvironmentMetric(Long rackId) {
         return Optional.ofNullable(latestEnvironmentMetrics.get(rackId));
     }
-
-    /** 최신 RackStatistics 업데이트 */
-    public void updateRackStatistics(RackStatisticsDto statistics) {
-        latestRackStatistics.put(statistics.getRackId(), statistics);
-    }
-
-    /** 최신 RackStatistics 조회 */
-    public Optional<RackStatisticsDto> getRackStatistics(Long rackId) {
-        return Optional.ofNullable(latestRackStatistics.get(rackId));
-    }
 }
@@ -0,0 +1,35 @@
+/**
+ * 작성자: 황요한
+ * 실시간 모니터링 토픽 이름("rack-12" 등)을 종류와 대상 ID로 해석한 값
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import org.example.finalbe.domains.common.enumdir.MonitoringTopicType;
+
+public record MonitoringTopic(MonitoringTopicType type, Long targetId) {
+
+    /**
+     * 토픽 이름 해석 (equipment-per-type-은 equipment-보다 먼저 검사)
+     */
+    public static MonitoringTopic parse(String topic) {
+        if (topic != null) {
+            for (MonitoringTopicType type : MonitoringTopicType.values()) {
+                if (topic.startsWith(type.getPrefix())) {
+                    try {
+                        long targetId = Long.parseLong(topic.substring(type.getPrefix().length()));
+                        if (targetId > 0) {
+                            return new MonitoringTopic(type, targetId);
+                        }
+                    } catch (NumberFormatException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 토픽입니다: " + topic);
+    }
+
+    public String name() {
+        return type.getPrefix() + targetId;
+    }
+}
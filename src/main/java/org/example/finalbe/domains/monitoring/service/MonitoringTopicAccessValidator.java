@@ -0,0 +1,96 @@
+/**
+ * 작성자: 황요한
+ * 멀티플렉스 스트림 토픽 구독 권한 검증 (회사에 매핑된 서버실 하위 대상만 허용)
+ * 토픽 추가 요청 시 한 번만 검증하고, 이벤트 전송 시에는 검증하지 않는다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.common.enumdir.DelYN;
+import org.example.finalbe.domains.common.exception.AccessDeniedException;
+import org.example.finalbe.domains.common.exception.EntityNotFoundException;
+import org.example.finalbe.domains.companyserverroom.repository.CompanyServerRoomRepository;
+import org.example.finalbe.domains.equipment.domain.Equipment;
+import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
+import org.example.finalbe.domains.member.domain.Member;
+import org.example.finalbe.domains.member.repository.MemberRepository;
+import org.example.finalbe.domains.rack.domain.Rack;
+import org.example.finalbe.domains.rack.repository.RackRepository;
+import org.example.finalbe.domains.serverroom.domain.ServerRoom;
+import org.example.finalbe.domains.serverroom.repository.ServerRoomRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MonitoringTopicAccessValidator {
+
+    private final MemberRepository memberRepository;
+    private final CompanyServerRoomRepository companyServerRoomRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final RackRepository rackRepository;
+    private final ServerRoomRepository serverRoomRepository;
+
+    /** 현재 로그인한 회원 ID */
+    public Long currentMemberId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getName())) {
+            throw new AccessDeniedException("인증이 필요합니다.");
+        }
+        try {
+            return Long.parseLong(auth.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다.");
+        }
+    }
+
+    /**
+     * 토픽 목록 권한 검증 (같은 서버실은 한 번만 조회)
+     */
+    public void validate(Long memberId, Collection<MonitoringTopic> topics) {
+        Member member = memberRepository.findByIdWithCompany(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자", memberId));
+        Long companyId = member.getCompany().getId();
+
+        Map<Long, Boolean> serverRoomAccess = new HashMap<>();
+        for (MonitoringTopic topic : topics) {
+            boolean allowed = resolveServerRoomIds(topic).stream()
+                    .anyMatch(serverRoomId -> serverRoomAccess.computeIfAbsent(serverRoomId,
+                            id -> companyServerRoomRepository.existsByCompanyIdAndServerRoomId(companyId, id)));
+            if (!allowed) {
+                throw new AccessDeniedException("구독 권한이 없는 토픽입니다: " + topic.name());
+            }
+        }
+    }
+
+    // 토픽 대상이 속한 서버실 ID (데이터센터는 하위 서버실 중 하나라도 매핑되어 있으면 허용)
+    private List<Long> resolveServerRoomIds(MonitoringTopic topic) {
+        Long targetId = topic.targetId();
+        return switch (topic.type()) {
+            case EQUIPMENT, EQUIPMENT_PER_TYPE -> {
+                Equipment equipment = equipmentRepository.findByIdWithRackAndServerRoom(targetId)
+                        .orElseThrow(() -> new EntityNotFoundException("장비", targetId));
+                yield equipment.getRack() != null
+                        ? List.of(equipment.getRack().getServerRoom().getId())
+                        : List.of();
+            }
+            case RACK -> {
+                Rack rack = rackRepository.findByIdWithServerRoomAndDataCenter(targetId)
+                        .orElseThrow(() -> new EntityNotFoundException("랙", targetId));
+                yield List.of(rack.getServerRoom().getId());
+            }
+            case SERVER_ROOM -> List.of(targetId);
+            case DATA_CENTER -> serverRoomRepository.findByDataCenterIdAndDelYn(targetId, DelYN.N).stream()
+                    .map(ServerRoom::getId)
+                    .toList();
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * 작성자: 황요한
+ * 인스턴스 간 구독 토픽 공유
+ * 각 인스턴스가 로컬 구독 토픽을 주기적으로 버스에 공지하고, 다른 인스턴스의 공지를 만료 시각과 함께 보관한다.
+ * 발행 노드는 로컬 구독자가 없어도 원격 구독이 있는 토픽은 계산/전파하고, 원격 구독이 없는 토픽은 버스에 싣지 않는다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonitoringTopicInterest {
+
+    private final MonitoringEventBus monitoringEventBus;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    private final List<Supplier<Collection<String>>> localSources = new CopyOnWriteArrayList<>();
+
+    // 원격 구독 토픽 → 만료 시각
+    private final Map<String, Long> remoteTopics = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        monitoringEventBus.subscribe(MonitoringBusChannel.INTEREST, this::onAnnouncement);
+    }
+
+    /** 로컬 구독 토픽 공급자 등록 (SSE/리액티브/WebSocket 등 전송 경로별) */
+    public void registerLocalTopics(Supplier<Collection<String>> source) {
+        localSources.add(source);
+    }
+
+    /** 다른 인스턴스에 구독자가 있는 토픽인지 */
+    public boolean isRemoteInterested(String topic) {
+        Long expiresAt = remoteTopics.get(topic);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 로컬 구독 토픽 공지 + 만료된 원격 토픽 정리
+    @Scheduled(fixedRateString = "${monitoring.sse.bus.interest-interval:5000}")
+    public void announce() {
+        long now = System.currentTimeMillis();
+        remoteTopics.values().removeIf(expiresAt -> expiresAt <= now);
+
+        Set<String> topics = new HashSet<>();
+        for (Supplier<Collection<String>> source : localSources) {
+            topics.addAll(source.get());
+        }
+        if (!topics.isEmpty()) {
+            monitoringEventBus.publish(MonitoringBusChannel.INTEREST,
+                    new MonitoringBusEvent(new ArrayList<>(topics), null, null));
+        }
+    }
+
+    private void onAnnouncement(MonitoringBusEvent event) {
+        long expiresAt = System.currentTimeMillis() + monitoringSseProperties.getBus().getInterestTtl();
+        for (String topic : event.topics()) {
+            remoteTopics.put(topic, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/**
+ * 작성자: 황요한
+ * PostgreSQL LISTEN/NOTIFY 기반 모니터링 이벤트 버스 (추가 인프라 없이 다중 인스턴스 팬아웃)
+ * 발행: 호출 스레드는 outbox에 넣고 반환, 전용 스레드가 모인 NOTIFY를 한 문장(unnest)으로 묶어 전송
+ * 수신: 풀과 별도인 전용 커넥션으로 LISTEN, 자기 노드가 보낸 메시지는 무시
+ * NOTIFY payload는 8000byte 제한이 있어 큰 이벤트는 조각으로 나눠 보내고 수신 측에서 다시 합친다.
+ * 메시지 형식: {노드ID}:{메시지 번호}:{조각 번호}:{조각 수}:{본문 조각}
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "monitoring.sse.bus", name = "type", havingValue = "postgres")
+public class PostgresMonitoringEventBus implements MonitoringEventBus {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(c, p) FROM unnest(?::text[], ?::text[]) AS t(c, p)";
+    private static final int NOTIFY_BATCH_SIZE = 100;
+    private static final int LISTEN_POLL_MILLIS = 1000;
+    private static final long CHUNK_EXPIRE_MILLIS = 10_000;
+    private static final int MAX_CHUNKS = 1024;   // 조각 수 상한 (잘못된 메시지로 큰 배열을 만들지 않도록)
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong messageSequence = new AtomicLong();
+    private final Map<MonitoringBusChannel, List<Consumer<MonitoringBusEvent>>> listeners = new ConcurrentHashMap<>();
+    private final BlockingQueue<Notification> outbox;
+
+    // 조각 재조립 버퍼 (수신 스레드 전용)
+    private final Map<String, PartialMessage> partials = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread publisherThread;
+    private Thread listenerThread;
+
+    private record Notification(String channel, String payload) {
+    }
+
+    private static final class PartialMessage {
+        private final String[] chunks;
+        private final long createdAt;
+        private int received;
+
+        private PartialMessage(int count, long createdAt) {
+            this.chunks = new String[count];
+            this.createdAt = createdAt;
+        }
+    }
+
+    public PostgresMonitoringEventBus(DataSourceProperties dataSourceProperties,
+                                      JdbcTemplate jdbcTemplate,
+                                      ObjectMapper objectMapper,
+                                      MonitoringSseProperties monitoringSseProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.monitoringSseProperties = monitoringSseProperties;
+        this.outbox = new LinkedBlockingQueue<>(monitoringSseProperties.getBus().getOutboxCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+
+        publisherThread = new Thread(this::runPublisher, "event-bus-notify");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+
+        listenerThread = new Thread(this::runListener, "event-bus-listen");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+
+        log.info("🚌 PostgreSQL 이벤트 버스 시작: nodeId={}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        publisherThread.interrupt();
+        listenerThread.interrupt();
+    }
+
+    @Override
+    public void publish(MonitoringBusChannel channel, MonitoringBusEvent event) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("❌ 이벤트 버스 직렬화 실패: channel={}", channel, e);
+            return;
+        }
+
+        int chunkSize = monitoringSseProperties.getBus().getChunkSize();
+        int count = (body.length() + chunkSize - 1) / chunkSize;
+        String prefix = nodeId + ":" + messageSequence.incrementAndGet() + ":";
+
+        for (int index = 0; index < count; index++) {
+            String chunk = body.substring(index * chunkSize, Math.min(body.length(), (index + 1) * chunkSize));
+            if (!outbox.offer(new Notification(channel.getChannelName(), prefix + index + ":" + count + ":" + chunk))) {
+                log.warn("⚠️ 이벤트 버스 outbox 포화, 메시지 드롭: channel={}", channel);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(MonitoringBusChannel channel, Consumer<MonitoringBusEvent> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    // ===== 발행 =====
+
+    private void runPublisher() {
+        List<Notification> batch = new ArrayList<>(NOTIFY_BATCH_SIZE);
+        while (running) {
+            try {
+                Notification first = outbox.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                outbox.drainTo(batch, NOTIFY_BATCH_SIZE - 1);
+                sendNotifications(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("⚠️ 이벤트 버스 NOTIFY 실패: {}건 드롭, error={}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 여러 NOTIFY를 한 번의 왕복으로 전송 (같은 트랜잭션 안에서 순서 유지)
+    private void sendNotifications(List<Notification> batch) {
+        String[] channels = new String[batch.size()];
+        String[] payloads = new String[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            channels[i] = batch.get(i).channel();
+            payloads[i] = batch.get(i).payload();
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL)) {
+                statement.setArray(1, connection.createArrayOf("text", channels));
+                statement.setArray(2, connection.createArrayOf("text", payloads));
+                statement.execute();
+            }
+            return null;
+        });
+    }
+
+    // ===== 수신 =====
+
+    private void runListener() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    for (MonitoringBusChannel channel : MonitoringBusChannel.values()) {
+                        statement.execute("LISTEN " + channel.getChannelName());
+                    }
+                }
+                log.info("📡 이벤트 버스 LISTEN 연결: nodeId={}", nodeId);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(LISTEN_POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            // 잘못된 메시지 하나로 수신 스레드가 종료되지 않도록 건별 처리
+                            try {
+                                receive(notification.getName(), notification.getParameter());
+                            } catch (RuntimeException e) {
+                                log.warn("⚠️ 이벤트 버스 메시지 처리 실패 (무시): channel={}, error={}",
+                                        notification.getName(), e.toString());
+                            }
+                        }
+                    }
+                    expirePartials(System.currentTimeMillis());
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                log.warn("⚠️ 이벤트 버스 LISTEN 연결 끊김, {}ms 후 재연결: {}",
+                        monitoringSseProperties.getBus().getReconnectDelay(), e.getMessage());
+                partials.clear();
+                try {
+                    Thread.sleep(monitoringSseProperties.getBus().getReconnectDelay());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String channelName, String payload) {
+        MonitoringBusChannel channel = MonitoringBusChannel.fromChannelName(channelName);
+        if (channel == null || payload == null) {
+            return; // 알 수 없는 채널
+        }
+        String[] parts = payload.split(":", 5);
+        if (parts.length < 5 || nodeId.equals(parts[0])) {
+            return; // 알 수 없는 형식 또는 자기 노드가 보낸 메시지
+        }
+
+        int index;
+        int count;
+        try {
+            index = Integer.parseInt(parts[2]);
+            count = Integer.parseInt(parts[3]);
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 이벤트 버스 메시지 형식 오류 (무시): channel={}", channel);
+            return;
+        }
+        if (count < 1 || count > MAX_CHUNKS || index < 0 || index >= count) {
+            log.warn("⚠️ 이벤트 버스 조각 번호 오류 (무시): channel={}, index={}, count={}", channel, index, count);
+            return;
+        }
+        if (count == 1) {
+            dispatch(channel, parts[4]);
+            return;
+        }
+
+        String key = parts[0] + ":" + parts[1];
+        PartialMessage partial = partials.computeIfAbsent(key,
+                k -> new PartialMessage(count, System.currentTimeMillis()));
+        if (partial.chunks.length != count) {
+            partials.remove(key);
+            log.warn("⚠️ 이벤트 버스 조각 수 불일치 (무시): channel={}, key={}", channel, key);
+            return;
+        }
+        if (partial.chunks[index] == null) {
+            partial.chunks[index] = parts[4];
+            partial.received++;
+        }
+        if (partial.received == count) {
+            partials.remove(key);
+            dispatch(channel, String.join("", partial.chunks));
+        }
+    }
+
+    private void dispatch(MonitoringBusChannel channel, String body) {
+        MonitoringBusEvent event;
+        try {
+            event = MonitoringBusEvent.read(objectMapper, body);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 이벤트 버스 메시지 해석 실패: channel={}", channel);
+            return;
+        }
+
+        for (Consumer<MonitoringBusEvent> listener : listeners.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("⚠️ 이벤트 버스 수신 처리 실패: channel={}, error={}", channel, e.getMessage());
+            }
+        }
+    }
+
+    // 일부 조각이 드롭된 메시지 정리
+    private void expirePartials(long now) {
+        Iterator<PartialMessage> iterator = partials.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().createdAt > CHUNK_EXPIRE_MILLIS) {
+                iterator.remove();
+            }
+        }
+    }
+}
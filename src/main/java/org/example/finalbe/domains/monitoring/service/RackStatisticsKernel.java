@@ -0,0 +1,327 @@
+/**
+ * 작성자: 황요한
+ * 랙 통계 단일 패스 계산 커널
+ * 장비를 한 번만 순회하면서 요약/CPU/부하/메모리/디스크/네트워크 통계와 Top 5를 동시에 누적
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.EquipmentType;
+import org.example.finalbe.domains.equipment.domain.Equipment;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+final class RackStatisticsKernel {
+
+    private static final int TOP_K = 5;
+
+    private static final double CPU_WARNING_THRESHOLD = 70.0;
+    private static final double CPU_CRITICAL_THRESHOLD = 90.0;
+    private static final double MEMORY_WARNING_THRESHOLD = 70.0;
+    private static final double MEMORY_CRITICAL_THRESHOLD = 90.0;
+    private static final double DISK_WARNING_THRESHOLD = 70.0;
+    private static final double DISK_CRITICAL_THRESHOLD = 90.0;
+
+    private static final double BYTES_PER_SEC_TO_MBPS = 8.0 / 1_000_000.0;
+    private static final long BYTES_PER_GB = 1024L * 1024 * 1024;
+    private static final double BYTES_PER_TB = 1024.0 * 1024.0 * 1024.0 * 1024.0;
+
+    private static final EquipmentType[] EQUIPMENT_TYPES = EquipmentType.values();
+
+    private RackStatisticsKernel() {
+    }
+
+    /** 커널 계산 결과 (환경/경고 정보는 서비스에서 조합) */
+    record Result(
+            RackStatisticsDto.RackSummary rackSummary,
+            RackStatisticsDto.CpuStats cpuStats,
+            RackStatisticsDto.SystemLoadStats systemLoadStats,
+            RackStatisticsDto.MemoryStats memoryStats,
+            RackStatisticsDto.DiskStats diskStats,
+            RackStatisticsDto.NetworkStats networkStats
+    ) {
+    }
+
+    static Result compute(List<Equipment> equipments, MonitoringMetricCache metricCache) {
+        int equipmentCount = equipments.size();
+
+        // 요약
+        int normalCount = 0, warningCount = 0, errorCount = 0;
+        int[] typeCounts = new int[EQUIPMENT_TYPES.length];
+
+        // CPU / 부하 / 메모리 (SystemMetric 기준)
+        int systemCount = 0;
+        double sumCpu = 0.0, maxCpu = 0.0;
+        int cpuCount = 0;
+        double sumLoad1 = 0.0, maxLoad1 = 0.0;
+        double sumLoad5 = 0.0, maxLoad5 = 0.0;
+        double sumLoad15 = 0.0, maxLoad15 = 0.0;
+        int load1Count = 0, load5Count = 0, load15Count = 0;
+        double sumMemory = 0.0, maxMemory = 0.0;
+        int memoryCount = 0;
+        long totalMemoryBytes = 0L, usedMemoryBytes = 0L;
+
+        // 디스크
+        int diskPresentCount = 0;
+        double sumDisk = 0.0, maxDisk = 0.0;
+        int diskCount = 0;
+        long totalDiskBytes = 0L, usedDiskBytes = 0L;
+
+        // 네트워크 (장비 단위 합산 후 누적)
+        int networkCount = 0;
+        long totalInBytesPerSec = 0L, totalOutBytesPerSec = 0L;
+        double sumRxUsage = 0.0, sumTxUsage = 0.0;
+        long totalInPackets = 0L, totalInErrors = 0L;
+        long totalOutPackets = 0L, totalOutErrors = 0L;
+
+        TopEquipmentHeap topCpu = new TopEquipmentHeap(TOP_K);
+        TopEquipmentHeap topMemory = new TopEquipmentHeap(TOP_K);
+        TopEquipmentHeap topDisk = new TopEquipmentHeap(TOP_K);
+        TopEquipmentHeap topRx = new TopEquipmentHeap(TOP_K);
+        TopEquipmentHeap topTx = new TopEquipmentHeap(TOP_K);
+
+        for (int slot = 0; slot < equipmentCount; slot++) {
+            Equipment equipment = equipments.get(slot);
+            Long equipmentId = equipment.getId();
+            EquipmentType type = equipment.getType();
+            if (type != null) {
+                typeCounts[type.ordinal()]++;
+            }
+
+            SystemMetric system = metricCache.getSystemMetric(equipmentId).orElse(null);
+            DiskMetric disk = metricCache.getDiskMetric(equipmentId).orElse(null);
+
+            boolean hasError = false;
+            boolean hasWarning = false;
+
+            if (system != null) {
+                systemCount++;
+
+                Double cpuIdle = system.getCpuIdle();
+                if (cpuIdle != null) {
+                    double cpuUsage = 100.0 - cpuIdle;
+                    sumCpu += cpuUsage;
+                    maxCpu = cpuCount == 0 ? cpuUsage : Math.max(maxCpu, cpuUsage);
+                    cpuCount++;
+                    topCpu.offer(slot, cpuUsage);
+
+                    if (cpuUsage >= CPU_CRITICAL_THRESHOLD) hasError = true;
+                    else if (cpuUsage >= CPU_WARNING_THRESHOLD) hasWarning = true;
+                }
+
+                Double load1 = system.getLoadAvg1();
+                if (load1 != null) {
+                    sumLoad1 += load1;
+                    maxLoad1 = load1Count == 0 ? load1 : Math.max(maxLoad1, load1);
+                    load1Count++;
+                }
+                Double load5 = system.getLoadAvg5();
+                if (load5 != null) {
+                    sumLoad5 += load5;
+                    maxLoad5 = load5Count == 0 ? load5 : Math.max(maxLoad5, load5);
+                    load5Count++;
+                }
+                Double load15 = system.getLoadAvg15();
+                if (load15 != null) {
+                    sumLoad15 += load15;
+                    maxLoad15 = load15Count == 0 ? load15 : Math.max(maxLoad15, load15);
+                    load15Count++;
+                }
+
+                Double memoryUsage = system.getUsedMemoryPercentage();
+                if (memoryUsage != null) {
+                    sumMemory += memoryUsage;
+                    maxMemory = memoryCount == 0 ? memoryUsage : Math.max(maxMemory, memoryUsage);
+                    memoryCount++;
+                    topMemory.offer(slot, memoryUsage);
+
+                    if (memoryUsage >= MEMORY_CRITICAL_THRESHOLD) hasError = true;
+                    else if (memoryUsage >= MEMORY_WARNING_THRESHOLD) hasWarning = true;
+                }
+                if (system.getTotalMemory() != null) totalMemoryBytes += system.getTotalMemory();
+                if (system.getUsedMemory() != null) usedMemoryBytes += system.getUsedMemory();
+            }
+
+            if (disk != null) {
+                Double diskUsage = disk.getUsedPercentage();
+                if (diskUsage != null) {
+                    if (diskUsage >= DISK_CRITICAL_THRESHOLD) hasError = true;
+                    else if (diskUsage >= DISK_WARNING_THRESHOLD) hasWarning = true;
+                }
+
+                // 환경 센서는 디스크 통계 대상에서 제외
+                if (type != EquipmentType.ENVIRONMENTAL_SENSOR) {
+                    diskPresentCount++;
+                    if (disk.getTotalBytes() != null) totalDiskBytes += disk.getTotalBytes();
+                    if (disk.getUsedBytes() != null) usedDiskBytes += disk.getUsedBytes();
+                    if (diskUsage != null) {
+                        sumDisk += diskUsage;
+                        maxDisk = diskCount == 0 ? diskUsage : Math.max(maxDisk, diskUsage);
+                        diskCount++;
+                        topDisk.offer(slot, diskUsage);
+                    }
+                }
+            }
+
+            if (hasError) errorCount++;
+            else if (hasWarning) warningCount++;
+            else normalCount++;
+
+            // NIC 합산 (단일 루프, primitive 누적)
+            List<NetworkMetric> nicMetrics = metricCache.getNetworkMetrics(equipmentId);
+            int nicCount = nicMetrics.size();
+            if (nicCount > 0) {
+                long inBytesPerSec = 0L, outBytesPerSec = 0L;
+                long inPkts = 0L, outPkts = 0L;
+                long inErrors = 0L, inDiscards = 0L, outErrors = 0L, outDiscards = 0L;
+                double rxSum = 0.0, txSum = 0.0;
+                int rxCount = 0, txCount = 0;
+
+                for (int i = 0; i < nicCount; i++) {
+                    NetworkMetric nic = nicMetrics.get(i);
+                    if (nic.getInBytesPerSec() != null) inBytesPerSec += nic.getInBytesPerSec().longValue();
+                    if (nic.getOutBytesPerSec() != null) outBytesPerSec += nic.getOutBytesPerSec().longValue();
+                    if (nic.getInPktsTot() != null) inPkts += nic.getInPktsTot();
+                    if (nic.getOutPktsTot() != null) outPkts += nic.getOutPktsTot();
+                    if (nic.getInErrorPktsTot() != null) inErrors += nic.getInErrorPktsTot();
+                    if (nic.getInDiscardPktsTot() != null) inDiscards += nic.getInDiscardPktsTot();
+                    if (nic.getOutErrorPktsTot() != null) outErrors += nic.getOutErrorPktsTot();
+                    if (nic.getOutDiscardPktsTot() != null) outDiscards += nic.getOutDiscardPktsTot();
+                    if (nic.getRxUsage() != null) {
+                        rxSum += nic.getRxUsage();
+                        rxCount++;
+                    }
+                    if (nic.getTxUsage() != null) {
+                        txSum += nic.getTxUsage();
+                        txCount++;
+                    }
+                }
+
+                networkCount++;
+                totalInBytesPerSec += inBytesPerSec;
+                totalOutBytesPerSec += outBytesPerSec;
+                sumRxUsage += rxCount > 0 ? rxSum / rxCount : 0.0;
+                sumTxUsage += txCount > 0 ? txSum / txCount : 0.0;
+                totalInPackets += inPkts;
+                totalInErrors += inErrors + inDiscards;
+                totalOutPackets += outPkts;
+                totalOutErrors += outErrors + outDiscards;
+                topRx.offer(slot, inBytesPerSec);
+                topTx.offer(slot, outBytesPerSec);
+            }
+        }
+
+        RackStatisticsDto.RackSummary rackSummary = RackStatisticsDto.RackSummary.builder()
+                .totalEquipmentCount(equipmentCount)
+                .normalCount(normalCount)
+                .warningCount(warningCount)
+                .errorCount(errorCount)
+                .activeEquipmentTypes(toTypeCounts(typeCounts))
+                .build();
+
+        RackStatisticsDto.CpuStats cpuStats;
+        RackStatisticsDto.SystemLoadStats systemLoadStats;
+        RackStatisticsDto.MemoryStats memoryStats;
+
+        if (systemCount == 0) {
+            cpuStats = RackStatisticsDto.CpuStats.builder().equipmentCount(0).build();
+            systemLoadStats = RackStatisticsDto.SystemLoadStats.builder().equipmentCount(0).build();
+            memoryStats = RackStatisticsDto.MemoryStats.builder().equipmentCount(0).build();
+        } else {
+            cpuStats = RackStatisticsDto.CpuStats.builder()
+                    .avgUsage(cpuCount > 0 ? sumCpu / cpuCount : 0.0)
+                    .maxUsage(maxCpu)
+                    .topEquipments(topCpu.toTopEquipments(equipments, 1.0))
+                    .equipmentCount(systemCount)
+                    .build();
+
+            systemLoadStats = RackStatisticsDto.SystemLoadStats.builder()
+                    .avgLoadAvg1(load1Count > 0 ? sumLoad1 / load1Count : 0.0)
+                    .avgLoadAvg5(load5Count > 0 ? sumLoad5 / load5Count : 0.0)
+                    .avgLoadAvg15(load15Count > 0 ? sumLoad15 / load15Count : 0.0)
+                    .maxLoadAvg1(maxLoad1)
+                    .maxLoadAvg5(maxLoad5)
+                    .maxLoadAvg15(maxLoad15)
+                    .equipmentCount(systemCount)
+                    .build();
+
+            memoryStats = RackStatisticsDto.MemoryStats.builder()
+                    .avgUsage(memoryCount > 0 ? sumMemory / memoryCount : 0.0)
+                    .maxUsage(maxMemory)
+                    .topEquipments(topMemory.toTopEquipments(equipments, 1.0))
+                    .equipmentCount(systemCount)
+                    .totalMemoryGB(totalMemoryBytes / BYTES_PER_GB)
+                    .usedMemoryGB(usedMemoryBytes / BYTES_PER_GB)
+                    .build();
+        }
+
+        RackStatisticsDto.DiskStats diskStats;
+        if (diskPresentCount == 0 || diskCount == 0) {
+            diskStats = RackStatisticsDto.DiskStats.builder().equipmentCount(0).build();
+        } else {
+            diskStats = RackStatisticsDto.DiskStats.builder()
+                    .avgUsage(sumDisk / diskCount)
+                    .maxUsage(maxDisk)
+                    .topEquipments(topDisk.toTopEquipments(equipments, 1.0))
+                    .equipmentCount(diskCount)
+                    .totalCapacityTB(totalDiskBytes / BYTES_PER_TB)
+                    .usedCapacityTB(usedDiskBytes / BYTES_PER_TB)
+                    .build();
+        }
+
+        RackStatisticsDto.NetworkStats networkStats;
+        if (networkCount == 0) {
+            networkStats = RackStatisticsDto.NetworkStats.builder().equipmentCount(0).build();
+        } else {
+            networkStats = RackStatisticsDto.NetworkStats.builder()
+                    .totalRxMbps(totalInBytesPerSec * BYTES_PER_SEC_TO_MBPS)
+                    .totalTxMbps(totalOutBytesPerSec * BYTES_PER_SEC_TO_MBPS)
+                    .avgRxUsage(sumRxUsage / networkCount)
+                    .avgTxUsage(sumTxUsage / networkCount)
+                    .topRxEquipments(topRx.toTopEquipments(equipments, BYTES_PER_SEC_TO_MBPS))
+                    .topTxEquipments(topTx.toTopEquipments(equipments, BYTES_PER_SEC_TO_MBPS))
+                    .errorPacketRate(packetRate(totalInErrors, totalInPackets, "에러"))
+                    .dropPacketRate(packetRate(totalOutErrors, totalOutPackets, "드롭"))
+                    .equipmentCount(networkCount)
+                    .build();
+        }
+
+        return new Result(rackSummary, cpuStats, systemLoadStats, memoryStats, diskStats, networkStats);
+    }
+
+    private static List<RackStatisticsDto.EquipmentTypeCount> toTypeCounts(int[] typeCounts) {
+        List<RackStatisticsDto.EquipmentTypeCount> result = new ArrayList<>();
+        for (int i = 0; i < typeCounts.length; i++) {
+            if (typeCounts[i] > 0) {
+                result.add(RackStatisticsDto.EquipmentTypeCount.builder()
+                        .type(EQUIPMENT_TYPES[i].name())
+                        .count(typeCounts[i])
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    // 패킷 비율(%) 계산 + 5% 초과 시 경고 로그
+    private static double packetRate(long errors, long packets, String label) {
+        if (packets <= 0) {
+            return 0.0;
+        }
+
+        double rate = errors * 100.0 / packets;
+        if (rate > 5.0) {
+            log.warn("높은 {} 패킷률 감지: {}% ({}: {}, 전체: {})",
+                    label, String.format("%.2f", rate), label, errors, packets);
+        } else if (log.isDebugEnabled()) {
+            log.debug("정상 {} 패킷률: {}% ({}: {}, 전체: {})",
+                    label, String.format("%.2f", rate), label, errors, packets);
+        }
+        return rate;
+    }
+}
@@ -7,7 +7,9 @@ package org.example.finalbe.domains.monitoring.service;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.finalbe.domains.alert.service.AlertEvaluationService;
+import org.example.finalbe.domains.alert.dto.AlertEvaluationBatch;
+import org.example.finalbe.domains.alert.service.AlertTickEvaluator;
+import org.example.finalbe.domains.common.enumdir.AlertEvaluationSource;
 import org.example.finalbe.domains.common.enumdir.DelYN;
 import org.example.finalbe.domains.common.enumdir.EquipmentType;
 import org.example.finalbe.domains.equipment.domain.Equipment;
@@ -39,9 +41,9 @@ public class ServerRoomDataSimulator {
     private final EquipmentRepository equipmentRepository;
     private final RackRepository rackRepository;
     private final JdbcTemplate jdbcTemplate;
-    private final SseService sseService;
+    private final EquipmentTickCoalescer equipmentTickCoalescer;
     private final MonitoringMetricCache monitoringMetricCache;
-    private final AlertEvaluationService alertEvaluationService;
+    private final AlertTickEvaluator alertTickEvaluator;
 
     private static final Map<Long, List<String>> EQUIPMENT_NICS = new HashMap<>();
 
@@ -189,6 +191,12 @@ public class ServerRoomDataSimulator {
 
         Set<Long> activeRackIds = new HashSet<>();
 
+        // 장비별 메트릭을 모아 틱 종료 시 스냅샷 1건으로 전송
+        EquipmentTickCoalescer.Tick tick = equipmentTickCoalescer.openTick(now);
+
+        // 알림 평가 대상은 틱 단위로 모아 한 번에 제출
+        AlertEvaluationBatch alertBatch = new AlertEvaluationBatch(AlertEvaluationSource.SIMULATOR, now);
+
         try {
             for (Equipment equipment : activeEquipments) {
                 Long equipmentId = equipment.getId();
@@ -221,21 +229,18 @@ public class ServerRoomDataSimulator {
 
                 log.debug("✅ 장비 ID {} 메트릭 생성 시작 (type={})", equipmentId, type);
                 processed++;
+                tick.setRack(equipmentId, rackId);
 
                 // System 메트릭
                 if (hasSystemMetric(type)) {
                     SystemMetric sysMetric = generateSystemMetric(equipmentId, now);
                     systemMetricsToSave.add(sysMetric);
                     monitoringMetricCache.updateSystemMetric(sysMetric);
-                    sseService.sendToEquipment(equipmentId, "system", sysMetric);
+                    tick.addSystem(sysMetric);
 
                     if (needsSystemAlertEvaluation(sysMetric, equipment)) {
-                        try {
-                            alertEvaluationService.evaluateSystemMetric(sysMetric);
-                            alertEvaluationCount++;
-                        } catch (Exception e) {
-                            log.warn("⚠️ System 알림 평가 실패: equipmentId={}, error={}", equipmentId, e.getMessage());
-                        }
+                        alertBatch.addSystem(sysMetric);
+                        alertEvaluationCount++;
                     }
 
                     log.debug("  → System 메트릭 생성 완료 (equipmentId={})", equipmentId);
@@ -246,15 +251,11 @@ public class ServerRoomDataSimulator {
                     DiskMetric diskMetric = generateDiskMetric(equipmentId, now);
                     diskMetricsToSave.add(diskMetric);
                     monitoringMetricCache.updateDiskMetric(diskMetric);
-                    sseService.sendToEquipment(equipmentId, "disk", diskMetric);
+                    tick.addDisk(diskMetric);
 
                     if (needsDiskAlertEvaluation(diskMetric, equipment)) {
-                        try {
-                            alertEvaluationService.evaluateDiskMetric(diskMetric);
-                            alertEvaluationCount++;
-                        } catch (Exception e) {
-                            log.warn("⚠️ Disk 알림 평가 실패: equipmentId={}, error={}", equipmentId, e.getMessage());
-                        }
+                        alertBatch.addDisk(diskMetric);
+                        alertEvaluationCount++;
                     }
 
                     log.debug("  → Disk 메트릭 생성 완료 (equipmentId={})", equipmentId);
@@ -268,16 +269,11 @@ public class ServerRoomDataSimulator {
                             NetworkMetric nicMetric = generateNetworkMetric(equipmentId, nic, now);
                             networkMetricsToSave.add(nicMetric);
                             monitoringMetricCache.updateNetworkMetric(nicMetric);
-                            sseService.sendToEquipment(equipmentId, "network", nicMetric);
+                            tick.addNetwork(nicMetric);
 
                             if (needsNetworkAlertEvaluation(nicMetric, equipment)) {
-                                try {
-                                    alertEvaluationService.evaluateNetworkMetric(nicMetric);
-                                    alertEvaluationCount++;
-                                } catch (Exception e) {
-                                    log.warn("⚠️ Network 알림 평가 실패: equipmentId={}, nic={}, error={}",
-                                            equipmentId, nic, e.getMessage());
-                                }
+                                alertBatch.addNetwork(nicMetric);
+                                alertEvaluationCount++;
                             }
                         }
                     }
@@ -308,13 +304,8 @@ public class ServerRoomDataSimulator {
                         monitoringMetricCache.updateEnvironmentMetric(envMetric);
 
                         if (needsEnvironmentAlertEvaluation(envMetric, rack)) {
-                            try {
-                                alertEvaluationService.evaluateEnvironmentMetric(envMetric);
-                                alertEvaluationCount++;
-                            } catch (Exception e) {
-                                log.warn("⚠️ Environment 알림 평가 실패: rackId={}, error={}",
-                                        rackId, e.getMessage());
-                            }
+                            alertBatch.addEnvironment(envMetric);
+                            alertEvaluationCount++;
                         }
                     }
                 } catch (Exception e) {
@@ -322,6 +313,10 @@ public class ServerRoomDataSimulator {
                 }
             }
 
+            // 환경 메트릭까지 반영된 장비 스냅샷 전송
+            equipmentTickCoalescer.flush(tick);
+            alertTickEvaluator.submit(alertBatch);
+
             // DB에 한 번에 저장 (Batch Insert)
             java.util.concurrent.CompletableFuture.runAsync(() -> {
                 long dbStart = System.currentTimeMillis();
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.finalbe.domains.common.enumdir.DelYN;
 import org.example.finalbe.domains.common.enumdir.EquipmentStatus;
+import org.example.finalbe.domains.equipment.domain.Equipment;
 import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
 import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
 import org.example.finalbe.domains.monitoring.repository.DiskMetricRepository;
@@ -17,6 +18,7 @@ import org.example.finalbe.domains.monitoring.repository.SystemMetricRepository;
 import org.example.finalbe.domains.rack.repository.RackRepository;
 import org.example.finalbe.domains.serverroom.domain.ServerRoom;
 import org.example.finalbe.domains.serverroom.repository.ServerRoomRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +40,11 @@ public class ServerRoomMonitoringService {
     private final DiskMetricRepository diskMetricRepository;
     private final NetworkMetricRepository networkMetricRepository;
     private final EnvironmentMetricRepository environmentMetricRepository;
+    private final MetricWindowStore metricWindowStore;
+
+    // window: 메모리 슬라이딩 윈도우 우선 (콜드 상태면 SQL), sql: 항상 SQL 집계
+    @Value("${monitoring.statistics.mode:window}")
+    private String statisticsMode;
 
     public ServerRoomStatisticsDto calculateServerRoomStatistics(Long serverRoomId) {
         log.debug("📊 서버실 통계 계산 시작: serverRoomId={}", serverRoomId);
@@ -45,55 +52,85 @@ public class ServerRoomMonitoringService {
         ServerRoom serverRoom = serverRoomRepository.findActiveById(serverRoomId)
                 .orElseThrow(() -> new IllegalArgumentException("활성 서버실을 찾을 수 없습니다: " + serverRoomId));
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneMinuteAgo = now.minusMinutes(1);
-
         long totalRacks = rackRepository.countByServerRoomIdAndDelYn(serverRoomId, DelYN.N);
 
         List<Long> activeRackIds = equipmentRepository.findDistinctRackIdsByServerRoomId(serverRoomId);
-        long activeRacks = activeRackIds.size();
+        List<Equipment> equipments = activeRackIds.isEmpty()
+                ? List.of()
+                : equipmentRepository.findByRackIdInAndDelYn(activeRackIds, DelYN.N);
+
+        return buildServerRoomStatistics(serverRoom, totalRacks, equipments, LocalDateTime.now());
+    }
+
+    /**
+     * 이미 조회된 서버실/장비로 통계 계산
+     * equipments는 서버실 랙에 배치된 활성 장비 (Rack 로딩 필요), now는 에포크 공통 기준 시각
+     */
+    public ServerRoomStatisticsDto buildServerRoomStatistics(ServerRoom serverRoom, long totalRacks,
+                                                             List<Equipment> equipments, LocalDateTime now) {
+        Long serverRoomId = serverRoom.getId();
+        LocalDateTime oneMinuteAgo = now.minusMinutes(1);
 
-        if (activeRackIds.isEmpty()) {
-            log.warn("⚠️ 서버실에 장비가 배치된 랙이 없습니다: serverRoomId={}", serverRoomId);
+        if (equipments.isEmpty()) {
+            log.debug("⚠️ 서버실에 활성 장비가 없습니다: serverRoomId={}", serverRoomId);
             return createEmptyStatistics(serverRoom, now, (int) totalRacks);
         }
 
-        // 장비 목록 조회
-        List<Long> equipmentIds = equipmentRepository.findByRackIdInAndDelYn(activeRackIds, DelYN.N)
-                .stream()
-                .map(equipment -> equipment.getId())
+        // 장비가 배치된 랙 / 장비 목록
+        List<Long> activeRackIds = equipments.stream()
+                .map(equipment -> equipment.getRack().getId())
+                .distinct()
                 .toList();
+        long activeRacks = activeRackIds.size();
 
-        if (equipmentIds.isEmpty()) {
-            log.warn("⚠️ 서버실에 활성 장비가 없습니다: serverRoomId={}", serverRoomId);
-            return createEmptyStatistics(serverRoom, now, (int) totalRacks);
-        }
+        List<Long> equipmentIds = equipments.stream()
+                .map(Equipment::getId)
+                .toList();
 
         // 장비 통계
         long totalEquipments = equipmentIds.size();
-        long activeEquipments = equipmentRepository.countByRackIdInAndStatusAndDelYn(
-                activeRackIds, EquipmentStatus.NORMAL, DelYN.N);
+        long activeEquipments = equipments.stream()
+                .filter(equipment -> equipment.getStatus() == EquipmentStatus.NORMAL)
+                .count();
         long inactiveEquipments = totalEquipments - activeEquipments;
 
-        // CPU 통계
-        Map<String, Object> cpuStats = systemMetricRepository.getAverageCpuStatsByEquipmentIds(
-                equipmentIds, oneMinuteAgo, now);
-
-        // 메모리 통계
-        Map<String, Object> memoryStats = systemMetricRepository.getAverageMemoryStatsByEquipmentIds(
-                equipmentIds, oneMinuteAgo, now);
-
-        // 디스크 통계
-        Map<String, Object> diskStats = diskMetricRepository.getAverageDiskStatsByEquipmentIds(
-                equipmentIds, oneMinuteAgo, now);
-
-        // 네트워크 통계
-        Map<String, Object> networkStats = networkMetricRepository.getAverageNetworkStatsByEquipmentIds(
-                equipmentIds, oneMinuteAgo, now);
-
-        // 환경 통계 (활성 랙만)
-        Map<String, Object> envStats = environmentMetricRepository.getAverageEnvironmentStatsByRackIds(
-                activeRackIds, oneMinuteAgo, now);
+        Map<String, Object> cpuStats;
+        Map<String, Object> memoryStats;
+        Map<String, Object> diskStats;
+        Map<String, Object> networkStats;
+        Map<String, Object> envStats;
+
+        if (useWindow(equipmentIds)) {
+            // 메모리 윈도우 집계 (DB 조회 없음)
+            MetricWindowStore.ServerRoomWindow window = metricWindowStore.aggregate(equipmentIds, activeRackIds);
+            cpuStats = window.cpuStats();
+            memoryStats = window.memoryStats();
+            diskStats = window.diskStats();
+            networkStats = window.networkStats();
+            envStats = window.envStats();
+        } else {
+            log.debug("🗄️ 윈도우 콜드 상태 - SQL 집계 사용: serverRoomId={}", serverRoomId);
+
+            // CPU 통계
+            cpuStats = systemMetricRepository.getAverageCpuStatsByEquipmentIds(
+                    equipmentIds, oneMinuteAgo, now);
+
+            // 메모리 통계
+            memoryStats = systemMetricRepository.getAverageMemoryStatsByEquipmentIds(
+                    equipmentIds, oneMinuteAgo, now);
+
+            // 디스크 통계
+            diskStats = diskMetricRepository.getAverageDiskStatsByEquipmentIds(
+                    equipmentIds, oneMinuteAgo, now);
+
+            // 네트워크 통계
+            networkStats = networkMetricRepository.getAverageNetworkStatsByEquipmentIds(
+                    equipmentIds, oneMinuteAgo, now);
+
+            // 환경 통계 (활성 랙만)
+            envStats = environmentMetricRepository.getAverageEnvironmentStatsByRackIds(
+                    activeRackIds, oneMinuteAgo, now);
+        }
 
         // 알람 통계
         int criticalAlerts = calculateCriticalAlerts(cpuStats, memoryStats, diskStats);
@@ -149,6 +186,13 @@ public class ServerRoomMonitoringService {
                 .build();
     }
 
+    /** 윈도우 모드이고, 윈도우가 1분 이상 채워졌으며, 서버실 장비 샘플이 있을 때만 메모리 집계 사용 */
+    private boolean useWindow(List<Long> equipmentIds) {
+        return !"sql".equalsIgnoreCase(statisticsMode)
+                && metricWindowStore.isWarm()
+                && metricWindowStore.hasSamples(equipmentIds);
+    }
+
     private ServerRoomStatisticsDto createEmptyStatistics(ServerRoom serverRoom, LocalDateTime now, int totalRacks) {
         return ServerRoomStatisticsDto.builder()
                 .serverRoomId(serverRoom.getId())
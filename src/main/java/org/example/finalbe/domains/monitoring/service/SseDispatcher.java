@@ -0,0 +1,129 @@
+/**
+ * 작성자: 황요한
+ * 구독자별 전송 큐를 소수의 디스패처 스레드로 비우는 SSE 전송기
+ * 호출 스레드(수집 스케줄러 등)는 큐에 넣고 바로 반환하므로 클라이언트 네트워크 속도에 영향을 받지 않는다.
+ * 일정 시간 이상 전송이 멈추거나 드롭이 누적된 구독자는 연결을 종료한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.SseDeliveryPolicy;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final Executor sseDispatchExecutor;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    public SseDispatcher(@Qualifier("sseDispatchExecutor") Executor sseDispatchExecutor,
+                         MonitoringSseProperties monitoringSseProperties) {
+        this.sseDispatchExecutor = sseDispatchExecutor;
+        this.monitoringSseProperties = monitoringSseProperties;
+    }
+
+    /** 구독자 생성 (큐 크기는 설정값) */
+    SseSubscriber register(String topic, SseEmitter emitter) {
+        return new SseSubscriber(topic, emitter, monitoringSseProperties.getDispatcher().getQueueCapacity());
+    }
+
+    /**
+     * 이벤트를 구독자 큐에 넣고 전송 예약
+     * 연결이 이미 끊겼거나 지연 한도를 넘어 종료시킨 경우 false (호출 측에서 구독 목록에서 제거)
+     */
+    boolean dispatch(SseSubscriber subscriber, EncodedSseEvent event) {
+        if (subscriber.isClosed()) {
+            return false;
+        }
+
+        MonitoringSseProperties.Dispatcher config = monitoringSseProperties.getDispatcher();
+        long now = System.currentTimeMillis();
+
+        subscriber.offer(event, policyOf(event), now);
+
+        long lag = subscriber.lagMillis(now);
+        if (lag > config.getMaxLag() || subscriber.getDroppedInRow() > config.getMaxDroppedFrames()) {
+            log.warn("🐢 느린 SSE 구독자 연결 종료: [{}], 지연: {}ms, 연속 드롭: {}개",
+                    subscriber.getTopic(), lag, subscriber.getDroppedInRow());
+            evict(subscriber);
+            return false;
+        }
+
+        schedule(subscriber);
+        return true;
+    }
+
+    // 이벤트 이름별 큐 정책 (comment 프레임과 교체 키가 없는 순서 의존 프레임(delta 패치 등)은 교체 금지)
+    private SseDeliveryPolicy policyOf(EncodedSseEvent event) {
+        String eventName = event.getEventName();
+        if (eventName == null || event.getCoalesceKey() == null) {
+            return SseDeliveryPolicy.DROP_OLDEST;
+        }
+        if (monitoringSseProperties.getDispatcher().getLatestValueEvents().contains(eventName)) {
+            return SseDeliveryPolicy.LATEST_VALUE;
+        }
+        return SseDeliveryPolicy.DROP_OLDEST;
+    }
+
+    private void schedule(SseSubscriber subscriber) {
+        if (!subscriber.tryStartDrain()) {
+            return; // 이미 다른 디스패처 스레드가 비우는 중
+        }
+        try {
+            sseDispatchExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // 다음 dispatch 때 다시 예약
+            subscriber.finishDrain();
+            log.warn("⚠️ SSE 디스패처 포화: [{}]", subscriber.getTopic());
+        }
+    }
+
+    private void drain(SseSubscriber subscriber) {
+        try {
+            EncodedSseEvent event;
+            while (!subscriber.isClosed() && (event = subscriber.poll()) != null) {
+                try {
+                    event.writeTo(subscriber.getEmitter());
+                    subscriber.markWritten(System.currentTimeMillis());
+                } catch (IOException | IllegalStateException e) {
+                    log.warn("❌ SSE 데이터 전송 실패: [{}], 구독 종료", subscriber.getTopic());
+                    subscriber.close();
+                    return;
+                }
+            }
+        } finally {
+            subscriber.finishDrain();
+        }
+
+        // 마지막 poll 이후 들어온 프레임이 있으면 다시 예약
+        if (!subscriber.isClosed() && subscriber.hasPending()) {
+            schedule(subscriber);
+        }
+    }
+
+    // Emitter 종료는 쓰기 락을 기다릴 수 있으므로 호출 스레드가 아닌 디스패처 스레드에서 수행
+    private void evict(SseSubscriber subscriber) {
+        subscriber.close();
+        try {
+            sseDispatchExecutor.execute(() -> completeQuietly(subscriber));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ SSE 디스패처 포화로 연결 종료 지연: [{}]", subscriber.getTopic());
+        }
+    }
+
+    private void completeQuietly(SseSubscriber subscriber) {
+        try {
+            subscriber.getEmitter().complete();
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 중 오류: [{}]", subscriber.getTopic(), e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * 작성자: 황요한
+ * SSE 이벤트를 text/event-stream 프레임 바이트로 한 번만 인코딩하는 컴포넌트
+ * SseEmitter.event().name().data()와 같은 형식(event:/data: 라인)으로 만든다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+@Component
+@RequiredArgsConstructor
+public class SseEventEncoder {
+
+    private static final byte[] ID_PREFIX = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_PREFIX = "event:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_PREFIX = "data:".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 인코딩
+     * 문자열은 그대로, 그 외 객체는 Jackson JSON으로 직렬화 (HTTP 메시지 컨버터와 동일한 ObjectMapper)
+     */
+    public EncodedSseEvent encode(String eventName, Object data) {
+        return encode(eventName, data, 0);
+    }
+
+    /**
+     * ID 포함 이벤트 인코딩 (id > 0이면 id 필드 추가, 브라우저 재연결 시 Last-Event-ID로 전달됨)
+     */
+    public EncodedSseEvent encode(String eventName, Object data, long id) {
+        byte[] body;
+        try {
+            body = data instanceof String text
+                    ? text.getBytes(StandardCharsets.UTF_8)
+                    : objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패: " + eventName, e);
+        }
+
+        return new EncodedSseEvent(id, eventName, frame(id, eventName, body));
+    }
+
+    /**
+     * 멀티플렉스 스트림용 토픽 태그 이벤트 인코딩
+     * data: {"topic":"rack-1","data":<json>} (ID 없음, 토픽별로 LATEST_VALUE 교체)
+     */
+    public EncodedSseEvent encodeTagged(String topic, String eventName, Object data, String json) {
+        String payload;
+        try {
+            payload = "{\"topic\":" + objectMapper.writeValueAsString(topic)
+                    + ",\"data\":" + (data instanceof String text ? objectMapper.writeValueAsString(text) : json)
+                    + "}";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패: " + eventName, e);
+        }
+        return encodeWithKey(eventName, payload, topic + ":" + eventName);
+    }
+
+    /**
+     * 큐 교체 기준 키를 지정해 인코딩 (null이면 대기 중 프레임과 교체되지 않음, delta patch 등 순서 의존 프레임)
+     */
+    public EncodedSseEvent encodeWithKey(String eventName, String data, String coalesceKey) {
+        return new EncodedSseEvent(0, eventName, coalesceKey,
+                frame(0, eventName, data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // id:/event:/data: 라인으로 프레임 구성
+    private byte[] frame(long id, String eventName, byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 48);
+        if (id > 0) {
+            out.writeBytes(ID_PREFIX);
+            out.writeBytes(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        }
+        if (eventName != null) {
+            out.writeBytes(EVENT_PREFIX);
+            out.writeBytes(eventName.getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        }
+        writeDataLines(out, body);
+        out.write('\n');
+        return out.toByteArray();
+    }
+
+    /** data 필드 문자열 (문자열은 그대로, 그 외 객체는 JSON) */
+    public String toJson(Object data) {
+        if (data instanceof String text) {
+            return text;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패", e);
+        }
+    }
+
+    /** comment 프레임 인코딩 (heartbeat 등), reconnectTime > 0이면 retry 필드 포함 */
+    public EncodedSseEvent encodeComment(String comment, long reconnectTime) {
+        StringBuilder frame = new StringBuilder(comment.length() + 16);
+        frame.append(':').append(comment).append('\n');
+        if (reconnectTime > 0) {
+            frame.append("retry:").append(reconnectTime).append('\n');
+        }
+        frame.append('\n');
+        return new EncodedSseEvent(0, null, frame.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 본문에 줄바꿈이 있으면 줄마다 data: 접두사 (SSE 규격)
+    private void writeDataLines(ByteArrayOutputStream out, byte[] body) {
+        int lineStart = 0;
+        for (int i = 0; i <= body.length; i++) {
+            if (i == body.length || body[i] == '\n') {
+                int end = (i > lineStart && body[i - 1] == '\r') ? i - 1 : i;
+                out.writeBytes(DATA_PREFIX);
+                out.write(body, lineStart, end - lineStart);
+                out.write('\n');
+                lineStart = i + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * 작성자: 황요한
+ * 유휴 구독자 heartbeat 예약용 해시 타이머 휠
+ * 구독자마다 "마지막 전송 + 주기" 시점의 슬롯에 한 번만 들어가고, 틱마다 현재 슬롯만 꺼내 본다.
+ * 그 사이 데이터가 전송됐으면 heartbeat 없이 다음 기한으로 다시 넣으므로, 전송은 주기 내내 쉰 연결에만 나간다.
+ * 슬롯 수 = 주기 / 틱 + 1 이라 모든 기한이 한 바퀴 안에 들어와 회전 수를 따로 세지 않는다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+final class SseHeartbeatWheel {
+
+    private final long intervalMillis;
+    private final long tickMillis;
+    private final Queue<SseSubscriber>[] slots;
+
+    private volatile long currentTick;   // 마지막으로 처리한 틱 (advance 스레드만 변경)
+
+    @SuppressWarnings("unchecked")
+    SseHeartbeatWheel(long intervalMillis, long tickMillis) {
+        this.intervalMillis = intervalMillis;
+        this.tickMillis = tickMillis;
+        this.slots = new Queue[(int) (intervalMillis / tickMillis) + 1];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    /** 신규 구독자 예약 (연결 시점 + 주기) */
+    void schedule(SseSubscriber subscriber, long now) {
+        place(subscriber, now + intervalMillis);
+    }
+
+    /**
+     * 지난 틱의 슬롯을 차례로 처리 (스케줄러가 늦었으면 밀린 슬롯까지)
+     * 주기 동안 전송이 없던 구독자만 heartbeat에 넘기고, 실패(false)하거나 이미 닫힌 구독자는 휠에서 뺀다.
+     * 다시 넣을 구독자는 모든 슬롯 처리 후 넣는다. (밀린 틱을 따라잡는 중에 넣으면 같은 호출에서 다시 방문될 수 있음)
+     * 반환값: 보낸 heartbeat 수
+     */
+    int advance(long now, Predicate<SseSubscriber> heartbeat) {
+        long targetTick = now / tickMillis;
+        int sent = 0;
+        List<SseSubscriber> replace = new ArrayList<>();
+        List<Long> deadlines = new ArrayList<>();
+
+        // 한 바퀴 넘게 밀렸으면 모든 슬롯을 한 번씩만 처리 (기한 검사로 이른 방문은 다시 예약됨)
+        if (targetTick - currentTick > slots.length) {
+            currentTick = targetTick - slots.length;
+        }
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            Queue<SseSubscriber> slot = slots[slotOf(currentTick)];
+
+            // 이번 슬롯에 원래 있던 구독자만 처리 (처리 중 schedule로 들어온 신규 구독자는 다음 방문 때 처리)
+            for (int pending = slot.size(); pending > 0; pending--) {
+                SseSubscriber subscriber = slot.poll();
+                if (subscriber == null) break;
+                if (subscriber.isClosed()) continue;
+
+                long deadline = subscriber.getLastWriteAt() + intervalMillis;
+                if (deadline > now) {
+                    replace.add(subscriber);
+                    deadlines.add(deadline);
+                } else if (heartbeat.test(subscriber)) {
+                    sent++;
+                    replace.add(subscriber);
+                    deadlines.add(now + intervalMillis);
+                }
+            }
+        }
+
+        // currentTick == targetTick 이므로 다음 틱 ~ 한 바퀴 안의 슬롯에 들어감
+        for (int i = 0; i < replace.size(); i++) {
+            place(replace.get(i), deadlines.get(i));
+        }
+        return sent;
+    }
+
+    // 기한이 속한 틱 슬롯에 넣기 (현재 틱 이하면 다음 틱으로 미룸)
+    private void place(SseSubscriber subscriber, long deadline) {
+        long tick = Math.max(deadline / tickMillis, currentTick + 1);
+        slots[slotOf(tick)].add(subscriber);
+    }
+
+    private int slotOf(long tick) {
+        return (int) (tick % slots.length);
+    }
+}
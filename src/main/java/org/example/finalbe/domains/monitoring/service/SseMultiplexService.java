@@ -0,0 +1,184 @@
+/**
+ * 작성자: 황요한
+ * 여러 모니터링 토픽을 SSE 연결 하나로 받는 멀티플렉스 스트림 관리 서비스
+ * 클라이언트는 스트림을 하나 연 뒤 제어 API로 토픽을 추가/제거하고,
+ * 이벤트는 {"topic":..., "data":...} 형태로 토픽 태그를 붙여 같은 연결로 전달된다.
+ * 권한 검증은 토픽 변경 요청당 한 번만 수행한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.exception.AccessDeniedException;
+import org.example.finalbe.domains.common.exception.EntityNotFoundException;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.MultiplexStreamResponse;
+import org.example.finalbe.domains.monitoring.dto.MultiplexTopicRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseMultiplexService {
+
+    private static final Long DEFAULT_TIMEOUT = 60L * 60 * 1000; // 1시간
+
+    private final SseService sseService;
+    private final SseDispatcher sseDispatcher;
+    private final SseEventEncoder sseEventEncoder;
+    private final MonitoringTopicAccessValidator monitoringTopicAccessValidator;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    private final Map<String, MultiplexSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 멀티플렉스 스트림 열기
+     * 첫 이벤트(stream-opened)로 토픽 변경 API에 사용할 streamId 전달
+     */
+    public SseEmitter open() {
+        String streamId = UUID.randomUUID().toString();
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        SseSubscriber subscriber = sseDispatcher.register("stream-" + streamId, emitter);
+        subscriber.markMultiplexed();
+
+        MultiplexSession session = new MultiplexSession(streamId, subscriber);
+        sessions.put(streamId, session);
+
+        emitter.onTimeout(() -> {
+            log.warn("⚠️ 멀티플렉스 스트림 타임아웃: [{}]", streamId);
+            close(session);
+        });
+        emitter.onCompletion(() -> {
+            log.info("🔌 멀티플렉스 스트림 종료: [{}]", streamId);
+            close(session);
+        });
+        emitter.onError(throwable -> close(session));
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .comment("connected")
+                    .reconnectTime(5000));
+        } catch (IOException e) {
+            log.error("❌ 멀티플렉스 스트림 연결 오류: [{}]", streamId, e);
+            close(session);
+            throw new RuntimeException("SSE 연결 실패: " + streamId, e);
+        }
+        sseDispatcher.dispatch(subscriber, sseEventEncoder.encode("stream-opened", Map.of("streamId", streamId)));
+        sseService.scheduleHeartbeat(subscriber);   // 스트림당 heartbeat 1개 (유휴 시에만 전송)
+
+        log.info("✅ 멀티플렉스 스트림 시작: [{}], 현재 스트림 수: {}", streamId, sessions.size());
+        return emitter;
+    }
+
+    /**
+     * 토픽 추가/제거
+     * 추가 토픽은 모두 해석/권한 검증을 통과해야 반영 (하나라도 실패하면 전체 거부)
+     * 스트림은 처음 변경 요청한 회원에게 귀속되며, 다른 회원은 변경할 수 없다.
+     */
+    public MultiplexStreamResponse updateTopics(String streamId, MultiplexTopicRequest request) {
+        MultiplexSession session = getSession(streamId);
+        Long memberId = monitoringTopicAccessValidator.currentMemberId();
+        session.bindOwner(memberId);
+
+        Map<String, MonitoringTopic> toAdd = new LinkedHashMap<>();
+        for (String topic : request.addTopics()) {
+            MonitoringTopic parsed = MonitoringTopic.parse(topic);
+            if (!session.topics.contains(parsed.name())) {
+                toAdd.put(parsed.name(), parsed);
+            }
+        }
+
+        synchronized (session) {
+            if (session.subscriber.isClosed()) {
+                throw new EntityNotFoundException("스트림", streamId);
+            }
+            List<String> toRemove = request.removeTopics().stream()
+                    .filter(session.topics::contains)
+                    .toList();
+
+            int maxTopics = monitoringSseProperties.getMultiplex().getMaxTopics();
+            if (session.topics.size() - toRemove.size() + toAdd.size() > maxTopics) {
+                throw new IllegalArgumentException("스트림당 구독 토픽은 최대 " + maxTopics + "개입니다.");
+            }
+
+            if (!toAdd.isEmpty()) {
+                monitoringTopicAccessValidator.validate(memberId, toAdd.values());
+            }
+
+            toRemove.forEach(topic -> {
+                session.topics.remove(topic);
+                sseService.removeMultiplexTopic(session.subscriber, topic);
+            });
+            toAdd.values().forEach(topic -> {
+                if (session.topics.add(topic.name())) {
+                    sseService.addMultiplexTopic(session.subscriber, topic);
+                }
+            });
+        }
+
+        log.info("🔀 멀티플렉스 스트림 [{}] 토픽 변경 - 추가: {}, 제거: {}, 현재: {}개",
+                streamId, toAdd.keySet(), request.removeTopics(), session.topics.size());
+        return toResponse(session);
+    }
+
+    /** 스트림 상태 조회 */
+    public MultiplexStreamResponse getStream(String streamId) {
+        MultiplexSession session = getSession(streamId);
+        session.bindOwner(monitoringTopicAccessValidator.currentMemberId());
+        return toResponse(session);
+    }
+
+    private MultiplexSession getSession(String streamId) {
+        MultiplexSession session = sessions.get(streamId);
+        if (session == null) {
+            throw new EntityNotFoundException("스트림", streamId);
+        }
+        return session;
+    }
+
+    // 스트림 종료 시 모든 토픽 구독 해제
+    private void close(MultiplexSession session) {
+        if (sessions.remove(session.streamId) == null) {
+            return;
+        }
+        session.subscriber.close();
+        synchronized (session) {
+            session.topics.forEach(topic -> sseService.removeMultiplexTopic(session.subscriber, topic));
+            session.topics.clear();
+        }
+    }
+
+    private MultiplexStreamResponse toResponse(MultiplexSession session) {
+        return new MultiplexStreamResponse(session.streamId, session.topics.stream().sorted().toList());
+    }
+
+    // 멀티플렉스 스트림 1개 (연결 1개 + 구독 토픽 목록)
+    private static final class MultiplexSession {
+        private final String streamId;
+        private final SseSubscriber subscriber;
+        private final Set<String> topics = ConcurrentHashMap.newKeySet();
+        private Long ownerId;
+
+        private MultiplexSession(String streamId, SseSubscriber subscriber) {
+            this.streamId = streamId;
+            this.subscriber = subscriber;
+        }
+
+        private synchronized void bindOwner(Long memberId) {
+            if (ownerId == null) {
+                ownerId = memberId;
+            } else if (!ownerId.equals(memberId)) {
+                throw new AccessDeniedException("다른 사용자의 스트림입니다.");
+            }
+        }
+    }
+}
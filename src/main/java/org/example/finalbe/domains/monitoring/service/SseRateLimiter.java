@@ -0,0 +1,291 @@
+/**
+ * 작성자: 황요한
+ * 클라이언트 희망 주기(?interval=)로 SSE를 전송하는 구독 그룹 관리
+ * 같은 토픽·주기·집계 방식의 구독자를 하나의 그룹으로 묶고, 수집 주기마다 들어오는 이벤트는
+ * 그룹 버퍼에만 반영한 뒤 그룹 주기마다 한 번 인코딩하여 전송한다.
+ * 따라서 전송(fan-out) 비용은 수집 주기가 아니라 요청한 주기에 비례한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.StreamAggregation;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRateLimiter {
+
+    private static final long HEARTBEAT_INTERVAL_MS = 30_000;
+
+    // 한 틱에 항목별로 여러 건이 오는 이벤트의 항목 식별 필드 (버퍼 키 = 이벤트 이름 + 식별 값)
+    private static final Map<String, List<String>> ITEM_KEY_FIELDS = Map.of(
+            "network", List.of("equipmentId", "nicName"));
+
+    private final ObjectMapper objectMapper;
+    private final SseEventEncoder sseEventEncoder;
+    private final SseDispatcher sseDispatcher;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    // 토픽 → (주기:집계 방식 → 그룹)
+    private final Map<String, Map<String, RateGroup>> topicGroups = new ConcurrentHashMap<>();
+
+    /**
+     * 구독자를 토픽·주기·집계 방식 그룹에 등록 (범위 밖 주기는 보정), 적용된 주기 반환
+     */
+    long register(String topic, SseSubscriber subscriber, long requestedInterval, StreamAggregation aggregation) {
+        MonitoringSseProperties.Rate config = monitoringSseProperties.getRate();
+        long interval = Math.max(config.getMinInterval(), Math.min(config.getMaxInterval(), requestedInterval));
+        StreamAggregation mode = aggregation != null ? aggregation : StreamAggregation.LATEST;
+        subscriber.markRateLimited(mode, interval);
+
+        topicGroups.compute(topic, (key, groups) -> {
+            Map<String, RateGroup> target = groups != null ? groups : new ConcurrentHashMap<>();
+            target.computeIfAbsent(interval + ":" + mode, groupKey -> new RateGroup(interval, mode))
+                    .subscribers.add(subscriber);
+            return target;
+        });
+        return interval;
+    }
+
+    /** 구독 해제 (빈 그룹/토픽 제거) */
+    void remove(SseSubscriber subscriber) {
+        topicGroups.computeIfPresent(subscriber.getTopic(), (key, groups) -> {
+            groups.values().removeIf(group -> group.subscribers.remove(subscriber) && group.subscribers.isEmpty());
+            return groups.isEmpty() ? null : groups;
+        });
+    }
+
+    /** 구독 중인 토픽 (인스턴스 간 구독 공지용) */
+    public Set<String> getTopics() {
+        return topicGroups.keySet();
+    }
+
+    public boolean hasSubscribers(String topic) {
+        Map<String, RateGroup> groups = topicGroups.get(topic);
+        return groups != null && !groups.isEmpty();
+    }
+
+    /**
+     * 수집 주기 이벤트를 그룹 버퍼에 반영 (전송 없음)
+     * SUMMARY 그룹이 있거나 항목별 이벤트(NIC별 network 등)이면 JSON 파싱은 이벤트당 1회만 수행
+     */
+    void offer(String topic, String eventName, String json) {
+        Map<String, RateGroup> groups = topicGroups.get(topic);
+        if (groups == null || groups.isEmpty()) {
+            return;
+        }
+
+        List<String> keyFields = ITEM_KEY_FIELDS.get(eventName);
+        JsonNode tree = keyFields != null ? readTree(json) : null;
+        String bufferKey = keyFields != null ? itemKey(eventName, keyFields, tree) : eventName;
+
+        for (RateGroup group : groups.values()) {
+            if (group.aggregation == StreamAggregation.SUMMARY && tree == null) {
+                tree = readTree(json);
+            }
+            group.offer(bufferKey, eventName, json, tree);
+        }
+    }
+
+    // 이벤트 이름 + 항목 식별 값 (예: network|12|eth0)
+    private static String itemKey(String eventName, List<String> keyFields, JsonNode tree) {
+        StringBuilder key = new StringBuilder(eventName);
+        for (String field : keyFields) {
+            key.append('|').append(tree.path(field).asText());
+        }
+        return key.toString();
+    }
+
+    /** 단일 값 요약 프레임 (SUMMARY 구독자의 초기 데이터, 실시간 이벤트와 같은 형태) */
+    EncodedSseEvent encodeSingleSummary(String eventName, String json, long interval) {
+        SummaryAccumulator accumulator = new SummaryAccumulator(eventName);
+        accumulator.add(readTree(json));
+        return sseEventEncoder.encode(eventName, accumulator.toJson(objectMapper, interval).toString());
+    }
+
+    /**
+     * 주기가 된 그룹 전송
+     * 그룹 버퍼를 이벤트별 1회 인코딩 후 그룹 구독자 큐에 전달, 보낼 이벤트가 없으면 heartbeat만 유지
+     */
+    @Scheduled(fixedRate = 1000)
+    public void flushDueGroups() {
+        if (topicGroups.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+
+        topicGroups.forEach((topic, groups) -> groups.values().forEach(group -> {
+            if (now - group.lastFlushAt < group.interval) {
+                return;
+            }
+            List<EncodedSseEvent> frames = group.drain(now);
+            if (frames.isEmpty()) {
+                if (now - group.lastSentAt < HEARTBEAT_INTERVAL_MS) {
+                    return;
+                }
+                frames = List.of(sseEventEncoder.encodeComment("heartbeat", 5000));
+            }
+            group.lastSentAt = now;
+
+            for (EncodedSseEvent frame : frames) {
+                group.subscribers.removeIf(subscriber -> !sseDispatcher.dispatch(subscriber, frame));
+            }
+            if (group.subscribers.isEmpty()) {
+                log.debug("🗑️ 주기 전송 그룹 구독자 없음: [{}] {}ms {}", topic, group.interval, group.aggregation);
+            }
+        }));
+
+        // 구독자가 모두 끊긴 그룹/토픽 정리
+        topicGroups.keySet().forEach(topic -> topicGroups.computeIfPresent(topic, (key, groups) -> {
+            groups.values().removeIf(group -> group.subscribers.isEmpty());
+            return groups.isEmpty() ? null : groups;
+        }));
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 요약 집계 실패: JSON 파싱 오류", e);
+        }
+    }
+
+    // 토픽·주기·집계 방식이 같은 구독자 그룹 (버퍼는 this 락으로 보호)
+    private final class RateGroup {
+        private final long interval;
+        private final StreamAggregation aggregation;
+        private final List<SseSubscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Map<String, BufferedEvent> latest = new LinkedHashMap<>();         // 버퍼 키 → 최신 이벤트
+        private final Map<String, SummaryAccumulator> summaries = new LinkedHashMap<>(); // 버퍼 키 → 요약
+        private volatile long lastFlushAt = System.currentTimeMillis();
+        private volatile long lastSentAt = System.currentTimeMillis();
+
+        private RateGroup(long interval, StreamAggregation aggregation) {
+            this.interval = interval;
+            this.aggregation = aggregation;
+        }
+
+        private synchronized void offer(String bufferKey, String eventName, String json, JsonNode tree) {
+            if (aggregation == StreamAggregation.SUMMARY) {
+                summaries.computeIfAbsent(bufferKey, key -> new SummaryAccumulator(eventName)).add(tree);
+            } else {
+                latest.put(bufferKey, new BufferedEvent(eventName, json));
+            }
+        }
+
+        private synchronized List<EncodedSseEvent> drain(long now) {
+            lastFlushAt = now;
+            List<EncodedSseEvent> frames = new ArrayList<>(Math.max(latest.size(), summaries.size()));
+            latest.values().forEach(event -> frames.add(sseEventEncoder.encode(event.eventName(), event.json())));
+            summaries.values().forEach(accumulator -> frames.add(sseEventEncoder.encode(
+                    accumulator.eventName, accumulator.toJson(objectMapper, interval).toString())));
+            latest.clear();
+            summaries.clear();
+            return frames;
+        }
+    }
+
+    private record BufferedEvent(String eventName, String json) {
+    }
+
+    /**
+     * 주기 내 이벤트 요약
+     * {"interval":ms,"count":n,"latest":{...},"min":{...},"max":{...},"avg":{...}}
+     * min/max/avg는 최신 값과 같은 구조에서 숫자 메트릭 필드만 집계 (배열 내부는 제외)
+     * ID/인덱스 필드(id, xxxId, xxxIndex)는 집계하지 않고 최신 값을 그대로 복사
+     */
+    private static final class SummaryAccumulator {
+        private final String eventName;
+        private final Map<String, double[]> stats = new LinkedHashMap<>();   // 경로 → {min, max, sum, count}
+        private final Map<String, JsonNode> identifiers = new LinkedHashMap<>();   // 경로 → 최신 값
+        private JsonNode latest;
+        private int count;
+
+        private SummaryAccumulator(String eventName) {
+            this.eventName = eventName;
+        }
+
+        private void add(JsonNode tree) {
+            latest = tree;
+            count++;
+            collect("", tree);
+        }
+
+        private void collect(String path, JsonNode node) {
+            if (node.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    collect(path.isEmpty() ? field.getKey() : path + "." + field.getKey(), field.getValue());
+                }
+            } else if (node.isNumber() && !path.isEmpty()) {
+                if (isIdentifier(path)) {
+                    identifiers.put(path, node);
+                    return;
+                }
+                double value = node.asDouble();
+                double[] stat = stats.computeIfAbsent(path,
+                        key -> new double[]{Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, 0});
+                stat[0] = Math.min(stat[0], value);
+                stat[1] = Math.max(stat[1], value);
+                stat[2] += value;
+                stat[3]++;
+            }
+        }
+
+        private ObjectNode toJson(ObjectMapper objectMapper, long interval) {
+            ObjectNode summary = objectMapper.createObjectNode();
+            summary.put("interval", interval);
+            summary.put("count", count);
+            summary.set("latest", latest);
+            ObjectNode min = summary.putObject("min");
+            ObjectNode max = summary.putObject("max");
+            ObjectNode avg = summary.putObject("avg");
+            identifiers.forEach((path, value) -> {
+                put(min, path, value);
+                put(max, path, value);
+                put(avg, path, value);
+            });
+            stats.forEach((path, stat) -> {
+                put(min, path, DoubleNode.valueOf(stat[0]));
+                put(max, path, DoubleNode.valueOf(stat[1]));
+                put(avg, path, DoubleNode.valueOf(stat[2] / stat[3]));
+            });
+            return summary;
+        }
+
+        // 마지막 경로 구간 기준 (id, equipmentId, nicIndex 등)
+        private static boolean isIdentifier(String path) {
+            String field = path.substring(path.lastIndexOf('.') + 1);
+            return field.equals("id") || field.endsWith("Id") || field.endsWith("Index");
+        }
+
+        private static void put(ObjectNode root, String path, JsonNode value) {
+            String[] segments = path.split("\\.");
+            ObjectNode node = root;
+            for (int i = 0; i < segments.length - 1; i++) {
+                JsonNode child = node.get(segments[i]);
+                node = child instanceof ObjectNode object ? object : node.putObject(segments[i]);
+            }
+            node.set(segments[segments.length - 1], value);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * 작성자: 황요한
+ * 토픽별 재전송 링 버퍼와 이벤트 ID 발급을 관리하는 컴포넌트 (Last-Event-ID 재연결)
+ * ID는 서버 기동 시각 기반 시작값에서 단조 증가하므로 토픽별로도 단조 증가하고,
+ * 이전 기동에서 받은 Last-Event-ID는 자동으로 재전송 불가(초기 데이터 전송)로 처리된다.
+ * ID 발급과 버퍼 적재는 같은 토픽 락 안에서 수행하므로 버퍼 안의 ID 순서가 발급 순서와 일치한다.
+ * 같은 이벤트를 여러 토픽에 발행해도(알림 등) 관련 토픽 락을 모두 잡고 ID는 하나만 발급한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseReplayBuffer {
+
+    private final SseEventEncoder sseEventEncoder;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Map<String, SseReplayRing> rings = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 등록
+     * Last-Event-ID 이후 이벤트가 버퍼에 모두 남아 있으면 replay로 재전송한 뒤 register 실행 (true 반환)
+     * 재전송과 등록은 토픽 락 안에서 수행되므로 그 사이 발행된 이벤트가 누락/중복되지 않는다.
+     */
+    public boolean subscribe(String topic, String lastEventId,
+                             Consumer<EncodedSseEvent> replay, Runnable register) {
+        SseReplayRing ring = attach(topic);
+        synchronized (ring) {
+            List<EncodedSseEvent> missed = since(ring, lastEventId);
+            if (missed != null) {
+                missed.forEach(replay);
+                log.info("🔁 SSE 재연결: [{}], Last-Event-ID: {}, 재전송: {}건", topic, lastEventId, missed.size());
+            }
+            register.run();
+            return missed != null;
+        }
+    }
+
+    /**
+     * 발행 - 토픽 락 안에서 ID 발급 → 인코딩 → 버퍼 적재 → deliver 실행
+     * 구독 이력이 없는 토픽은 버퍼 없이 deliver만 실행
+     */
+    public void publish(String topic, String eventName, Object data, Consumer<EncodedSseEvent> deliver) {
+        publish(List.of(topic), eventName, data, (key, event) -> deliver.accept(event));
+    }
+
+    /**
+     * 여러 토픽 발행 - 토픽 락을 이름 순서로 모두 잡은 뒤 ID 1개 발급 (토픽마다 ID 단조 증가 보장, 직렬화 1회)
+     * 락 순서가 고정되어 있어 다른 다중 토픽 발행과 교착되지 않는다.
+     */
+    public void publish(Collection<String> topics, String eventName, Object data,
+                        BiConsumer<String, EncodedSseEvent> deliver) {
+        List<String> ordered = topics.stream().distinct().sorted().toList();
+        Map<String, SseReplayRing> held = new HashMap<>();
+        for (String topic : ordered) {
+            SseReplayRing ring = rings.get(topic);
+            if (ring != null) {
+                held.put(topic, ring);
+            }
+        }
+        List<SseReplayRing> locks = ordered.stream().map(held::get).filter(Objects::nonNull).toList();
+        withLocks(locks, 0, () -> {
+            EncodedSseEvent event = sseEventEncoder.encode(eventName, data, sequence.incrementAndGet());
+            for (String topic : ordered) {
+                SseReplayRing ring = held.get(topic);
+                if (ring != null) {
+                    ring.add(event);
+                }
+                deliver.accept(topic, event);
+            }
+        });
+    }
+
+    private void withLocks(List<SseReplayRing> locks, int index, Runnable action) {
+        if (index == locks.size()) {
+            action.run();
+            return;
+        }
+        synchronized (locks.get(index)) {
+            withLocks(locks, index + 1, action);
+        }
+    }
+
+    /** 마지막 구독자 해제 (보관 기간 동안은 계속 적재) */
+    public void detach(String topic) {
+        SseReplayRing ring = rings.get(topic);
+        if (ring != null) {
+            ring.detach(System.currentTimeMillis());
+        }
+    }
+
+    /** 구독 중이거나 재연결 대기 중인 토픽 여부 (구독자가 없어도 버퍼 적재를 위해 발행 유지) */
+    public boolean isRetained(String topic) {
+        SseReplayRing ring = rings.get(topic);
+        return ring != null && ring.isRetained(System.currentTimeMillis(),
+                monitoringSseProperties.getReplay().getRetention());
+    }
+
+    // 구독 시 토픽 버퍼 조회 (없으면 생성, 만료 제거와 경쟁하지 않도록 키 단위로 원자적으로 처리)
+    private SseReplayRing attach(String topic) {
+        return rings.compute(topic, (key, ring) -> {
+            SseReplayRing target = ring != null ? ring
+                    : new SseReplayRing(monitoringSseProperties.getReplay().getCapacity(), sequence.get());
+            target.attach();
+            return target;
+        });
+    }
+
+    // Last-Event-ID 이후 누락 이벤트 (재전송 불가 시 null)
+    private List<EncodedSseEvent> since(SseReplayRing ring, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return ring.since(Long.parseLong(lastEventId.trim()), sequence.get());
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 Last-Event-ID: {}", lastEventId);
+            return null;
+        }
+    }
+
+    // 보관 기간이 지난 토픽 버퍼 제거
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredRings() {
+        long now = System.currentTimeMillis();
+        long retention = monitoringSseProperties.getReplay().getRetention();
+        rings.keySet().forEach(topic ->
+                rings.computeIfPresent(topic, (key, ring) -> ring.isRetained(now, retention) ? ring : null));
+    }
+}
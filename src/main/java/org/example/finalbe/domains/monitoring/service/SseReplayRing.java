@@ -0,0 +1,70 @@
+/**
+ * 작성자: 황요한
+ * 토픽 1개의 최근 이벤트 링 버퍼 (Last-Event-ID 재전송용)
+ * 발행(적재 + 전송)과 재연결 구독(재전송 + 등록)은 이 객체를 락으로 사용하여 순서와 중복 없음을 보장한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class SseReplayRing {
+
+    private final EncodedSseEvent[] frames;
+    private int head;   // 가장 오래된 프레임 위치
+    private int size;
+
+    // 이 ID 이하의 이벤트는 보관하지 않음 (생성 시점 또는 마지막으로 밀려난 프레임의 ID)
+    private long lowWatermark;
+
+    private volatile long detachedAt;   // 마지막 구독자가 해제된 시각 (0이면 구독 중)
+
+    SseReplayRing(int capacity, long lowWatermark) {
+        this.frames = new EncodedSseEvent[capacity];
+        this.lowWatermark = lowWatermark;
+    }
+
+    synchronized void add(EncodedSseEvent event) {
+        if (size == frames.length) {
+            lowWatermark = frames[head].getId();
+            frames[head] = event;
+            head = (head + 1) % frames.length;
+        } else {
+            frames[(head + size) % frames.length] = event;
+            size++;
+        }
+    }
+
+    /**
+     * lastEventId 이후 이벤트 목록
+     * 버퍼에서 이미 밀려나 누락 없이 재전송할 수 없거나, 알 수 없는 ID(다른 서버 기동 등)이면 null
+     */
+    synchronized List<EncodedSseEvent> since(long lastEventId, long currentId) {
+        if (lastEventId < lowWatermark || lastEventId > currentId) {
+            return null;
+        }
+
+        List<EncodedSseEvent> missed = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            EncodedSseEvent event = frames[(head + i) % frames.length];
+            if (event.getId() > lastEventId) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    void attach() {
+        detachedAt = 0;
+    }
+
+    void detach(long now) {
+        detachedAt = now;
+    }
+
+    // 구독 중이거나 해제 후 보관 기간 이내
+    boolean isRetained(long now, long retention) {
+        long detached = detachedAt;
+        return detached == 0 || now - detached < retention;
+    }
+}
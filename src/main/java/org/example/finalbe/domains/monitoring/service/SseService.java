@@ -4,19 +4,26 @@
  */
 package org.example.finalbe.domains.monitoring.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.finalbe.domains.common.enumdir.DelYN;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.common.enumdir.StreamAggregation;
 import org.example.finalbe.domains.equipment.domain.Equipment;
 import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
 import org.example.finalbe.domains.monitoring.domain.DiskMetric;
 import org.example.finalbe.domains.monitoring.domain.EnvironmentMetric;
 import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
 import org.example.finalbe.domains.monitoring.domain.SystemMetric;
 import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.EquipmentSnapshotDto;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
 import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
 import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.SseSubscribeOptions;
 import org.example.finalbe.domains.monitoring.repository.DiskMetricRepository;
 import org.example.finalbe.domains.monitoring.repository.EnvironmentMetricRepository;
 import org.example.finalbe.domains.monitoring.repository.NetworkMetricRepository;
@@ -31,8 +38,12 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -44,10 +55,14 @@ public class SseService {
     private final MonitoringMetricCache monitoringMetricCache;
 
     // 구독자 관리 맵 (ConcurrentHashMap: 스레드 안전)
-    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<String, List<SseSubscriber>> emitters = new ConcurrentHashMap<>();
 
     private static final Long DEFAULT_TIMEOUT = 60L * 60 * 1000; // 1시간
     private static final long HEARTBEAT_INTERVAL_MS = 30_000;
+    private static final long HEARTBEAT_TICK_MS = 1_000;
+
+    // 유휴 구독자 heartbeat 예약 (구독자별 마지막 전송 시각 기준)
+    private final SseHeartbeatWheel heartbeatWheel = new SseHeartbeatWheel(HEARTBEAT_INTERVAL_MS, HEARTBEAT_TICK_MS);
 
     private final SystemMetricRepository systemMetricRepository;
     private final DiskMetricRepository diskMetricRepository;
@@ -59,18 +74,46 @@ public class SseService {
     private final ServerRoomMonitoringService serverRoomMonitoringService;
     private final DataCenterMonitoringService dataCenterMonitoringService;
     private final RackMonitoringService rackMonitoringService;
+    private final StatisticsEpochHolder statisticsEpochHolder;
+    private final HotEquipmentIndex hotEquipmentIndex;
+    private final MonitoringSseProperties monitoringSseProperties;
+    private final SseEventEncoder sseEventEncoder;
+    private final SseDispatcher sseDispatcher;
+    private final SseStreamHub sseStreamHub;
+    private final SseReplayBuffer sseReplayBuffer;
+    private final MonitoringBinaryChannel monitoringBinaryChannel;
+    private final StatisticsDeltaEncoder statisticsDeltaEncoder;
+    private final SseRateLimiter sseRateLimiter;
+    private final MonitoringEventBus monitoringEventBus;
+    private final MonitoringTopicInterest monitoringTopicInterest;
+
+    /** 다른 인스턴스에서 발행된 토픽 이벤트 수신 + 로컬 구독 토픽 공지 등록 */
+    @PostConstruct
+    public void registerEventBus() {
+        monitoringEventBus.subscribe(MonitoringBusChannel.SSE_TOPIC, this::onRemoteEvent);
+        monitoringTopicInterest.registerLocalTopics(this::getLocalTopics);
+    }
 
     /**
      * 장비 메트릭 구독 (equipmentId 기준)
+     * 기본은 틱당 equipment-snapshot 1건, perType이면 기존 system/disk/network 개별 이벤트
+     * Last-Event-ID로 누락분을 재전송할 수 있으면 초기 데이터(캐시/DB) 조회를 생략
      */
-    public SseEmitter subscribeEquipment(Long equipmentId) {
-        String topic = "equipment-" + equipmentId;
-        SseEmitter emitter = createEmitter(topic);
+    public SseEmitter subscribeEquipment(Long equipmentId, boolean perType, SseSubscribeOptions options) {
+        String topic = equipmentTopic(equipmentId, perType);
+        SseSubscriber subscriber = createEmitter(topic, options);
 
-        // 비동기로 초기 데이터 전송
-        asyncSendInitialData(equipmentId, emitter);
+        if (!subscriber.isResumed()) {
+            // 비동기로 초기 데이터 전송
+            asyncSendInitialData(equipmentId, subscriber, perType);
+        }
 
-        return emitter;
+        return subscriber.getEmitter();
+    }
+
+    /** 장비 토픽 (스냅샷 구독자와 개별 이벤트 구독자를 분리) */
+    public static String equipmentTopic(Long equipmentId, boolean perType) {
+        return perType ? "equipment-per-type-" + equipmentId : "equipment-" + equipmentId;
     }
 
     /**
@@ -78,7 +121,7 @@ public class SseService {
      * ✅ DB 조회와 SSE 전송을 분리하여 커넥션 누수 방지
      */
     @Async("taskExecutor")
-    void asyncSendInitialData(Long equipmentId, SseEmitter emitter) {
+    void asyncSendInitialData(Long equipmentId, SseSubscriber subscriber, boolean perType) {
         try {
             Equipment equipment = equipmentRepository.findByIdWithRackAndServerRoom(equipmentId)
                     .orElse(null);
@@ -88,11 +131,17 @@ public class SseService {
                 rackId = equipment.getRack().getId();
             }
 
-            boolean sentFromCache = sendFromCache(equipmentId, rackId, emitter);
-            if (!sentFromCache) {
+            InitialMetricData data = loadInitialDataFromCache(equipmentId, rackId);
+            if (data.isEmpty()) {
                 // ✅ DB 조회를 별도 메서드로 분리 (트랜잭션 범위 축소)
-                InitialMetricData data = loadInitialDataFromDatabase(equipmentId, rackId);
-                sendInitialData(emitter, data);
+                data = loadInitialDataFromDatabase(equipmentId, rackId);
+            }
+
+            String topic = equipmentTopic(equipmentId, perType);
+            if (perType) {
+                sendInitialData(subscriber, topic, data);
+            } else if (!data.isEmpty()) {
+                emitSafely(subscriber, topic, EquipmentTickCoalescer.SNAPSHOT_EVENT, data.toSnapshot(equipmentId));
             }
             log.info("🚀 [Equipment-{}] 초기 데이터 전송 완료 (RackID: {})", equipmentId, rackId);
         } catch (Exception e) {
@@ -131,18 +180,18 @@ public class SseService {
     /**
      * ✅ 조회된 데이터를 SSE로 전송 (DB 커넥션 없이 수행)
      */
-    private void sendInitialData(SseEmitter emitter, InitialMetricData data) {
+    private void sendInitialData(SseSubscriber subscriber, String topic, InitialMetricData data) {
         if (data.getSystemMetric() != null) {
-            emitSafely(emitter, "system", data.getSystemMetric());
+            emitSafely(subscriber, topic, "system", data.getSystemMetric());
         }
         if (data.getDiskMetric() != null) {
-            emitSafely(emitter, "disk", data.getDiskMetric());
+            emitSafely(subscriber, topic, "disk", data.getDiskMetric());
         }
         if (data.getNetworkMetrics() != null && !data.getNetworkMetrics().isEmpty()) {
-            emitSafely(emitter, "network", data.getNetworkMetrics());
+            emitSafely(subscriber, topic, "network", data.getNetworkMetrics());
         }
         if (data.getEnvironmentMetric() != null) {
-            emitSafely(emitter, "environment", data.getEnvironmentMetric());
+            emitSafely(subscriber, topic, "environment", data.getEnvironmentMetric());
         }
     }
 
@@ -155,45 +204,60 @@ public class SseService {
         private DiskMetric diskMetric;
         private List<NetworkMetric> networkMetrics;
         private EnvironmentMetric environmentMetric;
+
+        boolean isEmpty() {
+            return systemMetric == null && diskMetric == null && environmentMetric == null
+                    && (networkMetrics == null || networkMetrics.isEmpty());
+        }
+
+        EquipmentSnapshotDto toSnapshot(Long equipmentId) {
+            return EquipmentSnapshotDto.builder()
+                    .equipmentId(equipmentId)
+                    .timestamp(systemMetric != null ? systemMetric.getGenerateTime() : LocalDateTime.now())
+                    .system(systemMetric)
+                    .disk(diskMetric)
+                    .network(networkMetrics == null || networkMetrics.isEmpty() ? null : networkMetrics)
+                    .environment(environmentMetric)
+                    .build();
+        }
     }
 
     /**
-     * Cache에서 데이터 전송
-     * emitSafely가 boolean을 반환하므로 '|=' 연산 사용 가능
+     * Cache에서 초기 데이터 조회
      */
-    private boolean sendFromCache(Long equipmentId, Long rackId, SseEmitter emitter) {
-        boolean sent = false;
-        // System
-        if (monitoringMetricCache.getSystemMetric(equipmentId).isPresent()) {
-            sent |= emitSafely(emitter, "system", monitoringMetricCache.getSystemMetric(equipmentId).get());
-        }
-        // Disk
-        if (monitoringMetricCache.getDiskMetric(equipmentId).isPresent()) {
-            sent |= emitSafely(emitter, "disk", monitoringMetricCache.getDiskMetric(equipmentId).get());
-        }
-        // Network: 리스트 전체를 한 번에 전송
-        List<NetworkMetric> networks = monitoringMetricCache.getNetworkMetrics(equipmentId);
-        if (!networks.isEmpty()) {
-            sent |= emitSafely(emitter, "network", networks);
-        }
-        // Environment: Rack ID가 있으면 환경 정보도 전송
-        if (rackId != null && monitoringMetricCache.getEnvironmentMetric(rackId).isPresent()) {
-            sent |= emitSafely(emitter, "environment", monitoringMetricCache.getEnvironmentMetric(rackId).get());
+    private InitialMetricData loadInitialDataFromCache(Long equipmentId, Long rackId) {
+        InitialMetricData data = new InitialMetricData();
+        monitoringMetricCache.getSystemMetric(equipmentId).ifPresent(data::setSystemMetric);
+        monitoringMetricCache.getDiskMetric(equipmentId).ifPresent(data::setDiskMetric);
+        data.setNetworkMetrics(monitoringMetricCache.getNetworkMetrics(equipmentId));
+        // Environment: Rack ID가 있으면 환경 정보도 포함
+        if (rackId != null) {
+            monitoringMetricCache.getEnvironmentMetric(rackId).ifPresent(data::setEnvironmentMetric);
         }
-        return sent;
+        return data;
     }
 
     /**
-     * [중요] void 버전을 삭제하고 boolean 반환 버전만 남김
-     * 성공 시 true, 실패 시 false 반환
+     * 초기 데이터도 구독자 큐를 거쳐 전송 (실시간 이벤트와 순서 유지)
+     * 멀티플렉스 스트림이면 토픽 태그 프레임, delta 구독이면 키프레임, 요약 구독이면 단일 값 요약으로 전송
+     * 큐 등록 성공 시 true, 연결이 끊긴 경우 false 반환
      */
-    private boolean emitSafely(SseEmitter emitter, String eventName, Object data) {
+    private boolean emitSafely(SseSubscriber subscriber, String topic, String eventName, Object data) {
         try {
-            emitter.send(SseEmitter.event().name(eventName).data(data));
-            return true; // 전송 성공
-        } catch (IOException e) {
+            EncodedSseEvent event;
+            if (subscriber.isMultiplexed()) {
+                event = sseEventEncoder.encodeTagged(topic, eventName, data, sseEventEncoder.toJson(data));
+            } else if (subscriber.isDelta() && statisticsDeltaEncoder.supports(eventName)) {
+                event = statisticsDeltaEncoder.encodeKeyframe(topic, eventName, data);
+            } else if (subscriber.getAggregation() == StreamAggregation.SUMMARY) {
+                event = sseRateLimiter.encodeSingleSummary(eventName, sseEventEncoder.toJson(data), subscriber.getRateInterval());
+            } else {
+                event = sseEventEncoder.encode(eventName, data);
+            }
+            return sseDispatcher.dispatch(subscriber, event);
+        } catch (IllegalStateException e) {
             log.warn("SSE 초기 데이터 전송 실패: {}", eventName, e);
-            return false; // 전송 실패
+            return false;
         }
     }
 
@@ -202,34 +266,37 @@ public class SseService {
      * ✅ 초기 데이터: rack-statistics만 전송 (environment 포함)
      * ✅ 실시간: rack-statistics만 전송 (environment 중복 제거)
      */
-    public SseEmitter subscribeRack(Long rackId) {
+    public SseEmitter subscribeRack(Long rackId, SseSubscribeOptions options) {
         String topic = "rack-" + rackId;
-        SseEmitter emitter = createEmitter(topic);
-        asyncSendRackInitialData(rackId, emitter);
-        return emitter;
+        SseSubscriber subscriber = createEmitter(topic, options);
+        if (!subscriber.isResumed()) {
+            asyncSendRackInitialData(rackId, subscriber);
+        }
+        return subscriber.getEmitter();
     }
 
     @Async("taskExecutor")
-    void asyncSendRackInitialData(Long rackId, SseEmitter emitter) {
+    void asyncSendRackInitialData(Long rackId, SseSubscriber subscriber) {
         try {
             // ✅ 변경: rack-statistics만 전송 (environment 정보 포함)
-            monitoringMetricCache.getRackStatistics(rackId)
-                    .ifPresent(data -> emitSafely(emitter, "rack-statistics", data));
+            String topic = "rack-" + rackId;
+            Optional<RackStatisticsDto> epochStats = statisticsEpochHolder.getRackStatistics(rackId);
+            epochStats.ifPresent(data -> emitSafely(subscriber, topic, "rack-statistics", data));
 
-            // ✅ 캐시에 없으면 새로 계산
-            if (monitoringMetricCache.getRackStatistics(rackId).isEmpty()) {
+            // ✅ 에포크 스냅샷에 없으면 (첫 틱 이전, 신규 랙) 새로 계산
+            if (epochStats.isEmpty()) {
                 try {
                     Rack rack = rackRepository.findById(rackId).orElse(null);
                     if (rack != null) {
                         RackStatisticsDto statistics = calculateRackStatisticsForInitialData(rackId);
-                        emitSafely(emitter, "rack-statistics", statistics);
+                        emitSafely(subscriber, topic, "rack-statistics", statistics);
                         log.info("🚀 [Rack-{}] 초기 통계 데이터 계산 및 전송 완료", rackId);
                     }
                 } catch (Exception e) {
                     log.error("❌ [Rack-{}] 초기 통계 계산 실패", rackId, e);
                 }
             } else {
-                log.info("🚀 [Rack-{}] 초기 통계 데이터 전송 완료 (캐시에서)", rackId);
+                log.info("🚀 [Rack-{}] 초기 통계 데이터 전송 완료 (에포크 스냅샷)", rackId);
             }
         } catch (Exception e) {
             log.error("❌ [Rack-{}] 초기 데이터 전송 실패", rackId, e);
@@ -247,23 +314,41 @@ public class SseService {
 
     /**
      * 공통 Emitter 생성 및 등록 로직
+     * Last-Event-ID 이후 이벤트가 재전송 버퍼에 모두 남아 있으면 재전송 후 등록 (resumed)
+     * delta 구독은 재전송 버퍼(전체 데이터)를 쓰지 않고 항상 키프레임부터 시작
+     * 희망 주기(interval)를 지정하면 수집 주기 구독 목록 대신 주기 전송 그룹에 등록 (delta/재전송 미적용)
      */
-    private SseEmitter createEmitter(String topic) {
+    private SseSubscriber createEmitter(String topic, SseSubscribeOptions options) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-
-        this.emitters.putIfAbsent(topic, new CopyOnWriteArrayList<>());
-        this.emitters.get(topic).add(emitter);
-
-        log.info("✅ SSE 구독 시작: [{}], 현재 구독자 수: {}", topic, this.emitters.get(topic).size());
+        SseSubscriber subscriber = sseDispatcher.register(topic, emitter);
+
+        if (options.isRateLimited()) {
+            long interval = sseRateLimiter.register(topic, subscriber, options.interval(), options.aggregation());
+            log.info("✅ SSE 구독 시작: [{}], 전송 주기: {}ms ({})", topic, interval, subscriber.getAggregation());
+        } else {
+            if (options.delta()) {
+                subscriber.markDelta();
+            }
+            // 누락 이벤트 재전송과 등록을 토픽 단위로 원자적으로 수행
+            boolean resumed = sseReplayBuffer.subscribe(topic, options.delta() ? null : options.lastEventId(),
+                    event -> sseDispatcher.dispatch(subscriber, event),
+                    () -> this.emitters.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).add(subscriber));
+            if (resumed) {
+                subscriber.markResumed();
+            }
+            heartbeatWheel.schedule(subscriber, System.currentTimeMillis());
+            log.info("✅ SSE 구독 시작: [{}], 현재 구독자 수: {}", topic, this.emitters.getOrDefault(topic, List.of()).size());
+        }
 
         emitter.onTimeout(() -> {
             log.warn("⚠️ SSE 타임아웃: [{}]", topic);
-            this.emitters.get(topic).remove(emitter);
+            removeSubscriber(subscriber);
         });
         emitter.onCompletion(() -> {
             log.info("🔌 SSE 연결 종료: [{}]", topic);
-            this.emitters.get(topic).remove(emitter);
+            removeSubscriber(subscriber);
         });
+        emitter.onError(throwable -> removeSubscriber(subscriber));
 
         try {
             // ✅ 즉시 comment를 보내서 연결 수립 (데이터 없이 연결만 열림)
@@ -273,19 +358,84 @@ public class SseService {
             log.debug("📡 SSE 연결 수립 완료: [{}]", topic);
         } catch (IOException e) {
             log.error("❌ SSE 초기 연결 오류: [{}]", topic, e);
-            this.emitters.get(topic).remove(emitter);
+            removeSubscriber(subscriber);
             throw new RuntimeException("SSE 연결 실패: " + topic, e);
         }
 
-        return emitter;
+        return subscriber;
+    }
+
+    // 구독 해제 (종료/타임아웃/느린 구독자 정리 공통)
+    private void removeSubscriber(SseSubscriber subscriber) {
+        subscriber.close();
+        if (subscriber.getAggregation() != null) {
+            sseRateLimiter.remove(subscriber);
+            return;
+        }
+        List<SseSubscriber> topicSubscribers = this.emitters.get(subscriber.getTopic());
+        if (topicSubscribers != null) {
+            topicSubscribers.remove(subscriber);
+            if (topicSubscribers.isEmpty()) {
+                sseReplayBuffer.detach(subscriber.getTopic());
+            }
+        }
+    }
+
+    /**
+     * 멀티플렉스 스트림 heartbeat 예약 (토픽 수와 무관하게 연결당 1개, 일반 구독자와 같은 타이머 휠 사용)
+     * 최근 전송이 있던 스트림은 heartbeat 없이 다음 기한으로 다시 예약된다.
+     */
+    void scheduleHeartbeat(SseSubscriber subscriber) {
+        heartbeatWheel.schedule(subscriber, System.currentTimeMillis());
+    }
+
+    /**
+     * 멀티플렉스 스트림에 토픽 추가 (권한 검증은 호출 측에서 변경 요청당 1회 수행)
+     * 같은 구독자 객체를 토픽 구독 목록에 등록하고 토픽 종류별 초기 데이터를 태그 프레임으로 전송
+     */
+    void addMultiplexTopic(SseSubscriber subscriber, MonitoringTopic topic) {
+        String name = topic.name();
+        sseReplayBuffer.subscribe(name, null, event -> { },
+                () -> this.emitters.computeIfAbsent(name, key -> new CopyOnWriteArrayList<>()).add(subscriber));
+
+        Long targetId = topic.targetId();
+        switch (topic.type()) {
+            case EQUIPMENT -> asyncSendInitialData(targetId, subscriber, false);
+            case EQUIPMENT_PER_TYPE -> asyncSendInitialData(targetId, subscriber, true);
+            case RACK -> asyncSendRackInitialData(targetId, subscriber);
+            case SERVER_ROOM -> asyncSendServerRoomInitialData(targetId, subscriber);
+            case DATA_CENTER -> asyncSendDataCenterInitialData(targetId, subscriber);
+        }
+    }
+
+    /** 멀티플렉스 스트림에서 토픽 제거 */
+    void removeMultiplexTopic(SseSubscriber subscriber, String topic) {
+        List<SseSubscriber> topicSubscribers = this.emitters.get(topic);
+        if (topicSubscribers != null) {
+            topicSubscribers.remove(subscriber);
+            if (topicSubscribers.isEmpty()) {
+                sseReplayBuffer.detach(topic);
+            }
+        }
     }
 
     public void sendToEquipment(Long equipmentId, String eventName, Object data) {
-        String topic = "equipment-" + equipmentId;
+        String topic = equipmentTopic(equipmentId, false);
         if (!hasSubscribers(topic)) {
             return;
         }
-        asyncSend(topic, eventName, data);
+        sendData(topic, eventName, data);
+    }
+
+    /**
+     * 개별 이벤트(perType) 구독자에게 전송 (기존 클라이언트 호환)
+     */
+    public void sendToEquipmentPerType(Long equipmentId, String eventName, Object data) {
+        String topic = equipmentTopic(equipmentId, true);
+        if (!hasSubscribers(topic)) {
+            return;
+        }
+        sendData(topic, eventName, data);
     }
 
     /**
@@ -296,76 +446,164 @@ public class SseService {
         if (!hasSubscribers(topic)) {
             return;
         }
-        asyncSend(topic, eventName, data);
-    }
-
-    @Async("taskExecutor")
-    void asyncSend(String topic, String eventName, Object data) {
         sendData(topic, eventName, data);
     }
 
     /**
      * ✅ public 메서드로 변경 - 스케줄러에서 사용
+     * SseEmitter 구독자(수집 주기/희망 주기), 리액티브 스트림 구독자, WebSocket 바이너리 채널, 재연결 대기 중인 재전송 버퍼,
+     * 다른 인스턴스의 구독자를 모두 확인
      */
     public boolean hasSubscribers(String topic) {
-        List<SseEmitter> topicEmitters = this.emitters.get(topic);
-        return topicEmitters != null && !topicEmitters.isEmpty();
+        List<SseSubscriber> topicEmitters = this.emitters.get(topic);
+        return (topicEmitters != null && !topicEmitters.isEmpty())
+                || sseStreamHub.hasSubscribers(topic)
+                || monitoringBinaryChannel.hasSubscribers(topic)
+                || sseRateLimiter.hasSubscribers(topic)
+                || sseReplayBuffer.isRetained(topic)
+                || monitoringTopicInterest.isRemoteInterested(topic);
     }
 
+    // 이 인스턴스의 구독 토픽 (전송 경로 전체)
+    private Collection<String> getLocalTopics() {
+        Set<String> topics = new HashSet<>(this.emitters.keySet());
+        topics.addAll(sseStreamHub.getTopics());
+        topics.addAll(monitoringBinaryChannel.getTopics());
+        topics.addAll(sseRateLimiter.getTopics());
+        return topics;
+    }
+
+    /**
+     * 구독자 큐에 넣기만 하고 즉시 반환 (실제 전송은 SseDispatcher 스레드)
+     * 호출 스레드(수집 스케줄러)는 클라이언트 네트워크 속도와 무관하게 진행된다.
+     */
     private void sendData(String topic, String eventName, Object data) {
-        List<SseEmitter> topicEmitters = this.emitters.get(topic);
+        if (!monitoringSseProperties.getBus().isPublisher()) {
+            return; // 발행 노드가 버스로 전파한 이벤트만 전달
+        }
 
-        if (topicEmitters == null || topicEmitters.isEmpty()) {
+        // 구독자 수/경로와 무관하게 한 번만 직렬화
+        String json = sseEventEncoder.toJson(data);
+        deliver(topic, eventName, data, json);
+
+        // 다른 인스턴스에 구독자가 있는 토픽만 버스로 전파 (문자열 데이터는 JSON 원문이 아니므로 제외)
+        if (!(data instanceof String) && monitoringTopicInterest.isRemoteInterested(topic)) {
+            monitoringEventBus.publish(MonitoringBusChannel.SSE_TOPIC, MonitoringBusEvent.of(topic, eventName, json));
+        }
+    }
+
+    // 다른 인스턴스에서 발행된 이벤트를 로컬 구독자에게 전달
+    private void onRemoteEvent(MonitoringBusEvent event) {
+        if (event.data() == null) {
             return;
         }
+        for (String topic : event.topics()) {
+            deliver(topic, event.event(), null, event.data());
+        }
+    }
 
-        topicEmitters.removeIf(emitter -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
-                return false;
-            } catch (IOException e) {
-                log.warn("❌ SSE 데이터 전송 실패: [{}], Emitter 제거", topic);
+    /**
+     * 로컬 구독자 전달 (모든 전송 경로)
+     * data가 null이면 원격 이벤트이며, 객체가 필요한 WebSocket 채널은 JSON에서 복원한다.
+     */
+    private void deliver(String topic, String eventName, Object data, String json) {
+        sseStreamHub.publish(topic, eventName, json);
+        if (data != null) {
+            monitoringBinaryChannel.publish(topic, eventName, data);
+        } else {
+            monitoringBinaryChannel.publishJson(topic, eventName, json);
+        }
+        sseRateLimiter.offer(topic, eventName, json);   // 희망 주기 구독은 버퍼에만 반영
+
+        List<SseSubscriber> current = this.emitters.get(topic);
+        if ((current == null || current.isEmpty()) && !sseReplayBuffer.isRetained(topic)) {
+            return;
+        }
+
+        // 재연결 구독자를 위해 구독자가 잠시 없어도 ID를 붙여 버퍼에 적재
+        sseReplayBuffer.publish(topic, eventName, json, event -> {
+            List<SseSubscriber> topicEmitters = this.emitters.get(topic);
+            if (topicEmitters == null || topicEmitters.isEmpty()) {
+                return;
+            }
+
+            // 멀티플렉스 태그 프레임과 delta 프레임은 해당 구독자가 있을 때 한 번만 인코딩
+            EncodedSseEvent[] tagged = new EncodedSseEvent[1];
+            EncodedSseEvent[] delta = new EncodedSseEvent[1];
+            boolean deltaSupported = statisticsDeltaEncoder.supports(eventName);
+            boolean[] deltaEncoded = new boolean[1];
+            topicEmitters.removeIf(subscriber -> {
+                EncodedSseEvent frame = event;
+                if (subscriber.isMultiplexed()) {
+                    if (tagged[0] == null) {
+                        tagged[0] = sseEventEncoder.encodeTagged(topic, eventName, data, json);
+                    }
+                    frame = tagged[0];
+                } else if (subscriber.isDelta() && deltaSupported) {
+                    if (!deltaEncoded[0]) {
+                        delta[0] = statisticsDeltaEncoder.encodeNext(topic, eventName, json);
+                        deltaEncoded[0] = true;
+                    }
+                    if (delta[0] == null) {
+                        return false; // 변경 필드 없음
+                    }
+                    frame = delta[0];
+                }
+                if (sseDispatcher.dispatch(subscriber, frame)) {
+                    return false;
+                }
+                log.warn("❌ SSE 구독자 제거: [{}]", topic);
                 return true;
+            });
+
+            // 빈 리스트가 된 경우 topic 자체를 제거하여 메모리 누수 방지
+            if (topicEmitters.isEmpty()) {
+                this.emitters.remove(topic);
+                sseReplayBuffer.detach(topic);
+                log.debug("🗑️ 구독자가 없어 topic [{}] 제거", topic);
             }
         });
-
-        // 빈 리스트가 된 경우 topic 자체를 제거하여 메모리 누수 방지
-        if (topicEmitters.isEmpty()) {
-            this.emitters.remove(topic);
-            log.debug("🗑️ 구독자가 없어 topic [{}] 제거", topic);
-        }
     }
 
-    @Scheduled(fixedRate = HEARTBEAT_INTERVAL_MS)
+    /**
+     * Heartbeat 타이머 휠 진행 (1초 틱)
+     * 주기 동안 데이터 전송이 없던 구독자에게만 comment를 보내고, 슬롯 단위로 나눠 한꺼번에 몰리지 않게 한다.
+     * 전송(큐 투입)에 실패한 구독자는 바로 구독 목록에서 제거
+     */
+    @Scheduled(fixedRate = HEARTBEAT_TICK_MS)
     public void sendHeartbeats() {
-        // ✅ 구독자가 없으면 스킵하여 CPU 사용률 감소
-        if (emitters.isEmpty()) {
-            return;
+        long now = System.currentTimeMillis();
+        EncodedSseEvent heartbeat = sseEventEncoder.encodeComment("heartbeat", 5000);
+        int sent = heartbeatWheel.advance(now, subscriber -> {
+            if (sseDispatcher.dispatch(subscriber, heartbeat)) {
+                return true;
+            }
+            log.warn("⚠️ Heartbeat 실패: [{}] 구독자 제거", subscriber.getTopic());
+            removeSubscriber(subscriber);
+            return false;
+        });
+        if (sent > 0) {
+            log.debug("💓 Heartbeat 전송: {}개 유휴 구독자", sent);
         }
+    }
 
+    /**
+     * 닫힌 구독자/빈 토픽 정리 (전송 없이 목록만 확인)
+     */
+    @Scheduled(fixedRate = HEARTBEAT_INTERVAL_MS)
+    public void purgeClosedSubscribers() {
         emitters.forEach((topic, topicEmitters) -> {
             int removed = topicEmitters.size();
-            topicEmitters.removeIf(emitter -> {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .comment("heartbeat")
-                            .reconnectTime(5000));
-                    return false;
-                } catch (IOException e) {
-                    log.debug("⚠️ Heartbeat 실패: {}", topic);
-                    return true;
-                }
-            });
+            topicEmitters.removeIf(SseSubscriber::isClosed);
             removed -= topicEmitters.size();
 
             if (removed > 0) {
-                log.warn("⚠️ Heartbeat 실패: {} - {}개 구독자 제거됨", topic, removed);
+                log.warn("⚠️ 닫힌 구독자 정리: {} - {}개 구독자 제거됨", topic, removed);
             }
 
             if (topicEmitters.isEmpty()) {
                 emitters.remove(topic);
+                sseReplayBuffer.detach(topic);
             }
         });
     }
@@ -373,22 +611,28 @@ public class SseService {
     /**
      * 서버실 통계 구독 (serverRoomId 기준)
      */
-    public SseEmitter subscribeServerRoom(Long serverRoomId) {
+    public SseEmitter subscribeServerRoom(Long serverRoomId, SseSubscribeOptions options) {
         String topic = "serverroom-" + serverRoomId;
-        SseEmitter emitter = createEmitter(topic);
+        SseSubscriber subscriber = createEmitter(topic, options);
 
-        // 비동기로 초기 데이터 전송
-        asyncSendServerRoomInitialData(serverRoomId, emitter);
+        if (!subscriber.isResumed()) {
+            // 비동기로 초기 데이터 전송
+            asyncSendServerRoomInitialData(serverRoomId, subscriber);
+        }
 
-        return emitter;
+        return subscriber.getEmitter();
     }
 
     @Async("taskExecutor")
-    void asyncSendServerRoomInitialData(Long serverRoomId, SseEmitter emitter) {
+    void asyncSendServerRoomInitialData(Long serverRoomId, SseSubscriber subscriber) {
         try {
-            // ServerRoomMonitoringService를 통해 초기 통계 계산
-            ServerRoomStatisticsDto initialStats = serverRoomMonitoringService.calculateServerRoomStatistics(serverRoomId);
-            emitSafely(emitter, "serverroom-statistics", initialStats);
+            // 에포크 스냅샷 우선, 없을 때만 계산
+            ServerRoomStatisticsDto initialStats = statisticsEpochHolder.getServerRoomStatistics(serverRoomId)
+                    .orElseGet(() -> serverRoomMonitoringService.calculateServerRoomStatistics(serverRoomId));
+            String topic = "serverroom-" + serverRoomId;
+            emitSafely(subscriber, topic, "serverroom-statistics", initialStats);
+            emitSafely(subscriber, topic, "hot-equipment", hotEquipmentIndex.getServerRoomSnapshot(
+                    serverRoomId, monitoringSseProperties.getHotEquipmentLimit()));
             log.info("🚀 [ServerRoom-{}] 초기 통계 데이터 전송 완료", serverRoomId);
         } catch (Exception e) {
             log.error("❌ [ServerRoom-{}] 초기 통계 데이터 전송 실패", serverRoomId, e);
@@ -398,22 +642,28 @@ public class SseService {
     /**
      * 데이터센터 통계 구독 (dataCenterId 기준)
      */
-    public SseEmitter subscribeDataCenter(Long dataCenterId) {
+    public SseEmitter subscribeDataCenter(Long dataCenterId, SseSubscribeOptions options) {
         String topic = "datacenter-" + dataCenterId;
-        SseEmitter emitter = createEmitter(topic);
+        SseSubscriber subscriber = createEmitter(topic, options);
 
-        // 비동기로 초기 데이터 전송
-        asyncSendDataCenterInitialData(dataCenterId, emitter);
+        if (!subscriber.isResumed()) {
+            // 비동기로 초기 데이터 전송
+            asyncSendDataCenterInitialData(dataCenterId, subscriber);
+        }
 
-        return emitter;
+        return subscriber.getEmitter();
     }
 
     @Async("taskExecutor")
-    void asyncSendDataCenterInitialData(Long dataCenterId, SseEmitter emitter) {
+    void asyncSendDataCenterInitialData(Long dataCenterId, SseSubscriber subscriber) {
         try {
-            // DataCenterMonitoringService를 통해 초기 통계 계산
-            DataCenterStatisticsDto initialStats = dataCenterMonitoringService.calculateDataCenterStatistics(dataCenterId);
-            emitSafely(emitter, "datacenter-statistics", initialStats);
+            // 에포크 스냅샷 우선, 없을 때만 계산
+            DataCenterStatisticsDto initialStats = statisticsEpochHolder.getDataCenterStatistics(dataCenterId)
+                    .orElseGet(() -> dataCenterMonitoringService.calculateDataCenterStatistics(dataCenterId));
+            String topic = "datacenter-" + dataCenterId;
+            emitSafely(subscriber, topic, "datacenter-statistics", initialStats);
+            emitSafely(subscriber, topic, "hot-equipment", hotEquipmentIndex.getDataCenterSnapshot(
+                    dataCenterId, monitoringSseProperties.getHotEquipmentLimit()));
             log.info("🚀 [DataCenter-{}] 초기 통계 데이터 전송 완료", dataCenterId);
         } catch (Exception e) {
             log.error("❌ [DataCenter-{}] 초기 통계 데이터 전송 실패", dataCenterId, e);
@@ -428,7 +678,7 @@ public class SseService {
         if (!hasSubscribers(topic)) {
             return;
         }
-        asyncSend(topic, eventName, data);
+        sendData(topic, eventName, data);
     }
 
     /**
@@ -439,6 +689,6 @@ public class SseService {
         if (!hasSubscribers(topic)) {
             return;
         }
-        asyncSend(topic, eventName, data);
+        sendData(topic, eventName, data);
     }
 }
\ No newline at end of file
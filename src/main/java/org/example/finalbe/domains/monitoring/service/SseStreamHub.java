@@ -0,0 +1,131 @@
+/**
+ * 작성자: 황요한
+ * 리액티브(Flux) SSE 스트림 토픽 허브
+ * 토픽별 구독자를 ConcurrentHashMap 키셋으로 관리하여 구독/해제가 O(1)이고,
+ * 구독자마다 Emitter나 전송 스레드를 두지 않는다.
+ * heartbeat 타이머도 허브당 하나를 공유한다. (구독자 수와 무관하게 타이머 작업 1개)
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseStreamHub {
+
+    private static final ServerSentEvent<String> HEARTBEAT = ServerSentEvent.<String>builder()
+            .comment("heartbeat")
+            .build();
+
+    private final SseEventEncoder sseEventEncoder;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    private final Map<String, Set<FluxSink<ServerSentEvent<String>>>> topics = new ConcurrentHashMap<>();
+
+    // 공유 heartbeat (첫 구독 시 시작, 구독자가 모두 끊기면 타이머 정지)
+    private volatile Flux<ServerSentEvent<String>> sharedHeartbeat;
+
+    /**
+     * 토픽 구독
+     * 초기 이벤트를 먼저 보내고 이후 실시간 이벤트 + heartbeat를 전달한다.
+     * 버퍼가 가득 차면 가장 오래된 이벤트를 버린다 (느린 클라이언트가 발행 스레드를 막지 않음).
+     */
+    public Flux<ServerSentEvent<String>> subscribe(String topic, List<ServerSentEvent<String>> initialEvents) {
+        MonitoringSseProperties.Stream config = monitoringSseProperties.getStream();
+
+        Flux<ServerSentEvent<String>> live = Flux.<ServerSentEvent<String>>create(sink -> {
+                    register(topic, sink);
+                    sink.onDispose(() -> unregister(topic, sink));
+                })
+                .onBackpressureBuffer(config.getBufferCapacity(),
+                        dropped -> log.debug("⚠️ 스트림 버퍼 초과로 이벤트 제거: [{}]", topic),
+                        BufferOverflowStrategy.DROP_OLDEST);
+
+        // 느린 구독자는 자기 heartbeat만 버림 (공유 타이머와 다른 구독자를 막지 않음)
+        Flux<ServerSentEvent<String>> heartbeat = heartbeat(config).onBackpressureDrop();
+
+        return live.mergeWith(heartbeat).startWith(initialEvents);
+    }
+
+    private Flux<ServerSentEvent<String>> heartbeat(MonitoringSseProperties.Stream config) {
+        Flux<ServerSentEvent<String>> heartbeat = sharedHeartbeat;
+        if (heartbeat == null) {
+            synchronized (this) {
+                heartbeat = sharedHeartbeat;
+                if (heartbeat == null) {
+                    heartbeat = Flux.interval(Duration.ofMillis(config.getHeartbeatInterval()))
+                            .onBackpressureDrop()
+                            .map(tick -> HEARTBEAT)
+                            .share();
+                    sharedHeartbeat = heartbeat;
+                }
+            }
+        }
+        return heartbeat;
+    }
+
+    /**
+     * 토픽 발행 (data는 이미 직렬화된 문자열, 모든 구독자가 같은 이벤트 객체를 공유)
+     */
+    public void publish(String topic, String eventName, String data) {
+        Set<FluxSink<ServerSentEvent<String>>> sinks = topics.get(topic);
+        if (sinks == null || sinks.isEmpty()) {
+            return;
+        }
+
+        ServerSentEvent<String> event = ServerSentEvent.builder(data).event(eventName).build();
+        for (FluxSink<ServerSentEvent<String>> sink : sinks) {
+            sink.next(event);
+        }
+    }
+
+    public boolean hasSubscribers(String topic) {
+        Set<FluxSink<ServerSentEvent<String>>> sinks = topics.get(topic);
+        return sinks != null && !sinks.isEmpty();
+    }
+
+    /** 초기 데이터 등 단건 이벤트 생성 */
+    public ServerSentEvent<String> toEvent(String eventName, Object data) {
+        return ServerSentEvent.builder(sseEventEncoder.toJson(data)).event(eventName).build();
+    }
+
+    /** 구독 중인 토픽 (인스턴스 간 구독 공지용) */
+    public Set<String> getTopics() {
+        return topics.keySet();
+    }
+
+    /** 전체 스트림 구독자 수 */
+    public int getSubscriberCount() {
+        return topics.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // 토픽 키 단위로 원자적으로 등록 (동시에 마지막 구독자가 해제되며 토픽이 지워지는 경쟁 방지)
+    private void register(String topic, FluxSink<ServerSentEvent<String>> sink) {
+        topics.compute(topic, (key, sinks) -> {
+            Set<FluxSink<ServerSentEvent<String>>> target = sinks != null ? sinks : ConcurrentHashMap.newKeySet();
+            target.add(sink);
+            return target;
+        });
+    }
+
+    private void unregister(String topic, FluxSink<ServerSentEvent<String>> sink) {
+        topics.computeIfPresent(topic, (key, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+}
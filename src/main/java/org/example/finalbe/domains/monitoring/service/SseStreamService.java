@@ -0,0 +1,119 @@
+/**
+ * 작성자: 황요한
+ * 리액티브 SSE 스트림 구독 서비스 (장비/랙/서버실/데이터센터)
+ * 초기 데이터는 메모리(메트릭 캐시, 통계 에포크 스냅샷)에서만 구성하여 구독 시 DB를 조회하지 않는다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.common.enumdir.MonitoringTopicType;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.domain.DiskMetric;
+import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
+import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.example.finalbe.domains.monitoring.dto.EquipmentSnapshotDto;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class SseStreamService {
+
+    private final SseStreamHub sseStreamHub;
+    private final MonitoringMetricCache monitoringMetricCache;
+    private final StatisticsEpochHolder statisticsEpochHolder;
+    private final HotEquipmentIndex hotEquipmentIndex;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    /**
+     * 장비 메트릭 스트림
+     * 기본은 틱당 equipment-snapshot 1건, perType이면 기존 system/disk/network 개별 이벤트
+     */
+    public Flux<ServerSentEvent<String>> streamEquipment(Long equipmentId, boolean perType) {
+        MonitoringTopicType type = perType ? MonitoringTopicType.EQUIPMENT_PER_TYPE : MonitoringTopicType.EQUIPMENT;
+        return stream(new MonitoringTopic(type, equipmentId));
+    }
+
+    /**
+     * 랙 통계 스트림
+     */
+    public Flux<ServerSentEvent<String>> streamRack(Long rackId) {
+        return stream(new MonitoringTopic(MonitoringTopicType.RACK, rackId));
+    }
+
+    /**
+     * 서버실 통계 스트림
+     */
+    public Flux<ServerSentEvent<String>> streamServerRoom(Long serverRoomId) {
+        return stream(new MonitoringTopic(MonitoringTopicType.SERVER_ROOM, serverRoomId));
+    }
+
+    /**
+     * 데이터센터 통계 스트림
+     */
+    public Flux<ServerSentEvent<String>> streamDataCenter(Long dataCenterId) {
+        return stream(new MonitoringTopic(MonitoringTopicType.DATA_CENTER, dataCenterId));
+    }
+
+    /**
+     * 토픽 초기 데이터 (이벤트 이름 → 데이터, 전송 순서 유지)
+     * 메모리에 있는 값만 사용하므로 WebSocket 바이너리 채널 등 다른 전송 경로에서도 공유
+     */
+    public Map<String, Object> loadInitialData(MonitoringTopic topic) {
+        Map<String, Object> initialData = new LinkedHashMap<>();
+        Long targetId = topic.targetId();
+
+        switch (topic.type()) {
+            case EQUIPMENT_PER_TYPE -> {
+                monitoringMetricCache.getSystemMetric(targetId).ifPresent(metric -> initialData.put("system", metric));
+                monitoringMetricCache.getDiskMetric(targetId).ifPresent(metric -> initialData.put("disk", metric));
+                List<NetworkMetric> networks = monitoringMetricCache.getNetworkMetrics(targetId);
+                if (!networks.isEmpty()) {
+                    initialData.put("network", networks);
+                }
+            }
+            case EQUIPMENT -> {
+                Optional<SystemMetric> system = monitoringMetricCache.getSystemMetric(targetId);
+                Optional<DiskMetric> disk = monitoringMetricCache.getDiskMetric(targetId);
+                List<NetworkMetric> networks = monitoringMetricCache.getNetworkMetrics(targetId);
+                if (system.isPresent() || disk.isPresent() || !networks.isEmpty()) {
+                    initialData.put(EquipmentTickCoalescer.SNAPSHOT_EVENT, EquipmentSnapshotDto.builder()
+                            .equipmentId(targetId)
+                            .timestamp(system.map(SystemMetric::getGenerateTime).orElse(null))
+                            .system(system.orElse(null))
+                            .disk(disk.orElse(null))
+                            .network(networks.isEmpty() ? null : networks)
+                            .build());
+                }
+            }
+            case RACK -> statisticsEpochHolder.getRackStatistics(targetId)
+                    .ifPresent(statistics -> initialData.put("rack-statistics", statistics));
+            case SERVER_ROOM -> {
+                statisticsEpochHolder.getServerRoomStatistics(targetId)
+                        .ifPresent(statistics -> initialData.put("serverroom-statistics", statistics));
+                initialData.put("hot-equipment", hotEquipmentIndex.getServerRoomSnapshot(
+                        targetId, monitoringSseProperties.getHotEquipmentLimit()));
+            }
+            case DATA_CENTER -> {
+                statisticsEpochHolder.getDataCenterStatistics(targetId)
+                        .ifPresent(statistics -> initialData.put("datacenter-statistics", statistics));
+                initialData.put("hot-equipment", hotEquipmentIndex.getDataCenterSnapshot(
+                        targetId, monitoringSseProperties.getHotEquipmentLimit()));
+            }
+        }
+        return initialData;
+    }
+
+    private Flux<ServerSentEvent<String>> stream(MonitoringTopic topic) {
+        List<ServerSentEvent<String>> initialEvents = loadInitialData(topic).entrySet().stream()
+                .map(entry -> sseStreamHub.toEvent(entry.getKey(), entry.getValue()))
+                .toList();
+        return sseStreamHub.subscribe(topic.name(), initialEvents);
+    }
+}
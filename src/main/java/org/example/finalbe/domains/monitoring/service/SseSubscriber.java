@@ -0,0 +1,162 @@
+/**
+ * 작성자: 황요한
+ * SSE 구독자 1명의 Emitter와 전송 대기 큐 (크기 제한)
+ * 수집/스케줄러 스레드는 offer()로 큐에 넣기만 하고, 실제 전송은 SseDispatcher 스레드가 담당한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import org.example.finalbe.domains.common.enumdir.SseDeliveryPolicy;
+import org.example.finalbe.domains.common.enumdir.StreamAggregation;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class SseSubscriber {
+
+    private final String topic;
+    private final SseEmitter emitter;
+    private final int capacity;
+
+    private final Deque<EncodedSseEvent> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile boolean resumed;   // Last-Event-ID 재전송으로 이어 받은 구독
+    private volatile boolean multiplexed;   // 여러 토픽을 한 연결로 받는 멀티플렉스 스트림
+    private volatile boolean delta;         // 통계를 키프레임 + 변경 필드 patch로 받는 구독
+    private volatile StreamAggregation aggregation;   // 희망 주기로 묶어 받는 구독의 집계 방식 (없으면 null)
+    private volatile long rateInterval;               // 희망 주기로 묶어 받는 구독의 전송 주기(ms)
+    private volatile long lastWriteAt;                // 마지막 전송 성공 시각 (heartbeat 유휴 판단)
+
+    // 아래 필드는 this 락으로 보호
+    private long lastProgressAt;   // 큐가 비어 있지 않게 된 시각 또는 마지막 전송 성공 시각
+    private int droppedInRow;      // 전송 성공 없이 연속으로 버려진 프레임 수
+
+    SseSubscriber(String topic, SseEmitter emitter, int capacity) {
+        this.topic = topic;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.queue = new ArrayDeque<>(capacity);
+        this.lastWriteAt = System.currentTimeMillis();
+    }
+
+    String getTopic() {
+        return topic;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    boolean isResumed() {
+        return resumed;
+    }
+
+    void markResumed() {
+        resumed = true;
+    }
+
+    boolean isMultiplexed() {
+        return multiplexed;
+    }
+
+    void markMultiplexed() {
+        multiplexed = true;
+    }
+
+    boolean isDelta() {
+        return delta;
+    }
+
+    void markDelta() {
+        delta = true;
+    }
+
+    StreamAggregation getAggregation() {
+        return aggregation;
+    }
+
+    long getRateInterval() {
+        return rateInterval;
+    }
+
+    void markRateLimited(StreamAggregation aggregation, long rateInterval) {
+        this.aggregation = aggregation;
+        this.rateInterval = rateInterval;
+    }
+
+    /**
+     * 프레임 추가
+     * LATEST_VALUE: 같은 키(이벤트 이름, 멀티플렉스는 토픽별)의 대기 프레임을 교체 / 큐가 가득 차면 가장 오래된 프레임 제거
+     * 키가 없는 프레임(comment, delta 패치)은 교체하지도, 교체되지도 않음
+     */
+    synchronized void offer(EncodedSseEvent event, SseDeliveryPolicy policy, long now) {
+        if (queue.isEmpty()) {
+            lastProgressAt = now;
+        }
+
+        if (policy == SseDeliveryPolicy.LATEST_VALUE && event.getCoalesceKey() != null) {
+            Iterator<EncodedSseEvent> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                if (Objects.equals(iterator.next().getCoalesceKey(), event.getCoalesceKey())) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+
+        if (queue.size() >= capacity) {
+            queue.pollFirst();
+            droppedInRow++;
+        }
+        queue.addLast(event);
+    }
+
+    synchronized EncodedSseEvent poll() {
+        return queue.pollFirst();
+    }
+
+    // 전송 성공 시 지연/드롭 카운터 초기화
+    synchronized void markWritten(long now) {
+        lastProgressAt = now;
+        droppedInRow = 0;
+        lastWriteAt = now;
+    }
+
+    long getLastWriteAt() {
+        return lastWriteAt;
+    }
+
+    // 전송이 멈춘 시간(ms), 대기 프레임이 없으면 0
+    synchronized long lagMillis(long now) {
+        return queue.isEmpty() ? 0 : now - lastProgressAt;
+    }
+
+    synchronized int getDroppedInRow() {
+        return droppedInRow;
+    }
+
+    synchronized boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    // 디스패처 스레드 점유 (이미 전송 중이면 false)
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+}
@@ -0,0 +1,359 @@
+/**
+ * 작성자: 황요한
+ * 통계 SSE 변화 억제 필터
+ * 토픽별로 마지막 전송 값을 기억하고, 메트릭별 허용 오차(데드밴드)를 넘는 변화가 없으면 전송을 건너뛴다.
+ * 변화가 없어도 forceRefreshInterval마다 한 번은 전체 통계를 다시 보낸다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.HotMetricType;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.HotEquipmentDto;
+import org.example.finalbe.domains.monitoring.dto.HotEquipmentSnapshotDto;
+import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsDeadbandFilter {
+
+    // 메트릭 종류별 허용 오차 구분
+    private static final byte EXACT = 0;
+    private static final byte USAGE = 1;
+    private static final byte LOAD = 2;
+    private static final byte TEMPERATURE = 3;
+    private static final byte HUMIDITY = 4;
+    private static final byte THROUGHPUT = 5;
+
+    private final MonitoringSseProperties properties;
+
+    private final Map<String, PushState> lastPushed = new ConcurrentHashMap<>();
+    private final AtomicLong pushedCount = new AtomicLong();
+    private final AtomicLong suppressedCount = new AtomicLong();
+
+    /**
+     * 전송 여부 판단
+     * true를 반환하면 호출 측은 통계를 전송해야 하며, 이 값이 새 기준값으로 기록된다.
+     */
+    public boolean shouldPush(String topic, Object statistics) {
+        MonitoringSseProperties.Deadband deadband = properties.getDeadband();
+        if (!deadband.isEnabled()) {
+            return true;
+        }
+
+        Vector current = extract(statistics);
+        if (current == null) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        PushState previous = lastPushed.get(topic);
+
+        if (previous != null
+                && now - previous.pushedAt < deadband.getForceRefreshInterval()
+                && !current.movedBeyond(previous, deadband)) {
+            suppressedCount.incrementAndGet();
+            return false;
+        }
+
+        lastPushed.put(topic, new PushState(current.values(), current.bands(), now));
+        pushedCount.incrementAndGet();
+        return true;
+    }
+
+    /** 구독자가 없어진 토픽의 기준값 제거 */
+    public void forget(String topic) {
+        lastPushed.remove(topic);
+    }
+
+    /** 구독자가 없는 토픽의 기준값 일괄 제거 (키 "토픽:세부"는 토픽 기준) */
+    public void forgetUnsubscribed(Predicate<String> subscribed) {
+        lastPushed.keySet().removeIf(key -> {
+            int separator = key.indexOf(':');
+            return !subscribed.test(separator < 0 ? key : key.substring(0, separator));
+        });
+    }
+
+    // 억제 효과 로그
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void logSuppression() {
+        long pushed = pushedCount.getAndSet(0);
+        long suppressed = suppressedCount.getAndSet(0);
+        if (pushed + suppressed > 0) {
+            log.info("📉 통계 SSE 데드밴드 - 전송: {}, 억제: {} ({}%)",
+                    pushed, suppressed, Math.round(suppressed * 100.0 / (pushed + suppressed)));
+        }
+    }
+
+    // ===== 통계 DTO → 비교용 벡터 =====
+
+    private Vector extract(Object statistics) {
+        if (statistics instanceof ServerRoomStatisticsDto room) {
+            return extractServerRoom(room);
+        }
+        if (statistics instanceof DataCenterStatisticsDto dataCenter) {
+            return extractDataCenter(dataCenter);
+        }
+        if (statistics instanceof RackStatisticsDto rack) {
+            return extractRack(rack);
+        }
+        if (statistics instanceof HotEquipmentSnapshotDto hotEquipment) {
+            return extractHotEquipment(hotEquipment);
+        }
+        return null;
+    }
+
+    // 핫 장비: 순위(ID)가 바뀌면 무조건 전송, 값은 데드밴드 비교
+    private Vector extractHotEquipment(HotEquipmentSnapshotDto s) {
+        Vector vector = new Vector(256);
+        if (s.getRankings() == null) {
+            return vector;
+        }
+        for (HotMetricType metric : HotMetricType.values()) {
+            List<HotEquipmentDto> ranking = s.getRankings().get(metric);
+            if (ranking == null) {
+                vector.add(EXACT, (Number) null);
+                continue;
+            }
+            byte band = metric == HotMetricType.TEMPERATURE ? TEMPERATURE : USAGE;
+            vector.add(EXACT, ranking.size());
+            for (HotEquipmentDto entry : ranking) {
+                vector.add(EXACT, entry.getEquipmentId() != null ? entry.getEquipmentId() : entry.getRackId())
+                        .add(band, entry.getValue());
+            }
+        }
+        return vector;
+    }
+
+    private Vector extractServerRoom(ServerRoomStatisticsDto s) {
+        return new Vector(48)
+                .add(EXACT, s.getTotalEquipments()).add(EXACT, s.getActiveEquipments())
+                .add(EXACT, s.getInactiveEquipments())
+                .add(EXACT, s.getTotalRacks()).add(EXACT, s.getActiveRacks())
+                .add(USAGE, s.getAvgCpuUsage()).add(USAGE, s.getMaxCpuUsage()).add(USAGE, s.getMinCpuUsage())
+                .add(LOAD, s.getAvgLoadAvg1()).add(LOAD, s.getAvgLoadAvg5()).add(LOAD, s.getAvgLoadAvg15())
+                .add(USAGE, s.getAvgMemoryUsage()).add(USAGE, s.getMaxMemoryUsage()).add(USAGE, s.getMinMemoryUsage())
+                .add(THROUGHPUT, s.getTotalMemoryBytes()).add(THROUGHPUT, s.getUsedMemoryBytes())
+                .add(USAGE, s.getAvgSwapUsage())
+                .add(USAGE, s.getAvgDiskUsage()).add(USAGE, s.getMaxDiskUsage()).add(USAGE, s.getMinDiskUsage())
+                .add(THROUGHPUT, s.getTotalDiskBytes()).add(THROUGHPUT, s.getUsedDiskBytes())
+                .add(USAGE, s.getAvgDiskIoUsage())
+                .add(THROUGHPUT, s.getTotalInBps()).add(THROUGHPUT, s.getTotalOutBps())
+                .add(USAGE, s.getAvgRxUsage()).add(USAGE, s.getAvgTxUsage())
+                .add(THROUGHPUT, s.getTotalInErrors()).add(THROUGHPUT, s.getTotalOutErrors())
+                .add(TEMPERATURE, s.getAvgTemperature()).add(TEMPERATURE, s.getMaxTemperature())
+                .add(TEMPERATURE, s.getMinTemperature())
+                .add(HUMIDITY, s.getAvgHumidity()).add(HUMIDITY, s.getMaxHumidity()).add(HUMIDITY, s.getMinHumidity())
+                .add(EXACT, s.getTemperatureWarnings()).add(EXACT, s.getHumidityWarnings())
+                .add(EXACT, s.getTotalAlerts()).add(EXACT, s.getCriticalAlerts()).add(EXACT, s.getWarningAlerts())
+                .add(THROUGHPUT, s.getTotalPowerUsage());
+    }
+
+    private Vector extractDataCenter(DataCenterStatisticsDto s) {
+        Vector vector = new Vector(64)
+                .add(EXACT, s.getTotalServerRooms()).add(EXACT, s.getActiveServerRooms())
+                .add(EXACT, s.getTotalRacks()).add(EXACT, s.getActiveRacks())
+                .add(EXACT, s.getTotalEquipments()).add(EXACT, s.getActiveEquipments())
+                .add(EXACT, s.getInactiveEquipments())
+                .add(USAGE, s.getAvgCpuUsage()).add(USAGE, s.getMaxCpuUsage()).add(USAGE, s.getMinCpuUsage())
+                .add(LOAD, s.getAvgLoadAvg1()).add(LOAD, s.getAvgLoadAvg5()).add(LOAD, s.getAvgLoadAvg15())
+                .add(USAGE, s.getAvgMemoryUsage()).add(USAGE, s.getMaxMemoryUsage()).add(USAGE, s.getMinMemoryUsage())
+                .add(THROUGHPUT, s.getTotalMemoryBytes()).add(THROUGHPUT, s.getUsedMemoryBytes())
+                .add(USAGE, s.getAvgSwapUsage())
+                .add(USAGE, s.getAvgDiskUsage()).add(USAGE, s.getMaxDiskUsage()).add(USAGE, s.getMinDiskUsage())
+                .add(THROUGHPUT, s.getTotalDiskBytes()).add(THROUGHPUT, s.getUsedDiskBytes())
+                .add(USAGE, s.getAvgDiskIoUsage())
+                .add(THROUGHPUT, s.getTotalInBps()).add(THROUGHPUT, s.getTotalOutBps())
+                .add(USAGE, s.getAvgRxUsage()).add(USAGE, s.getAvgTxUsage())
+                .add(THROUGHPUT, s.getTotalInErrors()).add(THROUGHPUT, s.getTotalOutErrors())
+                .add(TEMPERATURE, s.getAvgTemperature()).add(TEMPERATURE, s.getMaxTemperature())
+                .add(TEMPERATURE, s.getMinTemperature())
+                .add(HUMIDITY, s.getAvgHumidity()).add(HUMIDITY, s.getMaxHumidity()).add(HUMIDITY, s.getMinHumidity())
+                .add(EXACT, s.getTemperatureWarnings()).add(EXACT, s.getHumidityWarnings())
+                .add(EXACT, s.getTotalAlerts()).add(EXACT, s.getCriticalAlerts()).add(EXACT, s.getWarningAlerts());
+
+        List<DataCenterStatisticsDto.ServerRoomSummaryDto> summaries = s.getServerRoomSummaries();
+        if (summaries != null) {
+            vector.add(EXACT, summaries.size());
+            for (DataCenterStatisticsDto.ServerRoomSummaryDto summary : summaries) {
+                vector.add(EXACT, summary.getServerRoomId()).add(EXACT, summary.getEquipmentCount())
+                        .add(USAGE, summary.getAvgCpuUsage()).add(USAGE, summary.getAvgMemoryUsage())
+                        .add(USAGE, summary.getAvgDiskUsage()).add(TEMPERATURE, summary.getAvgTemperature())
+                        .add(EXACT, summary.getAlertCount());
+            }
+        }
+        return vector;
+    }
+
+    private Vector extractRack(RackStatisticsDto s) {
+        Vector vector = new Vector(96).add(EXACT, s.getIsWarning());
+
+        RackStatisticsDto.WarningDetails warnings = s.getWarningDetails();
+        if (warnings != null) {
+            vector.add(EXACT, warnings.getTemperature()).add(EXACT, warnings.getHumidity())
+                    .add(EXACT, warnings.getCpu()).add(EXACT, warnings.getMemory())
+                    .add(EXACT, warnings.getDisk()).add(EXACT, warnings.getNetwork());
+        }
+
+        RackStatisticsDto.EnvironmentStats env = s.getEnvironment();
+        if (env != null) {
+            vector.add(TEMPERATURE, env.getTemperature()).add(TEMPERATURE, env.getMinTemperature())
+                    .add(TEMPERATURE, env.getMaxTemperature())
+                    .add(HUMIDITY, env.getHumidity()).add(HUMIDITY, env.getMinHumidity())
+                    .add(HUMIDITY, env.getMaxHumidity())
+                    .add(EXACT, env.getTemperatureWarning()).add(EXACT, env.getHumidityWarning())
+                    .add(EXACT, env.getIsWarning());
+        }
+
+        RackStatisticsDto.RackSummary summary = s.getRackSummary();
+        if (summary != null) {
+            vector.add(EXACT, summary.getTotalEquipmentCount()).add(EXACT, summary.getNormalCount())
+                    .add(EXACT, summary.getWarningCount()).add(EXACT, summary.getErrorCount());
+            if (summary.getActiveEquipmentTypes() != null) {
+                vector.add(EXACT, summary.getActiveEquipmentTypes().size());
+                for (RackStatisticsDto.EquipmentTypeCount typeCount : summary.getActiveEquipmentTypes()) {
+                    vector.add(EXACT, typeCount.getType() != null ? typeCount.getType().hashCode() : null)
+                            .add(EXACT, typeCount.getCount());
+                }
+            }
+        }
+
+        RackStatisticsDto.CpuStats cpu = s.getCpuStats();
+        if (cpu != null) {
+            vector.add(USAGE, cpu.getAvgUsage()).add(USAGE, cpu.getMaxUsage()).add(EXACT, cpu.getEquipmentCount());
+            addTop(vector, cpu.getTopEquipments(), USAGE);
+        }
+
+        RackStatisticsDto.MemoryStats memory = s.getMemoryStats();
+        if (memory != null) {
+            vector.add(USAGE, memory.getAvgUsage()).add(USAGE, memory.getMaxUsage())
+                    .add(EXACT, memory.getEquipmentCount())
+                    .add(EXACT, memory.getTotalMemoryGB()).add(EXACT, memory.getUsedMemoryGB());
+            addTop(vector, memory.getTopEquipments(), USAGE);
+        }
+
+        RackStatisticsDto.DiskStats disk = s.getDiskStats();
+        if (disk != null) {
+            vector.add(USAGE, disk.getAvgUsage()).add(USAGE, disk.getMaxUsage())
+                    .add(EXACT, disk.getEquipmentCount())
+                    .add(THROUGHPUT, disk.getTotalCapacityTB()).add(THROUGHPUT, disk.getUsedCapacityTB());
+            addTop(vector, disk.getTopEquipments(), USAGE);
+        }
+
+        RackStatisticsDto.NetworkStats network = s.getNetworkStats();
+        if (network != null) {
+            vector.add(THROUGHPUT, network.getTotalRxMbps()).add(THROUGHPUT, network.getTotalTxMbps())
+                    .add(USAGE, network.getAvgRxUsage()).add(USAGE, network.getAvgTxUsage())
+                    .add(USAGE, network.getErrorPacketRate()).add(USAGE, network.getDropPacketRate())
+                    .add(EXACT, network.getEquipmentCount());
+            // Top 수신/송신 값은 Mbps이므로 처리량 허용 오차로 비교
+            addTop(vector, network.getTopRxEquipments(), THROUGHPUT);
+            addTop(vector, network.getTopTxEquipments(), THROUGHPUT);
+        }
+
+        RackStatisticsDto.SystemLoadStats load = s.getSystemLoadStats();
+        if (load != null) {
+            vector.add(LOAD, load.getAvgLoadAvg1()).add(LOAD, load.getAvgLoadAvg5()).add(LOAD, load.getAvgLoadAvg15())
+                    .add(LOAD, load.getMaxLoadAvg1()).add(LOAD, load.getMaxLoadAvg5()).add(LOAD, load.getMaxLoadAvg15())
+                    .add(EXACT, load.getEquipmentCount());
+        }
+        return vector;
+    }
+
+    // Top 장비 목록: 순위(장비 ID)가 바뀌면 무조건 전송, 값은 데드밴드 비교
+    private void addTop(Vector vector, List<RackStatisticsDto.TopEquipment> top, byte band) {
+        if (top == null) {
+            vector.add(EXACT, (Number) null);
+            return;
+        }
+        vector.add(EXACT, top.size());
+        for (RackStatisticsDto.TopEquipment equipment : top) {
+            vector.add(EXACT, equipment.getEquipmentId()).add(band, equipment.getValue());
+        }
+    }
+
+    // ===== 내부 자료구조 =====
+
+    private record PushState(double[] values, byte[] bands, long pushedAt) {
+    }
+
+    /** 통계 DTO를 (값, 허용 오차 구분) 쌍의 배열로 펼친 비교용 벡터. null은 NaN으로 기록 */
+    private static final class Vector {
+
+        private double[] values;
+        private byte[] bands;
+        private int size;
+
+        Vector(int capacity) {
+            this.values = new double[capacity];
+            this.bands = new byte[capacity];
+        }
+
+        Vector add(byte band, Number value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                bands = Arrays.copyOf(bands, size * 2);
+            }
+            values[size] = value != null ? value.doubleValue() : Double.NaN;
+            bands[size] = band;
+            size++;
+            return this;
+        }
+
+        Vector add(byte band, Boolean value) {
+            return add(band, value == null ? null : (Number) (value ? 1 : 0));
+        }
+
+        double[] values() {
+            return Arrays.copyOf(values, size);
+        }
+
+        byte[] bands() {
+            return Arrays.copyOf(bands, size);
+        }
+
+        /** 이전 전송 값과 비교하여 하나라도 허용 오차를 넘었는지 */
+        boolean movedBeyond(PushState previous, MonitoringSseProperties.Deadband deadband) {
+            if (previous.values.length != size || !Arrays.equals(previous.bands, 0, size, bands, 0, size)) {
+                return true;
+            }
+
+            for (int i = 0; i < size; i++) {
+                double before = previous.values[i];
+                double after = values[i];
+
+                boolean beforeMissing = Double.isNaN(before);
+                boolean afterMissing = Double.isNaN(after);
+                if (beforeMissing || afterMissing) {
+                    if (beforeMissing != afterMissing) return true;
+                    continue;
+                }
+
+                double delta = Math.abs(after - before);
+                boolean moved = switch (bands[i]) {
+                    case USAGE -> delta > deadband.getUsageEpsilon();
+                    case LOAD -> delta > deadband.getLoadEpsilon();
+                    case TEMPERATURE -> delta > deadband.getTemperatureEpsilon();
+                    case HUMIDITY -> delta > deadband.getHumidityEpsilon();
+                    case THROUGHPUT -> delta > Math.max(Math.abs(before), 1.0) * deadband.getThroughputRatio();
+                    default -> delta != 0.0;
+                };
+                if (moved) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * 작성자: 황요한
+ * 통계 스트림 delta 모드 인코더 (토픽·이벤트별 기준 상태 유지)
+ * 키프레임: {"v":버전,"key":true,"data":전체 통계}
+ * patch:    {"v":버전,"base":이전 버전,"patch":변경 필드 (JSON Merge Patch, RFC 7396)}
+ * 클라이언트는 base가 보유 버전과 다르면 누락으로 판단하고 키프레임 API로 다시 맞춘다.
+ * patch는 토픽 이벤트당 한 번만 계산하여 delta 구독자 모두에게 같은 프레임을 전달한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.StatisticsKeyframeResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsDeltaEncoder {
+
+    private final ObjectMapper objectMapper;
+    private final SseEventEncoder sseEventEncoder;
+    private final MonitoringSseProperties monitoringSseProperties;
+
+    private final Map<String, DeltaState> states = new ConcurrentHashMap<>();
+
+    public boolean supports(String eventName) {
+        return monitoringSseProperties.getDelta().getEvents().contains(eventName);
+    }
+
+    /**
+     * 발행 이벤트를 기준 상태와 비교하여 patch(또는 주기 키프레임) 프레임 생성
+     * 변경 필드가 없으면 null (버전 유지, 전송 생략)
+     */
+    EncodedSseEvent encodeNext(String topic, String eventName, String json) {
+        JsonNode current = readTree(json);
+        long now = System.currentTimeMillis();
+        DeltaState state = states.computeIfAbsent(key(topic, eventName), key -> new DeltaState());
+
+        synchronized (state) {
+            state.updatedAt = now;
+            boolean keyframe = state.last == null
+                    || !state.last.isObject() || !current.isObject()
+                    || now - state.keyframeAt >= monitoringSseProperties.getDelta().getKeyframeInterval();
+            if (keyframe) {
+                state.version++;
+                state.last = current;
+                state.keyframeAt = now;
+                return sequenced(eventName, keyframePayload(state.version, current));
+            }
+
+            ObjectNode patch = diff(state.last, current);
+            if (patch.isEmpty()) {
+                return null;
+            }
+            ObjectNode payload = objectMapper.createObjectNode();
+            payload.put("v", state.version + 1);
+            payload.put("base", state.version);
+            payload.set("patch", patch);
+
+            state.version++;
+            state.last = current;
+            return sequenced(eventName, payload);
+        }
+    }
+
+    /**
+     * 구독 시 초기 키프레임
+     * 기준 상태가 있으면 그 버전/데이터를, 없으면 초기 데이터를 버전 0으로 전송 (다음 발행은 키프레임)
+     */
+    EncodedSseEvent encodeKeyframe(String topic, String eventName, Object fallback) {
+        DeltaState state = states.get(key(topic, eventName));
+        if (state != null) {
+            synchronized (state) {
+                if (state.last != null) {
+                    return sequenced(eventName, keyframePayload(state.version, state.last));
+                }
+            }
+        }
+        return sequenced(eventName, keyframePayload(0, objectMapper.valueToTree(fallback)));
+    }
+
+    /** 누락 감지 시 클라이언트가 요청하는 현재 키프레임 */
+    public Optional<StatisticsKeyframeResponse> getKeyframe(String topic, String eventName) {
+        DeltaState state = states.get(key(topic, eventName));
+        if (state == null) {
+            return Optional.empty();
+        }
+        synchronized (state) {
+            return state.last == null
+                    ? Optional.empty()
+                    : Optional.of(new StatisticsKeyframeResponse(topic, eventName, state.version, state.last));
+        }
+    }
+
+    // 발행이 멈춘 토픽의 기준 상태 제거
+    @Scheduled(fixedDelay = 60000)
+    public void evictStaleStates() {
+        long expireBefore = System.currentTimeMillis() - monitoringSseProperties.getDelta().getRetention();
+        states.entrySet().removeIf(entry -> entry.getValue().updatedAt < expireBefore);
+    }
+
+    /**
+     * JSON Merge Patch 계산 (객체는 재귀 비교, 배열/값은 통째로 교체, 사라진 필드는 null)
+     */
+    private ObjectNode diff(JsonNode previous, JsonNode current) {
+        ObjectNode patch = objectMapper.createObjectNode();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = current.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode before = previous.get(field.getKey());
+            JsonNode after = field.getValue();
+            if (after.equals(before)) {
+                continue;
+            }
+            if (before != null && before.isObject() && after.isObject()) {
+                ObjectNode nested = diff(before, after);
+                if (!nested.isEmpty()) {
+                    patch.set(field.getKey(), nested);
+                }
+            } else {
+                patch.set(field.getKey(), after);
+            }
+        }
+
+        Iterator<String> previousNames = previous.fieldNames();
+        while (previousNames.hasNext()) {
+            String name = previousNames.next();
+            if (!current.has(name)) {
+                patch.putNull(name);
+            }
+        }
+        return patch;
+    }
+
+    private ObjectNode keyframePayload(long version, JsonNode data) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("v", version);
+        payload.put("key", true);
+        payload.set("data", data);
+        return payload;
+    }
+
+    // 큐에서 다른 프레임과 교체되지 않도록 coalesceKey 없이 인코딩 (교체되면 버전 누락)
+    private EncodedSseEvent sequenced(String eventName, JsonNode payload) {
+        return sseEventEncoder.encodeWithKey(eventName, payload.toString(), null);
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("delta 인코딩 실패: JSON 파싱 오류", e);
+        }
+    }
+
+    private static String key(String topic, String eventName) {
+        return topic + ":" + eventName;
+    }
+
+    // 토픽·이벤트별 기준 상태 (this 락으로 보호)
+    private static final class DeltaState {
+        private long version;
+        private JsonNode last;
+        private long keyframeAt;
+        private volatile long updatedAt = System.currentTimeMillis();
+    }
+}
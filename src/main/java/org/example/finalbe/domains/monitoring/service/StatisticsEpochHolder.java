@@ -0,0 +1,43 @@
+/**
+ * 작성자: 황요한
+ * 가장 최근에 발행된 통계 에포크 스냅샷 보관소
+ * SSE 초기 데이터, 알림 평가, REST 조회가 모두 같은 스냅샷을 읽는다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.StatisticsEpochSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class StatisticsEpochHolder {
+
+    private final AtomicReference<StatisticsEpochSnapshot> current = new AtomicReference<>();
+
+    /** 새 스냅샷 발행 (이전 스냅샷을 통째로 교체) */
+    public void publish(StatisticsEpochSnapshot snapshot) {
+        current.set(snapshot);
+    }
+
+    /** 현재 스냅샷 (첫 틱 이전에는 empty) */
+    public Optional<StatisticsEpochSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    public Optional<RackStatisticsDto> getRackStatistics(Long rackId) {
+        return current().flatMap(snapshot -> snapshot.getRack(rackId));
+    }
+
+    public Optional<ServerRoomStatisticsDto> getServerRoomStatistics(Long serverRoomId) {
+        return current().flatMap(snapshot -> snapshot.getServerRoom(serverRoomId));
+    }
+
+    public Optional<DataCenterStatisticsDto> getDataCenterStatistics(Long dataCenterId) {
+        return current().flatMap(snapshot -> snapshot.getDataCenter(dataCenterId));
+    }
+}
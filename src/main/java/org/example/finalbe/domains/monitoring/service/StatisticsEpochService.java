@@ -0,0 +1,178 @@
+/**
+ * 작성자: 황요한
+ * 한 틱 동안 랙 → 서버실 → 데이터센터 순서로 통계를 한 번씩만 계산하여 스냅샷을 만드는 서비스
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.datacenter.domain.DataCenter;
+import org.example.finalbe.domains.equipment.domain.Equipment;
+import org.example.finalbe.domains.monitoring.dto.DataCenterStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.ServerRoomStatisticsDto;
+import org.example.finalbe.domains.monitoring.dto.StatisticsEpochSnapshot;
+import org.example.finalbe.domains.rack.domain.Rack;
+import org.example.finalbe.domains.serverroom.domain.ServerRoom;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatisticsEpochService {
+
+    private final StatisticsTopologyCache statisticsTopologyCache;
+    private final RackMonitoringService rackMonitoringService;
+    private final ServerRoomMonitoringService serverRoomMonitoringService;
+    private final DataCenterMonitoringService dataCenterMonitoringService;
+    private final HotEquipmentIndex hotEquipmentIndex;
+
+    // 핫 장비 인덱스에 마지막으로 전달한 토폴로지 버전 (바뀌었을 때만 위치 재구성)
+    private volatile long indexedTopologyVersion = -1;
+
+    /**
+     * 에포크 계산
+     * 토폴로지는 캐시(변경 시 무효화)에서 가져오고, 모든 레벨이 같은 기준 시각(now)을 사용한다.
+     * 통계는 구독자(재전송 보관·다른 인스턴스 구독 포함)가 있는 토픽만 계산한다.
+     * (데이터센터 구독이 있으면 집계에 필요한 소속 서버실도 계산)
+     */
+    public StatisticsEpochSnapshot computeEpoch(long epoch, Predicate<String> interested) {
+        LocalDateTime now = LocalDateTime.now();
+
+        StatisticsTopologyCache.Topology topology = statisticsTopologyCache.get();
+        List<Rack> racks = topology.racks();
+        Map<Long, List<Equipment>> equipmentsByRack = topology.equipmentsByRack();
+        List<ServerRoom> serverRooms = topology.serverRooms();
+
+        refreshHotEquipmentTopology(topology);
+
+        // 1. 랙 통계
+        Map<Long, RackStatisticsDto> rackStats = new HashMap<>();
+        Map<Long, List<Rack>> racksByServerRoom = new HashMap<>();
+
+        for (Rack rack : racks) {
+            racksByServerRoom.computeIfAbsent(rack.getServerRoom().getId(), id -> new ArrayList<>()).add(rack);
+            if (!interested.test("rack-" + rack.getId())) continue;
+            try {
+                List<Equipment> equipments = equipmentsByRack.getOrDefault(rack.getId(), List.of());
+                rackStats.put(rack.getId(), rackMonitoringService.buildRackStatistics(rack, equipments, now));
+            } catch (Exception e) {
+                log.error("❌ Rack {} 통계 계산 실패: {}", rack.getId(), e.getMessage());
+            }
+        }
+
+        // 2. 서버실 통계 (랙 그룹핑 결과 재사용)
+        Map<Long, ServerRoomStatisticsDto> serverRoomStats = new HashMap<>();
+        Map<Long, List<ServerRoom>> serverRoomsByDataCenter = new HashMap<>();
+
+        List<DataCenter> dataCenters = topology.dataCenters();
+        Set<Long> interestedDataCenterIds = dataCenters.stream()
+                .map(DataCenter::getId)
+                .filter(dataCenterId -> interested.test("datacenter-" + dataCenterId))
+                .collect(Collectors.toSet());
+
+        for (ServerRoom serverRoom : serverRooms) {
+            Long dataCenterId = serverRoom.getDataCenter() != null ? serverRoom.getDataCenter().getId() : null;
+            if (dataCenterId != null) {
+                serverRoomsByDataCenter.computeIfAbsent(dataCenterId, id -> new ArrayList<>()).add(serverRoom);
+            }
+            if (!interested.test("serverroom-" + serverRoom.getId()) && !interestedDataCenterIds.contains(dataCenterId)) {
+                continue;
+            }
+
+            List<Rack> roomRacks = racksByServerRoom.getOrDefault(serverRoom.getId(), List.of());
+            List<Equipment> roomEquipments = new ArrayList<>();
+            for (Rack rack : roomRacks) {
+                roomEquipments.addAll(equipmentsByRack.getOrDefault(rack.getId(), List.of()));
+            }
+
+            try {
+                serverRoomStats.put(serverRoom.getId(), serverRoomMonitoringService.buildServerRoomStatistics(
+                        serverRoom, roomRacks.size(), roomEquipments, now));
+            } catch (Exception e) {
+                log.error("❌ ServerRoom {} 통계 계산 실패: {}", serverRoom.getId(), e.getMessage());
+            }
+        }
+
+        // 3. 데이터센터 통계 (서버실 결과 재사용)
+        Map<Long, DataCenterStatisticsDto> dataCenterStats = new HashMap<>();
+
+        for (DataCenter dataCenter : dataCenters) {
+            if (!interestedDataCenterIds.contains(dataCenter.getId())) continue;
+
+            List<ServerRoom> dataCenterRooms = serverRoomsByDataCenter.getOrDefault(dataCenter.getId(), List.of());
+            List<ServerRoomStatisticsDto> roomStats = dataCenterRooms.stream()
+                    .map(serverRoom -> serverRoomStats.get(serverRoom.getId()))
+                    .filter(stats -> stats != null)
+                    .collect(Collectors.toList());
+
+            try {
+                dataCenterStats.put(dataCenter.getId(), dataCenterMonitoringService.aggregateDataCenterStatistics(
+                        dataCenter, dataCenterRooms.size(), roomStats, now));
+            } catch (Exception e) {
+                log.error("❌ DataCenter {} 통계 집계 실패: {}", dataCenter.getId(), e.getMessage());
+            }
+        }
+
+        return StatisticsEpochSnapshot.builder()
+                .epoch(epoch)
+                .timestamp(now)
+                .rackStatistics(rackStats)
+                .serverRoomStatistics(serverRoomStats)
+                .dataCenterStatistics(dataCenterStats)
+                .build();
+    }
+
+    /**
+     * 토폴로지만 갱신 (통계 계산 없음)
+     * 통계를 발행하지 않는 인스턴스도 다른 인스턴스 이벤트의 범위(서버실/데이터센터) 판단에 핫 장비 인덱스를 사용한다.
+     */
+    public void refreshTopology() {
+        refreshHotEquipmentTopology(statisticsTopologyCache.get());
+    }
+
+    // 핫 장비 인덱스에 장비/랙 위치 전달 (토폴로지가 다시 적재된 경우만)
+    private void refreshHotEquipmentTopology(StatisticsTopologyCache.Topology topology) {
+        if (topology.version() == indexedTopologyVersion) return;
+
+        Map<Long, Long> dataCenterByServerRoom = new HashMap<>();
+        for (ServerRoom serverRoom : topology.serverRooms()) {
+            if (serverRoom.getDataCenter() != null) {
+                dataCenterByServerRoom.put(serverRoom.getId(), serverRoom.getDataCenter().getId());
+            }
+        }
+
+        List<Rack> racks = topology.racks();
+        Map<Long, List<Equipment>> equipmentsByRack = topology.equipmentsByRack();
+        List<HotEquipmentIndex.RackLocation> rackLocations = new ArrayList<>(racks.size());
+        List<HotEquipmentIndex.EquipmentLocation> equipmentLocations = new ArrayList<>();
+
+        for (Rack rack : racks) {
+            Long serverRoomId = rack.getServerRoom().getId();
+            Long dataCenterId = dataCenterByServerRoom.get(serverRoomId);
+
+            rackLocations.add(new HotEquipmentIndex.RackLocation(
+                    rack.getId(), rack.getRackName(), serverRoomId, dataCenterId));
+
+            for (Equipment equipment : equipmentsByRack.getOrDefault(rack.getId(), List.of())) {
+                equipmentLocations.add(new HotEquipmentIndex.EquipmentLocation(
+                        equipment.getId(), equipment.getName(), rack.getId(), rack.getRackName(),
+                        serverRoomId, dataCenterId));
+            }
+        }
+
+        hotEquipmentIndex.refreshTopology(equipmentLocations, rackLocations);
+        indexedTopologyVersion = topology.version();
+    }
+}
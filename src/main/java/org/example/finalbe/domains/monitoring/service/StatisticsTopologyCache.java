@@ -0,0 +1,101 @@
+/**
+ * 작성자: 황요한
+ * 통계 에포크용 토폴로지(랙/장비/서버실/데이터센터) 캐시
+ * 매 틱 DB를 다시 읽지 않고, 대상 변경 이벤트(커밋 후, 다른 인스턴스 포함)로 무효화한 뒤 다음 조회 때 한 번 다시 적재한다.
+ * 이벤트가 없는 변경(데이터센터 정보, 상태 값 등)은 최대 보관 시간이 지나면 재적재로 보정한다.
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.dto.AlertRuleChangedEvent;
+import org.example.finalbe.domains.common.enumdir.DelYN;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.datacenter.domain.DataCenter;
+import org.example.finalbe.domains.datacenter.repository.DataCenterRepository;
+import org.example.finalbe.domains.equipment.domain.Equipment;
+import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
+import org.example.finalbe.domains.rack.domain.Rack;
+import org.example.finalbe.domains.rack.repository.RackRepository;
+import org.example.finalbe.domains.serverroom.domain.ServerRoom;
+import org.example.finalbe.domains.serverroom.repository.ServerRoomRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsTopologyCache {
+
+    private static final long MAX_AGE_MS = 60_000;
+
+    private final RackRepository rackRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final ServerRoomRepository serverRoomRepository;
+    private final DataCenterRepository dataCenterRepository;
+    private final MonitoringEventBus monitoringEventBus;
+
+    private volatile Topology topology;
+    private volatile boolean dirty = true;
+    private long version;
+
+    /** 한 시점의 토폴로지 (version은 재적재마다 증가) */
+    public record Topology(long version, long loadedAt,
+                           List<Rack> racks,
+                           Map<Long, List<Equipment>> equipmentsByRack,
+                           List<ServerRoom> serverRooms,
+                           List<DataCenter> dataCenters) {
+    }
+
+    @PostConstruct
+    public void init() {
+        // 다른 인스턴스의 대상 변경 (AlertRuleTable이 커밋 후 전파하는 이벤트)
+        monitoringEventBus.subscribe(MonitoringBusChannel.ALERT_RULE, event -> invalidate());
+    }
+
+    /** 현재 토폴로지 (무효화되었거나 오래되었으면 다시 적재) */
+    public Topology get() {
+        Topology current = topology;
+        if (current != null && !dirty && System.currentTimeMillis() - current.loadedAt() < MAX_AGE_MS) {
+            return current;
+        }
+        return reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTargetChanged(AlertRuleChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        dirty = true;
+    }
+
+    private synchronized Topology reload() {
+        Topology current = topology;
+        if (current != null && !dirty && System.currentTimeMillis() - current.loadedAt() < MAX_AGE_MS) {
+            return current; // 다른 스레드가 방금 적재함
+        }
+
+        // 적재 도중 들어온 무효화는 다음 조회에서 반영되도록 먼저 해제
+        dirty = false;
+        List<Rack> racks = rackRepository.findAllActiveWithServerRoom();
+        Map<Long, List<Equipment>> equipmentsByRack = equipmentRepository.findAllActiveWithRack()
+                .stream()
+                .collect(Collectors.groupingBy(equipment -> equipment.getRack().getId()));
+        List<ServerRoom> serverRooms = serverRoomRepository.findAllActiveWithDataCenter();
+        List<DataCenter> dataCenters = dataCenterRepository.findAllByDelYn(DelYN.N);
+
+        topology = new Topology(++version, System.currentTimeMillis(),
+                List.copyOf(racks), Map.copyOf(equipmentsByRack), List.copyOf(serverRooms), List.copyOf(dataCenters));
+        log.debug("통계 토폴로지 적재: 랙 {}개, 서버실 {}개, 데이터센터 {}개",
+                racks.size(), serverRooms.size(), dataCenters.size());
+        return topology;
+    }
+}
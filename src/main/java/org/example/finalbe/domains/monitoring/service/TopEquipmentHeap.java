@@ -0,0 +1,127 @@
+/**
+ * 작성자: 황요한
+ * 값이 큰 상위 K개 장비만 유지하는 고정 크기 최소 힙 (박싱 없이 primitive 배열 사용)
+ */
+package org.example.finalbe.domains.monitoring.service;
+
+import org.example.finalbe.domains.equipment.domain.Equipment;
+import org.example.finalbe.domains.monitoring.dto.RackStatisticsDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+final class TopEquipmentHeap {
+
+    private final double[] values;
+    private final int[] slots;
+    private final int[] sequences;
+    private int size;
+    private int sequence;
+
+    TopEquipmentHeap(int capacity) {
+        this.values = new double[capacity];
+        this.slots = new int[capacity];
+        this.sequences = new int[capacity];
+    }
+
+    /**
+     * 후보 추가
+     * slot은 호출 측 장비 리스트의 인덱스이며, 동일 값이면 먼저 들어온 장비가 우선한다.
+     */
+    void offer(int slot, double value) {
+        int seq = sequence++;
+
+        if (size < values.length) {
+            values[size] = value;
+            slots[size] = slot;
+            sequences[size] = seq;
+            siftUp(size++);
+            return;
+        }
+
+        // 루트(현재 K개 중 가장 작은 값)보다 커야만 교체
+        if (value <= values[0]) {
+            return;
+        }
+        values[0] = value;
+        slots[0] = slot;
+        sequences[0] = seq;
+        siftDown(0);
+    }
+
+    /** 값 내림차순 TopEquipment 리스트 생성 */
+    List<RackStatisticsDto.TopEquipment> toTopEquipments(List<Equipment> equipments, double scale) {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> isWorse(a, b) ? 1 : (isWorse(b, a) ? -1 : 0));
+
+        List<RackStatisticsDto.TopEquipment> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int idx = order[i];
+            Equipment equipment = equipments.get(slots[idx]);
+            result.add(RackStatisticsDto.TopEquipment.builder()
+                    .equipmentId(equipment.getId())
+                    .equipmentName(equipment.getName())
+                    .value(values[idx] * scale)
+                    .build());
+        }
+        return result;
+    }
+
+    // a가 b보다 순위가 낮은지 (값이 작거나, 값이 같으면 나중에 들어온 경우)
+    private boolean isWorse(int a, int b) {
+        if (values[a] != values[b]) {
+            return values[a] < values[b];
+        }
+        return sequences[a] > sequences[b];
+    }
+
+    private void siftUp(int idx) {
+        while (idx > 0) {
+            int parent = (idx - 1) >>> 1;
+            if (!isWorse(idx, parent)) {
+                break;
+            }
+            swap(idx, parent);
+            idx = parent;
+        }
+    }
+
+    private void siftDown(int idx) {
+        while (true) {
+            int left = (idx << 1) + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int worst = (right < size && isWorse(right, left)) ? right : left;
+            if (!isWorse(worst, idx)) {
+                break;
+            }
+            swap(idx, worst);
+            idx = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double v = values[a];
+        values[a] = values[b];
+        values[b] = v;
+
+        int s = slots[a];
+        slots[a] = slots[b];
+        slots[b] = s;
+
+        int q = sequences[a];
+        sequences[a] = sequences[b];
+        sequences[b] = q;
+    }
+}
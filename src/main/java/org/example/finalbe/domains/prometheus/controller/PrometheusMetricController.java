@@ -5,13 +5,18 @@ package org.example.finalbe.domains.prometheus.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.prometheus.dto.MetricStreamScope;
+import org.example.finalbe.domains.prometheus.service.MetricStreamScopeResolver;
 import org.example.finalbe.domains.prometheus.service.SseEmitterService;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/prometheus")
 @RequiredArgsConstructor
@@ -19,12 +24,16 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class PrometheusMetricController {
 
     private final SseEmitterService sseEmitterService;
+    private final MetricStreamScopeResolver metricStreamScopeResolver;
 
-    // 실시간 메트릭 스트림 (SSE)
+    // 실시간 메트릭 스트림 (SSE, 회사 서버실 범위 / 서버실·장비 지정 시 해당 범위만)
     @GetMapping(value = "/metrics/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamMetrics() {
-        log.info("SSE 연결 요청");
-        return sseEmitterService.createEmitter();
+    public SseEmitter streamMetrics(
+            @RequestParam(required = false) Set<Long> serverRoomIds,
+            @RequestParam(required = false) Set<Long> equipmentIds) {
+        log.info("SSE 연결 요청: serverRoomIds={}, equipmentIds={}", serverRoomIds, equipmentIds);
+        MetricStreamScope scope = metricStreamScopeResolver.resolve(serverRoomIds, equipmentIds);
+        return sseEmitterService.createEmitter(scope);
     }
 
     // 현재 활성 SSE 연결 수
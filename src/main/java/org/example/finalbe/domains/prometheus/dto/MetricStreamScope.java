@@ -0,0 +1,23 @@
+// 작성자: 황요한
+// 메트릭 스트림 구독 범위 (회사 + 서버실 집합 + 선택 장비 집합)
+// 범위가 같은 구독자는 같은 그룹으로 묶여 인코딩을 공유한다
+
+package org.example.finalbe.domains.prometheus.dto;
+
+import java.util.Set;
+
+public record MetricStreamScope(
+        Long companyId,
+        Set<Long> serverRoomIds,
+        Set<Long> equipmentIds
+) {
+    public MetricStreamScope {
+        serverRoomIds = serverRoomIds == null ? Set.of() : Set.copyOf(serverRoomIds);
+        equipmentIds = equipmentIds == null ? Set.of() : Set.copyOf(equipmentIds);
+    }
+
+    // 장비 지정이 없으면 서버실 전체 장비 대상
+    public boolean isEquipmentScoped() {
+        return !equipmentIds.isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * 작성자: 황요한
+ * 메트릭 스트림 구독 범위 결정 (회사에 매핑된 서버실 안에서만 허용)
+ * 연결 시 한 번만 조회하고, 이벤트 전송 시에는 범위 인덱스만 사용한다.
+ */
+package org.example.finalbe.domains.prometheus.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.finalbe.domains.common.exception.AccessDeniedException;
+import org.example.finalbe.domains.common.exception.EntityNotFoundException;
+import org.example.finalbe.domains.companyserverroom.repository.CompanyServerRoomRepository;
+import org.example.finalbe.domains.member.domain.Member;
+import org.example.finalbe.domains.member.repository.MemberRepository;
+import org.example.finalbe.domains.monitoring.service.MonitoringTopicAccessValidator;
+import org.example.finalbe.domains.prometheus.dto.MetricStreamScope;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MetricStreamScopeResolver {
+
+    private final MonitoringTopicAccessValidator monitoringTopicAccessValidator;
+    private final MemberRepository memberRepository;
+    private final CompanyServerRoomRepository companyServerRoomRepository;
+
+    /**
+     * 현재 로그인한 회원 기준 구독 범위
+     * 서버실을 지정하지 않으면 회사에 매핑된 전체 서버실, 지정한 서버실이 회사 소속이 아니면 거부
+     */
+    public MetricStreamScope resolve(Set<Long> serverRoomIds, Set<Long> equipmentIds) {
+        Long memberId = monitoringTopicAccessValidator.currentMemberId();
+        Member member = memberRepository.findByIdWithCompany(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자", memberId));
+        Long companyId = member.getCompany().getId();
+
+        Set<Long> companyServerRoomIds = companyServerRoomRepository.findByCompanyId(companyId).stream()
+                .map(mapping -> mapping.getServerRoom().getId())
+                .collect(Collectors.toSet());
+
+        if (serverRoomIds == null || serverRoomIds.isEmpty()) {
+            return new MetricStreamScope(companyId, companyServerRoomIds, equipmentIds);
+        }
+
+        for (Long serverRoomId : serverRoomIds) {
+            if (!companyServerRoomIds.contains(serverRoomId)) {
+                throw new AccessDeniedException("구독 권한이 없는 서버실입니다: " + serverRoomId);
+            }
+        }
+        return new MetricStreamScope(companyId, serverRoomIds, equipmentIds);
+    }
+}
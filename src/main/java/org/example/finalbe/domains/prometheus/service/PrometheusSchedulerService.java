@@ -6,14 +6,16 @@ package org.example.finalbe.domains.prometheus.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.finalbe.domains.alert.service.AlertEvaluationService;
+import org.example.finalbe.domains.alert.dto.AlertEvaluationBatch;
+import org.example.finalbe.domains.alert.service.AlertTickEvaluator;
+import org.example.finalbe.domains.common.enumdir.AlertEvaluationSource;
 import org.example.finalbe.domains.equipment.domain.Equipment;
 import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
 import org.example.finalbe.domains.monitoring.domain.DiskMetric;
 import org.example.finalbe.domains.monitoring.domain.NetworkMetric;
 import org.example.finalbe.domains.monitoring.domain.SystemMetric;
+import org.example.finalbe.domains.monitoring.service.EquipmentTickCoalescer;
 import org.example.finalbe.domains.monitoring.service.MonitoringMetricCache;
-import org.example.finalbe.domains.monitoring.service.SseService;
 import org.example.finalbe.domains.prometheus.config.PrometheusProperties;
 import org.example.finalbe.domains.prometheus.dto.MetricRawData;
 import org.example.finalbe.domains.prometheus.dto.MetricStreamDto;
@@ -43,9 +45,9 @@ public class PrometheusSchedulerService {
     private final NetworkMetricCollectorService networkMetricCollector;
     private final EnvironmentMetricCollectorService environmentMetricCollector;
     private final SseEmitterService sseEmitterService;
-    private final AlertEvaluationService alertEvaluationService;
+    private final AlertTickEvaluator alertTickEvaluator;
     private final MonitoringMetricCache monitoringMetricCache;
-    private final SseService sseService;
+    private final EquipmentTickCoalescer equipmentTickCoalescer;
     private final SystemMetricRepository systemMetricRepository;
     private final DiskMetricRepository diskMetricRepository;
     private final NetworkMetricRepository networkMetricRepository;
@@ -83,17 +85,26 @@ public class PrometheusSchedulerService {
 
             int alertEvaluationCount = 0;
 
+            // 알림 평가 대상은 틱 단위로 모아 한 번에 제출
+            AlertEvaluationBatch alertBatch = new AlertEvaluationBatch(AlertEvaluationSource.PROMETHEUS, collectionTime);
+
+            // 장비별 메트릭을 모아 틱 종료 시 스냅샷 1건으로 전송
+            EquipmentTickCoalescer.Tick tick = equipmentTickCoalescer.openTick(collectionTime);
+
             for (MetricRawData data : validDataList) {
                 Long equipmentId = data.getEquipmentId();
                 Equipment equipment = equipmentCache.get(equipmentId);
+                if (equipment != null && equipment.getRack() != null) {
+                    tick.setRack(equipmentId, equipment.getRack().getId());
+                }
 
                 SystemMetric systemMetric = convertToSystemMetric(data, collectionTime);
                 if (systemMetric != null) {
                     systemMetrics.add(systemMetric);
                     monitoringMetricCache.updateSystemMetric(systemMetric);
-                    sseService.sendToEquipment(equipmentId, "system", systemMetric);
+                    tick.addSystem(systemMetric);
                     if (equipment != null && needsSystemAlertEvaluation(systemMetric, equipment)) {
-                        alertEvaluationService.evaluateSystemMetric(systemMetric);
+                        alertBatch.addSystem(systemMetric);
                         alertEvaluationCount++;
                     }
                 }
@@ -102,9 +113,9 @@ public class PrometheusSchedulerService {
                 if (diskMetric != null) {
                     diskMetrics.add(diskMetric);
                     monitoringMetricCache.updateDiskMetric(diskMetric);
-                    sseService.sendToEquipment(equipmentId, "disk", diskMetric);
+                    tick.addDisk(diskMetric);
                     if (equipment != null && needsDiskAlertEvaluation(diskMetric, equipment)) {
-                        alertEvaluationService.evaluateDiskMetric(diskMetric);
+                        alertBatch.addDisk(diskMetric);
                         alertEvaluationCount++;
                     }
                 }
@@ -113,25 +124,28 @@ public class PrometheusSchedulerService {
                 if (networkMetric != null) {
                     networkMetrics.add(networkMetric);
                     monitoringMetricCache.updateNetworkMetric(networkMetric);
-                    sseService.sendToEquipment(equipmentId, "network", networkMetric);
+                    tick.addNetwork(networkMetric);
                     if (equipment != null && needsNetworkAlertEvaluation(networkMetric, equipment)) {
-                        alertEvaluationService.evaluateNetworkMetric(networkMetric);
+                        alertBatch.addNetwork(networkMetric);
                         alertEvaluationCount++;
                     }
                 }
             }
 
+            equipmentTickCoalescer.flush(tick);
+            alertTickEvaluator.submit(alertBatch);
+
             CompletableFuture.runAsync(() -> {
                 if (!systemMetrics.isEmpty()) systemMetricRepository.saveAll(systemMetrics);
                 if (!diskMetrics.isEmpty()) diskMetricRepository.saveAll(diskMetrics);
                 if (!networkMetrics.isEmpty()) networkMetricRepository.saveAll(networkMetrics);
             });
 
-            if (sseEmitterService.getActiveConnectionCount() > 0) {
+            if (sseEmitterService.hasSubscribers()) {
                 List<MetricStreamDto> streamData = validDataList.stream()
                         .map(MetricStreamDto::from)
                         .collect(Collectors.toList());
-                sseEmitterService.sendToAll("metrics", streamData);
+                sseEmitterService.sendScoped("metrics", streamData, MetricStreamDto::equipmentId);
             }
 
             long elapsed = System.currentTimeMillis() - startTime;
@@ -1,45 +1,106 @@
 /**
  * 작성자: 황요한
  * SSE 연결을 관리하고 이벤트를 전송하는 서비스
+ * 구독 범위(회사/서버실/장비)가 같은 연결은 한 그룹으로 묶고, 서버실·장비 → 그룹 인덱스로
+ * 이벤트 항목을 그룹별로 나눈 뒤 그룹당 한 번만 인코딩한다. (연결마다 필터링하지 않음)
+ * 다른 인스턴스에 연결이 있으면 메트릭 목록을 이벤트 버스로 전파하고, 각 인스턴스가 자기 범위 인덱스로 나눠 전달한다.
  */
 package org.example.finalbe.domains.prometheus.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.common.enumdir.MonitoringBusChannel;
+import org.example.finalbe.domains.monitoring.config.MonitoringSseProperties;
+import org.example.finalbe.domains.monitoring.dto.MonitoringBusEvent;
+import org.example.finalbe.domains.monitoring.service.EncodedSseEvent;
+import org.example.finalbe.domains.monitoring.service.EquipmentServerRoomLookup;
+import org.example.finalbe.domains.monitoring.service.MonitoringEventBus;
+import org.example.finalbe.domains.monitoring.service.MonitoringTopicInterest;
+import org.example.finalbe.domains.monitoring.service.SseEventEncoder;
+import org.example.finalbe.domains.prometheus.dto.MetricStreamScope;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class SseEmitterService {
 
+    // 인스턴스 간 구독 공지용 토픽 이름
+    public static final String STREAM_TOPIC = "prometheus-metrics";
+
+    private final SseEventEncoder sseEventEncoder;
+    private final EquipmentServerRoomLookup equipmentServerRoomLookup;
+    private final MonitoringEventBus monitoringEventBus;
+    private final MonitoringTopicInterest monitoringTopicInterest;
+    private final MonitoringSseProperties monitoringSseProperties;
+    private final ObjectMapper objectMapper;
+
     private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
     private final AtomicLong emitterIdGenerator = new AtomicLong(0);
 
+    // 서버실을 알 수 없어 어느 그룹에도 전달하지 못한 항목 수 (주기 로그)
+    private final AtomicLong droppedItemCount = new AtomicLong();
+
+    // 범위별 그룹과 범위 인덱스 (그룹 생성/삭제는 synchronized, 전송은 락 없이 조회)
+    private final Map<MetricStreamScope, ScopeGroup> groups = new ConcurrentHashMap<>();
+    private final Map<Long, Set<ScopeGroup>> groupsByServerRoom = new ConcurrentHashMap<>();
+    private final Map<Long, Set<ScopeGroup>> groupsByEquipment = new ConcurrentHashMap<>();
+
+    /** 같은 범위를 구독하는 연결 묶음 */
+    private static final class ScopeGroup {
+        private final MetricStreamScope scope;
+        private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+        private ScopeGroup(MetricStreamScope scope) {
+            this.scope = scope;
+        }
+    }
+
+    /** 다른 인스턴스에서 발행된 메트릭 수신 + 로컬 연결 여부 공지 등록 */
+    @PostConstruct
+    public void registerEventBus() {
+        monitoringEventBus.subscribe(MonitoringBusChannel.PROMETHEUS_METRICS, this::onRemoteMetrics);
+        monitoringTopicInterest.registerLocalTopics(() -> emitters.isEmpty() ? List.of() : List.of(STREAM_TOPIC));
+    }
+
     // SSE 연결 생성
-    public SseEmitter createEmitter() {
+    public SseEmitter createEmitter(MetricStreamScope scope) {
         Long emitterId = emitterIdGenerator.incrementAndGet();
         SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
 
         emitters.put(emitterId, emitter);
-        log.info("📡 SSE 연결 생성: emitterId={}, 총 연결 수: {}", emitterId, emitters.size());
+        register(scope, emitterId, emitter);
+        log.info("📡 SSE 연결 생성: emitterId={}, 서버실: {}개, 장비: {}개, 총 연결 수: {}",
+                emitterId, scope.serverRoomIds().size(), scope.equipmentIds().size(), emitters.size());
 
         emitter.onCompletion(() -> {
-            emitters.remove(emitterId);
+            remove(scope, emitterId);
             log.info("✅ SSE 연결 완료: emitterId={}, 남은 연결 수: {}", emitterId, emitters.size());
         });
 
         emitter.onTimeout(() -> {
-            emitters.remove(emitterId);
+            remove(scope, emitterId);
             log.warn("⏱️ SSE 연결 타임아웃: emitterId={}, 남은 연결 수: {}", emitterId, emitters.size());
         });
 
         emitter.onError(throwable -> {
-            emitters.remove(emitterId);
+            remove(scope, emitterId);
             log.error("❌ SSE 연결 오류: emitterId={}, 남은 연결 수: {}, error: {}",
                     emitterId, emitters.size(), throwable.getMessage());
         });
@@ -50,32 +111,156 @@ public class SseEmitterService {
                     .data("SSE connection established"));
         } catch (IOException e) {
             log.error("❌ SSE 초기 메시지 전송 실패: emitterId={}", emitterId, e);
-            emitters.remove(emitterId);
+            remove(scope, emitterId);
         }
 
         return emitter;
     }
 
-    // 모든 클라이언트에게 이벤트 전송
-    public void sendToAll(String eventName, Object data) {
+    /**
+     * 구독 범위별 전송 (발행 노드만)
+     * 로컬 연결에 전달하고, 다른 인스턴스에 연결이 있으면 목록 전체를 한 번 직렬화해 버스로 전파
+     */
+    public <T> void sendScoped(String eventName, List<T> items, Function<T, Long> equipmentIdOf) {
+        if (!monitoringSseProperties.getBus().isPublisher() || items.isEmpty()) return;
+
+        deliverScoped(eventName, items, equipmentIdOf);
+
+        if (monitoringTopicInterest.isRemoteInterested(STREAM_TOPIC)) {
+            monitoringEventBus.publish(MonitoringBusChannel.PROMETHEUS_METRICS,
+                    MonitoringBusEvent.of(STREAM_TOPIC, eventName, sseEventEncoder.toJson(items)));
+        }
+    }
+
+    // 다른 인스턴스에서 발행된 메트릭 목록을 로컬 범위 그룹에 전달
+    private void onRemoteMetrics(MonitoringBusEvent event) {
+        if (emitters.isEmpty() || event.data() == null) return;
+
+        List<JsonNode> items = new ArrayList<>();
+        try {
+            objectMapper.readTree(event.data()).forEach(items::add);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 원격 메트릭 해석 실패: event={}", event.event());
+            return;
+        }
+        deliverScoped(event.event(), items,
+                item -> item.path("equipmentId").isNumber() ? item.get("equipmentId").asLong() : null);
+    }
+
+    /**
+     * 로컬 범위 그룹 전달
+     * 항목마다 장비의 서버실을 찾아(인덱스 → DB 폴백) 해당 그룹에 담고, 그룹마다 자기 부분집합만 한 번 인코딩한다.
+     */
+    private <T> void deliverScoped(String eventName, List<T> items, Function<T, Long> equipmentIdOf) {
         if (emitters.isEmpty()) return;
 
-        log.debug("📤 SSE 메시지 전송: event={}, 대상: {} 개 연결", eventName, emitters.size());
+        Map<ScopeGroup, List<T>> buckets = new HashMap<>();
+        int dropped = 0;
+        for (T item : items) {
+            Long equipmentId = equipmentIdOf.apply(item);
+            Long serverRoomId = equipmentId != null ? equipmentServerRoomLookup.findServerRoomId(equipmentId) : null;
+            if (serverRoomId == null) { // 배치되지 않은 장비는 범위를 판단할 수 없음
+                dropped++;
+                continue;
+            }
+
+            for (ScopeGroup group : groupsByServerRoom.getOrDefault(serverRoomId, Set.of())) {
+                buckets.computeIfAbsent(group, g -> new ArrayList<>()).add(item);
+            }
+            // 장비 지정 그룹은 해당 장비가 허용된 서버실에 있을 때만 전달
+            for (ScopeGroup group : groupsByEquipment.getOrDefault(equipmentId, Set.of())) {
+                if (group.scope.serverRoomIds().contains(serverRoomId)) {
+                    buckets.computeIfAbsent(group, g -> new ArrayList<>()).add(item);
+                }
+            }
+        }
+
+        if (dropped > 0) {
+            droppedItemCount.addAndGet(dropped);
+        }
+        log.debug("📤 SSE 범위 전송: event={}, 항목: {}개, 제외: {}개, 대상 그룹: {}/{}",
+                eventName, items.size(), dropped, buckets.size(), groups.size());
+
+        buckets.forEach((group, subset) -> writeToGroup(group, sseEventEncoder.encode(eventName, subset)));
+    }
 
-        emitters.forEach((id, emitter) -> {
+    // 서버실 미확인으로 제외된 항목 로그
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void logDroppedItems() {
+        long dropped = droppedItemCount.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("⚠️ SSE 범위 전송 - 서버실을 알 수 없는 장비 항목 제외: {}개", dropped);
+        }
+    }
+
+    // 활성 SSE 연결 수 조회
+    public int getActiveConnectionCount() {
+        return emitters.size();
+    }
+
+    // 이 인스턴스 또는 다른 인스턴스에 연결이 있는지 (수집 노드의 변환/전송 여부 판단)
+    public boolean hasSubscribers() {
+        return !emitters.isEmpty() || monitoringTopicInterest.isRemoteInterested(STREAM_TOPIC);
+    }
+
+    private void writeToGroup(ScopeGroup group, EncodedSseEvent event) {
+        group.emitters.forEach((id, emitter) -> {
             try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
+                event.writeTo(emitter);
             } catch (IOException e) {
                 log.error("❌ SSE 메시지 전송 실패: emitterId={}", id, e);
-                emitters.remove(id);
+                remove(group.scope, id);
             }
         });
     }
 
-    // 활성 SSE 연결 수 조회
-    public int getActiveConnectionCount() {
-        return emitters.size();
+    // 범위 그룹에 연결 추가 (첫 연결이면 그룹을 만들고 인덱스에 등록)
+    private synchronized void register(MetricStreamScope scope, Long emitterId, SseEmitter emitter) {
+        ScopeGroup group = groups.get(scope);
+        if (group == null) {
+            group = new ScopeGroup(scope);
+            groups.put(scope, group);
+            if (scope.isEquipmentScoped()) {
+                index(groupsByEquipment, scope.equipmentIds(), group);
+            } else {
+                index(groupsByServerRoom, scope.serverRoomIds(), group);
+            }
+        }
+        group.emitters.put(emitterId, emitter);
+    }
+
+    // 연결 제거 (마지막 연결이면 그룹과 인덱스에서 제거)
+    private synchronized void remove(MetricStreamScope scope, Long emitterId) {
+        emitters.remove(emitterId);
+
+        ScopeGroup group = groups.get(scope);
+        if (group == null) return;
+
+        group.emitters.remove(emitterId);
+        if (!group.emitters.isEmpty()) return;
+
+        groups.remove(scope);
+        if (scope.isEquipmentScoped()) {
+            unindex(groupsByEquipment, scope.equipmentIds(), group);
+        } else {
+            unindex(groupsByServerRoom, scope.serverRoomIds(), group);
+        }
+    }
+
+    private void index(Map<Long, Set<ScopeGroup>> index, Set<Long> keys, ScopeGroup group) {
+        for (Long key : keys) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(group);
+        }
+    }
+
+    private void unindex(Map<Long, Set<ScopeGroup>> index, Set<Long> keys, ScopeGroup group) {
+        for (Long key : keys) {
+            Set<ScopeGroup> indexed = index.get(key);
+            if (indexed == null) continue;
+            indexed.remove(group);
+            if (indexed.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 }
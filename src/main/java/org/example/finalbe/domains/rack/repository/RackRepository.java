@@ -98,4 +98,22 @@ public interface RackRepository extends JpaRepository<Rack, Long> {
         WHERE r.id = :rackId
     """)
     Optional<Rack> findByIdWithServerRoomAndDataCenter(@Param("rackId") Long rackId);
+
+    // 활성 랙 전체 + ServerRoom Fetch Join (통계 에포크용)
+    @Query("""
+        SELECT r FROM Rack r
+        JOIN FETCH r.serverRoom sr
+        WHERE r.delYn = 'N'
+        AND sr.delYn = 'N'
+    """)
+    List<Rack> findAllActiveWithServerRoom();
+
+    // 활성 랙 전체 + ServerRoom + DataCenter Fetch Join (알림 규칙 테이블용)
+    @Query("""
+        SELECT r FROM Rack r
+        LEFT JOIN FETCH r.serverRoom sr
+        LEFT JOIN FETCH sr.dataCenter dc
+        WHERE r.delYn = 'N'
+    """)
+    List<Rack> findAllActiveWithServerRoomAndDataCenter();
 }
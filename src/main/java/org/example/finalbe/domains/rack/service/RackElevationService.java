@@ -6,8 +6,10 @@ package org.example.finalbe.domains.rack.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.dto.AlertRuleChangedEvent;
 import org.example.finalbe.domains.common.enumdir.DelYN;
 import org.example.finalbe.domains.common.enumdir.EquipmentType;
+import org.example.finalbe.domains.common.enumdir.TargetType;
 import org.example.finalbe.domains.common.exception.BusinessException;
 import org.example.finalbe.domains.common.exception.EntityNotFoundException;
 import org.example.finalbe.domains.equipment.domain.Equipment;
@@ -17,6 +19,7 @@ import org.example.finalbe.domains.prometheus.service.EquipmentMappingService;
 import org.example.finalbe.domains.rack.domain.Rack;
 import org.example.finalbe.domains.rack.dto.*;
 import org.example.finalbe.domains.rack.repository.RackRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,7 @@ public class RackElevationService {
     private final EquipmentRepository equipmentRepository;
     private final EquipmentMappingService equipmentMappingService;
     private final ServerRoomDataSimulator serverRoomDataSimulator;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 랙 실장도 조회
     public RackElevationResponse getRackElevation(Long id, String view) {
@@ -71,6 +75,7 @@ public class RackElevationService {
         equipment.setUnitSize(request.unitSize());
 
         equipmentMappingService.addEquipmentMapping(equipment);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.EQUIPMENT, equipmentId));
 
         if (equipment.getType() == EquipmentType.SERVER || equipment.getType() == EquipmentType.STORAGE) {
             try {
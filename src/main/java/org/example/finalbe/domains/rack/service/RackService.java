@@ -6,8 +6,10 @@ package org.example.finalbe.domains.rack.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.dto.AlertRuleChangedEvent;
 import org.example.finalbe.domains.common.enumdir.DelYN;
 import org.example.finalbe.domains.common.enumdir.Role;
+import org.example.finalbe.domains.common.enumdir.TargetType;
 import org.example.finalbe.domains.common.exception.AccessDeniedException;
 import org.example.finalbe.domains.common.exception.BusinessException;
 import org.example.finalbe.domains.common.exception.DuplicateException;
@@ -25,6 +27,7 @@ import org.example.finalbe.domains.member.repository.MemberRepository;
 import org.example.finalbe.domains.rack.domain.Rack;
 import org.example.finalbe.domains.rack.dto.*;
 import org.example.finalbe.domains.rack.repository.RackRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -46,6 +49,7 @@ public class RackService {
     private final MemberRepository memberRepository;
     private final CompanyServerRoomRepository csrRepository;
     private final RackHistoryRecorder rackHistoryRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /* ====================== 조회 ====================== */
 
@@ -118,6 +122,7 @@ public class RackService {
         Rack rack = rackRepository.save(request.toEntity(serverRoom));
 
         rackHistoryRecorder.recordCreate(rack, member);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.RACK, rack.getId()));
         return RackDetailResponse.from(rack);
     }
 
@@ -144,6 +149,7 @@ public class RackService {
         rack.updateInfo(request);
 
         rackHistoryRecorder.recordUpdate(oldRack, rack, member);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.RACK, id));
         return RackDetailResponse.from(rack);
     }
 
@@ -174,6 +180,7 @@ public class RackService {
         rack.setDelYn(DelYN.Y);
 
         rackHistoryRecorder.recordDelete(rack, member);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.RACK, id));
     }
 
     /* ====================== 상태 변경 ====================== */
@@ -89,4 +89,12 @@ public interface ServerRoomRepository extends JpaRepository<ServerRoom, Long> {
         WHERE sr.id = :serverRoomId
     """)
     Optional<ServerRoom> findByIdWithDataCenter(@Param("serverRoomId") Long serverRoomId);
+
+    /** 활성 서버실 전체 + DataCenter Fetch Join (통계 에포크용) */
+    @Query("""
+        SELECT sr FROM ServerRoom sr
+        LEFT JOIN FETCH sr.dataCenter dc
+        WHERE sr.delYn = org.example.finalbe.domains.common.enumdir.DelYN.N
+    """)
+    List<ServerRoom> findAllActiveWithDataCenter();
 }
@@ -7,8 +7,10 @@ package org.example.finalbe.domains.serverroom.service;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.finalbe.domains.alert.dto.AlertRuleChangedEvent;
 import org.example.finalbe.domains.common.enumdir.DelYN;
 import org.example.finalbe.domains.common.enumdir.Role;
+import org.example.finalbe.domains.common.enumdir.TargetType;
 import org.example.finalbe.domains.common.exception.AccessDeniedException;
 import org.example.finalbe.domains.common.exception.DuplicateException;
 import org.example.finalbe.domains.common.exception.EntityNotFoundException;
@@ -28,6 +30,7 @@ import org.example.finalbe.domains.equipment.domain.Equipment;
 import org.example.finalbe.domains.equipment.repository.EquipmentRepository;
 import org.example.finalbe.domains.device.domain.Device;
 import org.example.finalbe.domains.device.repository.DeviceRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -51,6 +54,7 @@ public class ServerRoomService {
     private final RackRepository rackRepository;
     private final EquipmentRepository equipmentRepository;
     private final DeviceRepository deviceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 현재 로그인한 사용자 조회
@@ -185,6 +189,7 @@ public class ServerRoomService {
         companyServerRoomRepository.save(mapping);
 
         serverRoomHistoryRecorder.recordCreate(savedServerRoom, currentMember);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.SERVER_ROOM, savedServerRoom.getId()));
 
         return ServerRoomDetailResponse.from(savedServerRoom);
     }
@@ -238,6 +243,7 @@ public class ServerRoomService {
         }
 
         serverRoomHistoryRecorder.recordUpdate(oldServerRoom, serverRoom, currentMember);
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.SERVER_ROOM, id));
 
         return ServerRoomDetailResponse.from(serverRoom);
     }
@@ -273,6 +279,7 @@ public class ServerRoomService {
 
         serverRoomHistoryRecorder.recordDelete(serverRoom, currentMember);
         serverRoom.softDelete();
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(TargetType.SERVER_ROOM, id));
     }
 
     /**
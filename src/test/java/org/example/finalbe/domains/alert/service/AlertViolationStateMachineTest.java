@@ -0,0 +1,193 @@
+package org.example.finalbe.domains.alert.service;
+
+import org.example.finalbe.domains.alert.config.AlertEvaluationProperties;
+import org.example.finalbe.domains.alert.dto.AlertSettingsDto;
+import org.example.finalbe.domains.alert.repository.AlertViolationTrackerRepository;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.Action;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.Bound;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.StaleResolvedEvent;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.Transition;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.ViolationKey;
+import org.example.finalbe.domains.alert.service.AlertViolationStateMachine.ViolationSnapshot;
+import org.example.finalbe.domains.common.enumdir.AlertLevel;
+import org.example.finalbe.domains.common.enumdir.AlertViolationState;
+import org.example.finalbe.domains.common.enumdir.MetricType;
+import org.example.finalbe.domains.common.enumdir.TargetType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlertViolationStateMachineTest {
+
+    private static final double THRESHOLD = 80.0;   // 히스테리시스 5% → 76 미만이어야 해제
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final ViolationKey KEY =
+            new ViolationKey(TargetType.EQUIPMENT, 1L, "cpu_usage", AlertLevel.WARNING);
+    private static final AlertSettingsDto SETTINGS = AlertSettingsDto.getDefault();   // 연속 3회, 쿨다운 10분
+
+    @Mock
+    private AlertViolationTrackerRepository violationTrackerRepository;
+
+    @Mock
+    private AlertViolationCheckpointWriter checkpointWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<ViolationSnapshot>> snapshotsCaptor;
+
+    private AlertEvaluationProperties properties;
+    private AlertViolationStateMachine stateMachine;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AlertEvaluationProperties();
+        stateMachine = new AlertViolationStateMachine(
+                violationTrackerRepository, checkpointWriter, properties, eventPublisher);
+    }
+
+    @Test
+    void firesAfterConsecutiveViolations() {
+        assertThat(evaluate(85, T0).action()).isEqualTo(Action.NONE);
+        assertThat(evaluate(85, T0.plusMinutes(1)).action()).isEqualTo(Action.NONE);
+        assertThat(stateMachine.isFiring(KEY)).isFalse();
+
+        assertThat(evaluate(85, T0.plusMinutes(2)).action()).isEqualTo(Action.FIRE);
+        assertThat(stateMachine.isFiring(KEY)).isTrue();
+    }
+
+    @Test
+    void pendingResetsWhenViolationStops() {
+        evaluate(85, T0);
+        evaluate(85, T0.plusMinutes(1));
+        evaluate(70, T0.plusMinutes(2));
+
+        // 연속 횟수를 처음부터 다시 셈
+        assertThat(evaluate(85, T0.plusMinutes(3)).action()).isEqualTo(Action.NONE);
+        assertThat(evaluate(85, T0.plusMinutes(4)).action()).isEqualTo(Action.NONE);
+        assertThat(evaluate(85, T0.plusMinutes(5)).action()).isEqualTo(Action.FIRE);
+    }
+
+    @Test
+    void waitsForMinPendingDuration() {
+        properties.setMinPendingDuration(300_000);
+
+        for (int minute = 0; minute < 5; minute++) {
+            assertThat(evaluate(85, T0.plusMinutes(minute)).action()).isEqualTo(Action.NONE);
+        }
+        assertThat(evaluate(85, T0.plusMinutes(5)).action()).isEqualTo(Action.FIRE);
+    }
+
+    @Test
+    void holdsFiringInsideHysteresisBandAndResolvesBelowIt() {
+        fire();
+        stateMachine.attachAlert(KEY, 42L);
+
+        // 임계치 아래지만 해제 기준(76) 이상이면 발생 유지
+        assertThat(evaluate(78, T0.plusMinutes(3)).action()).isEqualTo(Action.NONE);
+        assertThat(stateMachine.isFiring(KEY)).isTrue();
+
+        Transition resolved = evaluate(75, T0.plusMinutes(4));
+        assertThat(resolved.action()).isEqualTo(Action.RESOLVE);
+        assertThat(resolved.alertHistoryId()).isEqualTo(42L);
+        assertThat(stateMachine.isFiring(KEY)).isFalse();
+    }
+
+    @Test
+    void resolvesOnlyAfterMinResolveDuration() {
+        properties.setMinResolveDuration(60_000);
+        fire();
+
+        assertThat(evaluate(70, T0.plusMinutes(3)).action()).isEqualTo(Action.NONE);
+        // 히스테리시스 구간으로 돌아가면 해제 시작 시각 초기화
+        assertThat(evaluate(78, T0.plusSeconds(210)).action()).isEqualTo(Action.NONE);
+        assertThat(evaluate(70, T0.plusMinutes(4)).action()).isEqualTo(Action.NONE);
+        assertThat(stateMachine.isFiring(KEY)).isTrue();
+
+        assertThat(evaluate(70, T0.plusMinutes(5)).action()).isEqualTo(Action.RESOLVE);
+    }
+
+    @Test
+    void remindsOnlyAfterCooldown() {
+        fire();
+
+        assertThat(evaluate(90, T0.plusMinutes(5)).action()).isEqualTo(Action.NONE);
+        assertThat(evaluate(90, T0.plusMinutes(13)).action()).isEqualTo(Action.REMIND);
+    }
+
+    @Test
+    void expiresStaleFiringStateAndPublishesResolve() throws InterruptedException {
+        fire();
+        stateMachine.attachAlert(KEY, 42L);
+        properties.setStaleTimeout(0);
+        Thread.sleep(5);
+
+        stateMachine.checkpoint();
+
+        verify(eventPublisher).publishEvent(new StaleResolvedEvent(KEY, 42L));
+        assertThat(stateMachine.isFiring(KEY)).isFalse();
+        assertThat(stateMachine.firingAlerts()).isEmpty();
+        // 저장된 적 없는 항목이라 쓸 내용 없음
+        verify(checkpointWriter, never()).write(anyList(), anyList());
+    }
+
+    @Test
+    void retriesCheckpointAfterFailedWrite() {
+        when(checkpointWriter.write(anyList(), anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(7L));
+        fire();
+
+        stateMachine.checkpoint();
+        stateMachine.checkpoint();
+
+        verify(checkpointWriter, times(2)).write(snapshotsCaptor.capture(), anyList());
+        List<List<ViolationSnapshot>> writes = snapshotsCaptor.getAllValues();
+        assertThat(writes.get(1)).isEqualTo(writes.get(0));
+        assertThat(writes.get(1)).singleElement().satisfies(snapshot -> {
+            assertThat(snapshot.key()).isEqualTo(KEY);
+            assertThat(snapshot.state()).isEqualTo(AlertViolationState.FIRING);
+            assertThat(snapshot.trackerId()).isNull();
+        });
+
+        // 성공 후에는 변경 표시가 비워지고, 다음 저장은 부여된 행 ID로 갱신
+        stateMachine.checkpoint();
+        verify(checkpointWriter, times(2)).write(anyList(), anyList());
+
+        evaluate(70, T0.plusMinutes(3));
+        stateMachine.checkpoint();
+        verify(checkpointWriter, times(3)).write(snapshotsCaptor.capture(), anyList());
+        assertThat(snapshotsCaptor.getValue()).singleElement().satisfies(snapshot -> {
+            assertThat(snapshot.trackerId()).isEqualTo(7L);
+            assertThat(snapshot.state()).isEqualTo(AlertViolationState.RESOLVED);
+        });
+    }
+
+    // T0 ~ T0+2분 연속 위반으로 FIRING
+    private void fire() {
+        evaluate(85, T0);
+        evaluate(85, T0.plusMinutes(1));
+        assertThat(evaluate(85, T0.plusMinutes(2)).action()).isEqualTo(Action.FIRE);
+    }
+
+    private Transition evaluate(double measured, LocalDateTime time) {
+        return stateMachine.evaluate(KEY, MetricType.CPU, Bound.UPPER, measured, THRESHOLD, time, SETTINGS);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.finalbe.domains.monitoring.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHeartbeatWheelTest {
+
+    private static final long INTERVAL = 1_000;
+    private static final long TICK = 100;
+
+    private long base;
+    private SseHeartbeatWheel wheel;
+    private final List<SseSubscriber> beats = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 틱 경계에 맞춘 기준 시각 (휠의 현재 틱은 생성 시각 기준이라 base 틱 이상)
+        base = System.currentTimeMillis() / TICK * TICK;
+        wheel = new SseHeartbeatWheel(INTERVAL, TICK);
+        beats.clear();
+    }
+
+    @Test
+    void sendsHeartbeatToIdleSubscriberAtDeadline() {
+        SseSubscriber subscriber = idleSubscriber();
+
+        assertThat(wheel.advance(base + INTERVAL - TICK, this::beat)).isZero();
+        assertThat(wheel.advance(base + INTERVAL, this::beat)).isEqualTo(1);
+        assertThat(beats).containsExactly(subscriber);
+    }
+
+    @Test
+    void catchesUpStallLongerThanOneRevolutionWithSingleHeartbeat() {
+        SseSubscriber subscriber = idleSubscriber();
+        long stalledAt = base + 5 * INTERVAL;
+
+        // 밀린 슬롯을 모두 훑어도 구독자당 heartbeat는 한 번
+        assertThat(wheel.advance(stalledAt, this::beat)).isEqualTo(1);
+        assertThat(beats).containsExactly(subscriber);
+
+        // 따라잡은 시점 기준으로 다시 예약됨
+        assertThat(wheel.advance(stalledAt + INTERVAL / 2, this::beat)).isZero();
+        assertThat(wheel.advance(stalledAt + INTERVAL, this::beat)).isEqualTo(1);
+        assertThat(beats).containsExactly(subscriber, subscriber);
+    }
+
+    @Test
+    void replacesRecentlyWrittenSubscriberWithoutHeartbeat() {
+        SseSubscriber subscriber = idleSubscriber();
+        subscriber.markWritten(base + 600);
+
+        assertThat(wheel.advance(base + INTERVAL, this::beat)).isZero();
+        assertThat(wheel.advance(base + 1_500, this::beat)).isZero();
+        assertThat(wheel.advance(base + 1_600, this::beat)).isEqualTo(1);
+        assertThat(beats).containsExactly(subscriber);
+    }
+
+    @Test
+    void dropsClosedSubscriber() {
+        SseSubscriber subscriber = idleSubscriber();
+        subscriber.close();
+
+        assertThat(wheel.advance(base + INTERVAL, this::beat)).isZero();
+        assertThat(wheel.advance(base + 2 * INTERVAL, this::beat)).isZero();
+        assertThat(beats).isEmpty();
+    }
+
+    @Test
+    void dropsSubscriberWhenHeartbeatFails() {
+        idleSubscriber();
+        List<SseSubscriber> attempts = new ArrayList<>();
+
+        assertThat(wheel.advance(base + INTERVAL, subscriber -> {
+            attempts.add(subscriber);
+            return false;
+        })).isZero();
+        assertThat(wheel.advance(base + 2 * INTERVAL, this::beat)).isZero();
+        assertThat(attempts).hasSize(1);
+        assertThat(beats).isEmpty();
+    }
+
+    // base 시각에 마지막으로 전송한 구독자를 예약
+    private SseSubscriber idleSubscriber() {
+        SseSubscriber subscriber = new SseSubscriber("test", new SseEmitter(), 4);
+        subscriber.markWritten(base);
+        wheel.schedule(subscriber, base);
+        return subscriber;
+    }
+
+    private boolean beat(SseSubscriber subscriber) {
+        beats.add(subscriber);
+        return true;
+    }
+}
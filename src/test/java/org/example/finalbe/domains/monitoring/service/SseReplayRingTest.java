@@ -0,0 +1,76 @@
+package org.example.finalbe.domains.monitoring.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseReplayRingTest {
+
+    private static final long BOOT_ID = 1_000;
+
+    @Test
+    void returnsOnlyEventsAfterLastEventId() {
+        SseReplayRing ring = new SseReplayRing(4, BOOT_ID);
+        addEvents(ring, BOOT_ID + 1, BOOT_ID + 3);
+
+        assertThat(ids(ring.since(BOOT_ID + 1, BOOT_ID + 3))).containsExactly(BOOT_ID + 2, BOOT_ID + 3);
+        assertThat(ring.since(BOOT_ID + 3, BOOT_ID + 3)).isEmpty();
+    }
+
+    @Test
+    void keepsInsertionOrderAfterWraparound() {
+        SseReplayRing ring = new SseReplayRing(3, BOOT_ID);
+        addEvents(ring, BOOT_ID + 1, BOOT_ID + 7);
+
+        assertThat(ids(ring.since(BOOT_ID + 4, BOOT_ID + 7)))
+                .containsExactly(BOOT_ID + 5, BOOT_ID + 6, BOOT_ID + 7);
+    }
+
+    @Test
+    void lowWatermarkFollowsEvictedFrames() {
+        SseReplayRing ring = new SseReplayRing(3, BOOT_ID);
+        addEvents(ring, BOOT_ID + 1, BOOT_ID + 5);
+
+        // 마지막으로 밀려난 이벤트(+2)까지 받은 클라이언트는 누락 없이 이어 받을 수 있음
+        assertThat(ids(ring.since(BOOT_ID + 2, BOOT_ID + 5)))
+                .containsExactly(BOOT_ID + 3, BOOT_ID + 4, BOOT_ID + 5);
+        // 밀려난 이벤트(+2)를 받지 못한 클라이언트는 재전송 불가
+        assertThat(ring.since(BOOT_ID + 1, BOOT_ID + 5)).isNull();
+    }
+
+    @Test
+    void rejectsIdsFromPreviousBoot() {
+        SseReplayRing ring = new SseReplayRing(4, BOOT_ID);
+        addEvents(ring, BOOT_ID + 1, BOOT_ID + 2);
+
+        assertThat(ring.since(BOOT_ID - 500, BOOT_ID + 2)).isNull();
+    }
+
+    @Test
+    void rejectsIdsAheadOfCurrentSequence() {
+        SseReplayRing ring = new SseReplayRing(4, BOOT_ID);
+        addEvents(ring, BOOT_ID + 1, BOOT_ID + 2);
+
+        assertThat(ring.since(BOOT_ID + 10, BOOT_ID + 2)).isNull();
+    }
+
+    @Test
+    void emptyRingAcceptsWatermarkItself() {
+        SseReplayRing ring = new SseReplayRing(4, BOOT_ID);
+
+        assertThat(ring.since(BOOT_ID, BOOT_ID)).isEmpty();
+    }
+
+    private void addEvents(SseReplayRing ring, long fromId, long toId) {
+        for (long id = fromId; id <= toId; id++) {
+            ring.add(new EncodedSseEvent(id, "test", ("id:" + id + "\n\n").getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private List<Long> ids(List<EncodedSseEvent> events) {
+        return events.stream().map(EncodedSseEvent::getId).toList();
+    }
+}